@@ -53,6 +53,8 @@ public class ResourceTO implements EntityTO {
 
     private Integer propagationPriority;
 
+    private Integer pushRateLimit;
+
     private boolean randomPwdIfNotProvided;
 
     private boolean enforceMandatoryCondition;
@@ -130,6 +132,14 @@ public class ResourceTO implements EntityTO {
         this.propagationPriority = propagationPriority;
     }
 
+    public Integer getPushRateLimit() {
+        return pushRateLimit;
+    }
+
+    public void setPushRateLimit(final Integer pushRateLimit) {
+        this.pushRateLimit = pushRateLimit;
+    }
+
     public boolean isRandomPwdIfNotProvided() {
         return randomPwdIfNotProvided;
     }
@@ -287,6 +297,7 @@ public class ResourceTO implements EntityTO {
                 append(provisions, other.provisions).
                 append(orgUnit, other.orgUnit).
                 append(propagationPriority, other.propagationPriority).
+                append(pushRateLimit, other.pushRateLimit).
                 append(createTraceLevel, other.createTraceLevel).
                 append(updateTraceLevel, other.updateTraceLevel).
                 append(deleteTraceLevel, other.deleteTraceLevel).
@@ -313,6 +324,7 @@ public class ResourceTO implements EntityTO {
                 append(provisions).
                 append(orgUnit).
                 append(propagationPriority).
+                append(pushRateLimit).
                 append(randomPwdIfNotProvided).
                 append(enforceMandatoryCondition).
                 append(createTraceLevel).
@@ -162,6 +162,8 @@ public class NumbersInfo implements BaseBean {
 
     private final TaskExecutorInfo propagationTaskExecutor = new TaskExecutorInfo();
 
+    private final Map<String, String> propagationCircuitBreakers = new HashMap<>();
+
     public int getTotalUsers() {
         return totalUsers;
     }
@@ -258,6 +260,10 @@ public class NumbersInfo implements BaseBean {
         return propagationTaskExecutor;
     }
 
+    public Map<String, String> getPropagationCircuitBreakers() {
+        return propagationCircuitBreakers;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().
@@ -277,6 +283,7 @@ public class NumbersInfo implements BaseBean {
                 append(confCompleteness).
                 append(asyncConnectorExecutor).
                 append(propagationTaskExecutor).
+                append(propagationCircuitBreakers).
                 build();
     }
 
@@ -309,6 +316,7 @@ public class NumbersInfo implements BaseBean {
                 append(confCompleteness, other.confCompleteness).
                 append(asyncConnectorExecutor, other.asyncConnectorExecutor).
                 append(propagationTaskExecutor, other.propagationTaskExecutor).
+                append(propagationCircuitBreakers, other.propagationCircuitBreakers).
                 build();
     }
 }
@@ -35,6 +35,8 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
 
     private URI next;
 
+    private String after;
+
     private final List<T> result = new ArrayList<>();
 
     private int page;
@@ -59,6 +61,14 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
         this.next = next;
     }
 
+    public String getAfter() {
+        return after;
+    }
+
+    public void setAfter(final String after) {
+        this.after = after;
+    }
+
     @JacksonXmlElementWrapper(localName = "result")
     @JacksonXmlProperty(localName = "item")
     public List<T> getResult() {
@@ -94,6 +104,7 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
         return new HashCodeBuilder().
                 append(prev).
                 append(next).
+                append(after).
                 append(result).
                 append(page).
                 append(size).
@@ -117,6 +128,7 @@ public class PagedResult<T extends BaseBean> implements BaseBean {
         return new EqualsBuilder().
                 append(prev, other.prev).
                 append(next, other.next).
+                append(after, other.after).
                 append(result, other.result).
                 append(page, other.page).
                 append(size, other.size).
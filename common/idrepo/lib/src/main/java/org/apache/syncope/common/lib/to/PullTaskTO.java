@@ -42,6 +42,10 @@ public class PullTaskTO extends ProvisioningTaskTO implements TemplatableTO {
 
     private boolean remediation;
 
+    private int concurrency = 1;
+
+    private boolean batchMatching;
+
     @JacksonXmlProperty(localName = "_class", isAttribute = true)
     @JsonProperty("_class")
     @Schema(name = "_class", required = true, example = "org.apache.syncope.common.lib.to.PullTaskTO")
@@ -89,6 +93,22 @@ public class PullTaskTO extends ProvisioningTaskTO implements TemplatableTO {
         this.remediation = remediation;
     }
 
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(final int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public boolean isBatchMatching() {
+        return batchMatching;
+    }
+
+    public void setBatchMatching(final boolean batchMatching) {
+        this.batchMatching = batchMatching;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().
@@ -97,6 +117,8 @@ public class PullTaskTO extends ProvisioningTaskTO implements TemplatableTO {
                 append(reconFilterBuilder).
                 append(destinationRealm).
                 append(remediation).
+                append(concurrency).
+                append(batchMatching).
                 build();
     }
 
@@ -118,6 +140,8 @@ public class PullTaskTO extends ProvisioningTaskTO implements TemplatableTO {
                 append(reconFilterBuilder, other.reconFilterBuilder).
                 append(destinationRealm, other.destinationRealm).
                 append(remediation, other.remediation).
+                append(concurrency, other.concurrency).
+                append(batchMatching, other.batchMatching).
                 build();
     }
 }
@@ -36,6 +36,8 @@ public class PushTaskTO extends ProvisioningTaskTO {
 
     private final Map<String, String> filters = new HashMap<>();
 
+    private int concurrency = 1;
+
     @JacksonXmlProperty(localName = "_class", isAttribute = true)
     @JsonProperty("_class")
     @Schema(name = "_class", required = true, example = "org.apache.syncope.common.lib.to.PushTaskTO")
@@ -57,12 +59,21 @@ public class PushTaskTO extends ProvisioningTaskTO {
         return filters;
     }
 
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(final int concurrency) {
+        this.concurrency = concurrency;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().
                 appendSuper(super.hashCode()).
                 append(sourceRealm).
                 append(filters).
+                append(concurrency).
                 build();
     }
 
@@ -82,6 +93,7 @@ public class PushTaskTO extends ProvisioningTaskTO {
                 appendSuper(super.equals(obj)).
                 append(sourceRealm, other.sourceRealm).
                 append(filters, other.filters).
+                append(concurrency, other.concurrency).
                 build();
     }
 }
@@ -56,6 +56,16 @@ public class AnyQuery extends AbstractQuery {
 
             return this;
         }
+
+        public Builder after(final String after) {
+            getInstance().setAfter(after);
+            return this;
+        }
+
+        public Builder count(final boolean count) {
+            getInstance().setCount(count);
+            return this;
+        }
     }
 
     private String realm;
@@ -64,6 +74,10 @@ public class AnyQuery extends AbstractQuery {
 
     private String fiql;
 
+    private String after;
+
+    private Boolean count;
+
     @Parameter(name = JAXRSService.PARAM_REALM, description = "realms define a hierarchical security domain tree, "
             + "primarily meant for containing Users, Groups and Any Objects", schema =
             @Schema(implementation = String.class, defaultValue = SyncopeConstants.ROOT_REALM, externalDocs =
@@ -108,6 +122,33 @@ public class AnyQuery extends AbstractQuery {
         this.fiql = fiql;
     }
 
+    @Parameter(name = JAXRSService.PARAM_AFTER, description = "continuation token, as returned by the previous "
+            + "page, or empty for the first page: when provided, results are sorted by key and paged by seeking from "
+            + "such token instead of by page number, which stays fast on deep pages; incompatible with orderby",
+            schema =
+            @Schema(implementation = String.class))
+    public String getAfter() {
+        return after;
+    }
+
+    @QueryParam(JAXRSService.PARAM_AFTER)
+    public void setAfter(final String after) {
+        this.after = after;
+    }
+
+    @Parameter(name = JAXRSService.PARAM_COUNT, description = "whether the total count of matching entries is to be "
+            + "computed when paging by continuation token; if not, total count is reported as -1", schema =
+            @Schema(implementation = Boolean.class))
+    public Boolean getCount() {
+        return Optional.ofNullable(count).orElse(Boolean.TRUE);
+    }
+
+    @QueryParam(JAXRSService.PARAM_COUNT)
+    @DefaultValue("true")
+    public void setCount(final Boolean count) {
+        this.count = count;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -125,6 +166,8 @@ public class AnyQuery extends AbstractQuery {
                 append(realm, other.realm).
                 append(details, other.details).
                 append(fiql, other.fiql).
+                append(after, other.after).
+                append(count, other.count).
                 build();
     }
 
@@ -135,6 +178,8 @@ public class AnyQuery extends AbstractQuery {
                 append(realm).
                 append(details).
                 append(fiql).
+                append(after).
+                append(count).
                 build();
     }
 }
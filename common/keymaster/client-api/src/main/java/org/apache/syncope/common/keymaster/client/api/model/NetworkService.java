@@ -28,6 +28,7 @@ public class NetworkService implements Serializable {
 
     public enum Type {
         CORE,
+        CORE_REMOTE_COMMIT,
         CONSOLE,
         ENDUSER,
         SRA,
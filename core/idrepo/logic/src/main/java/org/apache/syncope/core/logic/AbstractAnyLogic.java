@@ -264,6 +264,13 @@ public abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U exte
             String realm,
             boolean details);
 
+    public abstract Pair<Integer, List<TO>> searchAfter(
+            SearchCond searchCond,
+            String lastKey, int size,
+            String realm,
+            boolean details,
+            boolean count);
+
     public abstract ProvisioningResult<TO> update(U updateReq, boolean nullPriorityAsync);
 
     public abstract ProvisioningResult<TO> delete(String key, boolean nullPriorityAsync);
@@ -93,7 +93,7 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
         int count = searchDAO.count(adminRealms, searchCond, AnyTypeKind.ANY_OBJECT);
 
         List<AnyObject> matching = searchDAO.search(
-                adminRealms, searchCond, page, size, orderBy, AnyTypeKind.ANY_OBJECT);
+                adminRealms, searchCond, page, size, orderBy, AnyTypeKind.ANY_OBJECT, details);
         List<AnyObjectTO> result = matching.stream().
                 map(anyObject -> binder.getAnyObjectTO(anyObject, details)).
                 collect(Collectors.toList());
@@ -101,6 +101,32 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
         return Pair.of(count, result);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Pair<Integer, List<AnyObjectTO>> searchAfter(
+            final SearchCond searchCond,
+            final String lastKey, final int size,
+            final String realm,
+            final boolean details,
+            final boolean count) {
+
+        if (searchCond.hasAnyTypeCond() == null) {
+            throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
+        }
+
+        Set<String> adminRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(AnyEntitlement.SEARCH.getFor(searchCond.hasAnyTypeCond())),
+                realm);
+
+        List<AnyObject> matching = searchDAO.searchAfter(
+                adminRealms, searchCond, lastKey, size, AnyTypeKind.ANY_OBJECT, details);
+        List<AnyObjectTO> result = matching.stream().
+                map(anyObject -> binder.getAnyObjectTO(anyObject, details)).
+                collect(Collectors.toList());
+
+        return Pair.of(count ? searchDAO.count(adminRealms, searchCond, AnyTypeKind.ANY_OBJECT) : -1, result);
+    }
+
     public ProvisioningResult<AnyObjectTO> create(final AnyObjectCR createReq, final boolean nullPriorityAsync) {
         Pair<AnyObjectCR, List<LogicActions>> before = beforeCreate(createReq);
 
@@ -165,7 +165,7 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
         int count = searchDAO.count(adminRealms, effectiveCond, AnyTypeKind.GROUP);
 
         List<Group> matching = searchDAO.search(
-                adminRealms, effectiveCond, page, size, orderBy, AnyTypeKind.GROUP);
+                adminRealms, effectiveCond, page, size, orderBy, AnyTypeKind.GROUP, details);
         List<GroupTO> result = matching.stream().
                 map(group -> binder.getGroupTO(group, details)).
                 collect(Collectors.toList());
@@ -173,6 +173,30 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
         return Pair.of(count, result);
     }
 
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Pair<Integer, List<GroupTO>> searchAfter(
+            final SearchCond searchCond,
+            final String lastKey, final int size,
+            final String realm,
+            final boolean details,
+            final boolean count) {
+
+        Set<String> adminRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.GROUP_SEARCH), realm);
+
+        SearchCond effectiveCond = searchCond == null ? groupDAO.getAllMatchingCond() : searchCond;
+
+        List<Group> matching = searchDAO.searchAfter(
+                adminRealms, effectiveCond, lastKey, size, AnyTypeKind.GROUP, details);
+        List<GroupTO> result = matching.stream().
+                map(group -> binder.getGroupTO(group, details)).
+                collect(Collectors.toList());
+
+        return Pair.of(count ? searchDAO.count(adminRealms, effectiveCond, AnyTypeKind.GROUP) : -1, result);
+    }
+
     @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_CREATE + "')")
     public ProvisioningResult<GroupTO> create(final GroupCR createReq, final boolean nullPriorityAsync) {
         Pair<GroupCR, List<LogicActions>> before = beforeCreate(createReq);
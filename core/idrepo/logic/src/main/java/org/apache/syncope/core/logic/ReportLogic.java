@@ -19,6 +19,7 @@
 package org.apache.syncope.core.logic;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
@@ -67,6 +68,7 @@ import org.apache.syncope.core.persistence.api.entity.ReportExec;
 import org.apache.syncope.core.provisioning.api.data.ReportDataBinder;
 import org.apache.syncope.core.provisioning.api.job.JobNamer;
 import org.apache.syncope.core.provisioning.api.utils.ExceptionUtils2;
+import org.apache.syncope.core.provisioning.java.job.report.ReportExecResultInputStream;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.xmlgraphics.util.MimeConstants;
 import org.quartz.JobKey;
@@ -205,9 +207,11 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
         if (reportExec == null) {
             throw new NotFoundException("Report execution " + executionKey);
         }
-        if (!ReportExecStatus.SUCCESS.name().equals(reportExec.getStatus()) || reportExec.getExecResult() == null) {
+        boolean noExecResult = reportExecDAO.countExecResultChunks(executionKey) == 0
+                && reportExecDAO.findLegacyExecResult(executionKey) == null;
+        if (!ReportExecStatus.SUCCESS.name().equals(reportExec.getStatus()) || noExecResult) {
             SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidReportExec);
-            sce.getElements().add(reportExec.getExecResult() == null
+            sce.getElements().add(noExecResult
                     ? "No report data produced"
                     : "Report did not run successfully");
             throw sce;
@@ -215,13 +219,22 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
         return reportExec;
     }
 
+    protected InputStream getExecResult(final ReportExec reportExec) {
+        if (reportExecDAO.countExecResultChunks(reportExec.getKey()) > 0) {
+            return new ReportExecResultInputStream(reportExecDAO, reportExec.getKey());
+        }
+
+        // executions run before results were stored by blocks
+        byte[] execResult = reportExecDAO.findLegacyExecResult(reportExec.getKey());
+        return new ByteArrayInputStream(execResult == null ? new byte[0] : execResult);
+    }
+
     @PreAuthorize("hasRole('" + IdRepoEntitlement.REPORT_READ + "')")
-    public static void exportExecutionResult(final OutputStream os, final ReportExec reportExec,
+    public void exportExecutionResult(final OutputStream os, final ReportExec reportExec,
             final ReportExecExportFormat format) {
 
-        // streaming SAX handler from a compressed byte array stream
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(reportExec.getExecResult());
-                ZipInputStream zis = new ZipInputStream(bais)) {
+        // streaming SAX handler from a compressed stream, read by blocks
+        try (ZipInputStream zis = new ZipInputStream(getExecResult(reportExec))) {
 
             // a single ZipEntry in the ZipInputStream (see ReportJob)
             zis.getNextEntry();
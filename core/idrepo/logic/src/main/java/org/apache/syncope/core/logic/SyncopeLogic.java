@@ -476,6 +476,7 @@ public class SyncopeLogic extends AbstractLogic<EntityTO> {
         setTaskExecutorInfo(
                 propagationTaskExecutorAsyncExecutor.getThreadPoolExecutor().toString(),
                 numbersInfo.getPropagationTaskExecutor());
+        numbersInfo.getPropagationCircuitBreakers().putAll(propagationTaskExecutor.getCircuitBreakerStates());
 
         return numbersInfo;
     }
@@ -117,7 +117,8 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserCR, UserUR> {
 
         int count = searchDAO.count(adminRealms, effectiveCond, AnyTypeKind.USER);
 
-        List<User> matching = searchDAO.search(adminRealms, effectiveCond, page, size, orderBy, AnyTypeKind.USER);
+        List<User> matching = searchDAO.search(
+                adminRealms, effectiveCond, page, size, orderBy, AnyTypeKind.USER, details);
         List<UserTO> result = matching.stream().
                 map(user -> binder.returnUserTO(binder.getUserTO(user, details))).
                 collect(Collectors.toList());
@@ -125,6 +126,30 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserCR, UserUR> {
         return Pair.of(count, result);
     }
 
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.USER_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Pair<Integer, List<UserTO>> searchAfter(
+            final SearchCond searchCond,
+            final String lastKey, final int size,
+            final String realm,
+            final boolean details,
+            final boolean count) {
+
+        Set<String> adminRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.USER_SEARCH), realm);
+
+        SearchCond effectiveCond = searchCond == null ? userDAO.getAllMatchingCond() : searchCond;
+
+        List<User> matching = searchDAO.searchAfter(
+                adminRealms, effectiveCond, lastKey, size, AnyTypeKind.USER, details);
+        List<UserTO> result = matching.stream().
+                map(user -> binder.returnUserTO(binder.getUserTO(user, details))).
+                collect(Collectors.toList());
+
+        return Pair.of(count ? searchDAO.count(adminRealms, effectiveCond, AnyTypeKind.USER) : -1, result);
+    }
+
     @PreAuthorize("isAnonymous() or hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
     public ProvisioningResult<UserTO> selfCreate(final UserCR createReq, final boolean nullPriorityAsync) {
         return doCreate(createReq, true, nullPriorityAsync);
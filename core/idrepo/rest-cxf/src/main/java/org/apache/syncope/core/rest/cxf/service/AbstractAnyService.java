@@ -18,6 +18,8 @@
  */
 package org.apache.syncope.core.rest.cxf.service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +29,7 @@ import javax.ws.rs.BadRequestException;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.request.AnyCR;
 import org.apache.syncope.common.lib.request.AnyUR;
@@ -38,6 +41,7 @@ import org.apache.syncope.common.lib.to.AnyTO;
 import org.apache.syncope.common.lib.Attr;
 import org.apache.syncope.common.lib.to.PagedResult;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
+import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.PatchOperation;
 import org.apache.syncope.common.lib.types.ResourceAssociationAction;
 import org.apache.syncope.common.lib.types.ResourceDeassociationAction;
@@ -129,6 +133,29 @@ public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR
                 ? null
                 : getSearchCond(anyQuery.getFiql(), realm);
 
+        if (anyQuery.getAfter() != null) {
+            if (StringUtils.isNotBlank(anyQuery.getOrderBy())) {
+                SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidSearchExpression);
+                sce.getElements().add(PARAM_ORDERBY + " is not supported along with " + PARAM_AFTER);
+                throw sce;
+            }
+
+            Pair<Integer, List<TO>> result = getAnyLogic().searchAfter(
+                    searchCond,
+                    decodeAfter(anyQuery.getAfter()),
+                    anyQuery.getSize(),
+                    isAssignableCond ? SyncopeConstants.ROOT_REALM : realm,
+                    anyQuery.getDetails(),
+                    anyQuery.getCount());
+
+            return buildPagedResult(
+                    result.getRight(),
+                    result.getRight().size() < anyQuery.getSize()
+                    ? null
+                    : encodeAfter(result.getRight().get(result.getRight().size() - 1).getKey()),
+                    result.getLeft());
+        }
+
         Pair<Integer, List<TO>> result = getAnyLogic().search(
                 searchCond,
                 anyQuery.getPage(),
@@ -140,6 +167,24 @@ public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR
         return buildPagedResult(result.getRight(), anyQuery.getPage(), anyQuery.getSize(), result.getLeft());
     }
 
+    protected static String encodeAfter(final String lastKey) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(lastKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    protected static String decodeAfter(final String after) {
+        if (StringUtils.isBlank(after)) {
+            return null;
+        }
+
+        try {
+            return new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidSearchExpression);
+            sce.getElements().add("Invalid " + PARAM_AFTER + ": " + after);
+            throw sce;
+        }
+    }
+
     protected Date findLastChange(final String key) {
         Date lastChange = getAnyDAO().findLastChange(key);
         if (lastChange == null) {
@@ -243,4 +243,35 @@ public abstract class AbstractServiceImpl implements JAXRSService {
 
         return result;
     }
+
+    /**
+     * Builds a page of results obtained by seek pagination: the next page, if any, is linked by means of the given
+     * continuation token instead of page number.
+     *
+     * @param <T> result type
+     * @param list page of results
+     * @param after continuation token to request the next page, or {@code null} if this is the last one
+     * @param totalCount total count of matching entries, or {@code -1} if not computed
+     * @return page of results
+     */
+    protected <T extends BaseBean> PagedResult<T> buildPagedResult(
+            final List<T> list, final String after, final int totalCount) {
+
+        PagedResult<T> result = new PagedResult<>();
+        result.getResult().addAll(list);
+
+        result.setSize(result.getResult().size());
+        result.setTotalCount(totalCount);
+        result.setAfter(after);
+
+        if (after != null) {
+            UriBuilder builder = uriInfo.getAbsolutePathBuilder();
+            MultivaluedMap<String, String> queryParams = uriInfo.getQueryParameters();
+            queryParams.forEach((key, value) -> builder.queryParam(key, value.toArray()));
+
+            result.setNext(builder.replaceQueryParam(PARAM_AFTER, after).build());
+        }
+
+        return result;
+    }
 }
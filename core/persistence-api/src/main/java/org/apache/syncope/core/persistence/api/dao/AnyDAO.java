@@ -39,6 +39,15 @@ public interface AnyDAO<A extends Any<?>> extends DAO<A> {
 
     List<A> findByKeys(List<String> keys);
 
+    /**
+     * Loads the given keys in a fixed number of queries, fetching the associations needed for representation.
+     *
+     * @param keys any object keys
+     * @param details whether the associations needed for detailed representation shall be fetched as well
+     * @return any objects found, in no specific order
+     */
+    List<A> findByKeys(List<String> keys, boolean details);
+
     Date findLastChange(String key);
 
     A authFind(String key);
@@ -93,6 +102,16 @@ public interface AnyDAO<A extends Any<?>> extends DAO<A> {
      */
     List<String> findAllKeys(int page, int itemsPerPage);
 
+    /**
+     * Find any objects' keys without any limitation, in key order and starting after the given key: differently from
+     * {@link #findAllKeys(int, int)}, cost does not grow with the number of keys already read.
+     *
+     * @param lastKey last key read with previous invocation, null to start from beginning
+     * @param itemsPerPage max number of keys to return
+     * @return any objects' keys greater than the given key
+     */
+    List<String> findAllKeys(String lastKey, int itemsPerPage);
+
     <S extends Schema> AllowedSchemas<S> findAllowedSchemas(A any, Class<S> reference);
 
     A save(A any);
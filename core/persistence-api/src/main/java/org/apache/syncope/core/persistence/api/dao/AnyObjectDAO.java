@@ -58,4 +58,14 @@ public interface AnyObjectDAO extends AnyDAO<AnyObject> {
     Collection<ExternalResource> findAllResources(AnyObject anyObject);
 
     Pair<Set<String>, Set<String>> saveAndGetDynGroupMembs(AnyObject anyObject);
+
+    /**
+     * Saves the given anyObject; dynamic group memberships are only evaluated again for conditions which might be affected
+     * by the given changes.
+     *
+     * @param anyObject anyObject to save
+     * @param changed plain schemas and relations (as {@code realm} or {@code relationships}) changed, null if unknown
+     * @return merged anyObject
+     */
+    AnyObject save(AnyObject anyObject, Set<String> changed);
 }
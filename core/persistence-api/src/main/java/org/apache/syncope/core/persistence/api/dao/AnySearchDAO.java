@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.api.dao;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
@@ -65,4 +66,53 @@ public interface AnySearchDAO extends DAO<Any<?>> {
     <T extends Any<?>> List<T> search(
             Set<String> adminRealms, SearchCond searchCondition, int page, int itemsPerPage,
             List<OrderByClause> orderBy, AnyTypeKind kind);
+
+    /**
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param page position of the first result, start from 1
+     * @param itemsPerPage number of results per page
+     * @param orderBy list of ordering clauses
+     * @param kind any object
+     * @param details whether the associations needed for detailed representation shall be fetched along
+     * @param <T> any
+     * @return the list of any objects matching the given search condition (in the given page)
+     */
+    <T extends Any<?>> List<T> search(
+            Set<String> adminRealms, SearchCond searchCondition, int page, int itemsPerPage,
+            List<OrderByClause> orderBy, AnyTypeKind kind, boolean details);
+
+    /**
+     * Seek (keyset) pagination: returns the any objects matching the given search condition, sorted by key, whose
+     * key follows the given one. Unlike paging by offset, cost does not grow with the number of entries already read,
+     * so this is meant for walking through large result sets; the next page is obtained by passing the key of the
+     * last item returned, until less than {@code itemsPerPage} items are returned.
+     *
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param lastKey key of the last item of the previous page, or {@code null} to start from the first page
+     * @param itemsPerPage number of results per page
+     * @param kind any object
+     * @param details whether the associations needed for detailed representation shall be fetched along
+     * @param <T> any
+     * @return the list of any objects matching the given search condition (in the given page)
+     */
+    <T extends Any<?>> List<T> searchAfter(
+            Set<String> adminRealms, SearchCond searchCondition, String lastKey, int itemsPerPage,
+            AnyTypeKind kind, boolean details);
+
+    /**
+     * Builds the native query selecting the keys of all any objects matching the given search condition, as single
+     * {@code any_id} column; such query is meant to be embedded in set-based statements, as
+     * {@code INSERT ... SELECT} or {@code DELETE ... WHERE any_id NOT IN}, so that no entity needs to be loaded.
+     * Positional parameter values are appended to the provided list, in order.
+     *
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param kind any object
+     * @param parameters positional parameter values, to be extended with the ones required by the returned query
+     * @return native query, or empty if not supported by the underlying implementation
+     */
+    Optional<String> keysQuery(
+            Set<String> adminRealms, SearchCond searchCondition, AnyTypeKind kind, List<Object> parameters);
 }
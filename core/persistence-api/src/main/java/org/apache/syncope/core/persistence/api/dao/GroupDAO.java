@@ -72,6 +72,16 @@ public interface GroupDAO extends AnyDAO<Group> {
      */
     Pair<Set<String>, Set<String>> refreshDynMemberships(AnyObject anyObject);
 
+    /**
+     * Evaluates the dynamic group membership conditions against the given anyObject (invoked during save), limited
+     * to the conditions which might be affected by the given changes.
+     *
+     * @param anyObject anyObject being saved
+     * @param changed plain schemas and relations (as {@code realm} or {@code relationships}) changed, null if unknown
+     * @return pair of groups dynamically assigned before and after refresh
+     */
+    Pair<Set<String>, Set<String>> refreshDynMemberships(AnyObject anyObject, Set<String> changed);
+
     /**
      * Removes the dynamic group memberships of the given anyObject (invoked during delete).
      *
@@ -92,6 +102,16 @@ public interface GroupDAO extends AnyDAO<Group> {
      */
     Pair<Set<String>, Set<String>> refreshDynMemberships(User user);
 
+    /**
+     * Evaluates the dynamic group membership conditions against the given user (invoked during save), limited to the
+     * conditions which might be affected by the given changes.
+     *
+     * @param user user being saved
+     * @param changed plain schemas and relations (as {@code realm} or {@code relationships}) changed, null if unknown
+     * @return pair of groups dynamically assigned before and after refresh
+     */
+    Pair<Set<String>, Set<String>> refreshDynMemberships(User user, Set<String> changed);
+
     /**
      * Removes the dynamic group memberships of the given anyObject (invoked during delete).
      *
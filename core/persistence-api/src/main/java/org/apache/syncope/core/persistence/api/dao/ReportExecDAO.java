@@ -42,6 +42,36 @@ public interface ReportExecDAO extends DAO<ReportExec> {
 
     ReportExec save(ReportExec execution);
 
+    /**
+     * Stores the given block of the given execution result; blocks are numbered from 0.
+     *
+     * @param execution report execution
+     * @param index block index
+     * @param content block content
+     */
+    void saveExecResultChunk(ReportExec execution, int index, byte[] content);
+
+    /**
+     * Returns the given block of the given execution result, or null if not found.
+     *
+     * @param executionKey report execution key
+     * @param index block index
+     * @return block content, or null if not found
+     */
+    byte[] findExecResultChunk(String executionKey, int index);
+
+    int countExecResultChunks(String executionKey);
+
+    /**
+     * Returns the result of the given execution as stored in a single piece, by releases not storing blocks.
+     *
+     * @param executionKey report execution key
+     * @return execution result, or null if not found
+     */
+    byte[] findLegacyExecResult(String executionKey);
+
+    void deleteExecResult(ReportExec execution);
+
     void delete(String key);
 
     void delete(ReportExec execution);
@@ -65,6 +65,8 @@ public interface UserDAO extends AnyDAO<User> {
 
     Optional<? extends LinkedAccount> findLinkedAccount(ExternalResource resource, String connObjectKeyValue);
 
+    List<LinkedAccount> findLinkedAccounts(ExternalResource resource, Collection<String> connObjectKeyValues);
+
     List<LinkedAccount> findLinkedAccounts(String userKey);
 
     List<LinkedAccount> findLinkedAccountsByResource(ExternalResource resource);
@@ -74,4 +76,14 @@ public interface UserDAO extends AnyDAO<User> {
     Pair<Boolean, Boolean> enforcePolicies(User user);
 
     Pair<Set<String>, Set<String>> saveAndGetDynGroupMembs(User user);
+
+    /**
+     * Saves the given user; dynamic group memberships are only evaluated again for conditions which might be affected
+     * by the given changes.
+     *
+     * @param user user to save
+     * @param changed plain schemas and relations (as {@code realm} or {@code relationships}) changed, null if unknown
+     * @return merged user
+     */
+    User save(User user, Set<String> changed);
 }
@@ -22,12 +22,8 @@ import org.apache.syncope.common.lib.types.ReportExecStatus;
 
 public interface ReportExec extends Exec {
 
-    byte[] getExecResult();
-
     Report getReport();
 
-    void setExecResult(byte[] execResult);
-
     void setReport(Report report);
 
     void setStatus(ReportExecStatus status);
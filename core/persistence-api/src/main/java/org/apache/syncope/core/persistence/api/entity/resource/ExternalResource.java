@@ -94,6 +94,13 @@ public interface ExternalResource extends ProvidedKeyEntity {
 
     void setPropagationPriority(Integer priority);
 
+    /**
+     * @return max number of objects per second to push to this resource, null for no limit
+     */
+    Integer getPushRateLimit();
+
+    void setPushRateLimit(Integer pushRateLimit);
+
     boolean isEnforceMandatoryCondition();
 
     void setEnforceMandatoryCondition(boolean enforce);
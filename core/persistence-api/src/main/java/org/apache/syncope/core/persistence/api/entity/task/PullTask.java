@@ -27,6 +27,11 @@ import org.apache.syncope.core.persistence.api.entity.Realm;
 
 public interface PullTask extends ProvisioningTask {
 
+    /**
+     * Upper bound for {@link #getConcurrency()}, as each worker holds a database connection while processing.
+     */
+    int MAX_CONCURRENCY = 8;
+
     PullMode getPullMode();
 
     void setPullMode(PullMode pullMode);
@@ -49,4 +54,19 @@ public interface PullTask extends ProvisioningTask {
 
     boolean isRemediation();
 
+    /**
+     * @param concurrency number of workers processing pulled objects concurrently during reconciliation, between 1
+     * and {@link #MAX_CONCURRENCY}
+     */
+    void setConcurrency(int concurrency);
+
+    int getConcurrency();
+
+    /**
+     * @param batchMatching whether objects pulled during reconciliation are matched by windows rather than one by one
+     */
+    void setBatchMatching(boolean batchMatching);
+
+    boolean isBatchMatching();
+
 }
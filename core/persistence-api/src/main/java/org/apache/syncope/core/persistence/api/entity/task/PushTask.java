@@ -34,4 +34,11 @@ public interface PushTask extends ProvisioningTask {
     Optional<? extends PushTaskAnyFilter> getFilter(AnyType anyType);
 
     List<? extends PushTaskAnyFilter> getFilters();
+
+    /**
+     * @param concurrency number of objects pushed concurrently
+     */
+    void setConcurrency(int concurrency);
+
+    int getConcurrency();
 }
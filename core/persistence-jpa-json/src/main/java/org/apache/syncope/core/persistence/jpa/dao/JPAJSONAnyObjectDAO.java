@@ -70,11 +70,14 @@ public class JPAJSONAnyObjectDAO extends JPAAnyObjectDAO {
             final String value,
             final boolean ignoreCaseMatch) {
 
-        return anyDAO().findByDerAttrValue(JPAJSONAnyObject.TABLE, anyUtils(), schema, value, ignoreCaseMatch);
+        return findByDerAttrIndex(schema, value, ignoreCaseMatch).orElseGet(() -> anyDAO().findByDerAttrValue(
+                JPAJSONAnyObject.TABLE, anyUtils(), schema, value, ignoreCaseMatch));
     }
 
     @Override
-    protected Pair<AnyObject, Pair<Set<String>, Set<String>>> doSave(final AnyObject anyObject) {
+    protected Pair<AnyObject, Pair<Set<String>, Set<String>>> doSave(
+            final AnyObject anyObject, final Set<String> changed) {
+
         AnyObject merged = entityManager().merge(anyObject);
 
         // ensure that entity listeners are invoked at this point
@@ -82,7 +85,7 @@ public class JPAJSONAnyObjectDAO extends JPAAnyObjectDAO {
 
         publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, merged, AuthContextUtils.getDomain()));
 
-        Pair<Set<String>, Set<String>> dynGroupMembs = groupDAO.refreshDynMemberships(merged);
+        Pair<Set<String>, Set<String>> dynGroupMembs = groupDAO.refreshDynMemberships(merged, changed);
         dynRealmDAO.refreshDynMemberships(merged);
 
         return Pair.of(merged, dynGroupMembs);
@@ -93,4 +96,10 @@ public class JPAJSONAnyObjectDAO extends JPAAnyObjectDAO {
         anyDAO().checkBeforeSave(JPAJSONAnyObject.TABLE, anyUtils(), anyObject);
         return super.save(anyObject);
     }
+
+    @Override
+    public AnyObject save(final AnyObject anyObject, final Set<String> changed) {
+        anyDAO().checkBeforeSave(JPAJSONAnyObject.TABLE, anyUtils(), anyObject);
+        return super.save(anyObject, changed);
+    }
 }
@@ -66,7 +66,8 @@ public class JPAJSONGroupDAO extends JPAGroupDAO {
             final String value,
             final boolean ignoreCaseMatch) {
 
-        return anyDAO().findByDerAttrValue(JPAGroup.TABLE, anyUtils(), schema, value, ignoreCaseMatch);
+        return findByDerAttrIndex(schema, value, ignoreCaseMatch).orElseGet(() -> anyDAO().findByDerAttrValue(
+                JPAGroup.TABLE, anyUtils(), schema, value, ignoreCaseMatch));
     }
 
     @Override
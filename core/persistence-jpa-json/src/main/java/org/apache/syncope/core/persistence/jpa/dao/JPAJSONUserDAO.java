@@ -72,11 +72,12 @@ public class JPAJSONUserDAO extends JPAUserDAO {
             final String value,
             final boolean ignoreCaseMatch) {
 
-        return anyDAO().findByDerAttrValue(JPAJSONUser.TABLE, anyUtils(), schema, value, ignoreCaseMatch);
+        return findByDerAttrIndex(schema, value, ignoreCaseMatch).orElseGet(() -> anyDAO().findByDerAttrValue(
+                JPAJSONUser.TABLE, anyUtils(), schema, value, ignoreCaseMatch));
     }
 
     @Override
-    protected Pair<User, Pair<Set<String>, Set<String>>> doSave(final User user) {
+    protected Pair<User, Pair<Set<String>, Set<String>>> doSave(final User user, final Set<String> changed) {
         // 1. save clear password value before save
         String clearPwd = user.getClearPassword();
 
@@ -100,7 +101,7 @@ public class JPAJSONUserDAO extends JPAUserDAO {
         publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, merged, AuthContextUtils.getDomain()));
 
         roleDAO.refreshDynMemberships(merged);
-        Pair<Set<String>, Set<String>> dynGroupMembs = groupDAO.refreshDynMemberships(merged);
+        Pair<Set<String>, Set<String>> dynGroupMembs = groupDAO.refreshDynMemberships(merged, changed);
         dynRealmDAO.refreshDynMemberships(merged);
 
         return Pair.of(merged, dynGroupMembs);
@@ -117,4 +118,10 @@ public class JPAJSONUserDAO extends JPAUserDAO {
         anyDAO().checkBeforeSave(JPAJSONUser.TABLE, anyUtils(), user);
         return super.saveAndGetDynGroupMembs(user);
     }
+
+    @Override
+    public User save(final User user, final Set<String> changed) {
+        anyDAO().checkBeforeSave(JPAJSONUser.TABLE, anyUtils(), user);
+        return super.save(user, changed);
+    }
 }
@@ -31,6 +31,7 @@ import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrUniqueValue;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.persistence.api.entity.JSONPlainAttr;
 
@@ -38,28 +39,13 @@ public class MyJPAJSONAnySearchDAO extends AbstractJPAJSONAnySearchDAO {
 
     @Override
     protected String buildAdminRealmsFilter(
-            final Set<String> realmKeys,
+            final Set<String> realmPaths,
             final SearchSupport svs,
             final List<Object> parameters) {
 
-        StringBuilder adminRealmsFilter = new StringBuilder("u.any_id IN (").
-                append("SELECT any_id FROM ").append(svs.field().name).
-                append(" WHERE realm_id IN (SELECT id AS realm_id FROM Realm");
-
-        boolean firstRealm = true;
-        for (String realmKey : realmKeys) {
-            if (firstRealm) {
-                adminRealmsFilter.append(" WHERE");
-                firstRealm = false;
-            } else {
-                adminRealmsFilter.append(" OR");
-            }
-            adminRealmsFilter.append(" id=?").append(setParameter(parameters, realmKey));
-        }
-
-        adminRealmsFilter.append("))");
-
-        return adminRealmsFilter.toString();
+        return "u.any_id IN (SELECT any_id FROM " + svs.field().name
+                + " WHERE realm_id IN (SELECT id AS realm_id FROM " + JPARealm.TABLE
+                + " WHERE " + buildRealmPathsCond(realmPaths, parameters) + "))";
     }
 
     @Override
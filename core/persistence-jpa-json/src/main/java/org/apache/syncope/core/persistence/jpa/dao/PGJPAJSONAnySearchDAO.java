@@ -20,7 +20,6 @@ package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.text.ParseException;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -29,7 +28,6 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.persistence.Query;
-import javax.persistence.TemporalType;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -54,13 +52,11 @@ import org.apache.syncope.core.persistence.api.dao.search.RoleCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
-import org.apache.syncope.core.persistence.api.entity.DynRealm;
-import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
 import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
-import org.apache.syncope.core.provisioning.api.utils.RealmUtils;
 
 public class PGJPAJSONAnySearchDAO extends AbstractJPAJSONAnySearchDAO {
 
@@ -417,10 +413,8 @@ public class PGJPAJSONAnySearchDAO extends AbstractJPAJSONAnySearchDAO {
 
         StringBuilder query = new StringBuilder("(");
         if (cond.isFromGroup()) {
-            realmDAO.findDescendants(realm).forEach(current -> {
-                query.append("realm_id=?").append(setParameter(parameters, current.getKey())).append(" OR ");
-            });
-            query.setLength(query.length() - 4);
+            query.append("realm_id IN (SELECT id FROM ").append(JPARealm.TABLE).append(" WHERE ").
+                    append(buildRealmPathsCond(Set.of(realm.getFullPath()), parameters)).append(')');
         } else {
             for (Realm current = realm; current.getParent() != null; current = current.getParent()) {
                 query.append("realm_id=?").append(setParameter(parameters, current.getKey())).append(" OR ");
@@ -612,19 +606,20 @@ public class PGJPAJSONAnySearchDAO extends AbstractJPAJSONAnySearchDAO {
 
     @Override
     protected String buildAdminRealmsFilter(
-            final Set<String> realmKeys,
+            final Set<String> realmPaths,
             final SearchSupport svs,
             final List<Object> parameters) {
 
-        List<String> realmKeyArgs = realmKeys.stream().
-                map(realmKey -> "?" + setParameter(parameters, realmKey)).
-                collect(Collectors.toList());
-        return "realm_id IN (" + StringUtils.join(realmKeyArgs, ", ") + ")";
+        return "realm_id IN (SELECT id FROM " + JPARealm.TABLE
+                + " WHERE " + buildRealmPathsCond(realmPaths, parameters) + ")";
     }
 
     @Override
-    protected int doCount(final Set<String> adminRealms, final SearchCond cond, final AnyTypeKind kind) {
-        List<Object> parameters = new ArrayList<>();
+    protected String buildKeysQuery(
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind,
+            final List<Object> parameters) {
 
         SearchSupport svs = buildSearchSupport(kind);
 
@@ -633,17 +628,14 @@ public class PGJPAJSONAnySearchDAO extends AbstractJPAJSONAnySearchDAO {
         Pair<StringBuilder, Set<String>> queryInfo =
                 getQuery(buildEffectiveCond(cond, filter.getRight()), parameters, svs);
 
-        StringBuilder queryString =
-                new StringBuilder("SELECT count(").append(svs.table().alias).append(".id").append(")");
+        StringBuilder queryString = new StringBuilder("SELECT DISTINCT ").
+                append(svs.table().alias).append(".id AS any_id");
 
         buildFrom(queryString, queryInfo, svs, null);
 
         buildWhere(queryString, queryInfo, filter);
 
-        Query countQuery = entityManager().createNativeQuery(queryString.toString());
-        fillWithParameters(countQuery, parameters);
-
-        return ((Number) countQuery.getSingleResult()).intValue();
+        return queryString.toString();
     }
 
     @Override
@@ -654,7 +646,8 @@ public class PGJPAJSONAnySearchDAO extends AbstractJPAJSONAnySearchDAO {
             final int page,
             final int itemsPerPage,
             final List<OrderByClause> orderBy,
-            final AnyTypeKind kind) {
+            final AnyTypeKind kind,
+            final boolean details) {
 
         try {
             List<Object> parameters = new ArrayList<>();
@@ -700,7 +693,7 @@ public class PGJPAJSONAnySearchDAO extends AbstractJPAJSONAnySearchDAO {
             fillWithParameters(query, parameters);
 
             // 6. Prepare the result (avoiding duplicates)
-            return buildResult(query.getResultList(), kind);
+            return buildResult(query.getResultList(), kind, details);
         } catch (SyncopeClientException e) {
             throw e;
         } catch (Exception e) {
@@ -935,20 +928,6 @@ public class PGJPAJSONAnySearchDAO extends AbstractJPAJSONAnySearchDAO {
         }
     }
 
-    protected void fillWithParameters(final Query query, final List<Object> parameters) {
-        for (int i = 0; i < parameters.size(); i++) {
-            if (parameters.get(i) instanceof Date) {
-                query.setParameter(i + 1, (Date) parameters.get(i), TemporalType.TIMESTAMP);
-            } else if (parameters.get(i) instanceof Boolean) {
-                query.setParameter(i + 1, ((Boolean) parameters.get(i))
-                        ? 1
-                        : 0);
-            } else {
-                query.setParameter(i + 1, parameters.get(i));
-            }
-        }
-    }
-
     protected OrderBySupport parseOrderBy(
             final SearchSupport svs,
             final List<OrderByClause> orderBy) {
@@ -1010,41 +989,6 @@ public class PGJPAJSONAnySearchDAO extends AbstractJPAJSONAnySearchDAO {
         return obs;
     }
 
-    protected Pair<String, Set<String>> getAdminRealmsFilter(
-            final Set<String> adminRealms,
-            final SearchSupport svs,
-            final List<Object> parameters) {
-
-        Set<String> realmKeys = new HashSet<>();
-        Set<String> dynRealmKeys = new HashSet<>();
-        RealmUtils.normalize(adminRealms).forEach(realmPath -> {
-            if (realmPath.startsWith("/")) {
-                Realm realm = realmDAO.findByFullPath(realmPath);
-                if (realm == null) {
-                    SyncopeClientException noRealm = SyncopeClientException.build(ClientExceptionType.InvalidRealm);
-                    noRealm.getElements().add("Invalid realm specified: " + realmPath);
-                    throw noRealm;
-                } else {
-                    realmKeys.addAll(realmDAO.findDescendants(realm).stream().
-                            map(Entity::getKey).collect(Collectors.toSet()));
-                }
-            } else {
-                DynRealm dynRealm = dynRealmDAO.find(realmPath);
-                if (dynRealm == null) {
-                    LOG.warn("Ignoring invalid dynamic realm {}", realmPath);
-                } else {
-                    dynRealmKeys.add(dynRealm.getKey());
-                }
-            }
-        });
-        if (!dynRealmKeys.isEmpty()) {
-            realmKeys.addAll(realmDAO.findAll().stream().
-                    map(Entity::getKey).collect(Collectors.toSet()));
-        }
-
-        return Pair.of(buildAdminRealmsFilter(realmKeys, svs, parameters), dynRealmKeys);
-    }
-
     protected void buildFrom(
             final StringBuilder query,
             final Pair<StringBuilder, Set<String>> queryInfo,
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.api.SyncopeCoreLoader;
+import org.apache.syncope.core.persistence.jpa.dao.DerAttrIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the derived attribute value index, if enabled: values might have changed while the index was disabled or
+ * while this node was down.
+ */
+@Component
+public class DerAttrIndexLoader implements SyncopeCoreLoader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DerAttrIndexLoader.class);
+
+    @Autowired
+    private DerAttrIndex derAttrIndex;
+
+    @Override
+    public int getOrder() {
+        return 500;
+    }
+
+    @Override
+    public void load(final String domain, final DataSource datasource) {
+        if (derAttrIndex.isEnabled()) {
+            LOG.info("[{}] Building derived attribute value index", domain);
+            derAttrIndex.rebuild(domain, List.of());
+            LOG.info("[{}] Derived attribute value index built", domain);
+        }
+    }
+}
@@ -33,6 +33,8 @@ import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
+import org.apache.syncope.core.persistence.jpa.dao.DerAttrIndex;
+import org.apache.syncope.core.persistence.jpa.openjpa.RemoteCommitListener;
 import org.apache.syncope.core.persistence.jpa.spring.CommonEntityManagerFactoryConf;
 import org.apache.syncope.core.persistence.jpa.spring.DomainTransactionInterceptorInjector;
 import org.apache.syncope.core.persistence.jpa.spring.MultiJarAwarePersistenceUnitPostProcessor;
@@ -182,6 +184,29 @@ public class PersistenceContext implements EnvironmentAware {
         return (AnyObjectDAO) Class.forName(env.getProperty("anyObject.dao")).getConstructor().newInstance();
     }
 
+    @ConditionalOnMissingBean(name = "derAttrIndex")
+    @Bean
+    public DerAttrIndex derAttrIndex() {
+        DerAttrIndex derAttrIndex = new DerAttrIndex();
+        derAttrIndex.setEnabled(env.getProperty("derAttrIndex.enabled", Boolean.class, false));
+        return derAttrIndex;
+    }
+
+    @ConditionalOnMissingBean(name = "remoteCommitListener")
+    @Bean
+    public RemoteCommitListener remoteCommitListener() {
+        RemoteCommitListener remoteCommitListener = new RemoteCommitListener();
+        remoteCommitListener.setPort(env.getProperty("remoteCommit.port", Integer.class, 5636));
+        remoteCommitListener.setBindAddress(env.getProperty("remoteCommit.bindAddress"));
+        remoteCommitListener.setDiscoveryAddress(env.getProperty("service.discovery.address"));
+        remoteCommitListener.setSecret(env.getProperty("remoteCommit.secret"));
+        remoteCommitListener.setMaxBatchBytes(env.getProperty("remoteCommit.maxBatchBytes", Integer.class, 262144));
+        remoteCommitListener.setMaxConnections(env.getProperty("remoteCommit.maxConnections", Integer.class, 16));
+        remoteCommitListener.setReadTimeout(env.getProperty("remoteCommit.readTimeout", Integer.class, 30000));
+        remoteCommitListener.setReplayWindow(env.getProperty("remoteCommit.replayWindow", Long.class, 30000L));
+        return remoteCommitListener;
+    }
+
     @ConditionalOnMissingBean(name = "loggerDAO")
     @Bean
     public LoggerDAO loggerDAO()
@@ -20,10 +20,10 @@ package org.apache.syncope.core.persistence.jpa.content;
 
 import java.sql.Types;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-
 import javax.sql.DataSource;
 import javax.xml.bind.DatatypeConverter;
 import org.apache.commons.lang3.StringUtils;
@@ -34,19 +34,27 @@ import org.slf4j.LoggerFactory;
 import org.springframework.core.env.Environment;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * SAX handler for generating SQL INSERT statements out of given XML file.
+ * When batch size is greater than 1, consecutive rows for the same table and columns are inserted via JDBC batches,
+ * each in its own transaction; should any batch fail, its rows are inserted one by one.
  */
 public class ContentLoaderHandler extends DefaultHandler {
 
     private static final Logger LOG = LoggerFactory.getLogger(ContentLoaderHandler.class);
 
+    private static final int PROGRESS_INTERVAL = 10000;
+
     private final JdbcTemplate jdbcTemplate;
 
+    private final TransactionTemplate txTemplate;
+
     private final String rootElement;
 
     private final boolean continueOnError;
@@ -55,34 +63,71 @@ public class ContentLoaderHandler extends DefaultHandler {
 
     private final StringSubstitutor paramSubstitutor;
 
+    private final int batchSize;
+
+    /**
+     * Column types, by table name.
+     */
+    private final Map<String, Map<String, Integer>> colTypes = new HashMap<>();
+
+    private String batchQuery;
+
+    private final List<Object[]> batch = new ArrayList<>();
+
+    private long rows;
+
+    private final long start = System.currentTimeMillis();
+
     public ContentLoaderHandler(
             final DataSource dataSource,
             final String rootElement,
             final boolean continueOnError,
             final Environment env) {
 
+        this(dataSource, rootElement, continueOnError, env, 1);
+    }
+
+    public ContentLoaderHandler(
+            final DataSource dataSource,
+            final String rootElement,
+            final boolean continueOnError,
+            final Environment env,
+            final int batchSize) {
+
         this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.txTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
         this.rootElement = rootElement;
         this.continueOnError = continueOnError;
+        this.batchSize = batchSize;
         this.paramSubstitutor = new StringSubstitutor(key -> {
             String value = env.getProperty(key, fetches.get(key));
             return StringUtils.isBlank(value) ? null : value;
         });
     }
 
+    private Map<String, Integer> getColTypes(final String tableName) {
+        Map<String, Integer> types = colTypes.get(tableName.toUpperCase());
+        if (types == null) {
+            types = jdbcTemplate.query(
+                    "SELECT * FROM " + tableName + " WHERE 0=1", rs -> {
+                        Map<String, Integer> result = new HashMap<>();
+                        for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
+                            result.put(rs.getMetaData().getColumnName(i).toUpperCase(),
+                                    rs.getMetaData().getColumnType(i));
+                        }
+                        return result;
+                    });
+            colTypes.put(tableName.toUpperCase(), types);
+        }
+        return types;
+    }
+
     private Object[] getParameters(final String tableName, final Attributes attrs) {
-        Map<String, Integer> colTypes = jdbcTemplate.query(
-                "SELECT * FROM " + tableName + " WHERE 0=1", rs -> {
-                    Map<String, Integer> types = new HashMap<>();
-                    for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
-                        types.put(rs.getMetaData().getColumnName(i).toUpperCase(), rs.getMetaData().getColumnType(i));
-                    }
-                    return types;
-                });
+        Map<String, Integer> colTypes = getColTypes(tableName);
 
         Object[] parameters = new Object[attrs.getLength()];
         for (int i = 0; i < attrs.getLength(); i++) {
-            Integer colType = Objects.requireNonNull(colTypes).get(attrs.getQName(i).toUpperCase());
+            Integer colType = colTypes.get(attrs.getQName(i).toUpperCase());
             if (colType == null) {
                 LOG.warn("No column type found for {}", attrs.getQName(i).toUpperCase());
                 colType = Types.VARCHAR;
@@ -181,6 +226,48 @@ public class ContentLoaderHandler extends DefaultHandler {
         return parameters;
     }
 
+    private void progress(final int inserted) {
+        long before = rows;
+        rows += inserted;
+        if (rows / PROGRESS_INTERVAL > before / PROGRESS_INTERVAL) {
+            LOG.info("{} rows loaded in {} ms", rows, System.currentTimeMillis() - start);
+        }
+    }
+
+    private void insert(final String query, final Object[] parameters) {
+        try {
+            jdbcTemplate.update(query, parameters);
+            progress(1);
+        } catch (DataAccessException e) {
+            LOG.error("While trying to perform {} with params {}", query, parameters, e);
+            if (!continueOnError) {
+                throw e;
+            }
+        }
+    }
+
+    private void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            txTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(batchQuery, batch));
+            progress(batch.size());
+        } catch (DataAccessException e) {
+            if (!continueOnError) {
+                LOG.error("While trying to perform {} on {} rows", batchQuery, batch.size(), e);
+                throw e;
+            }
+
+            LOG.warn("While trying to perform {} on {} rows, inserting one by one", batchQuery, batch.size(), e);
+            batch.forEach(parameters -> insert(batchQuery, parameters));
+        } finally {
+            batch.clear();
+            batchQuery = null;
+        }
+    }
+
     @Override
     public void startElement(final String uri, final String localName, final String qName, final Attributes atts)
             throws SAXException {
@@ -190,6 +277,9 @@ public class ContentLoaderHandler extends DefaultHandler {
             return;
         }
         if ("fetch".equalsIgnoreCase(qName)) {
+            // fetch queries might read rows still pending
+            flush();
+
             String value = jdbcTemplate.queryForObject(atts.getValue("query"), String.class);
             String key = atts.getValue("key");
             fetches.put(key, value);
@@ -208,14 +298,37 @@ public class ContentLoaderHandler extends DefaultHandler {
             }
             query.append(") VALUES (").append(values).append(')');
 
+            Object[] parameters;
             try {
-                jdbcTemplate.update(query.toString(), getParameters(qName, atts));
+                parameters = getParameters(qName, atts);
             } catch (DataAccessException e) {
-                LOG.error("While trying to perform {} with params {}", query, getParameters(qName, atts), e);
+                LOG.error("While trying to perform {}", query, e);
                 if (!continueOnError) {
                     throw e;
                 }
+                return;
+            }
+
+            if (batchSize <= 1) {
+                insert(query.toString(), parameters);
+            } else {
+                // only consecutive rows are batched together, to preserve the order required by foreign keys
+                if (!query.toString().equals(batchQuery)) {
+                    flush();
+                    batchQuery = query.toString();
+                }
+                batch.add(parameters);
+                if (batch.size() >= batchSize) {
+                    flush();
+                }
             }
         }
     }
+
+    @Override
+    public void endDocument() throws SAXException {
+        flush();
+
+        LOG.info("{} rows loaded in {} ms", rows, System.currentTimeMillis() - start);
+    }
 }
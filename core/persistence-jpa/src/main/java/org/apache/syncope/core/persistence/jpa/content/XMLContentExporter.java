@@ -23,6 +23,8 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Blob;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
@@ -44,6 +46,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -58,6 +64,8 @@ import javax.persistence.metamodel.PluralAttribute;
 import javax.sql.DataSource;
 import javax.xml.XMLConstants;
 import javax.xml.bind.DatatypeConverter;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
@@ -73,8 +81,10 @@ import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
 import org.apache.syncope.core.persistence.api.content.ContentExporter;
 import org.apache.syncope.core.persistence.api.dao.LoggerDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAccessToken;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.persistence.jpa.entity.JPARemoteCommit;
 import org.apache.syncope.core.persistence.jpa.entity.JPAReportExec;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAMembership;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAPlainAttr;
@@ -94,11 +104,17 @@ import org.apache.tika.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.jdbc.datasource.DataSourceUtils;
 import org.springframework.orm.jpa.EntityManagerFactoryUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * Export internal storage content as XML.
@@ -113,7 +129,7 @@ public class XMLContentExporter implements ContentExporter {
             JPATaskExec.TABLE, JPAUser.TABLE, JPAUPlainAttr.TABLE, JPAUPlainAttrValue.TABLE,
             JPAUPlainAttrUniqueValue.TABLE, JPAURelationship.TABLE, JPAUMembership.TABLE,
             JPAAnyObject.TABLE, JPAAPlainAttr.TABLE, JPAAPlainAttrValue.TABLE, JPAAPlainAttrUniqueValue.TABLE,
-            JPAARelationship.TABLE, JPAAMembership.TABLE, JPAAccessToken.TABLE
+            JPAARelationship.TABLE, JPAAMembership.TABLE, JPAAccessToken.TABLE, JPARemoteCommit.TABLE
     ).collect(Collectors.toCollection(HashSet::new));
 
     private static final Map<String, String> TABLES_TO_BE_FILTERED =
@@ -128,6 +144,9 @@ public class XMLContentExporter implements ContentExporter {
     @Autowired
     private RealmDAO realmDAO;
 
+    @Autowired
+    private Environment env;
+
     private static boolean isTableAllowed(final String tableName) {
         return TABLE_PREFIXES_TO_BE_EXCLUDED.stream().
                 allMatch(prefix -> !tableName.toUpperCase().startsWith(prefix.toUpperCase()));
@@ -282,13 +301,14 @@ public class XMLContentExporter implements ContentExporter {
 
     @SuppressWarnings("unchecked")
     private void exportTable(
-            final TransformerHandler handler,
+            final ContentHandler handler,
             final Connection conn,
             final String tableName,
             final String whereClause,
             final BidiMap<String, EntityType<?>> entities,
             final Set<EntityType<?>> taskEntities,
-            final Map<String, Pair<String, String>> relationTables) throws SQLException, SAXException {
+            final Map<String, Pair<String, String>> relationTables,
+            final Map<String, Integer> realmIndex) throws SQLException, SAXException {
 
         LOG.debug("Export table {}", tableName);
 
@@ -333,8 +353,7 @@ public class XMLContentExporter implements ContentExporter {
                 query.append(" ORDER BY ").append(orderBy);
             }
             stmt = conn.prepareStatement(query.toString());
-
-            List<Map<String, String>> rows = new ArrayList<>();
+            stmt.setFetchSize(env.getProperty("content.fetchSize", Integer.class, 1000));
 
             Optional<EntityType<?>> entity = entities.entrySet().stream().
                     filter(entry -> entry.getKey().equalsIgnoreCase(tableName)).
@@ -350,62 +369,83 @@ public class XMLContentExporter implements ContentExporter {
             }
 
             rs = stmt.executeQuery();
-            while (rs.next()) {
-                Map<String, String> row = new HashMap<>();
-                rows.add(row);
 
-                ResultSetMetaData rsMeta = rs.getMetaData();
-                for (int i = 0; i < rsMeta.getColumnCount(); i++) {
-                    String columnName = rsMeta.getColumnName(i + 1);
-                    Integer columnType = rsMeta.getColumnType(i + 1);
+            // output names only depend on columns, not on rows
+            ResultSetMetaData rsMeta = rs.getMetaData();
+            String[] columnNames = new String[rsMeta.getColumnCount()];
+            int[] columnTypes = new int[rsMeta.getColumnCount()];
+            String[] names = new String[rsMeta.getColumnCount()];
+            for (int i = 0; i < rsMeta.getColumnCount(); i++) {
+                columnNames[i] = rsMeta.getColumnName(i + 1);
+                columnTypes[i] = rsMeta.getColumnType(i + 1);
 
-                    // Retrieve value taking care of binary values.
-                    String value = getValues(rs, columnName, columnType);
-                    if (value != null && (!COLUMNS_TO_BE_NULLIFIED.containsKey(tableName)
-                            || !COLUMNS_TO_BE_NULLIFIED.get(tableName).contains(columnName))) {
-
-                        String name = columnName;
-                        if (entity.isPresent()) {
-                            name = columnName(
-                                    () -> (Stream<Attribute<?, ?>>) entity.get().getAttributes().stream(), columnName);
-                        }
+                if (COLUMNS_TO_BE_NULLIFIED.containsKey(tableName)
+                        && COLUMNS_TO_BE_NULLIFIED.get(tableName).contains(columnNames[i])) {
 
-                        if (isTask(tableName)) {
-                            name = columnName(
-                                    () -> taskEntities.stream().flatMap(e -> e.getAttributes().stream()), columnName);
-                        }
+                    continue;
+                }
 
-                        if (relationTables.containsKey(outputTableName)) {
-                            Pair<String, String> relationColumns = relationTables.get(outputTableName);
-                            if (name.equalsIgnoreCase(relationColumns.getLeft())) {
-                                name = relationColumns.getLeft();
-                            } else if (name.equalsIgnoreCase(relationColumns.getRight())) {
-                                name = relationColumns.getRight();
-                            }
-                        }
+                String name = columnNames[i];
+                if (entity.isPresent()) {
+                    name = columnName(
+                            () -> (Stream<Attribute<?, ?>>) entity.get().getAttributes().stream(), columnNames[i]);
+                }
 
-                        row.put(name, value);
-                        LOG.debug("Add for table {}: {}=\"{}\"", outputTableName, name, value);
-                    }
+                if (isTask(tableName)) {
+                    name = columnName(
+                            () -> taskEntities.stream().flatMap(e -> e.getAttributes().stream()), columnNames[i]);
                 }
-            }
 
-            if (tableName.equalsIgnoreCase(JPARealm.TABLE)) {
-                List<Map<String, String>> realmRows = new ArrayList<>(rows);
-                rows.clear();
-                realmDAO.findAll().forEach(realm -> realmRows.stream().filter(row -> {
-                    String id = row.get("ID");
-                    if (id == null) {
-                        id = row.get("id");
+                if (relationTables.containsKey(outputTableName)) {
+                    Pair<String, String> relationColumns = relationTables.get(outputTableName);
+                    if (name.equalsIgnoreCase(relationColumns.getLeft())) {
+                        name = relationColumns.getLeft();
+                    } else if (name.equalsIgnoreCase(relationColumns.getRight())) {
+                        name = relationColumns.getRight();
                     }
-                    return realm.getKey().equals(id);
-                }).findFirst().ifPresent(rows::add));
+                }
+
+                names[i] = name;
             }
 
-            for (Map<String, String> row : rows) {
+            // realms are sent in hierarchical order, hence the only rows to be held in memory
+            boolean realms = tableName.equalsIgnoreCase(JPARealm.TABLE);
+            Map<Integer, AttributesImpl> realmRows = new TreeMap<>();
+
+            while (rs.next()) {
                 AttributesImpl attrs = new AttributesImpl();
-                row.forEach((key, value) -> attrs.addAttribute("", "", key, "CDATA", value));
+                String id = null;
+
+                for (int i = 0; i < names.length; i++) {
+                    if (names[i] == null) {
+                        continue;
+                    }
+
+                    // Retrieve value taking care of binary values.
+                    String value = getValues(rs, columnNames[i], columnTypes[i]);
+                    if (value != null) {
+                        int index = attrs.getIndex(names[i]);
+                        if (index == -1) {
+                            attrs.addAttribute("", "", names[i], "CDATA", value);
+                        } else {
+                            attrs.setValue(index, value);
+                        }
+                        if ("id".equalsIgnoreCase(names[i])) {
+                            id = value;
+                        }
+                        LOG.debug("Add for table {}: {}=\"{}\"", outputTableName, names[i], value);
+                    }
+                }
+
+                if (realms) {
+                    Optional.ofNullable(realmIndex.get(id)).ifPresent(index -> realmRows.put(index, attrs));
+                } else {
+                    handler.startElement("", "", outputTableName, attrs);
+                    handler.endElement("", "", outputTableName);
+                }
+            }
 
+            for (AttributesImpl attrs : realmRows.values()) {
                 handler.startElement("", "", outputTableName, attrs);
                 handler.endElement("", "", outputTableName);
             }
@@ -427,6 +467,139 @@ public class XMLContentExporter implements ContentExporter {
         }
     }
 
+    /**
+     * Exports the given tables concurrently, each on its own connection and into its own temporary file, then sends
+     * the temporary files to the given handler in the given order.
+     *
+     * @param handler handler
+     * @param dataSource data source
+     * @param tableNames tables to export, sorted by foreign keys
+     * @param parallelism max number of tables exported at the same time
+     * @param entities entities, by table name
+     * @param taskEntities task entities
+     * @param relationTables relation tables
+     * @param realmIndex realm positions in hierarchical order, by key
+     * @throws SAXException if the given handler fails
+     */
+    private void exportConcurrently(
+            final ContentHandler handler,
+            final DataSource dataSource,
+            final List<String> tableNames,
+            final int parallelism,
+            final BidiMap<String, EntityType<?>> entities,
+            final Set<EntityType<?>> taskEntities,
+            final Map<String, Pair<String, String>> relationTables,
+            final Map<String, Integer> realmIndex) throws SAXException {
+
+        TransactionTemplate txTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        txTemplate.setReadOnly(true);
+
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        List<Future<Path>> segments = new ArrayList<>(tableNames.size());
+        try {
+            tableNames.forEach(tableName -> segments.add(workers.submit(() -> txTemplate.execute(status -> {
+                Path segment = null;
+                try {
+                    segment = Files.createTempFile(tableName + '-', ".xml");
+                    try (OutputStream out = Files.newOutputStream(segment)) {
+                        TransformerHandler segmentHandler = transformerFactory().newTransformerHandler();
+                        segmentHandler.setResult(new StreamResult(out));
+                        segmentHandler.startDocument();
+                        segmentHandler.startElement("", "", ROOT_ELEMENT, new AttributesImpl());
+
+                        exportTable(
+                                segmentHandler, DataSourceUtils.getConnection(dataSource), tableName,
+                                TABLES_TO_BE_FILTERED.get(tableName.toUpperCase()),
+                                entities, taskEntities, relationTables, realmIndex);
+
+                        segmentHandler.endElement("", "", ROOT_ELEMENT);
+                        segmentHandler.endDocument();
+                    }
+                    return segment;
+                } catch (Exception e) {
+                    deleteSegment(segment);
+                    throw new IllegalStateException(e);
+                }
+            }))));
+
+            for (int i = 0; i < tableNames.size(); i++) {
+                Path segment = null;
+                try {
+                    segment = segments.get(i).get();
+                    replay(segment, handler);
+                } catch (ExecutionException e) {
+                    LOG.error("Failure exporting table {}", tableNames.get(i), e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SAXException(e);
+                } catch (IOException | ParserConfigurationException e) {
+                    LOG.error("Failure exporting table {}", tableNames.get(i), e);
+                } finally {
+                    deleteSegment(segment);
+                }
+            }
+        } finally {
+            workers.shutdownNow();
+
+            // segments not replayed, if any
+            segments.stream().filter(future -> future.isDone() && !future.isCancelled()).forEach(future -> {
+                try {
+                    deleteSegment(future.get());
+                } catch (Exception e) {
+                    LOG.debug("No segment to delete", e);
+                }
+            });
+        }
+    }
+
+    private static void replay(final Path segment, final ContentHandler handler)
+            throws IOException, ParserConfigurationException, SAXException {
+
+        SAXParserFactory factory = SAXParserFactory.newInstance();
+        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+
+        try (InputStream in = Files.newInputStream(segment)) {
+            factory.newSAXParser().parse(in, new DefaultHandler() {
+
+                @Override
+                public void startElement(
+                        final String uri, final String localName, final String qName, final Attributes atts)
+                        throws SAXException {
+
+                    if (!ROOT_ELEMENT.equals(qName)) {
+                        handler.startElement(uri, localName, qName, atts);
+                    }
+                }
+
+                @Override
+                public void endElement(final String uri, final String localName, final String qName)
+                        throws SAXException {
+
+                    if (!ROOT_ELEMENT.equals(qName)) {
+                        handler.endElement(uri, localName, qName);
+                    }
+                }
+            });
+        }
+    }
+
+    private static void deleteSegment(final Path segment) {
+        if (segment != null) {
+            try {
+                Files.deleteIfExists(segment);
+            } catch (IOException e) {
+                LOG.warn("Could not delete {}", segment, e);
+            }
+        }
+    }
+
+    private static SAXTransformerFactory transformerFactory() throws TransformerConfigurationException {
+        SAXTransformerFactory transformerFactory = (SAXTransformerFactory) SAXTransformerFactory.newInstance();
+        transformerFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        return transformerFactory;
+    }
+
     private Set<EntityType<?>> taskEntities(final Set<EntityType<?>> entityTypes) {
         return entityTypes.stream().filter(e -> e.getName().endsWith("Task")).collect(Collectors.toSet());
     }
@@ -501,10 +674,7 @@ public class XMLContentExporter implements ContentExporter {
         }
 
         StreamResult streamResult = new StreamResult(os);
-        SAXTransformerFactory transformerFactory = (SAXTransformerFactory) SAXTransformerFactory.newInstance();
-        transformerFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-
-        TransformerHandler handler = transformerFactory.newTransformerHandler();
+        TransformerHandler handler = transformerFactory().newTransformerHandler();
         Transformer serializer = handler.getTransformer();
         serializer.setOutputProperty(OutputKeys.ENCODING, StandardCharsets.UTF_8.name());
         serializer.setOutputProperty(OutputKeys.INDENT, "yes");
@@ -547,14 +717,31 @@ public class XMLContentExporter implements ContentExporter {
             Set<EntityType<?>> entityTypes = emf == null ? Set.of() : emf.getMetamodel().getEntities();
             BidiMap<String, EntityType<?>> entities = entities(entityTypes);
 
+            Set<EntityType<?>> taskEntities = taskEntities(entityTypes);
+            Map<String, Pair<String, String>> relationTables = relationTables(entities);
+
+            List<Realm> realms = realmDAO.findAll();
+            Map<String, Integer> realmIndex = new HashMap<>(realms.size());
+            for (int i = 0; i < realms.size(); i++) {
+                realmIndex.put(realms.get(i).getKey(), i);
+            }
+
             // then sort tables based on foreign keys and dump
-            for (String tableName : sortByForeignKeys(schema, conn, tableNames)) {
-                try {
-                    exportTable(
-                            handler, conn, tableName, TABLES_TO_BE_FILTERED.get(tableName.toUpperCase()),
-                            entities, taskEntities(entityTypes), relationTables(entities));
-                } catch (Exception e) {
-                    LOG.error("Failure exporting table {}", tableName, e);
+            List<String> sortedTableNames = sortByForeignKeys(schema, conn, tableNames);
+            int parallelism = env.getProperty("content.exportParallelism", Integer.class, 1);
+            if (parallelism > 1) {
+                exportConcurrently(
+                        handler, dataSource, sortedTableNames, parallelism,
+                        entities, taskEntities, relationTables, realmIndex);
+            } else {
+                for (String tableName : sortedTableNames) {
+                    try {
+                        exportTable(
+                                handler, conn, tableName, TABLES_TO_BE_FILTERED.get(tableName.toUpperCase()),
+                                entities, taskEntities, relationTables, realmIndex);
+                    } catch (Exception e) {
+                        LOG.error("Failure exporting table {}", tableName, e);
+                    }
                 }
             }
         } catch (SQLException e) {
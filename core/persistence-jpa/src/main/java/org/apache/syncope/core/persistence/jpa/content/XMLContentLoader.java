@@ -20,13 +20,19 @@ package org.apache.syncope.core.persistence.jpa.content;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.stream.Collectors;
 import javax.annotation.Resource;
 import javax.sql.DataSource;
 import javax.xml.XMLConstants;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.core.persistence.api.content.ContentLoader;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
@@ -91,10 +97,10 @@ public class XMLContentLoader implements ContentLoader {
             } catch (IOException e) {
                 LOG.error("[{}] While creating views", domain, e);
             }
-            try {
+            // indexes can be created after loading, so that they are not maintained row by row meanwhile
+            boolean deferIndexes = env.getProperty("content.deferIndexes", Boolean.class, false);
+            if (!deferIndexes) {
                 createIndexes(domain, datasource);
-            } catch (IOException e) {
-                LOG.error("[{}] While creating indexes", domain, e);
             }
             try {
                 InputStream contentXML = ApplicationContextProvider.getBeanFactory().
@@ -103,6 +109,63 @@ public class XMLContentLoader implements ContentLoader {
             } catch (Exception e) {
                 LOG.error("[{}] While loading default content", domain, e);
             }
+            if (deferIndexes) {
+                createIndexes(domain, datasource);
+            }
+        }
+
+        fillRealmFullPaths(domain, datasource);
+    }
+
+    private static String fullPath(
+            final String key,
+            final Map<String, Pair<String, String>> realms,
+            final Map<String, String> fullPaths) {
+
+        String fullPath = fullPaths.get(key);
+        if (fullPath == null) {
+            Pair<String, String> realm = realms.get(key);
+            fullPath = realm.getRight() == null
+                    ? SyncopeConstants.ROOT_REALM
+                    : StringUtils.appendIfMissing(fullPath(realm.getRight(), realms, fullPaths), "/")
+                    + realm.getLeft();
+            fullPaths.put(key, fullPath);
+        }
+        return fullPath;
+    }
+
+    /**
+     * Fills realm full paths, when missing - as for content or databases predating their introduction.
+     *
+     * @param domain domain
+     * @param dataSource domain data source
+     */
+    private void fillRealmFullPaths(final String domain, final DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        try {
+            Integer missing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(0) FROM " + JPARealm.TABLE + " WHERE fullPath IS NULL", Integer.class);
+            if (missing == null || missing == 0) {
+                return;
+            }
+
+            // name and parent, by key
+            Map<String, Pair<String, String>> realms = new HashMap<>();
+            jdbcTemplate.query("SELECT id, name, parent_id FROM " + JPARealm.TABLE, rs -> {
+                realms.put(rs.getString("id"), Pair.of(rs.getString("name"), rs.getString("parent_id")));
+            });
+
+            Map<String, String> fullPaths = new HashMap<>();
+            realms.keySet().forEach(key -> fullPath(key, realms, fullPaths));
+
+            jdbcTemplate.batchUpdate(
+                    "UPDATE " + JPARealm.TABLE + " SET fullPath=? WHERE id=?",
+                    fullPaths.entrySet().stream().
+                            map(entry -> new Object[] { entry.getValue(), entry.getKey() }).
+                            collect(Collectors.toList()));
+            LOG.info("[{}] Full path filled for {} realms", domain, missing);
+        } catch (DataAccessException e) {
+            LOG.error("[{}] While filling realm full paths", domain, e);
         }
     }
 
@@ -115,7 +178,8 @@ public class XMLContentLoader implements ContentLoader {
         factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
         try (contentXML) {
             SAXParser parser = factory.newSAXParser();
-            parser.parse(contentXML, new ContentLoaderHandler(dataSource, ROOT_ELEMENT, true, env));
+            parser.parse(contentXML, new ContentLoaderHandler(
+                    dataSource, ROOT_ELEMENT, true, env, env.getProperty("content.batchSize", Integer.class, 1)));
             LOG.debug("[{}] Default content successfully loaded", domain);
         }
     }
@@ -138,12 +202,18 @@ public class XMLContentLoader implements ContentLoader {
         LOG.debug("Views created");
     }
 
-    private void createIndexes(final String domain, final DataSource dataSource) throws IOException {
+    private void createIndexes(final String domain, final DataSource dataSource) {
         LOG.debug("[{}] Creating indexes", domain);
 
         JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
 
-        Properties indexes = PropertiesLoaderUtils.loadProperties(indexesXML.getResource());
+        Properties indexes;
+        try {
+            indexes = PropertiesLoaderUtils.loadProperties(indexesXML.getResource());
+        } catch (IOException e) {
+            LOG.error("[{}] While creating indexes", domain, e);
+            return;
+        }
         indexes.stringPropertyNames().stream().sorted().forEachOrdered(idx -> {
             LOG.debug("[{}] Creating index {}", domain, indexes.get(idx).toString());
             try {
@@ -24,6 +24,7 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -37,6 +38,10 @@ import org.apache.commons.jexl3.parser.Parser;
 import org.apache.commons.jexl3.parser.ParserConstants;
 import org.apache.commons.jexl3.parser.Token;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.openjpa.persistence.FetchPlan;
+import org.apache.openjpa.persistence.OpenJPAPersistence;
+import org.apache.openjpa.persistence.jdbc.FetchMode;
+import org.apache.openjpa.persistence.jdbc.JDBCFetchPlan;
 import org.apache.syncope.core.persistence.api.dao.AllowedSchemas;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
@@ -88,6 +93,10 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
     @Lazy
     protected DynRealmDAO dynRealmDAO;
 
+    @Autowired
+    @Lazy
+    protected DerAttrIndex derAttrIndex;
+
     private AnyUtils anyUtils;
 
     protected abstract AnyUtils init();
@@ -132,6 +141,23 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
         return result;
     }
 
+    @SuppressWarnings("unchecked")
+    protected List<String> findAllKeys(final String table, final String lastKey, final int itemsPerPage) {
+        Query query = entityManager().createNativeQuery(
+                "SELECT id FROM " + table + (lastKey == null ? "" : " WHERE id>?1") + " ORDER BY id", String.class);
+        if (lastKey != null) {
+            query.setParameter(1, lastKey);
+        }
+        query.setMaxResults(itemsPerPage);
+
+        List<String> result = new ArrayList<>();
+        query.getResultList().stream().map(resultKey -> resultKey instanceof Object[]
+                ? (String) ((Object[]) resultKey)[0]
+                : ((String) resultKey)).
+                forEach(actualKey -> result.add(actualKey.toString()));
+        return result;
+    }
+
     protected Date findLastChange(final String key, final String table) {
         Query query = entityManager().createNativeQuery(
                 "SELECT creationDate, lastChangeDate FROM " + table + " WHERE id=?");
@@ -162,6 +188,32 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
         return query.getResultList();
     }
 
+    /**
+     * Adds to the given fetch plan the associations to load along with each entity when hydrating a page.
+     *
+     * @param fetchPlan fetch plan
+     * @param details whether the associations needed for detailed representation shall be added as well
+     */
+    protected abstract void addFetchFields(FetchPlan fetchPlan, boolean details);
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<A> findByKeys(final List<String> keys, final boolean details) {
+        Class<A> entityClass = anyUtils().anyClass();
+        TypedQuery<A> query = entityManager().createQuery(
+                "SELECT e FROM " + entityClass.getSimpleName() + " e WHERE e.id IN (:keys)", entityClass);
+        query.setParameter("keys", keys);
+
+        // to-many associations are then loaded by one query each for all the page, instead of one per entity
+        FetchPlan fetchPlan = OpenJPAPersistence.cast(query).getFetchPlan();
+        if (fetchPlan instanceof JDBCFetchPlan) {
+            ((JDBCFetchPlan) fetchPlan).setEagerFetchMode(FetchMode.PARALLEL);
+        }
+        addFetchFields(fetchPlan, details);
+
+        return query.getResultList();
+    }
+
     @Transactional(readOnly = true)
     @Override
     public A authFind(final String key) {
@@ -401,6 +453,21 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
         return clauses;
     }
 
+    /**
+     * Finds any objects by derived attribute value via {@link DerAttrIndex}, if enabled.
+     *
+     * @param schema derived schema
+     * @param value derived attribute value
+     * @param ignoreCaseMatch whether comparison for string values should take case into account or not
+     * @return matching any objects, or empty if the lookup cannot be served by the index
+     */
+    protected Optional<List<A>> findByDerAttrIndex(
+            final DerSchema schema, final String value, final boolean ignoreCaseMatch) {
+
+        return derAttrIndex.find(schema, value, ignoreCaseMatch).
+                map(keys -> keys.isEmpty() ? List.of() : findByKeys(keys));
+    }
+
     @Override
     public List<A> findByDerAttrValue(final DerSchema schema, final String value, final boolean ignoreCaseMatch) {
         if (schema == null) {
@@ -408,6 +475,11 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
             return List.of();
         }
 
+        Optional<List<A>> indexed = findByDerAttrIndex(schema, value, ignoreCaseMatch);
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
+
         // query string
         StringBuilder querystring = new StringBuilder();
 
@@ -429,19 +501,17 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
             }
         }
 
-        List<A> result = new ArrayList<>();
-        if (querystring.length() > 0) {
-            Query query = entityManager().createNativeQuery(querystring.toString());
+        if (querystring.length() == 0) {
+            return List.of();
+        }
 
-            for (Object anyKey : query.getResultList()) {
-                A any = find(anyKey.toString());
-                if (!result.contains(any)) {
-                    result.add(any);
-                }
-            }
+        Set<String> keys = new LinkedHashSet<>();
+        Query query = entityManager().createNativeQuery(querystring.toString());
+        for (Object anyKey : query.getResultList()) {
+            keys.add(anyKey instanceof Object[] ? ((Object[]) anyKey)[0].toString() : anyKey.toString());
         }
 
-        return result;
+        return keys.isEmpty() ? List.of() : findByKeys(new ArrayList<>(keys));
     }
 
     @SuppressWarnings("unchecked")
@@ -514,7 +584,13 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
 
     @Override
     public A save(final A any) {
-        return entityManager().merge(any);
+        A merged = entityManager().merge(any);
+
+        if (derAttrIndex.isEnabled()) {
+            derAttrIndex.refresh(merged, findAllowedSchemas(merged, DerSchema.class).getForSelf());
+        }
+
+        return merged;
     }
 
     @Override
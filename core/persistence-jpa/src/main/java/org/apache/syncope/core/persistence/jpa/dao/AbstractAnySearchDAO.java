@@ -20,8 +20,11 @@ package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -141,7 +144,35 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
             int page,
             int itemsPerPage,
             List<OrderByClause> orderBy,
-            AnyTypeKind kind);
+            AnyTypeKind kind,
+            boolean details);
+
+    protected abstract Optional<String> doKeysQuery(
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            AnyTypeKind kind,
+            List<Object> parameters);
+
+    @Override
+    public Optional<String> keysQuery(
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind,
+            final List<Object> parameters) {
+
+        if (adminRealms == null || adminRealms.isEmpty()) {
+            LOG.error("No realms provided");
+            return Optional.empty();
+        }
+
+        LOG.debug("Search condition:\n{}", cond);
+        if (cond == null || !cond.isValid()) {
+            LOG.error("Invalid search condition:\n{}", cond);
+            return Optional.empty();
+        }
+
+        return doKeysQuery(adminRealms, cond, kind, parameters);
+    }
 
     protected Pair<PlainSchema, PlainAttrValue> check(final AttrCond cond, final AnyTypeKind kind) {
         AnyUtils anyUtils = anyUtilsFactory.getInstance(kind);
@@ -297,17 +328,29 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
     }
 
     @SuppressWarnings("unchecked")
-    protected <T extends Any<?>> List<T> buildResult(final List<Object> raw, final AnyTypeKind kind) {
+    protected <T extends Any<?>> List<T> buildResult(
+            final List<Object> raw, final AnyTypeKind kind, final boolean details) {
+
         List<String> keys = raw.stream().
                 map(key -> key instanceof Object[] ? (String) ((Object[]) key)[0] : ((String) key)).
                 collect(Collectors.toList());
+        if (keys.isEmpty()) {
+            return List.of();
+        }
 
         // sort anys according to keys' sorting, as their ordering is same as raw, e.g. the actual sql query results
-        List<Any<?>> anys = anyUtilsFactory.getInstance(kind).dao().findByKeys(keys).stream().
-                sorted(Comparator.comparing(any -> keys.indexOf(any.getKey()))).collect(Collectors.toList());
+        Map<String, Integer> positions = new HashMap<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            positions.putIfAbsent(keys.get(i), i);
+        }
+        List<Any<?>> anys = new ArrayList<>(anyUtilsFactory.getInstance(kind).dao().findByKeys(keys, details));
+        anys.sort(Comparator.comparing(any -> positions.get(any.getKey())));
 
-        keys.stream().filter(key -> !anys.stream().anyMatch(any -> key.equals(any.getKey()))).
-                forEach(key -> LOG.error("Could not find {} with id {}, even if returned by native query", kind, key));
+        if (anys.size() < positions.size()) {
+            Set<String> found = anys.stream().map(Any::getKey).collect(Collectors.toSet());
+            positions.keySet().stream().filter(key -> !found.contains(key)).forEach(key -> LOG.error(
+                    "Could not find {} with id {}, even if returned by native query", kind, key));
+        }
 
         return (List<T>) anys;
     }
@@ -321,6 +364,19 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
             final List<OrderByClause> orderBy,
             final AnyTypeKind kind) {
 
+        return search(adminRealms, cond, page, itemsPerPage, orderBy, kind, false);
+    }
+
+    @Override
+    public <T extends Any<?>> List<T> search(
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final int page,
+            final int itemsPerPage,
+            final List<OrderByClause> orderBy,
+            final AnyTypeKind kind,
+            final boolean details) {
+
         if (adminRealms == null || adminRealms.isEmpty()) {
             LOG.error("No realms provided");
             return List.of();
@@ -344,6 +400,31 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
                     collect(Collectors.toList());
         }
 
-        return doSearch(adminRealms, cond, page, itemsPerPage, effectiveOrderBy, kind);
+        return doSearch(adminRealms, cond, page, itemsPerPage, effectiveOrderBy, kind, details);
+    }
+
+    @Override
+    public <T extends Any<?>> List<T> searchAfter(
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final String lastKey,
+            final int itemsPerPage,
+            final AnyTypeKind kind,
+            final boolean details) {
+
+        // continue from the last key seen, via primary key index instead of skipping an offset
+        SearchCond effectiveCond = cond;
+        if (lastKey != null && cond != null) {
+            AnyCond keyCond = new AnyCond(AttrCond.Type.GT);
+            keyCond.setSchema("key");
+            keyCond.setExpression(lastKey);
+            effectiveCond = SearchCond.getAnd(cond, SearchCond.getLeaf(keyCond));
+        }
+
+        OrderByClause keyClause = new OrderByClause();
+        keyClause.setField("key");
+        keyClause.setDirection(OrderByClause.Direction.ASC);
+
+        return search(adminRealms, effectiveCond, 1, itemsPerPage, List.of(keyClause), kind, details);
     }
 }
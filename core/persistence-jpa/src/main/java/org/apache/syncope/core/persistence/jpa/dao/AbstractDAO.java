@@ -18,7 +18,12 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
 import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import javax.persistence.TemporalType;
 import org.apache.syncope.core.persistence.api.dao.DAO;
 import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
@@ -44,6 +49,44 @@ public abstract class AbstractDAO<E extends Entity> implements DAO<E> {
         return entityManager;
     }
 
+    /**
+     * Sets the given values as positional parameters of the given native query.
+     *
+     * @param query native query
+     * @param parameters positional parameter values
+     */
+    protected static void fillWithParameters(final Query query, final List<?> parameters) {
+        for (int i = 0; i < parameters.size(); i++) {
+            if (parameters.get(i) instanceof Date) {
+                query.setParameter(i + 1, (Date) parameters.get(i), TemporalType.TIMESTAMP);
+            } else if (parameters.get(i) instanceof Boolean) {
+                query.setParameter(i + 1, ((Boolean) parameters.get(i))
+                        ? 1
+                        : 0);
+            } else {
+                query.setParameter(i + 1, parameters.get(i));
+            }
+        }
+    }
+
+    /**
+     * Runs the given native query, expected to select a single key column.
+     *
+     * @param queryString native query
+     * @param parameters positional parameter values
+     * @return selected keys
+     */
+    @SuppressWarnings("unchecked")
+    protected List<String> findKeys(final String queryString, final List<?> parameters) {
+        Query query = entityManager().createNativeQuery(queryString);
+        fillWithParameters(query, parameters);
+
+        return ((List<Object>) query.getResultList()).stream().map(key -> key instanceof Object[]
+                ? (String) ((Object[]) key)[0]
+                : ((String) key)).
+                collect(Collectors.toList());
+    }
+
     @Override
     public void refresh(final E entity) {
         entityManager().refresh(entity);
@@ -0,0 +1,325 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import javax.persistence.Query;
+import org.apache.commons.jexl3.JexlContext;
+import org.apache.commons.jexl3.MapContext;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.provisioning.api.jexl.JexlUtils;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Optional, materialized index of derived attribute values, maintained upon save of any objects and derived schemas:
+ * when enabled, lookups by derived attribute value are resolved with a single equality query, instead of parsing the
+ * derived schema expression into nested queries over plain attribute values.
+ * Lookups for a derived schema are served by the index only once its values were built for all any objects, either
+ * at startup or after the derived schema was last changed; until then, the expression-based path is used.
+ */
+public class DerAttrIndex extends AbstractDAO<Any<?>> {
+
+    public static final String TABLE = "DerAttrValues";
+
+    /**
+     * Values longer than this are not indexed; lookups for such values are not served by the index.
+     */
+    public static final int MAX_VALUE_LENGTH = 255;
+
+    @Autowired
+    @Lazy
+    private UserDAO userDAO;
+
+    @Autowired
+    @Lazy
+    private GroupDAO groupDAO;
+
+    @Autowired
+    @Lazy
+    private AnyObjectDAO anyObjectDAO;
+
+    @Autowired
+    @Lazy
+    private DerSchemaDAO derSchemaDAO;
+
+    /**
+     * Derived schemas whose indexed values are complete, by domain.
+     */
+    private final Map<String, Set<String>> built = new ConcurrentHashMap<>();
+
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    private Set<String> built(final String domain) {
+        return built.computeIfAbsent(domain, k -> ConcurrentHashMap.newKeySet());
+    }
+
+    private void insert(final String anyKey, final DerSchema schema, final String value) {
+        if (value == null || value.length() > MAX_VALUE_LENGTH) {
+            return;
+        }
+
+        Query insert = entityManager().createNativeQuery("INSERT INTO " + TABLE
+                + "(any_id, schema_id, stringvalue, lowerstringvalue) VALUES(?, ?, ?, ?)");
+        insert.setParameter(1, anyKey);
+        insert.setParameter(2, schema.getKey());
+        insert.setParameter(3, value);
+        insert.setParameter(4, value.toLowerCase(Locale.ROOT));
+        insert.executeUpdate();
+    }
+
+    /**
+     * Replaces the indexed values for the given any object, by evaluating the given derived schemas.
+     *
+     * @param any any object
+     * @param schemas derived schemas allowed for the given any object
+     */
+    public void refresh(final Any<?> any, final Collection<? extends DerSchema> schemas) {
+        if (!enabled) {
+            return;
+        }
+
+        remove(any.getKey());
+
+        JexlContext jexlContext = new MapContext();
+        JexlUtils.addPlainAttrsToContext(any.getPlainAttrs(), jexlContext);
+        JexlUtils.addFieldsToContext(any, jexlContext);
+
+        schemas.forEach(schema -> insert(
+                any.getKey(), schema, JexlUtils.evaluate(schema.getExpression(), jexlContext)));
+    }
+
+    /**
+     * Removes all the indexed values for the given any object.
+     *
+     * @param anyKey any object key
+     */
+    public void remove(final String anyKey) {
+        if (!enabled) {
+            return;
+        }
+
+        Query delete = entityManager().createNativeQuery("DELETE FROM " + TABLE + " WHERE any_id=?");
+        delete.setParameter(1, anyKey);
+        delete.executeUpdate();
+    }
+
+    private <A extends Any<?>> void reindex(final AnyDAO<A> anyDAO, final DerSchema schema, final boolean clear) {
+        String lastKey = null;
+        List<String> keys;
+        do {
+            keys = anyDAO.findAllKeys(lastKey, AnyDAO.DEFAULT_PAGE_SIZE);
+            if (!keys.isEmpty()) {
+                lastKey = keys.get(keys.size() - 1);
+
+                anyDAO.findByKeys(keys).stream().
+                        filter(any -> anyDAO.findAllowedSchemas(any, DerSchema.class).forSelfContains(schema)).
+                        forEach(any -> {
+                            JexlContext jexlContext = new MapContext();
+                            JexlUtils.addPlainAttrsToContext(any.getPlainAttrs(), jexlContext);
+                            JexlUtils.addFieldsToContext(any, jexlContext);
+
+                            insert(any.getKey(), schema, JexlUtils.evaluate(schema.getExpression(), jexlContext));
+                        });
+
+                if (clear) {
+                    anyDAO.clear();
+                }
+            }
+        } while (keys.size() == AnyDAO.DEFAULT_PAGE_SIZE);
+    }
+
+    private void reindex(final DerSchema schema, final boolean clear) {
+        remove(schema);
+
+        reindex(userDAO, schema, clear);
+        reindex(groupDAO, schema, clear);
+        reindex(anyObjectDAO, schema, clear);
+    }
+
+    /**
+     * Rebuilds, within the current transaction, the indexed values for the given derived schema, for all any objects.
+     *
+     * @param schema derived schema
+     */
+    public void reindex(final DerSchema schema) {
+        if (!enabled) {
+            return;
+        }
+
+        reindex(schema, false);
+        built(AuthContextUtils.getDomain()).add(schema.getKey());
+    }
+
+    /**
+     * Rebuilds the indexed values for the given derived schemas - or for all derived schemas, if none is given - each
+     * within its own transaction.
+     *
+     * @param domain domain
+     * @param schemaKeys derived schema keys, or empty to rebuild all derived schemas
+     */
+    public void rebuild(final String domain, final Collection<String> schemaKeys) {
+        if (!enabled) {
+            return;
+        }
+
+        TransactionTemplate txTemplate = new TransactionTemplate(ApplicationContextProvider.getBeanFactory().
+                getBean(domain + "TransactionManager", PlatformTransactionManager.class));
+        txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        AuthContextUtils.callAsAdmin(domain, () -> {
+            Collection<String> keys = schemaKeys.isEmpty()
+                    ? txTemplate.execute(status -> derSchemaDAO.findAll().stream().
+                            map(DerSchema::getKey).collect(Collectors.toList()))
+                    : schemaKeys;
+
+            keys.forEach(key -> {
+                built(domain).remove(key);
+
+                LOG.debug("[{}] Rebuilding derived attribute value index for {}", domain, key);
+                boolean exists = txTemplate.execute(status -> {
+                    DerSchema schema = derSchemaDAO.find(key);
+                    if (schema != null) {
+                        reindex(schema, true);
+                    }
+                    return schema != null;
+                });
+
+                if (exists) {
+                    built(domain).add(key);
+                }
+            });
+            return null;
+        });
+    }
+
+    /**
+     * Stops serving lookups for the given derived schemas, whose values have to be computed again, then rebuilds
+     * their indexed values as soon as the current transaction commits.
+     *
+     * @param schemaKeys derived schema keys
+     */
+    public void invalidate(final Collection<String> schemaKeys) {
+        if (!enabled || schemaKeys.isEmpty()) {
+            return;
+        }
+
+        String domain = AuthContextUtils.getDomain();
+        built(domain).removeAll(schemaKeys);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    try {
+                        rebuild(domain, schemaKeys);
+                    } catch (Exception e) {
+                        LOG.error("[{}] While rebuilding derived attribute value index for {}",
+                                domain, schemaKeys, e);
+                    }
+                }
+            });
+        } else {
+            rebuild(domain, schemaKeys);
+        }
+    }
+
+    /**
+     * Invalidates the derived schemas whose expression might refer to the given plain schema.
+     *
+     * @param plainSchemaKey plain schema key
+     */
+    public void invalidateFor(final String plainSchemaKey) {
+        if (!enabled) {
+            return;
+        }
+
+        invalidate(derSchemaDAO.findAll().stream().
+                filter(schema -> schema.getExpression() != null && schema.getExpression().contains(plainSchemaKey)).
+                map(DerSchema::getKey).
+                collect(Collectors.toList()));
+    }
+
+    /**
+     * Removes all the indexed values for the given derived schema.
+     *
+     * @param schema derived schema
+     */
+    public void remove(final DerSchema schema) {
+        if (!enabled) {
+            return;
+        }
+
+        built(AuthContextUtils.getDomain()).remove(schema.getKey());
+
+        Query delete = entityManager().createNativeQuery("DELETE FROM " + TABLE + " WHERE schema_id=?");
+        delete.setParameter(1, schema.getKey());
+        delete.executeUpdate();
+    }
+
+    /**
+     * Finds the keys of any objects having the given derived attribute value.
+     *
+     * @param schema derived schema
+     * @param value derived attribute value
+     * @param ignoreCaseMatch whether comparison for string values should take case into account or not
+     * @return keys of matching any objects, or empty if the lookup cannot be served by the index
+     */
+    public Optional<List<String>> find(final DerSchema schema, final String value, final boolean ignoreCaseMatch) {
+        if (!enabled || schema == null || value == null || value.length() > MAX_VALUE_LENGTH
+                || !built(AuthContextUtils.getDomain()).contains(schema.getKey())) {
+
+            return Optional.empty();
+        }
+
+        return Optional.of(findKeys(
+                "SELECT DISTINCT any_id FROM " + TABLE + " WHERE schema_id=? AND "
+                + (ignoreCaseMatch ? "lowerstringvalue" : "stringvalue") + "=?",
+                List.of(schema.getKey(), ignoreCaseMatch ? value.toLowerCase(Locale.ROOT) : value)));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AnyTypeCond;
+import org.apache.syncope.core.persistence.api.dao.search.AssignableCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
+import org.apache.syncope.core.persistence.api.dao.search.RelationshipCond;
+import org.apache.syncope.core.persistence.api.dao.search.RelationshipTypeCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+
+/**
+ * Dynamic membership condition, parsed once and indexed by the plain schemas and relations it depends on.
+ */
+public class DynMembershipCond {
+
+    /**
+     * Dependency of conditions which might be affected by any change, e.g. on fields, memberships, roles or
+     * resources, as these can also be changed by workflow tasks, assigned dynamically or inherited.
+     */
+    public static final String ANY_CHANGE = "*";
+
+    private static void dependencies(
+            final SearchCond cond, final Predicate<String> isPlainSchema, final Set<String> dependencies) {
+
+        if (cond == null || cond.getType() == null) {
+            return;
+        }
+
+        switch (cond.getType()) {
+            case LEAF:
+            case NOT_LEAF:
+                if (cond.getLeaf(AnyCond.class).isPresent()) {
+                    // fields can be changed by workflow tasks as well
+                    dependencies.add(ANY_CHANGE);
+                } else if (cond.getLeaf(AttrCond.class).isPresent()) {
+                    String schema = cond.getLeaf(AttrCond.class).get().getSchema();
+                    // derived or virtual attributes can depend on anything
+                    dependencies.add(isPlainSchema.test(schema) ? schema : ANY_CHANGE);
+                } else if (cond.getLeaf(AssignableCond.class).isPresent()) {
+                    dependencies.add("realm");
+                } else if (cond.getLeaf(RelationshipCond.class).isPresent()
+                        || cond.getLeaf(RelationshipTypeCond.class).isPresent()) {
+
+                    dependencies.add("relationships");
+                } else if (cond.getLeaf(AnyTypeCond.class).isEmpty()) {
+                    dependencies.add(ANY_CHANGE);
+                }
+                break;
+
+            case AND:
+            case OR:
+                dependencies(cond.getLeft(), isPlainSchema, dependencies);
+                dependencies(cond.getRight(), isPlainSchema, dependencies);
+                break;
+
+            default:
+        }
+    }
+
+    private final String group;
+
+    private final String fiql;
+
+    private final String realm;
+
+    private final SearchCond cond;
+
+    private final Set<String> dependencies = new HashSet<>();
+
+    public DynMembershipCond(
+            final String group,
+            final String fiql,
+            final String realm,
+            final SearchCond cond,
+            final Predicate<String> isPlainSchema) {
+
+        this.group = group;
+        this.fiql = fiql;
+        this.realm = realm;
+        this.cond = cond;
+        dependencies(cond, isPlainSchema, dependencies);
+    }
+
+    /**
+     * @param fiql current FIQL condition
+     * @param realm current realm full path
+     * @return whether this instance was built from the given FIQL condition and realm
+     */
+    public boolean isCurrent(final String fiql, final String realm) {
+        return this.fiql.equals(fiql) && this.realm.equals(realm);
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public SearchCond getCond() {
+        return cond;
+    }
+
+    public Set<String> getDependencies() {
+        return Collections.unmodifiableSet(dependencies);
+    }
+
+    /**
+     * @param changed plain schemas and relations changed, null if unknown
+     * @return whether this condition needs to be evaluated again after the given changes
+     */
+    public boolean dependsOn(final Set<String> changed) {
+        return changed == null
+                || dependencies.contains(ANY_CHANGE)
+                || !Collections.disjoint(dependencies, changed);
+    }
+}
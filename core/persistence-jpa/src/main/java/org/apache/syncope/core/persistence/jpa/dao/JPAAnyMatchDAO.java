@@ -382,7 +382,12 @@ public class JPAAnyMatchDAO extends AbstractDAO<Any<?>> implements AnyMatchDAO {
         return not ? !found : found;
     }
 
-    private boolean matches(final Any<?> any, final AnyCond cond, final boolean not) {
+    private boolean matches(final Any<?> any, final AnyCond anyCond, final boolean not) {
+        // Works on a copy, as the given condition can be evaluated again
+        AnyCond cond = new AnyCond(anyCond.getType());
+        cond.setSchema(anyCond.getSchema());
+        cond.setExpression(anyCond.getExpression());
+
         // Keeps track of difference between entity's getKey() and JPA @Id fields
         if ("key".equals(cond.getSchema())) {
             cond.setSchema("id");
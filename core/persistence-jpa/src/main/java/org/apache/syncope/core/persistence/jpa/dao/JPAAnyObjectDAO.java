@@ -32,9 +32,11 @@ import javax.persistence.NoResultException;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.openjpa.persistence.FetchPlan;
 import org.apache.syncope.common.lib.types.AnyEntitlement;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAPlainAttr;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
@@ -116,6 +118,15 @@ public class JPAAnyObjectDAO extends AbstractAnyDAO<AnyObject> implements AnyObj
                 result -> ((Number) result[1]).intValue()));
     }
 
+    @Override
+    protected void addFetchFields(final FetchPlan fetchPlan, final boolean details) {
+        fetchPlan.addFields(JPAAnyObject.class, "plainAttrs", "auxClasses", "resources");
+        fetchPlan.addField(JPAAPlainAttr.class, "values");
+        if (details) {
+            fetchPlan.addFields(JPAAnyObject.class, "relationships", "memberships");
+        }
+    }
+
     @Override
     protected void securityChecks(final AnyObject anyObject) {
         Map<String, Set<String>> authorizations = AuthContextUtils.getAuthorizations();
@@ -201,11 +212,18 @@ public class JPAAnyObjectDAO extends AbstractAnyDAO<AnyObject> implements AnyObj
         return findAllKeys(JPAAnyObject.TABLE, page, itemsPerPage);
     }
 
-    protected Pair<AnyObject, Pair<Set<String>, Set<String>>> doSave(final AnyObject anyObject) {
+    @Override
+    public List<String> findAllKeys(final String lastKey, final int itemsPerPage) {
+        return findAllKeys(JPAAnyObject.TABLE, lastKey, itemsPerPage);
+    }
+
+    protected Pair<AnyObject, Pair<Set<String>, Set<String>>> doSave(
+            final AnyObject anyObject, final Set<String> changed) {
+
         AnyObject merged = super.save(anyObject);
         publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, merged, AuthContextUtils.getDomain()));
 
-        Pair<Set<String>, Set<String>> dynGroupMembs = groupDAO.refreshDynMemberships(merged);
+        Pair<Set<String>, Set<String>> dynGroupMembs = groupDAO.refreshDynMemberships(merged, changed);
         dynRealmDAO.refreshDynMemberships(merged);
 
         return Pair.of(merged, dynGroupMembs);
@@ -213,12 +231,17 @@ public class JPAAnyObjectDAO extends AbstractAnyDAO<AnyObject> implements AnyObj
 
     @Override
     public AnyObject save(final AnyObject anyObject) {
-        return doSave(anyObject).getLeft();
+        return doSave(anyObject, null).getLeft();
     }
 
     @Override
     public Pair<Set<String>, Set<String>> saveAndGetDynGroupMembs(final AnyObject anyObject) {
-        return doSave(anyObject).getRight();
+        return doSave(anyObject, null).getRight();
+    }
+
+    @Override
+    public AnyObject save(final AnyObject anyObject, final Set<String> changed) {
+        return doSave(anyObject, changed).getLeft();
     }
 
     protected List<ARelationship> findARelationships(final AnyObject anyObject) {
@@ -257,6 +280,8 @@ public class JPAAnyObjectDAO extends AbstractAnyDAO<AnyObject> implements AnyObj
             entityManager().remove(relationship);
         });
 
+        derAttrIndex.remove(anyObject.getKey());
+
         entityManager().remove(anyObject);
         publisher.publishEvent(new AnyDeletedEvent(
                 this, AnyTypeKind.ANY_OBJECT, anyObject.getKey(), anyObject.getName(), AuthContextUtils.getDomain()));
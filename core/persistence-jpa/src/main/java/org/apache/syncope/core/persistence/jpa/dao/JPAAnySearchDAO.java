@@ -19,19 +19,18 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.persistence.Query;
-import javax.persistence.TemporalType;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.lib.SyncopeClientException;
+import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
@@ -52,10 +51,10 @@ import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.DynRealm;
-import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
 import org.apache.syncope.core.provisioning.api.utils.RealmUtils;
 
 /**
@@ -65,24 +64,41 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
 
     protected static final String EMPTY_QUERY = "SELECT any_id FROM user_search WHERE 1=2";
 
+    /**
+     * Builds the condition matching the given realms and their descendants, on realm full path.
+     *
+     * @param realmPaths realm full paths
+     * @param parameters query parameters
+     * @return condition on realm full path
+     */
+    protected static String buildRealmPathsCond(final Set<String> realmPaths, final List<Object> parameters) {
+        if (realmPaths.isEmpty()) {
+            return "1=0";
+        }
+
+        return realmPaths.stream().map(realmPath -> SyncopeConstants.ROOT_REALM.equals(realmPath)
+                ? "fullPath LIKE ?" + setParameter(parameters, SyncopeConstants.ROOT_REALM + '%')
+                : "fullPath=?" + setParameter(parameters, realmPath)
+                + " OR fullPath LIKE ?" + setParameter(parameters, realmPath + "/%")).
+                collect(Collectors.joining(" OR "));
+    }
+
     protected String buildAdminRealmsFilter(
-            final Set<String> realmKeys,
+            final Set<String> realmPaths,
             final SearchSupport svs,
             final List<Object> parameters) {
 
-        List<String> realmKeyArgs = realmKeys.stream().
-                map(realmKey -> "?" + setParameter(parameters, realmKey)).
-                collect(Collectors.toList());
         return "u.any_id IN (SELECT any_id FROM " + svs.field().name
-                + " WHERE realm_id IN (" + StringUtils.join(realmKeyArgs, ", ") + "))";
+                + " WHERE realm_id IN (SELECT id FROM " + JPARealm.TABLE
+                + " WHERE " + buildRealmPathsCond(realmPaths, parameters) + "))";
     }
 
-    private Pair<String, Set<String>> getAdminRealmsFilter(
+    protected Pair<String, Set<String>> getAdminRealmsFilter(
             final Set<String> adminRealms,
             final SearchSupport svs,
             final List<Object> parameters) {
 
-        Set<String> realmKeys = new HashSet<>();
+        Set<String> realmPaths = new HashSet<>();
         Set<String> dynRealmKeys = new HashSet<>();
         RealmUtils.normalize(adminRealms).forEach(realmPath -> {
             if (realmPath.startsWith("/")) {
@@ -92,8 +108,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
                     noRealm.getElements().add("Invalid realm specified: " + realmPath);
                     throw noRealm;
                 } else {
-                    realmKeys.addAll(realmDAO.findDescendants(realm).stream().
-                            map(Entity::getKey).collect(Collectors.toSet()));
+                    realmPaths.add(realm.getFullPath());
                 }
             } else {
                 DynRealm dynRealm = dynRealmDAO.find(realmPath);
@@ -105,20 +120,32 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
             }
         });
         if (!dynRealmKeys.isEmpty()) {
-            realmKeys.addAll(realmDAO.findAll().stream().
-                    map(Entity::getKey).collect(Collectors.toSet()));
+            realmPaths.clear();
+            realmPaths.add(SyncopeConstants.ROOT_REALM);
         }
 
-        return Pair.of(buildAdminRealmsFilter(realmKeys, svs, parameters), dynRealmKeys);
+        return Pair.of(buildAdminRealmsFilter(realmPaths, svs, parameters), dynRealmKeys);
     }
 
     SearchSupport buildSearchSupport(final AnyTypeKind kind) {
         return new SearchViewSupport(kind);
     }
 
-    @Override
-    protected int doCount(final Set<String> adminRealms, final SearchCond cond, final AnyTypeKind kind) {
-        List<Object> parameters = new ArrayList<>();
+    /**
+     * Builds the native query selecting the distinct keys of all any objects matching the given search condition,
+     * within the given administrative realms.
+     *
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param cond the search condition
+     * @param kind any object
+     * @param parameters positional parameter values, to be extended with the ones required by the returned query
+     * @return native query, selecting a single {@code any_id} column
+     */
+    protected String buildKeysQuery(
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind,
+            final List<Object> parameters) {
 
         SearchSupport svs = buildSearchSupport(kind);
 
@@ -130,15 +157,19 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
 
         StringBuilder queryString = queryInfo.getLeft();
 
-        // 2. take into account administrative realms
-        queryString.insert(0, "SELECT u.any_id FROM (");
+        // 2. take into account administrative realms, avoiding duplicates
+        queryString.insert(0, "SELECT DISTINCT u.any_id FROM (");
         queryString.append(") u WHERE ").append(filter.getLeft());
 
-        // 3. prepare the COUNT query
-        queryString.insert(0, "SELECT COUNT(any_id) FROM (");
-        queryString.append(") count_any_id");
+        return queryString.toString();
+    }
 
-        Query countQuery = entityManager().createNativeQuery(queryString.toString());
+    @Override
+    protected int doCount(final Set<String> adminRealms, final SearchCond cond, final AnyTypeKind kind) {
+        List<Object> parameters = new ArrayList<>();
+
+        Query countQuery = entityManager().createNativeQuery(
+                "SELECT COUNT(any_id) FROM (" + buildKeysQuery(adminRealms, cond, kind, parameters) + ") count_any_id");
         fillWithParameters(countQuery, parameters);
 
         return ((Number) countQuery.getSingleResult()).intValue();
@@ -152,7 +183,8 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
             final int page,
             final int itemsPerPage,
             final List<OrderByClause> orderBy,
-            final AnyTypeKind kind) {
+            final AnyTypeKind kind,
+            final boolean details) {
 
         try {
             List<Object> parameters = new ArrayList<>();
@@ -198,7 +230,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
             fillWithParameters(query, parameters);
 
             // 6. Prepare the result (avoiding duplicates)
-            return buildResult(query.getResultList(), kind);
+            return buildResult(query.getResultList(), kind, details);
         } catch (SyncopeClientException e) {
             throw e;
         } catch (Exception e) {
@@ -208,25 +240,33 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         return List.of();
     }
 
+    @Override
+    protected Optional<String> doKeysQuery(
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind,
+            final List<Object> parameters) {
+
+        try {
+            String keysQuery = buildKeysQuery(adminRealms, cond, kind, parameters);
+
+            LOG.debug("Keys query: {}, parameters: {}", keysQuery, parameters);
+
+            return Optional.of(keysQuery);
+        } catch (SyncopeClientException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error("While building keys query for {}", kind, e);
+        }
+
+        return Optional.empty();
+    }
+
     protected static int setParameter(final List<Object> parameters, final Object parameter) {
         parameters.add(parameter);
         return parameters.size();
     }
 
-    private static void fillWithParameters(final Query query, final List<Object> parameters) {
-        for (int i = 0; i < parameters.size(); i++) {
-            if (parameters.get(i) instanceof Date) {
-                query.setParameter(i + 1, (Date) parameters.get(i), TemporalType.TIMESTAMP);
-            } else if (parameters.get(i) instanceof Boolean) {
-                query.setParameter(i + 1, ((Boolean) parameters.get(i))
-                        ? 1
-                        : 0);
-            } else {
-                query.setParameter(i + 1, parameters.get(i));
-            }
-        }
-    }
-
     private static StringBuilder buildSelect(final OrderBySupport obs) {
         StringBuilder select = new StringBuilder("SELECT DISTINCT u.any_id");
 
@@ -823,9 +863,8 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         StringBuilder query = new StringBuilder("SELECT DISTINCT any_id FROM ").
                 append(svs.field().name).append(" WHERE (");
         if (cond.isFromGroup()) {
-            realmDAO.findDescendants(realm).forEach(current -> query.append("realm_id=?")
-                    .append(setParameter(parameters, current.getKey())).append(" OR "));
-            query.setLength(query.length() - 4);
+            query.append("realm_id IN (SELECT id FROM ").append(JPARealm.TABLE).append(" WHERE ").
+                    append(buildRealmPathsCond(Set.of(realm.getFullPath()), parameters)).append(')');
         } else {
             for (Realm current = realm; current.getParent() != null; current = current.getParent()) {
                 query.append("realm_id=?").append(setParameter(parameters, current.getKey())).append(" OR ");
@@ -37,6 +37,10 @@ public class JPADerSchemaDAO extends AbstractDAO<DerSchema> implements DerSchema
     @Lazy
     private ExternalResourceDAO resourceDAO;
 
+    @Autowired
+    @Lazy
+    private DerAttrIndex derAttrIndex;
+
     @Override
     public DerSchema find(final String key) {
         return entityManager().find(JPADerSchema.class, key);
@@ -75,7 +79,11 @@ public class JPADerSchemaDAO extends AbstractDAO<DerSchema> implements DerSchema
 
     @Override
     public DerSchema save(final DerSchema derSchema) {
-        return entityManager().merge(derSchema);
+        DerSchema merged = entityManager().merge(derSchema);
+
+        derAttrIndex.invalidate(List.of(merged.getKey()));
+
+        return merged;
     }
 
     @Override
@@ -89,6 +97,8 @@ public class JPADerSchemaDAO extends AbstractDAO<DerSchema> implements DerSchema
 
         resourceDAO.deleteMapping(key);
 
+        derAttrIndex.remove(schema);
+
         if (schema.getAnyTypeClass() != null) {
             schema.getAnyTypeClass().getDerSchemas().remove(schema);
         }
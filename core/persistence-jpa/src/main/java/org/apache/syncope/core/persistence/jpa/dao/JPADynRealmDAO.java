@@ -19,13 +19,21 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.DynRealm;
+import org.apache.syncope.core.persistence.api.entity.DynRealmMembership;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.persistence.jpa.entity.JPADynRealm;
 import org.apache.syncope.core.provisioning.api.event.AnyCreatedUpdatedEvent;
@@ -117,27 +125,136 @@ public class JPADynRealmDAO extends AbstractDAO<DynRealm> implements DynRealmDAO
         });
     }
 
+    private Optional<String> keysQuery(final DynRealmMembership memb, final List<Object> parameters) {
+        return searchDAO.keysQuery(
+                SyncopeConstants.FULL_ADMIN_REALMS,
+                SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()),
+                memb.getAnyType().getKind(),
+                parameters);
+    }
+
+    private AnyDAO<?> dao(final AnyTypeKind kind) {
+        switch (kind) {
+            case USER:
+                return userDAO;
+
+            case GROUP:
+                return groupDAO;
+
+            case ANY_OBJECT:
+            default:
+                return anyObjectDAO;
+        }
+    }
+
+    private void notifyDynMembershipAddition(final AnyTypeKind kind, final List<String> anyKeys) {
+        AnyDAO<?> dao = dao(kind);
+        for (int i = 0; i < anyKeys.size(); i += AnyDAO.DEFAULT_PAGE_SIZE) {
+            dao.findByKeys(anyKeys.subList(i, Math.min(anyKeys.size(), i + AnyDAO.DEFAULT_PAGE_SIZE))).forEach(any ->
+                    publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, any, AuthContextUtils.getDomain())));
+        }
+    }
+
+    /**
+     * Only applies the delta between current and matching members, via set-based native statements.
+     *
+     * @param dynRealm dynamic realm
+     * @return whether the configured {@link AnySearchDAO} was able to provide keys queries for all memberships
+     */
+    private boolean refreshDynMembersSetBased(final DynRealm dynRealm) {
+        List<Object> parameters = new ArrayList<>();
+        List<String> keysQueries = new ArrayList<>();
+        dynRealm.getDynMemberships().forEach(memb -> keysQuery(memb, parameters).ifPresent(keysQueries::add));
+        if (keysQueries.size() != dynRealm.getDynMemberships().size()) {
+            return false;
+        }
+
+        parameters.add(dynRealm.getKey());
+        StringBuilder removedCond = new StringBuilder(" WHERE dynRealm_id=?").append(parameters.size());
+        keysQueries.forEach(keysQuery -> removedCond.
+                append(" AND any_id NOT IN (SELECT dyn.any_id FROM (").append(keysQuery).append(") dyn)"));
+        List<String> removed = findKeys("SELECT any_id FROM " + DYNMEMB_TABLE + removedCond, parameters);
+        if (!removed.isEmpty()) {
+            Query delete = entityManager().createNativeQuery("DELETE FROM " + DYNMEMB_TABLE + removedCond);
+            fillWithParameters(delete, parameters);
+            delete.executeUpdate();
+        }
+
+        int added = 0;
+        for (DynRealmMembership memb : dynRealm.getDynMemberships()) {
+            List<Object> addedParameters = new ArrayList<>();
+            String keysQuery = keysQuery(memb, addedParameters).orElseThrow();
+            addedParameters.add(dynRealm.getKey());
+            List<String> addedKeys = findKeys("SELECT dyn.any_id FROM (" + keysQuery + ") dyn"
+                    + " WHERE dyn.any_id NOT IN "
+                    + "(SELECT any_id FROM " + DYNMEMB_TABLE + " WHERE dynRealm_id=?" + addedParameters.size() + ")",
+                    addedParameters);
+            if (!addedKeys.isEmpty()) {
+                addedParameters.add(dynRealm.getKey());
+                Query insert = entityManager().createNativeQuery("INSERT INTO " + DYNMEMB_TABLE
+                        + "(any_id, dynRealm_id) SELECT dyn.any_id, ?" + addedParameters.size()
+                        + " FROM (" + keysQuery + ") dyn WHERE dyn.any_id NOT IN "
+                        + "(SELECT any_id FROM " + DYNMEMB_TABLE
+                        + " WHERE dynRealm_id=?" + (addedParameters.size() - 1) + ")");
+                fillWithParameters(insert, addedParameters);
+                insert.executeUpdate();
+
+                notifyDynMembershipAddition(memb.getAnyType().getKind(), addedKeys);
+                added += addedKeys.size();
+            }
+        }
+
+        notifyDynMembershipRemoval(removed);
+
+        LOG.debug("Dynamic members of realm {} refreshed: +{} -{}", dynRealm.getKey(), added, removed.size());
+
+        return true;
+    }
+
     @Override
     public DynRealm saveAndRefreshDynMemberships(final DynRealm dynRealm) {
         DynRealm merged = save(dynRealm);
 
         // refresh dynamic memberships
-        List<String> cleared = clearDynMembers(merged);
-
-        merged.getDynMemberships().stream().map(memb -> searchDAO.search(
-                SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()), memb.getAnyType().getKind())).
-                forEach(matching -> matching.forEach(any -> {
-
-            Query insert = entityManager().createNativeQuery("INSERT INTO " + DYNMEMB_TABLE + " VALUES(?, ?)");
-            insert.setParameter(1, any.getKey());
-            insert.setParameter(2, merged.getKey());
-            insert.executeUpdate();
-
-            publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, any, AuthContextUtils.getDomain()));
-            cleared.remove(any.getKey());
-        }));
+        if (!refreshDynMembersSetBased(merged)) {
+            List<Object> parameters = new ArrayList<>();
+            parameters.add(merged.getKey());
+            List<String> members = findKeys(
+                    "SELECT any_id FROM " + DYNMEMB_TABLE + " WHERE dynRealm_id=?1", parameters);
+            Set<String> existing = new HashSet<>(members);
+            Set<String> matching = new HashSet<>();
+
+            merged.getDynMemberships().forEach(memb -> {
+                List<String> added = new ArrayList<>();
+                searchDAO.search(SearchCondConverter.convert(searchCondVisitor, memb.getFIQLCond()),
+                        memb.getAnyType().getKind()).forEach(any -> {
+
+                    matching.add(any.getKey());
+                    if (!existing.contains(any.getKey())) {
+                        Query insert = entityManager().createNativeQuery(
+                                "INSERT INTO " + DYNMEMB_TABLE + " VALUES(?, ?)");
+                        insert.setParameter(1, any.getKey());
+                        insert.setParameter(2, merged.getKey());
+                        insert.executeUpdate();
+
+                        added.add(any.getKey());
+                    }
+                });
+                notifyDynMembershipAddition(memb.getAnyType().getKind(), added);
+            });
+
+            List<String> removed = members.stream().
+                    filter(key -> !matching.contains(key)).collect(Collectors.toList());
+            removed.forEach(key -> {
+                Query delete = entityManager().createNativeQuery(
+                        "DELETE FROM " + DYNMEMB_TABLE + " WHERE dynRealm_id=? AND any_id=?");
+                delete.setParameter(1, merged.getKey());
+                delete.setParameter(2, key);
+                delete.executeUpdate();
+            });
 
-        notifyDynMembershipRemoval(cleared);
+            notifyDynMembershipRemoval(removed);
+        }
 
         return merged;
     }
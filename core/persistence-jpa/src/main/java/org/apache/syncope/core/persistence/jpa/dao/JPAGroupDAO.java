@@ -24,12 +24,15 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import javax.persistence.NoResultException;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.openjpa.persistence.FetchPlan;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
@@ -41,9 +44,11 @@ import org.apache.syncope.core.persistence.api.dao.PlainAttrDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.search.AssignableCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.DynGroupMembership;
 import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.ADynGroupMembership;
@@ -58,6 +63,7 @@ import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAADynGroupMembership;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAMembership;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGPlainAttr;
 import org.apache.syncope.core.persistence.jpa.entity.group.JPAGroup;
 import org.apache.syncope.core.persistence.jpa.entity.group.JPATypeExtension;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUDynGroupMembership;
@@ -94,6 +100,11 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
     @Autowired
     private SearchCondVisitor searchCondVisitor;
 
+    /**
+     * Parsed dynamic membership conditions, by membership key.
+     */
+    protected final Map<String, DynMembershipCond> dynMembershipConds = new ConcurrentHashMap<>();
+
     @Override
     protected AnyUtils init() {
         return anyUtilsFactory.getInstance(AnyTypeKind.GROUP);
@@ -130,6 +141,12 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
                 result -> ((Number) result[1]).intValue()));
     }
 
+    @Override
+    protected void addFetchFields(final FetchPlan fetchPlan, final boolean details) {
+        fetchPlan.addFields(JPAGroup.class, "plainAttrs", "auxClasses", "resources");
+        fetchPlan.addField(JPAGPlainAttr.class, "values");
+    }
+
     @Override
     protected void securityChecks(final Group group) {
         Map<String, Set<String>> authorizations = AuthContextUtils.getAuthorizations();
@@ -246,6 +263,11 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
         return findAllKeys(JPAGroup.TABLE, page, itemsPerPage);
     }
 
+    @Override
+    public List<String> findAllKeys(final String lastKey, final int itemsPerPage) {
+        return findAllKeys(JPAGroup.TABLE, lastKey, itemsPerPage);
+    }
+
     private SearchCond buildDynMembershipCond(final String baseCondFIQL, final Realm groupRealm) {
         AssignableCond cond = new AssignableCond();
         cond.setRealmFullPath(groupRealm.getFullPath());
@@ -256,60 +278,237 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
                 SearchCondConverter.convert(searchCondVisitor, baseCondFIQL));
     }
 
+    /**
+     * Returns the parsed dynamic membership condition, from cache unless FIQL or group realm have changed meanwhile.
+     *
+     * @param memb dynamic group membership
+     * @return parsed dynamic membership condition
+     */
+    protected DynMembershipCond dynMembershipCond(final DynGroupMembership<?> memb) {
+        String realm = memb.getGroup().getRealm().getFullPath();
+
+        DynMembershipCond dynMembershipCond = dynMembershipConds.get(memb.getKey());
+        if (dynMembershipCond == null || !dynMembershipCond.isCurrent(memb.getFIQLCond(), realm)) {
+            dynMembershipCond = new DynMembershipCond(
+                    memb.getGroup().getKey(),
+                    memb.getFIQLCond(),
+                    realm,
+                    buildDynMembershipCond(memb.getFIQLCond(), memb.getGroup().getRealm()),
+                    schema -> plainSchemaDAO.find(schema) != null);
+            dynMembershipConds.put(memb.getKey(), dynMembershipCond);
+        }
+
+        return dynMembershipCond;
+    }
+
+    /**
+     * Removes the parsed dynamic membership conditions of the given group which are no longer configured.
+     *
+     * @param group group
+     */
+    protected void evictDynMembershipConds(final Group group) {
+        Set<String> current = new HashSet<>();
+        Optional.ofNullable(group.getUDynMembership()).ifPresent(memb -> current.add(memb.getKey()));
+        group.getADynMemberships().forEach(memb -> current.add(memb.getKey()));
+
+        dynMembershipConds.entrySet().removeIf(entry -> group.getKey().equals(entry.getValue().getGroup())
+                && !current.contains(entry.getKey()));
+    }
+
+    private static String dynMembersCond(
+            final List<Object> parameters, final String groupKey, final String anyTypeKey) {
+
+        parameters.add(groupKey);
+        StringBuilder cond = new StringBuilder("group_id=?").append(parameters.size());
+        if (anyTypeKey != null) {
+            parameters.add(anyTypeKey);
+            cond.append(" AND anyType_id=?").append(parameters.size());
+        }
+        return cond.toString();
+    }
+
+    /**
+     * Aligns the dynamic members of the given group with the outcome of the given FIQL condition: rather than
+     * clearing and rebuilding, only the delta between current and matching members is applied - via set-based
+     * native statements when the configured {@link AnySearchDAO} is able to provide a keys query, or by comparing
+     * key sets otherwise.
+     *
+     * @param group group
+     * @param kind either USER or ANY_OBJECT
+     * @param anyTypeKey any type (only for ANY_OBJECT)
+     * @param fiql dynamic membership condition
+     * @return keys of added and removed members
+     */
+    private Pair<List<String>, List<String>> refreshDynMembers(
+            final Group group,
+            final AnyTypeKind kind,
+            final String anyTypeKey,
+            final String fiql) {
+
+        String table = kind == AnyTypeKind.USER ? UDYNMEMB_TABLE : ADYNMEMB_TABLE;
+        Set<String> adminRealms = Set.of(group.getRealm().getFullPath());
+        SearchCond cond = buildDynMembershipCond(fiql, group.getRealm());
+
+        List<Object> keysParameters = new ArrayList<>();
+        Optional<String> keysQuery = searchDAO.keysQuery(adminRealms, cond, kind, keysParameters);
+
+        List<String> added;
+        List<String> removed;
+        if (keysQuery.isPresent()) {
+            String matching = "SELECT dyn.any_id FROM (" + keysQuery.get() + ") dyn";
+
+            List<Object> parameters = new ArrayList<>(keysParameters);
+            String removedCond = " WHERE " + dynMembersCond(parameters, group.getKey(), anyTypeKey)
+                    + " AND any_id NOT IN (" + matching + ")";
+            removed = findKeys("SELECT any_id FROM " + table + removedCond, parameters);
+            if (!removed.isEmpty()) {
+                Query delete = entityManager().createNativeQuery("DELETE FROM " + table + removedCond);
+                fillWithParameters(delete, parameters);
+                delete.executeUpdate();
+            }
+
+            parameters = new ArrayList<>(keysParameters);
+            String addedCond = " WHERE dyn.any_id NOT IN (SELECT any_id FROM " + table
+                    + " WHERE " + dynMembersCond(parameters, group.getKey(), anyTypeKey) + ")";
+            added = findKeys(matching + addedCond, parameters);
+            if (!added.isEmpty()) {
+                parameters = new ArrayList<>(keysParameters);
+                StringBuilder insert = new StringBuilder("INSERT INTO ").append(table);
+                if (anyTypeKey == null) {
+                    parameters.add(group.getKey());
+                    insert.append("(any_id, group_id) SELECT dyn.any_id, ?").append(parameters.size());
+                } else {
+                    parameters.add(anyTypeKey);
+                    insert.append("(anyType_id, any_id, group_id) SELECT ?").append(parameters.size());
+                    parameters.add(group.getKey());
+                    insert.append(", dyn.any_id, ?").append(parameters.size());
+                }
+                insert.append(" FROM (").append(keysQuery.get()).append(") dyn").append(" WHERE dyn.any_id NOT IN ").
+                        append("(SELECT any_id FROM ").append(table).
+                        append(" WHERE ").append(dynMembersCond(parameters, group.getKey(), anyTypeKey)).append(')');
+
+                Query query = entityManager().createNativeQuery(insert.toString());
+                fillWithParameters(query, parameters);
+                query.executeUpdate();
+            }
+        } else {
+            List<Object> parameters = new ArrayList<>();
+            List<String> members = findKeys("SELECT any_id FROM " + table
+                    + " WHERE " + dynMembersCond(parameters, group.getKey(), anyTypeKey), parameters);
+
+            Set<String> matching = new HashSet<>();
+            List<Any<?>> page;
+            String lastKey = null;
+            do {
+                page = searchDAO.searchAfter(adminRealms, cond, lastKey, AnyDAO.DEFAULT_PAGE_SIZE, kind, false);
+                page.forEach(any -> matching.add(any.getKey()));
+                lastKey = page.isEmpty() ? null : page.get(page.size() - 1).getKey();
+            } while (page.size() == AnyDAO.DEFAULT_PAGE_SIZE);
+
+            removed = members.stream().filter(key -> !matching.contains(key)).collect(Collectors.toList());
+            removed.forEach(key -> {
+                Query delete = entityManager().createNativeQuery(
+                        "DELETE FROM " + table + " WHERE group_id=? AND any_id=?");
+                delete.setParameter(1, group.getKey());
+                delete.setParameter(2, key);
+                delete.executeUpdate();
+            });
+
+            Set<String> existing = new HashSet<>(members);
+            added = matching.stream().filter(key -> !existing.contains(key)).collect(Collectors.toList());
+            added.forEach(key -> {
+                Query insert;
+                if (anyTypeKey == null) {
+                    insert = entityManager().createNativeQuery("INSERT INTO " + table + " VALUES(?, ?)");
+                    insert.setParameter(1, key);
+                    insert.setParameter(2, group.getKey());
+                } else {
+                    insert = entityManager().createNativeQuery("INSERT INTO " + table + " VALUES(?, ?, ?)");
+                    insert.setParameter(1, anyTypeKey);
+                    insert.setParameter(2, key);
+                    insert.setParameter(3, group.getKey());
+                }
+                insert.executeUpdate();
+            });
+        }
+
+        return Pair.of(added, removed);
+    }
+
+    /**
+     * Publishes update events for the anys with given keys, loading them in pages.
+     *
+     * @param dao DAO for the given keys
+     * @param keys any keys
+     */
+    private void publishUpdated(final AnyDAO<?> dao, final List<String> keys) {
+        for (int i = 0; i < keys.size(); i += AnyDAO.DEFAULT_PAGE_SIZE) {
+            dao.findByKeys(keys.subList(i, Math.min(keys.size(), i + AnyDAO.DEFAULT_PAGE_SIZE))).forEach(any ->
+                    publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, any, AuthContextUtils.getDomain())));
+        }
+    }
+
+    @Override
+    public Group save(final Group group) {
+        Group merged = super.save(group);
+        evictDynMembershipConds(merged);
+        return merged;
+    }
+
     @Override
     public Group saveAndRefreshDynMemberships(final Group group) {
         Group merged = save(group);
         publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, merged, AuthContextUtils.getDomain()));
 
-        // refresh dynamic memberships
-        clearUDynMembers(merged);
-        if (merged.getUDynMembership() != null) {
-            SearchCond cond = buildDynMembershipCond(merged.getUDynMembership().getFIQLCond(), merged.getRealm());
-            int count = searchDAO.count(Set.of(merged.getRealm().getFullPath()), cond, AnyTypeKind.USER);
-            for (int page = 1; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                List<User> matching = searchDAO.search(
-                        Set.of(merged.getRealm().getFullPath()),
-                        cond,
-                        page,
-                        AnyDAO.DEFAULT_PAGE_SIZE,
-                        List.of(),
-                        AnyTypeKind.USER);
-
-                matching.forEach(user -> {
-                    Query insert = entityManager().createNativeQuery("INSERT INTO " + UDYNMEMB_TABLE + " VALUES(?, ?)");
-                    insert.setParameter(1, user.getKey());
-                    insert.setParameter(2, merged.getKey());
-                    insert.executeUpdate();
-
-                    publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, user, AuthContextUtils.getDomain()));
-                });
-            }
+        // refresh user dynamic memberships
+        List<String> uAdded = new ArrayList<>();
+        List<String> uRemoved = new ArrayList<>();
+        if (merged.getUDynMembership() == null) {
+            List<Object> parameters = new ArrayList<>();
+            uRemoved.addAll(findKeys("SELECT any_id FROM " + UDYNMEMB_TABLE
+                    + " WHERE " + dynMembersCond(parameters, merged.getKey(), null), parameters));
+            clearUDynMembers(merged);
+        } else {
+            Pair<List<String>, List<String>> delta = refreshDynMembers(
+                    merged, AnyTypeKind.USER, null, merged.getUDynMembership().getFIQLCond());
+            uAdded.addAll(delta.getLeft());
+            uRemoved.addAll(delta.getRight());
+        }
+        publishUpdated(userDAO, uAdded);
+        publishUpdated(userDAO, uRemoved);
+
+        // refresh any object dynamic memberships: first remove members for any types no longer configured...
+        List<Object> parameters = new ArrayList<>();
+        StringBuilder staleCond = new StringBuilder(dynMembersCond(parameters, merged.getKey(), null));
+        if (!merged.getADynMemberships().isEmpty()) {
+            staleCond.append(" AND anyType_id NOT IN (").
+                    append(merged.getADynMemberships().stream().map(memb -> {
+                        parameters.add(memb.getAnyType().getKey());
+                        return "?" + parameters.size();
+                    }).collect(Collectors.joining(", "))).
+                    append(')');
         }
-        clearADynMembers(merged);
+        List<String> aRemoved = new ArrayList<>(
+                findKeys("SELECT any_id FROM " + ADYNMEMB_TABLE + " WHERE " + staleCond, parameters));
+        if (!aRemoved.isEmpty()) {
+            Query delete = entityManager().createNativeQuery("DELETE FROM " + ADYNMEMB_TABLE + " WHERE " + staleCond);
+            fillWithParameters(delete, parameters);
+            delete.executeUpdate();
+        }
+
+        // ...then align members for each configured any type
+        List<String> aAdded = new ArrayList<>();
         merged.getADynMemberships().forEach(memb -> {
-            SearchCond cond = buildDynMembershipCond(memb.getFIQLCond(), merged.getRealm());
-            int count = searchDAO.count(Set.of(merged.getRealm().getFullPath()), cond, AnyTypeKind.ANY_OBJECT);
-            for (int page = 1; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                List<AnyObject> matching = searchDAO.search(
-                        Set.of(merged.getRealm().getFullPath()),
-                        cond,
-                        page,
-                        AnyDAO.DEFAULT_PAGE_SIZE,
-                        List.of(),
-                        AnyTypeKind.ANY_OBJECT);
-
-                matching.forEach(anyObject -> {
-                    Query insert = entityManager().createNativeQuery(
-                            "INSERT INTO " + ADYNMEMB_TABLE + " VALUES(?, ?, ?)");
-                    insert.setParameter(1, anyObject.getType().getKey());
-                    insert.setParameter(2, anyObject.getKey());
-                    insert.setParameter(3, merged.getKey());
-                    insert.executeUpdate();
-
-                    publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, anyObject, AuthContextUtils.getDomain()));
-                });
-            }
+            Pair<List<String>, List<String>> delta = refreshDynMembers(
+                    merged, AnyTypeKind.ANY_OBJECT, memb.getAnyType().getKey(), memb.getFIQLCond());
+            aAdded.addAll(delta.getLeft());
+            aRemoved.addAll(delta.getRight());
         });
+        publishUpdated(anyObjectDAO, aAdded);
+        publishUpdated(anyObjectDAO, aRemoved);
+
+        LOG.debug("Dynamic members of group {} refreshed: users +{} -{}, any objects +{} -{}",
+                merged.getKey(), uAdded.size(), uRemoved.size(), aAdded.size(), aRemoved.size());
 
         dynRealmDAO.refreshDynMemberships(merged);
 
@@ -354,6 +553,10 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
         clearUDynMembers(group);
         clearADynMembers(group);
 
+        dynMembershipConds.values().removeIf(cond -> group.getKey().equals(cond.getGroup()));
+
+        derAttrIndex.remove(group.getKey());
+
         entityManager().remove(group);
         publisher.publishEvent(new AnyDeletedEvent(
                 this, AnyTypeKind.GROUP, group.getKey(), group.getName(), AuthContextUtils.getDomain()));
@@ -448,28 +651,23 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
     @Transactional
     @Override
     public Pair<Set<String>, Set<String>> refreshDynMemberships(final AnyObject anyObject) {
-        Query query = entityManager().createNativeQuery(
-                "SELECT group_id FROM " + JPAGroupDAO.ADYNMEMB_TABLE + " WHERE any_id=?");
-        query.setParameter(1, anyObject.getKey());
+        return refreshDynMemberships(anyObject, null);
+    }
 
-        Set<String> before = new HashSet<>();
-        Set<String> after = new HashSet<>();
-        findWithADynMemberships(anyObject.getType()).forEach(memb -> {
-            boolean matches = anyMatchDAO.matches(
-                    anyObject,
-                    buildDynMembershipCond(memb.getFIQLCond(), memb.getGroup().getRealm()));
-            if (matches) {
-                after.add(memb.getGroup().getKey());
-            }
+    @Transactional
+    @Override
+    public Pair<Set<String>, Set<String>> refreshDynMemberships(
+            final AnyObject anyObject, final Set<String> changed) {
 
-            Query find = entityManager().createNativeQuery(
-                    "SELECT any_id FROM " + ADYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-            find.setParameter(1, memb.getGroup().getKey());
-            find.setParameter(2, anyObject.getKey());
-            boolean existing = !find.getResultList().isEmpty();
-            if (existing) {
-                before.add(memb.getGroup().getKey());
-            }
+        Set<String> before = new HashSet<>(findKeys(
+                "SELECT group_id FROM " + ADYNMEMB_TABLE + " WHERE any_id=?1", List.of(anyObject.getKey())));
+        Set<String> after = new HashSet<>(before);
+
+        findWithADynMemberships(anyObject.getType()).stream().
+                filter(memb -> dynMembershipCond(memb).dependsOn(changed)).forEach(memb -> {
+
+            boolean matches = anyMatchDAO.matches(anyObject, dynMembershipCond(memb).getCond());
+            boolean existing = before.contains(memb.getGroup().getKey());
 
             if (matches && !existing) {
                 Query insert = entityManager().createNativeQuery(
@@ -478,15 +676,21 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
                 insert.setParameter(2, anyObject.getKey());
                 insert.setParameter(3, memb.getGroup().getKey());
                 insert.executeUpdate();
+
+                after.add(memb.getGroup().getKey());
+                publisher.publishEvent(
+                        new AnyCreatedUpdatedEvent<>(this, memb.getGroup(), AuthContextUtils.getDomain()));
             } else if (!matches && existing) {
                 Query delete = entityManager().createNativeQuery(
                         "DELETE FROM " + ADYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
                 delete.setParameter(1, memb.getGroup().getKey());
                 delete.setParameter(2, anyObject.getKey());
                 delete.executeUpdate();
-            }
 
-            publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, memb.getGroup(), AuthContextUtils.getDomain()));
+                after.remove(memb.getGroup().getKey());
+                publisher.publishEvent(
+                        new AnyCreatedUpdatedEvent<>(this, memb.getGroup(), AuthContextUtils.getDomain()));
+            }
         });
 
         return Pair.of(before, after);
@@ -547,28 +751,21 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
     @Transactional
     @Override
     public Pair<Set<String>, Set<String>> refreshDynMemberships(final User user) {
-        Query query = entityManager().createNativeQuery(
-                "SELECT group_id FROM " + JPAGroupDAO.UDYNMEMB_TABLE + " WHERE any_id=?");
-        query.setParameter(1, user.getKey());
+        return refreshDynMemberships(user, null);
+    }
 
-        Set<String> before = new HashSet<>();
-        Set<String> after = new HashSet<>();
-        findWithUDynMemberships().forEach(memb -> {
-            boolean matches = anyMatchDAO.matches(
-                    user,
-                    buildDynMembershipCond(memb.getFIQLCond(), memb.getGroup().getRealm()));
-            if (matches) {
-                after.add(memb.getGroup().getKey());
-            }
+    @Transactional
+    @Override
+    public Pair<Set<String>, Set<String>> refreshDynMemberships(final User user, final Set<String> changed) {
+        Set<String> before = new HashSet<>(findKeys(
+                "SELECT group_id FROM " + UDYNMEMB_TABLE + " WHERE any_id=?1", List.of(user.getKey())));
+        Set<String> after = new HashSet<>(before);
 
-            Query find = entityManager().createNativeQuery(
-                    "SELECT any_id FROM " + UDYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
-            find.setParameter(1, memb.getGroup().getKey());
-            find.setParameter(2, user.getKey());
-            boolean existing = !find.getResultList().isEmpty();
-            if (existing) {
-                before.add(memb.getGroup().getKey());
-            }
+        findWithUDynMemberships().stream().
+                filter(memb -> dynMembershipCond(memb).dependsOn(changed)).forEach(memb -> {
+
+            boolean matches = anyMatchDAO.matches(user, dynMembershipCond(memb).getCond());
+            boolean existing = before.contains(memb.getGroup().getKey());
 
             if (matches && !existing) {
                 Query insert = entityManager().createNativeQuery(
@@ -576,15 +773,21 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
                 insert.setParameter(1, user.getKey());
                 insert.setParameter(2, memb.getGroup().getKey());
                 insert.executeUpdate();
+
+                after.add(memb.getGroup().getKey());
+                publisher.publishEvent(
+                        new AnyCreatedUpdatedEvent<>(this, memb.getGroup(), AuthContextUtils.getDomain()));
             } else if (!matches && existing) {
                 Query delete = entityManager().createNativeQuery(
                         "DELETE FROM " + UDYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
                 delete.setParameter(1, memb.getGroup().getKey());
                 delete.setParameter(2, user.getKey());
                 delete.executeUpdate();
-            }
 
-            publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, memb.getGroup(), AuthContextUtils.getDomain()));
+                after.remove(memb.getGroup().getKey());
+                publisher.publishEvent(
+                        new AnyCreatedUpdatedEvent<>(this, memb.getGroup(), AuthContextUtils.getDomain()));
+            }
         });
 
         return Pair.of(before, after);
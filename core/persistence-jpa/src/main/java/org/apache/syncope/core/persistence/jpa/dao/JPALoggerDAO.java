@@ -34,7 +34,11 @@ import org.apache.syncope.core.persistence.api.dao.LoggerDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.Logger;
 import org.apache.syncope.core.persistence.jpa.entity.JPALogger;
+import org.apache.syncope.core.provisioning.api.event.EventRoutingChangedEvent;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 public class JPALoggerDAO extends AbstractDAO<Logger> implements LoggerDAO {
@@ -100,6 +104,9 @@ public class JPALoggerDAO extends AbstractDAO<Logger> implements LoggerDAO {
         }
     }
 
+    @Autowired
+    protected ApplicationEventPublisher publisher;
+
     @Override
     public Logger find(final String key) {
         return entityManager().find(JPALogger.class, key);
@@ -119,12 +126,19 @@ public class JPALoggerDAO extends AbstractDAO<Logger> implements LoggerDAO {
         if (LoggerType.AUDIT == logger.getType() && LoggerLevel.OFF != logger.getLevel()) {
             logger.setLevel(LoggerLevel.DEBUG);
         }
-        return entityManager().merge(logger);
+        Logger merged = entityManager().merge(logger);
+        if (LoggerType.AUDIT == merged.getType()) {
+            publisher.publishEvent(new EventRoutingChangedEvent(this, AuthContextUtils.getDomain()));
+        }
+        return merged;
     }
 
     @Override
     public void delete(final Logger logger) {
         entityManager().remove(logger);
+        if (LoggerType.AUDIT == logger.getType()) {
+            publisher.publishEvent(new EventRoutingChangedEvent(this, AuthContextUtils.getDomain()));
+        }
     }
 
     @Override
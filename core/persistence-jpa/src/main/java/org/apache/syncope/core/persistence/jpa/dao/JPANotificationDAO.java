@@ -28,7 +28,10 @@ import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.MailTemplate;
 import org.apache.syncope.core.persistence.api.entity.Notification;
 import org.apache.syncope.core.persistence.jpa.entity.JPANotification;
+import org.apache.syncope.core.provisioning.api.event.EventRoutingChangedEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +41,9 @@ public class JPANotificationDAO extends AbstractDAO<Notification> implements Not
     @Autowired
     private TaskDAO taskDAO;
 
+    @Autowired
+    protected ApplicationEventPublisher publisher;
+
     @Transactional(readOnly = true)
     @Override
     public Notification find(final String key) {
@@ -74,7 +80,9 @@ public class JPANotificationDAO extends AbstractDAO<Notification> implements Not
 
     @Override
     public Notification save(final Notification notification) {
-        return entityManager().merge(notification);
+        Notification merged = entityManager().merge(notification);
+        publisher.publishEvent(new EventRoutingChangedEvent(this, AuthContextUtils.getDomain()));
+        return merged;
     }
 
     @Override
@@ -89,5 +97,6 @@ public class JPANotificationDAO extends AbstractDAO<Notification> implements Not
                 stream().map(Entity::getKey).forEach(this::delete);
 
         entityManager().remove(notification);
+        publisher.publishEvent(new EventRoutingChangedEvent(this, AuthContextUtils.getDomain()));
     }
 }
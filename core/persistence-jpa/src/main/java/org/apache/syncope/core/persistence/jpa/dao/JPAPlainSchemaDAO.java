@@ -52,6 +52,10 @@ public class JPAPlainSchemaDAO extends AbstractDAO<PlainSchema> implements Plain
     @Lazy
     private ExternalResourceDAO resourceDAO;
 
+    @Autowired
+    @Lazy
+    private DerAttrIndex derAttrIndex;
+
     @Override
     public PlainSchema find(final String key) {
         return entityManager().find(JPAPlainSchema.class, key);
@@ -145,6 +149,8 @@ public class JPAPlainSchemaDAO extends AbstractDAO<PlainSchema> implements Plain
 
         resourceDAO.deleteMapping(key);
 
+        derAttrIndex.invalidateFor(key);
+
         if (schema.getAnyTypeClass() != null) {
             schema.getAnyTypeClass().getPlainSchemas().remove(schema);
         }
@@ -20,8 +20,8 @@ package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 import javax.persistence.NoResultException;
 import javax.persistence.TypedQuery;
 import org.apache.commons.lang3.StringUtils;
@@ -39,7 +39,10 @@ import org.apache.syncope.core.persistence.api.entity.policy.Policy;
 import org.apache.syncope.core.persistence.api.entity.policy.ProvisioningPolicy;
 import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.provisioning.api.event.AuthorizationChangedEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -52,6 +55,9 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
     @Lazy
     private RoleDAO roleDAO;
 
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
     @Override
     public Realm getRoot() {
         TypedQuery<Realm> query = entityManager().createQuery(
@@ -84,22 +90,11 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
             throw new MalformedPathException(fullPath);
         }
 
-        Realm root = getRoot();
-        if (root == null) {
-            return null;
-        }
+        TypedQuery<Realm> query = entityManager().createQuery(
+                "SELECT e FROM " + JPARealm.class.getSimpleName() + " e WHERE e.fullPath=:fullPath", Realm.class);
+        query.setParameter("fullPath", fullPath);
 
-        Realm current = root;
-        for (final String pathElement : fullPath.substring(1).split("/")) {
-            Optional<Realm> first = findChildren(current).stream().
-                    filter(realm -> pathElement.equals(realm.getName())).findFirst();
-            if (first.isPresent()) {
-                current = first.get();
-            } else {
-                return null;
-            }
-        }
-        return current;
+        return query.getResultList().stream().findFirst().orElse(null);
     }
 
     private <T extends Policy> List<Realm> findSamePolicyChildren(final Realm realm, final T policy) {
@@ -211,18 +206,29 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
         return query.getResultList();
     }
 
-    private void findDescendants(final List<Realm> result, final Realm realm) {
-        result.add(realm);
-        List<Realm> children = findChildren(realm);
-        if (children != null) {
-            children.forEach(child -> findDescendants(result, child));
-        }
+    private List<Realm> findByFullPathPrefix(final String fullPath) {
+        TypedQuery<Realm> query = entityManager().createQuery(
+                "SELECT e FROM " + JPARealm.class.getSimpleName() + " e "
+                + "WHERE e.fullPath LIKE :prefix", Realm.class);
+        query.setParameter("prefix", StringUtils.appendIfMissing(fullPath, "/") + "%");
+
+        return query.getResultList();
     }
 
+    /**
+     * Returns the given realm and its descendants, sorted by full path: each realm comes before its descendants.
+     *
+     * @param realm realm
+     * @return the given realm and its descendants
+     */
     @Override
     public List<Realm> findDescendants(final Realm realm) {
         List<Realm> result = new ArrayList<>();
-        findDescendants(result, realm);
+        result.add(realm);
+        findByFullPathPrefix(realm.getFullPath()).stream().
+                filter(descendant -> !realm.equals(descendant)).
+                forEach(result::add);
+        result.sort(Comparator.comparing(Realm::getFullPath));
         return result;
     }
 
@@ -234,7 +240,22 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
 
     @Override
     public Realm save(final Realm realm) {
-        return entityManager().merge(realm);
+        Realm merged = entityManager().merge(realm);
+
+        // when renamed or moved, replace the former full path in all descendants
+        List<Realm> children = findChildren(merged);
+        if (!children.isEmpty()) {
+            String formerPrefix = StringUtils.substringBeforeLast(children.get(0).getFullPath(), "/") + "/";
+            String prefix = StringUtils.appendIfMissing(merged.getFullPath(), "/");
+            if (!formerPrefix.equals(prefix)) {
+                findByFullPathPrefix(formerPrefix).forEach(descendant -> ((JPARealm) descendant).setFullPath(
+                        prefix + descendant.getFullPath().substring(formerPrefix.length())));
+            }
+        }
+
+        publisher.publishEvent(new AuthorizationChangedEvent(this, AuthContextUtils.getDomain()));
+
+        return merged;
     }
 
     @Override
@@ -246,6 +267,8 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
 
             entityManager().remove(toBeDeleted);
         });
+
+        publisher.publishEvent(new AuthorizationChangedEvent(this, AuthContextUtils.getDomain()));
     }
 
     @Override
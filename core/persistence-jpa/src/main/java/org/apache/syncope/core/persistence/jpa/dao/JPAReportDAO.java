@@ -21,16 +21,21 @@ package org.apache.syncope.core.persistence.jpa.dao;
 import java.util.List;
 import javax.persistence.TypedQuery;
 import org.apache.syncope.core.persistence.api.dao.ReportDAO;
+import org.apache.syncope.core.persistence.api.dao.ReportExecDAO;
 import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.Report;
 import org.apache.syncope.core.persistence.api.entity.ReportTemplate;
 import org.apache.syncope.core.persistence.jpa.entity.JPAReport;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class JPAReportDAO extends AbstractDAO<Report> implements ReportDAO {
 
+    @Autowired
+    private ReportExecDAO reportExecDAO;
+
     @Transactional(readOnly = true)
     @Override
     public Report find(final String key) {
@@ -83,6 +88,8 @@ public class JPAReportDAO extends AbstractDAO<Report> implements ReportDAO {
 
     @Override
     public void delete(final Report report) {
+        report.getExecs().forEach(reportExecDAO::deleteExecResult);
+
         entityManager().remove(report);
     }
 }
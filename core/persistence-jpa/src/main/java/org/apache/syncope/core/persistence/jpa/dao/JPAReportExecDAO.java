@@ -22,11 +22,14 @@ import java.util.Date;
 import java.util.List;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.syncope.core.persistence.api.dao.ReportExecDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.Report;
 import org.apache.syncope.core.persistence.api.entity.ReportExec;
 import org.apache.syncope.core.persistence.jpa.entity.JPAReportExec;
+import org.apache.syncope.core.persistence.jpa.entity.JPAReportExecChunk;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ReflectionUtils;
@@ -165,6 +168,64 @@ public class JPAReportExecDAO extends AbstractDAO<ReportExec> implements ReportE
         return entityManager().merge(execution);
     }
 
+    @Transactional(rollbackFor = Throwable.class)
+    @Override
+    public void saveExecResultChunk(final ReportExec execution, final int index, final byte[] content) {
+        JPAReportExecChunk chunk = new JPAReportExecChunk();
+        chunk.setKey(SecureRandomUtils.generateRandomUUID().toString());
+        chunk.setReportExec(entityManager().getReference(JPAReportExec.class, execution.getKey()));
+        chunk.setChunkIndex(index);
+        chunk.setContent(content);
+        entityManager().persist(chunk);
+
+        // written blocks are not needed any more: keep them out of the persistence context
+        entityManager().flush();
+        entityManager().detach(chunk);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public byte[] findExecResultChunk(final String executionKey, final int index) {
+        TypedQuery<byte[]> query = entityManager().createQuery(
+                "SELECT e.content FROM " + JPAReportExecChunk.class.getSimpleName() + " e "
+                + "WHERE e.reportExec.id=:executionKey AND e.chunkIndex=:index", byte[].class);
+        query.setParameter("executionKey", executionKey);
+        query.setParameter("index", index);
+
+        List<byte[]> result = query.getResultList();
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public int countExecResultChunks(final String executionKey) {
+        Query countQuery = entityManager().createNativeQuery(
+                "SELECT COUNT(e.id) FROM " + JPAReportExecChunk.TABLE + " e WHERE e.reportExec_id=?1");
+        countQuery.setParameter(1, executionKey);
+
+        return ((Number) countQuery.getSingleResult()).intValue();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public byte[] findLegacyExecResult(final String executionKey) {
+        TypedQuery<Byte[]> query = entityManager().createQuery(
+                "SELECT e.execResult FROM " + JPAReportExec.class.getSimpleName() + " e "
+                + "WHERE e.id=:executionKey", Byte[].class);
+        query.setParameter("executionKey", executionKey);
+
+        List<Byte[]> result = query.getResultList();
+        return result.isEmpty() || result.get(0) == null ? null : ArrayUtils.toPrimitive(result.get(0));
+    }
+
+    @Override
+    public void deleteExecResult(final ReportExec execution) {
+        Query query = entityManager().createQuery(
+                "DELETE FROM " + JPAReportExecChunk.class.getSimpleName() + " e WHERE e.reportExec.id=:executionKey");
+        query.setParameter("executionKey", execution.getKey());
+        query.executeUpdate();
+    }
+
     @Override
     public void delete(final String key) {
         ReportExec execution = find(key);
@@ -177,6 +238,8 @@ public class JPAReportExecDAO extends AbstractDAO<ReportExec> implements ReportE
 
     @Override
     public void delete(final ReportExec execution) {
+        deleteExecResult(execution);
+
         if (execution.getReport() != null) {
             execution.getReport().getExecs().remove(execution);
         }
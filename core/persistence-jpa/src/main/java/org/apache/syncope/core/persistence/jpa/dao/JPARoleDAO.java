@@ -35,6 +35,7 @@ import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
 import org.apache.syncope.core.persistence.jpa.entity.JPARole;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
 import org.apache.syncope.core.provisioning.api.event.AnyCreatedUpdatedEvent;
+import org.apache.syncope.core.provisioning.api.event.AuthorizationChangedEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
@@ -96,7 +97,11 @@ public class JPARoleDAO extends AbstractDAO<Role> implements RoleDAO {
 
     @Override
     public Role save(final Role role) {
-        return entityManager().merge(role);
+        Role merged = entityManager().merge(role);
+
+        publisher.publishEvent(new AuthorizationChangedEvent(this, AuthContextUtils.getDomain()));
+
+        return merged;
     }
 
     @Override
@@ -137,6 +142,8 @@ public class JPARoleDAO extends AbstractDAO<Role> implements RoleDAO {
         clearDynMembers(role);
 
         entityManager().remove(role);
+
+        publisher.publishEvent(new AuthorizationChangedEvent(this, AuthContextUtils.getDomain()));
     }
 
     @Override
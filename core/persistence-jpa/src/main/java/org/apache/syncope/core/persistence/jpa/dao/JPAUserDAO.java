@@ -35,11 +35,13 @@ import javax.persistence.PersistenceException;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.openjpa.persistence.FetchPlan;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.EntityViolationType;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.core.persistence.api.entity.Relationship;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttr;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.InvalidEntityException;
@@ -149,6 +151,15 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
                 result -> ((Number) result[1]).intValue()));
     }
 
+    @Override
+    protected void addFetchFields(final FetchPlan fetchPlan, final boolean details) {
+        fetchPlan.addFields(JPAUser.class, "plainAttrs", "auxClasses", "resources");
+        fetchPlan.addField(JPAUPlainAttr.class, "values");
+        if (details) {
+            fetchPlan.addFields(JPAUser.class, "roles", "relationships", "memberships", "linkedAccounts");
+        }
+    }
+
     @Override
     protected void securityChecks(final User user) {
         // Allows anonymous (during self-registration) and self (during self-update) to read own user,
@@ -262,6 +273,11 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         return findAllKeys(JPAUser.TABLE, page, itemsPerPage);
     }
 
+    @Override
+    public List<String> findAllKeys(final String lastKey, final int itemsPerPage) {
+        return findAllKeys(JPAUser.TABLE, lastKey, itemsPerPage);
+    }
+
     protected List<AccountPolicy> getAccountPolicies(final User user) {
         List<AccountPolicy> policies = new ArrayList<>();
 
@@ -397,7 +413,7 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         return Pair.of(suspend, propagateSuspension);
     }
 
-    protected Pair<User, Pair<Set<String>, Set<String>>> doSave(final User user) {
+    protected Pair<User, Pair<Set<String>, Set<String>>> doSave(final User user, final Set<String> changed) {
         // 1. save clear password value before save
         String clearPwd = user.getClearPassword();
 
@@ -418,7 +434,7 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, merged, AuthContextUtils.getDomain()));
 
         roleDAO.refreshDynMemberships(merged);
-        Pair<Set<String>, Set<String>> dynGroupMembs = groupDAO.refreshDynMemberships(merged);
+        Pair<Set<String>, Set<String>> dynGroupMembs = groupDAO.refreshDynMemberships(merged, changed);
         dynRealmDAO.refreshDynMemberships(merged);
 
         return Pair.of(merged, dynGroupMembs);
@@ -426,12 +442,17 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
 
     @Override
     public User save(final User user) {
-        return doSave(user).getLeft();
+        return doSave(user, null).getLeft();
     }
 
     @Override
     public Pair<Set<String>, Set<String>> saveAndGetDynGroupMembs(final User user) {
-        return doSave(user).getRight();
+        return doSave(user, null).getRight();
+    }
+
+    @Override
+    public User save(final User user, final Set<String> changed) {
+        return doSave(user, changed).getLeft();
     }
 
     @Override
@@ -445,6 +466,8 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
             accessTokenDAO.delete(accessToken);
         }
 
+        derAttrIndex.remove(user.getKey());
+
         entityManager().remove(user);
         publisher.publishEvent(new AnyDeletedEvent(
                 this, AnyTypeKind.USER, user.getKey(), user.getUsername(), AuthContextUtils.getDomain()));
@@ -570,6 +593,22 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         return query.getResultList().isEmpty() ? Optional.empty() : Optional.of(result.get(0));
     }
 
+    @Override
+    public List<LinkedAccount> findLinkedAccounts(
+            final ExternalResource resource, final Collection<String> connObjectKeyValues) {
+
+        if (connObjectKeyValues.isEmpty()) {
+            return List.of();
+        }
+
+        TypedQuery<LinkedAccount> query = entityManager().createQuery(
+                "SELECT e FROM " + JPALinkedAccount.class.getSimpleName() + " e "
+                + "WHERE e.resource=:resource AND e.connObjectKeyValue IN (:connObjectKeyValues)", LinkedAccount.class);
+        query.setParameter("resource", resource);
+        query.setParameter("connObjectKeyValues", connObjectKeyValues);
+        return query.getResultList();
+    }
+
     @Transactional(readOnly = true)
     @Override
     public List<LinkedAccount> findLinkedAccounts(final String userKey) {
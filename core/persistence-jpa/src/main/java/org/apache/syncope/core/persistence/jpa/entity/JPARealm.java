@@ -24,6 +24,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.persistence.Cacheable;
 import javax.persistence.CascadeType;
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.JoinColumn;
@@ -72,6 +73,12 @@ public class JPARealm extends AbstractGeneratedKeyEntity implements Realm {
     @ManyToOne
     private JPARealm parent;
 
+    /**
+     * Maintained along with name and parent, to look up realms and their descendants by path.
+     */
+    @Column(length = 700)
+    private String fullPath;
+
     @ManyToOne(fetch = FetchType.EAGER)
     private JPAPasswordPolicy passwordPolicy;
 
@@ -119,13 +126,26 @@ public class JPARealm extends AbstractGeneratedKeyEntity implements Realm {
         return parent;
     }
 
-    @Override
-    public String getFullPath() {
+    private String buildFullPath() {
         return getParent() == null
                 ? SyncopeConstants.ROOT_REALM
                 : StringUtils.appendIfMissing(getParent().getFullPath(), "/") + getName();
     }
 
+    @Override
+    public String getFullPath() {
+        return fullPath == null ? buildFullPath() : fullPath;
+    }
+
+    /**
+     * Only to be invoked when any ancestor was renamed or moved.
+     *
+     * @param fullPath full path
+     */
+    public void setFullPath(final String fullPath) {
+        this.fullPath = fullPath;
+    }
+
     @Override
     public AccountPolicy getAccountPolicy() {
         return accountPolicy == null && getParent() != null ? getParent().getAccountPolicy() : accountPolicy;
@@ -139,12 +159,14 @@ public class JPARealm extends AbstractGeneratedKeyEntity implements Realm {
     @Override
     public void setName(final String name) {
         this.name = name;
+        this.fullPath = buildFullPath();
     }
 
     @Override
     public void setParent(final Realm parent) {
         checkType(parent, JPARealm.class);
         this.parent = (JPARealm) parent;
+        this.fullPath = buildFullPath();
     }
 
     @Override
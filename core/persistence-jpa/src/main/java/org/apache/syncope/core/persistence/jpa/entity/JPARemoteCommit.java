@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity;
+
+import java.io.Serializable;
+import javax.persistence.Basic;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Batch of commit events written by {@link org.apache.syncope.core.persistence.jpa.openjpa.JDBCRemoteCommitProvider}
+ * for the other nodes to poll; read and written via JDBC only.
+ */
+@Entity
+@Table(name = JPARemoteCommit.TABLE)
+public class JPARemoteCommit implements Serializable {
+
+    private static final long serialVersionUID = -4319307461720427385L;
+
+    public static final String TABLE = "SyncopeRemoteCommit";
+
+    /**
+     * Generated by the database, increasing in insertion order.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(length = 36)
+    private String node;
+
+    /**
+     * Creation time, only used for removing old rows.
+     */
+    @NotNull
+    private Long created;
+
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    private byte[] payload;
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNode() {
+        return node;
+    }
+
+    public Long getCreated() {
+        return created;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+}
@@ -24,13 +24,10 @@ import javax.persistence.FetchType;
 import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.syncope.common.lib.types.ReportExecStatus;
 import org.apache.syncope.core.persistence.api.entity.Report;
 import org.apache.syncope.core.persistence.api.entity.ReportExec;
 
-import java.util.Optional;
-
 @Entity
 @Table(name = JPAReportExec.TABLE)
 public class JPAReportExec extends AbstractExec implements ReportExec {
@@ -46,7 +43,8 @@ public class JPAReportExec extends AbstractExec implements ReportExec {
     private JPAReport report;
 
     /**
-     * Report execution result, stored as an XML stream.
+     * Report execution result, as stored before {@link JPAReportExecChunk} was introduced: only read, for executions
+     * run before.
      */
     @Lob
     @Basic(fetch = FetchType.LAZY)
@@ -63,16 +61,6 @@ public class JPAReportExec extends AbstractExec implements ReportExec {
         this.report = (JPAReport) report;
     }
 
-    @Override
-    public byte[] getExecResult() {
-        return Optional.ofNullable(execResult).map(ArrayUtils::toPrimitive).orElse(null);
-    }
-
-    @Override
-    public void setExecResult(final byte[] execResult) {
-        this.execResult = Optional.ofNullable(execResult).map(ArrayUtils::toObject).orElse(null);
-    }
-
     @Override
     public void setStatus(final ReportExecStatus status) {
         super.setStatus(status.name());
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity;
+
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Lob;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Fixed-size block of a report execution result, so that results never need to be held in memory as a whole.
+ */
+@Entity
+@Table(name = JPAReportExecChunk.TABLE, uniqueConstraints =
+        @UniqueConstraint(columnNames = { "reportExec_id", "chunkIndex" }))
+public class JPAReportExecChunk extends AbstractGeneratedKeyEntity {
+
+    private static final long serialVersionUID = 2937364125184963247L;
+
+    public static final String TABLE = "ReportExecChunk";
+
+    @ManyToOne(optional = false)
+    private JPAReportExec reportExec;
+
+    @NotNull
+    private Integer chunkIndex;
+
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    private byte[] content;
+
+    public JPAReportExec getReportExec() {
+        return reportExec;
+    }
+
+    public void setReportExec(final JPAReportExec reportExec) {
+        this.reportExec = reportExec;
+    }
+
+    public Integer getChunkIndex() {
+        return chunkIndex;
+    }
+
+    public void setChunkIndex(final Integer chunkIndex) {
+        this.chunkIndex = chunkIndex;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    public void setContent(final byte[] content) {
+        this.content = content;
+    }
+}
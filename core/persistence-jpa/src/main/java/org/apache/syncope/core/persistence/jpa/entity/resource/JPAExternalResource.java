@@ -102,6 +102,11 @@ public class JPAExternalResource extends AbstractProvidedKeyEntity implements Ex
      */
     private Integer propagationPriority;
 
+    /**
+     * Max number of objects per second to push, no limit if null.
+     */
+    private Integer pushRateLimit;
+
     /**
      * Generate random password, if not provided.
      */
@@ -237,6 +242,16 @@ public class JPAExternalResource extends AbstractProvidedKeyEntity implements Ex
         this.propagationPriority = propagationPriority;
     }
 
+    @Override
+    public Integer getPushRateLimit() {
+        return pushRateLimit;
+    }
+
+    @Override
+    public void setPushRateLimit(final Integer pushRateLimit) {
+        this.pushRateLimit = pushRateLimit;
+    }
+
     @Override
     public boolean isRandomPwdIfNotProvided() {
         return randomPwdIfNotProvided;
@@ -35,6 +35,7 @@ import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.UniqueConstraint;
 import javax.validation.constraints.NotNull;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.syncope.common.lib.types.IdMImplementationType;
 import org.apache.syncope.common.lib.types.PullMode;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
@@ -77,6 +78,10 @@ public class JPAPullTask extends AbstractProvisioningTask implements PullTask {
     @NotNull
     private Boolean remediation = false;
 
+    private Integer concurrency;
+
+    private Boolean batchMatching;
+
     @Override
     public PullMode getPullMode() {
         return pullMode;
@@ -149,4 +154,24 @@ public class JPAPullTask extends AbstractProvisioningTask implements PullTask {
     public boolean isRemediation() {
         return remediation;
     }
+
+    @Override
+    public void setConcurrency(final int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public int getConcurrency() {
+        return concurrency == null || concurrency < 1 ? 1 : Math.min(concurrency, MAX_CONCURRENCY);
+    }
+
+    @Override
+    public void setBatchMatching(final boolean batchMatching) {
+        this.batchMatching = batchMatching;
+    }
+
+    @Override
+    public boolean isBatchMatching() {
+        return BooleanUtils.isTrue(batchMatching);
+    }
 }
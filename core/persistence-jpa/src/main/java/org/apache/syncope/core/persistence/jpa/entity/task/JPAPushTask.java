@@ -62,6 +62,8 @@ public class JPAPushTask extends AbstractProvisioningTask implements PushTask {
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER, mappedBy = "pushTask")
     private List<JPAPushTaskAnyFilter> filters = new ArrayList<>();
 
+    private Integer concurrency;
+
     @Override
     public JPARealm getSourceRealm() {
         return sourceRealm;
@@ -100,4 +102,14 @@ public class JPAPushTask extends AbstractProvisioningTask implements PushTask {
     public List<? extends PushTaskAnyFilter> getFilters() {
         return filters;
     }
+
+    @Override
+    public void setConcurrency(final int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public int getConcurrency() {
+        return concurrency == null || concurrency < 1 ? 1 : concurrency;
+    }
 }
@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.openjpa.event.AbstractRemoteCommitProvider;
+import org.apache.openjpa.event.RemoteCommitEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base for providers broadcasting OpenJPA commit events - hence DataCache and QueryCache invalidations - among
+ * Syncope core nodes.
+ * Events are queued in a bounded buffer, then sent by batches at the configured interval or as soon as a full batch
+ * is available; when the buffer is full, events are sent synchronously rather than dropped, as dropping would leave
+ * stale cache entries on the other nodes.
+ * Propagation delay is measured on receipt, from the time when each batch was sent.
+ *
+ * Configurable via plugin properties, as {@code BufferSize}, {@code BatchSize} and {@code FlushInterval}
+ * (milliseconds).
+ */
+public abstract class AbstractBatchingRemoteCommitProvider extends AbstractRemoteCommitProvider {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(AbstractBatchingRemoteCommitProvider.class);
+
+    /**
+     * Only OpenJPA events, object ids - referring to Syncope entity classes - and the standard collections they carry
+     * are accepted when reading batches.
+     */
+    protected static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=20;org.apache.openjpa.**;org.apache.syncope.core.persistence.jpa.entity.**;"
+            + "java.util.*;java.lang.*;!*");
+
+    protected final String nodeId = UUID.randomUUID().toString();
+
+    protected int bufferSize = 10000;
+
+    protected int batchSize = 100;
+
+    protected long flushInterval = 100;
+
+    protected BlockingQueue<RemoteCommitEvent> buffer;
+
+    protected final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    protected ScheduledExecutorService scheduler;
+
+    protected final LongAdder sent = new LongAdder();
+
+    protected final LongAdder received = new LongAdder();
+
+    protected final LongAdder totalDelay = new LongAdder();
+
+    protected final AtomicLong maxDelay = new AtomicLong();
+
+    public void setBufferSize(final int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setFlushInterval(final long flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    @Override
+    public void endConfiguration() {
+        super.endConfiguration();
+
+        buffer = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, getClass().getSimpleName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void broadcast(final RemoteCommitEvent event) {
+        if (!buffer.offer(event)) {
+            LOG.warn("Remote commit buffer full, sending synchronously");
+            doSend(List.of(event));
+            return;
+        }
+
+        if (buffer.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::flush);
+            } catch (Exception e) {
+                flushRequested.set(false);
+                LOG.debug("Could not request flush, will happen at next interval", e);
+            }
+        }
+    }
+
+    /**
+     * Sends all queued events, by batches.
+     */
+    protected void flush() {
+        flushRequested.set(false);
+
+        List<RemoteCommitEvent> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, Math.max(1, batchSize)) > 0) {
+            doSend(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * @return max size of each serialized batch, larger batches being split
+     */
+    protected int getMaxBatchBytes() {
+        return Integer.MAX_VALUE;
+    }
+
+    protected void doSend(final List<RemoteCommitEvent> events) {
+        try {
+            byte[] batch = serialize(events);
+            if (batch.length > getMaxBatchBytes() && events.size() > 1) {
+                int half = events.size() / 2;
+                doSend(events.subList(0, half));
+                doSend(events.subList(half, events.size()));
+                return;
+            }
+
+            send(batch);
+            sent.add(events.size());
+        } catch (Exception e) {
+            LOG.error("While sending {} remote commit events", events.size(), e);
+        }
+    }
+
+    /**
+     * Sends the given serialized batch to all other nodes.
+     *
+     * @param batch serialized batch, as built by {@link #serialize(List)}
+     * @throws Exception if anything goes wrong
+     */
+    protected abstract void send(byte[] batch) throws Exception;
+
+    protected byte[] serialize(final List<RemoteCommitEvent> events) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeUTF(nodeId);
+            oos.writeLong(System.currentTimeMillis());
+            oos.writeInt(events.size());
+            for (RemoteCommitEvent event : events) {
+                oos.writeObject(event);
+            }
+        }
+        return baos.toByteArray();
+    }
+
+    /**
+     * Fires the events found in the given serialized batch, unless sent by this node.
+     *
+     * @param batch serialized batch, as built by {@link #serialize(List)}
+     */
+    protected void receive(final byte[] batch) {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(batch))) {
+            ois.setObjectInputFilter(FILTER);
+
+            String sender = ois.readUTF();
+            if (nodeId.equals(sender)) {
+                return;
+            }
+
+            long sentAt = ois.readLong();
+            int size = ois.readInt();
+            for (int i = 0; i < size; i++) {
+                fireEvent((RemoteCommitEvent) ois.readObject());
+            }
+
+            long delay = Math.max(0, System.currentTimeMillis() - sentAt);
+            received.add(size);
+            totalDelay.add(delay * size);
+            maxDelay.accumulateAndGet(delay, Math::max);
+            LOG.debug("Received {} remote commit events from {} after {} ms", size, sender, delay);
+        } catch (Exception e) {
+            LOG.error("While reading remote commit events", e);
+        }
+    }
+
+    /**
+     * @return number of events queued and not yet sent
+     */
+    public int getBacklog() {
+        return buffer == null ? 0 : buffer.size();
+    }
+
+    /**
+     * @return number of events sent since startup
+     */
+    public long getSent() {
+        return sent.sum();
+    }
+
+    /**
+     * @return number of events received from other nodes since startup
+     */
+    public long getReceived() {
+        return received.sum();
+    }
+
+    /**
+     * @return average propagation delay of the events received since startup, in milliseconds
+     */
+    public long getAverageDelay() {
+        long count = received.sum();
+        return count == 0 ? 0 : totalDelay.sum() / count;
+    }
+
+    /**
+     * @return maximum propagation delay of the events received since startup, in milliseconds
+     */
+    public long getMaxDelay() {
+        return maxDelay.get();
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(flushInterval, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flush();
+        }
+    }
+}
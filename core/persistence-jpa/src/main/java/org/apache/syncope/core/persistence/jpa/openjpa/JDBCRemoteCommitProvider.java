@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.apache.openjpa.jdbc.conf.JDBCConfiguration;
+import org.apache.openjpa.lib.conf.Configuration;
+import org.apache.syncope.core.persistence.jpa.entity.JPARemoteCommit;
+
+/**
+ * Broadcasts commit events among Syncope core nodes through the {@link JPARemoteCommit} table in the domain database,
+ * polled by each node: no additional infrastructure is required, at the cost of the configured poll interval.
+ * Rows are polled by their identifier, generated by the database in insertion order; as rows can become visible
+ * out of order, when inserted by concurrent transactions, missing identifiers are polled again until found or until
+ * the configured gap timeout expires.
+ * Rows older than the configured retention are removed by any node while polling.
+ *
+ * Configurable via plugin properties, as {@code PollInterval}, {@code GapTimeout} and {@code Retention}
+ * (milliseconds), besides the ones from {@link AbstractBatchingRemoteCommitProvider}; for example:
+ * <pre>
+ * openjpa.RemoteCommitProvider=\
+ *   org.apache.syncope.core.persistence.jpa.openjpa.JDBCRemoteCommitProvider(PollInterval=500)
+ * </pre>
+ */
+public class JDBCRemoteCommitProvider extends AbstractBatchingRemoteCommitProvider {
+
+    protected static final String TABLE = JPARemoteCommit.TABLE;
+
+    protected JDBCConfiguration conf;
+
+    protected long pollInterval = 1000;
+
+    protected long gapTimeout = 5000;
+
+    protected long retention = 60000;
+
+    /**
+     * Highest identifier such that all rows up to it were received or given up; null until first poll.
+     */
+    protected Long lastId;
+
+    /**
+     * Identifiers greater than {@link #lastId} already received.
+     */
+    protected final NavigableSet<Long> receivedIds = new TreeSet<>();
+
+    /**
+     * When the identifier following {@link #lastId} was first found missing, if so.
+     */
+    protected Long gapSince;
+
+    public void setPollInterval(final long pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public void setGapTimeout(final long gapTimeout) {
+        this.gapTimeout = gapTimeout;
+    }
+
+    public void setRetention(final long retention) {
+        this.retention = retention;
+    }
+
+    @Override
+    public void setConfiguration(final Configuration conf) {
+        super.setConfiguration(conf);
+        this.conf = (JDBCConfiguration) conf;
+    }
+
+    @Override
+    public void endConfiguration() {
+        super.endConfiguration();
+
+        scheduler.scheduleWithFixedDelay(this::poll, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+    }
+
+    protected DataSource dataSource() {
+        return conf.getDataSource2(null);
+    }
+
+    protected static void commit(final Connection conn) throws SQLException {
+        if (!conn.getAutoCommit()) {
+            conn.commit();
+        }
+    }
+
+    @Override
+    protected void send(final byte[] batch) throws SQLException {
+        try (Connection conn = dataSource().getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO " + TABLE + "(node, created, payload) VALUES (?, ?, ?)")) {
+
+                stmt.setString(1, nodeId);
+                stmt.setLong(2, System.currentTimeMillis());
+                stmt.setBytes(3, batch);
+                stmt.executeUpdate();
+            }
+            commit(conn);
+        }
+    }
+
+    /**
+     * Moves {@link #lastId} forward, past all received identifiers following it and past any gap found since longer
+     * than the configured timeout.
+     *
+     * @param now current time
+     */
+    protected void advance(final long now) {
+        while (true) {
+            while (receivedIds.remove(lastId + 1)) {
+                lastId++;
+            }
+
+            if (receivedIds.isEmpty()) {
+                gapSince = null;
+                return;
+            }
+            if (gapSince == null) {
+                gapSince = now;
+                return;
+            }
+            if (now - gapSince < gapTimeout) {
+                return;
+            }
+
+            LOG.debug("Rows from {} to {} not found, skipping", lastId + 1, receivedIds.first() - 1);
+            lastId = receivedIds.first() - 1;
+            gapSince = null;
+        }
+    }
+
+    protected synchronized void poll() {
+        long now = System.currentTimeMillis();
+
+        try (Connection conn = dataSource().getConnection()) {
+            if (lastId == null) {
+                // only events sent from now on are relevant
+                try (Statement stmt = conn.createStatement();
+                        ResultSet rs = stmt.executeQuery("SELECT MAX(id) FROM " + TABLE)) {
+
+                    lastId = rs.next() ? rs.getLong(1) : 0L;
+                }
+            } else {
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        "SELECT id, node, payload FROM " + TABLE + " WHERE id>? ORDER BY id")) {
+
+                    stmt.setLong(1, lastId);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            if (receivedIds.add(rs.getLong(1)) && !nodeId.equals(rs.getString(2))) {
+                                receive(rs.getBytes(3));
+                            }
+                        }
+                    }
+                }
+                advance(now);
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM " + TABLE + " WHERE created<?")) {
+                stmt.setLong(1, now - retention);
+                stmt.executeUpdate();
+            }
+            commit(conn);
+        } catch (Exception e) {
+            LOG.error("While polling {}", TABLE, e);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.openjpa.lib.conf.Configuration;
+import org.apache.syncope.common.keymaster.client.api.ServiceOps;
+import org.apache.syncope.common.keymaster.client.api.model.NetworkService;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
+
+/**
+ * Broadcasts commit events among Syncope core nodes via TCP, where peers are the addresses published to Keymaster by
+ * the {@link RemoteCommitListener} of the other core nodes; the list of peers is refreshed at the configured interval.
+ * The listener is shared by all domains, as each batch is sent along with the identifier of the persistence unit it
+ * belongs to; it is configured via the {@code remoteCommit.*} properties, including the mandatory shared secret.
+ *
+ * Configurable via plugin properties, as {@code RefreshInterval} and {@code ConnectTimeout} (milliseconds), besides
+ * the ones from {@link AbstractBatchingRemoteCommitProvider}; for example:
+ * <pre>
+ * openjpa.RemoteCommitProvider=\
+ *   org.apache.syncope.core.persistence.jpa.openjpa.KeymasterRemoteCommitProvider(RefreshInterval=10000)
+ * </pre>
+ */
+public class KeymasterRemoteCommitProvider extends AbstractBatchingRemoteCommitProvider {
+
+    protected static class Peer {
+
+        protected final String host;
+
+        protected final int port;
+
+        protected Socket socket;
+
+        protected OutputStream out;
+
+        protected long lastSent;
+
+        protected Peer(final String host, final int port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        protected synchronized void send(
+                final RemoteCommitListener listener,
+                final String channel,
+                final byte[] batch,
+                final int connectTimeout)
+                throws IOException {
+
+            // the listener closes connections idle for longer than its read timeout
+            long now = System.currentTimeMillis();
+            if (socket != null && listener.getReadTimeout() > 0 && now - lastSent > listener.getReadTimeout() / 2) {
+                close();
+            }
+
+            boolean reused = socket != null;
+            try {
+                write(listener, channel, batch, connectTimeout);
+            } catch (IOException e) {
+                close();
+                if (!reused) {
+                    throw e;
+                }
+
+                LOG.debug("While sending to {}:{} via existing connection, retrying", host, port, e);
+                try {
+                    write(listener, channel, batch, connectTimeout);
+                } catch (IOException retry) {
+                    close();
+                    throw retry;
+                }
+            }
+            lastSent = now;
+        }
+
+        protected void write(
+                final RemoteCommitListener listener,
+                final String channel,
+                final byte[] batch,
+                final int connectTimeout)
+                throws IOException {
+
+            if (socket == null) {
+                Socket created = new Socket();
+                created.setTcpNoDelay(true);
+                socket = created;
+                created.connect(new InetSocketAddress(host, port), connectTimeout);
+                out = new BufferedOutputStream(created.getOutputStream());
+            }
+            listener.write(out, channel, batch);
+        }
+
+        protected synchronized void close() {
+            if (socket != null) {
+                try {
+                    socket.close();
+                } catch (IOException e) {
+                    LOG.debug("While closing connection to {}:{}", host, port, e);
+                }
+                socket = null;
+                out = null;
+            }
+        }
+    }
+
+    protected long refreshInterval = 30000;
+
+    protected int connectTimeout = 1000;
+
+    /**
+     * Peers, by {@code host:port}.
+     */
+    protected final Map<String, Peer> peers = new ConcurrentHashMap<>();
+
+    protected String channel;
+
+    protected RemoteCommitListener listener;
+
+    public void setRefreshInterval(final long refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public void setConnectTimeout(final int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    @Override
+    public void setConfiguration(final Configuration conf) {
+        super.setConfiguration(conf);
+        this.channel = conf.getId();
+    }
+
+    @Override
+    public void endConfiguration() {
+        super.endConfiguration();
+
+        scheduler.scheduleWithFixedDelay(this::refreshPeers, 0, refreshInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected int getMaxBatchBytes() {
+        return listener == null ? super.getMaxBatchBytes() : listener.getMaxBatchBytes();
+    }
+
+    /**
+     * Registers with the listener, if not done yet, then aligns peers with the addresses currently published to
+     * Keymaster, but the one of this node.
+     */
+    protected void refreshPeers() {
+        if (ApplicationContextProvider.getApplicationContext() == null) {
+            LOG.debug("Application context not available yet, will refresh peers later");
+            return;
+        }
+
+        try {
+            if (listener == null) {
+                RemoteCommitListener bean = ApplicationContextProvider.getBeanFactory().
+                        getBean(RemoteCommitListener.class);
+                bean.register(channel, this);
+                listener = bean;
+            }
+
+            ServiceOps serviceOps = ApplicationContextProvider.getBeanFactory().getBean(ServiceOps.class);
+            Set<String> addresses = serviceOps.list(NetworkService.Type.CORE_REMOTE_COMMIT).stream().
+                    map(NetworkService::getAddress).
+                    filter(address -> !address.equals(listener.getAddress())).
+                    map(address -> URI.create(address).getAuthority()).
+                    collect(Collectors.toSet());
+
+            peers.entrySet().removeIf(peer -> {
+                boolean stale = !addresses.contains(peer.getKey());
+                if (stale) {
+                    peer.getValue().close();
+                }
+                return stale;
+            });
+            addresses.forEach(address -> peers.computeIfAbsent(address, k -> {
+                URI uri = URI.create("tcp://" + address);
+                return new Peer(uri.getHost(), uri.getPort());
+            }));
+        } catch (Exception e) {
+            LOG.warn("Could not refresh peers from Keymaster, keeping {}", peers.keySet(), e);
+        }
+    }
+
+    @Override
+    protected void send(final byte[] batch) {
+        if (listener == null) {
+            throw new IllegalStateException("Not registered with " + RemoteCommitListener.class.getSimpleName());
+        }
+
+        peers.values().forEach(peer -> {
+            try {
+                peer.send(listener, channel, batch, connectTimeout);
+            } catch (IOException e) {
+                LOG.error("While sending remote commit events to {}:{}", peer.host, peer.port, e);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        super.close();
+
+        peers.values().forEach(Peer::close);
+        peers.clear();
+
+        if (listener != null) {
+            listener.unregister(channel);
+        }
+    }
+}
@@ -0,0 +1,420 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.keymaster.client.api.ServiceOps;
+import org.apache.syncope.common.keymaster.client.api.model.NetworkService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Receives the commit events sent by {@link KeymasterRemoteCommitProvider} instances running on other Syncope core
+ * nodes, and passes them to the local provider of the same persistence unit.
+ * Starts listening when the first provider is registered, on the host of {@code service.discovery.address} unless
+ * another bind address is configured, then publishes its actual address to Keymaster for other nodes to find it.
+ *
+ * Each frame is made of a fixed size header - persistence unit, timestamp, nonce and batch length - followed by its
+ * HMAC, computed with the shared secret, then by the batch and by the HMAC of both; the header is authenticated
+ * before the batch is read, and frames out of the replay window, or whose nonce was already received within it, are
+ * rejected. Connections are served by a bounded pool and closed when idle for longer than the read timeout.
+ */
+public class RemoteCommitListener implements DisposableBean {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(RemoteCommitListener.class);
+
+    protected static final String MAC_ALGORITHM = "HmacSHA256";
+
+    protected static final int MAC_LENGTH = 32;
+
+    protected static final int MAX_CHANNEL_LENGTH = 255;
+
+    protected static final SecureRandom RANDOM = new SecureRandom();
+
+    @Autowired
+    protected ObjectProvider<ServiceOps> serviceOps;
+
+    protected int port;
+
+    protected String bindAddress;
+
+    protected String discoveryAddress;
+
+    protected String secret;
+
+    protected int maxBatchBytes;
+
+    protected int maxConnections;
+
+    protected int readTimeout;
+
+    protected long replayWindow;
+
+    /**
+     * Providers receiving batches, by persistence unit.
+     */
+    protected final Map<String, KeymasterRemoteCommitProvider> channels = new ConcurrentHashMap<>();
+
+    /**
+     * Nonces received within the replay window, with their timestamps.
+     */
+    protected final Map<Long, Long> nonces = new ConcurrentHashMap<>();
+
+    protected volatile long noncesPurged;
+
+    protected ServerSocket serverSocket;
+
+    protected ThreadPoolExecutor receivers;
+
+    protected NetworkService published;
+
+    public void setPort(final int port) {
+        this.port = port;
+    }
+
+    public void setBindAddress(final String bindAddress) {
+        this.bindAddress = bindAddress;
+    }
+
+    public void setDiscoveryAddress(final String discoveryAddress) {
+        this.discoveryAddress = discoveryAddress;
+    }
+
+    public void setSecret(final String secret) {
+        this.secret = secret;
+    }
+
+    public void setMaxBatchBytes(final int maxBatchBytes) {
+        this.maxBatchBytes = maxBatchBytes;
+    }
+
+    public int getMaxBatchBytes() {
+        return maxBatchBytes;
+    }
+
+    public void setMaxConnections(final int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public void setReadTimeout(final int readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReplayWindow(final long replayWindow) {
+        this.replayWindow = replayWindow;
+    }
+
+    /**
+     * @return address published to Keymaster, as {@code tcp://host:port}, or null if not listening
+     */
+    public String getAddress() {
+        return published == null ? null : published.getAddress();
+    }
+
+    /**
+     * Registers the given provider for receiving batches of its own persistence unit, starting to listen if needed.
+     *
+     * @param channel persistence unit id
+     * @param provider provider
+     * @throws IOException if listening could not be started
+     */
+    public synchronized void register(final String channel, final KeymasterRemoteCommitProvider provider)
+            throws IOException {
+
+        if (StringUtils.isBlank(secret)) {
+            throw new IllegalStateException("No shared secret configured for remote commit events");
+        }
+        if (channel.getBytes(StandardCharsets.UTF_8).length > MAX_CHANNEL_LENGTH) {
+            throw new IllegalArgumentException("Persistence unit id too long: " + channel);
+        }
+
+        channels.put(channel, provider);
+        if (serverSocket == null) {
+            listen();
+        }
+    }
+
+    public void unregister(final String channel) {
+        channels.remove(channel);
+    }
+
+    protected void listen() throws IOException {
+        String host = StringUtils.isBlank(bindAddress)
+                ? discoveryAddress == null ? null : URI.create(discoveryAddress).getHost()
+                : bindAddress;
+        if (host == null) {
+            throw new IllegalStateException("No address to listen on for remote commit events");
+        }
+
+        ServerSocket socket = new ServerSocket();
+        socket.bind(new InetSocketAddress(InetAddress.getByName(host), port));
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                Math.max(1, maxConnections), Math.max(1, maxConnections), 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, getClass().getSimpleName());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        serverSocket = socket;
+        receivers = executor;
+
+        Thread acceptor = new Thread(() -> accept(socket, executor), getClass().getSimpleName() + "-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        LOG.info("Listening for remote commit events on {}", socket.getLocalSocketAddress());
+
+        published = new NetworkService();
+        published.setType(NetworkService.Type.CORE_REMOTE_COMMIT);
+        published.setAddress("tcp://" + host + ':' + socket.getLocalPort());
+        ServiceOps ops = serviceOps.getIfAvailable();
+        if (ops == null) {
+            LOG.warn("Keymaster not available, {} not published", published.getAddress());
+        } else {
+            ops.register(published);
+        }
+    }
+
+    protected void accept(final ServerSocket server, final ThreadPoolExecutor executor) {
+        while (!server.isClosed()) {
+            Socket socket = null;
+            try {
+                socket = server.accept();
+                socket.setSoTimeout(readTimeout);
+
+                Socket accepted = socket;
+                executor.execute(() -> read(server, accepted));
+            } catch (RejectedExecutionException e) {
+                LOG.warn("Too many connections, closing the one from {}", socket.getRemoteSocketAddress());
+                close(socket);
+            } catch (IOException e) {
+                close(socket);
+                if (!server.isClosed()) {
+                    LOG.error("While accepting connection", e);
+                }
+            }
+        }
+    }
+
+    protected static void close(final Socket socket) {
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                LOG.debug("While closing {}", socket, e);
+            }
+        }
+    }
+
+    protected byte[] mac(final byte[]... parts) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM));
+            for (byte[] part : parts) {
+                mac.update(part);
+            }
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not compute " + MAC_ALGORITHM, e);
+        }
+    }
+
+    protected static byte[] header(final byte[] channel, final long timestamp, final long nonce, final int length) {
+        return ByteBuffer.allocate(Short.BYTES + channel.length + Long.BYTES + Long.BYTES + Integer.BYTES).
+                putShort((short) channel.length).put(channel).putLong(timestamp).putLong(nonce).putInt(length).
+                array();
+    }
+
+    /**
+     * Writes the given batch as a single frame.
+     *
+     * @param out output stream
+     * @param channel persistence unit id
+     * @param batch serialized batch
+     * @throws IOException if anything goes wrong
+     */
+    public void write(final OutputStream out, final String channel, final byte[] batch) throws IOException {
+        if (batch.length > maxBatchBytes) {
+            throw new IOException("Batch of " + batch.length + " bytes exceeds the maximum of " + maxBatchBytes);
+        }
+
+        byte[] header = header(
+                channel.getBytes(StandardCharsets.UTF_8), System.currentTimeMillis(), RANDOM.nextLong(), batch.length);
+        byte[] headerMac = mac(header);
+
+        DataOutputStream dos = new DataOutputStream(out);
+        dos.write(header);
+        dos.write(headerMac);
+        dos.write(batch);
+        dos.write(mac(headerMac, batch));
+        dos.flush();
+    }
+
+    /**
+     * @param nonce nonce
+     * @param timestamp timestamp
+     * @return whether the given frame is within the replay window and was not received yet
+     */
+    protected boolean isFresh(final long nonce, final long timestamp) {
+        long now = System.currentTimeMillis();
+        if (Math.abs(now - timestamp) > replayWindow) {
+            return false;
+        }
+
+        if (now - noncesPurged > replayWindow) {
+            noncesPurged = now;
+            nonces.values().removeIf(received -> now - received > replayWindow);
+        }
+        return nonces.putIfAbsent(nonce, timestamp) == null;
+    }
+
+    /**
+     * Reads a frame and passes its batch to the provider of the matching persistence unit.
+     *
+     * @param in input stream
+     * @param from remote address
+     * @return whether the frame was valid, hence the connection can be kept
+     * @throws IOException if anything goes wrong while reading
+     */
+    protected boolean read(final DataInputStream in, final SocketAddress from) throws IOException {
+        int channelLength = in.readUnsignedShort();
+        if (channelLength > MAX_CHANNEL_LENGTH) {
+            LOG.error("Invalid header from {}, closing", from);
+            return false;
+        }
+        byte[] channel = new byte[channelLength];
+        in.readFully(channel);
+        long timestamp = in.readLong();
+        long nonce = in.readLong();
+        int length = in.readInt();
+        byte[] headerMac = new byte[MAC_LENGTH];
+        in.readFully(headerMac);
+
+        if (!MessageDigest.isEqual(headerMac, mac(header(channel, timestamp, nonce, length)))) {
+            LOG.error("Unauthenticated header from {}, closing", from);
+            return false;
+        }
+        if (length <= 0 || length > maxBatchBytes) {
+            LOG.error("Invalid batch length {} from {}, closing", length, from);
+            return false;
+        }
+        if (!isFresh(nonce, timestamp)) {
+            LOG.error("Stale or replayed frame from {}, closing", from);
+            return false;
+        }
+
+        byte[] batch = new byte[length];
+        in.readFully(batch);
+        byte[] mac = new byte[MAC_LENGTH];
+        in.readFully(mac);
+        if (!MessageDigest.isEqual(mac, mac(headerMac, batch))) {
+            LOG.error("Unauthenticated batch from {}, closing", from);
+            return false;
+        }
+
+        String unit = new String(channel, StandardCharsets.UTF_8);
+        KeymasterRemoteCommitProvider provider = channels.get(unit);
+        if (provider == null) {
+            LOG.warn("Ignoring remote commit events for unknown persistence unit {}", unit);
+        } else {
+            provider.receive(batch);
+        }
+        return true;
+    }
+
+    protected void read(final ServerSocket server, final Socket socket) {
+        SocketAddress from = socket.getRemoteSocketAddress();
+        try (socket; DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+            while (read(in, from)) {
+                // keep reading from the same connection
+            }
+        } catch (EOFException e) {
+            LOG.debug("Connection from {} closed", from);
+        } catch (SocketTimeoutException e) {
+            LOG.debug("Connection from {} idle, closing", from);
+        } catch (IOException e) {
+            if (!server.isClosed()) {
+                LOG.error("While reading from {}", from, e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        channels.clear();
+
+        if (published != null) {
+            ServiceOps ops = serviceOps.getIfAvailable();
+            if (ops != null) {
+                try {
+                    ops.unregister(published);
+                } catch (Exception e) {
+                    LOG.debug("While unregistering {}", published, e);
+                }
+            }
+            published = null;
+        }
+
+        if (serverSocket != null) {
+            try {
+                serverSocket.close();
+            } catch (IOException e) {
+                LOG.debug("While closing server socket", e);
+            }
+            receivers.shutdownNow();
+            serverSocket = null;
+            receivers = null;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.content;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import javax.xml.parsers.SAXParserFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+
+public class ContentLoaderHandlerTest {
+
+    private static final String CONTENT = "<dataset>"
+            + "<Parent id=\"1\" name=\"one\"/>"
+            + "<Parent id=\"2\" name=\"two\"/>"
+            + "<Parent id=\"3\" name=\"three\"/>"
+            + "<Child id=\"1\" parent_id=\"1\" active=\"1\"/>"
+            + "<Child id=\"1\" parent_id=\"2\" active=\"0\"/>"
+            + "<Child id=\"2\" parent_id=\"2\" active=\"0\"/>"
+            + "<fetch key=\"parent\" query=\"SELECT id FROM Parent WHERE name='three'\"/>"
+            + "<Child id=\"3\" parent_id=\"${parent}\" active=\"1\"/>"
+            + "</dataset>";
+
+    private JdbcDataSource dataSource;
+
+    @BeforeEach
+    public void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:contentLoader" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE Parent (id INTEGER PRIMARY KEY, name VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE Child (id INTEGER PRIMARY KEY, "
+                + "parent_id INTEGER REFERENCES Parent(id), active BOOLEAN)");
+    }
+
+    private void load(final int batchSize) throws Exception {
+        SAXParserFactory.newInstance().newSAXParser().parse(
+                new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8)),
+                new ContentLoaderHandler(dataSource, "dataset", true, new MockEnvironment(), batchSize));
+    }
+
+    private void verify() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM Parent", Integer.class));
+
+        List<Map<String, Object>> children = jdbcTemplate.queryForList("SELECT * FROM Child ORDER BY id");
+        assertEquals(3, children.size());
+        assertEquals(1, children.get(0).get("PARENT_ID"));
+        assertEquals(Boolean.TRUE, children.get(0).get("ACTIVE"));
+        assertEquals(2, children.get(1).get("PARENT_ID"));
+        assertEquals(Boolean.FALSE, children.get(1).get("ACTIVE"));
+        assertEquals(3, children.get(2).get("PARENT_ID"));
+    }
+
+    @Test
+    public void rowByRow() throws Exception {
+        load(1);
+        verify();
+    }
+
+    @Test
+    public void batched() throws Exception {
+        // the duplicate child makes its batch fail, so that the rows in that batch are inserted one by one
+        load(2);
+        verify();
+    }
+}
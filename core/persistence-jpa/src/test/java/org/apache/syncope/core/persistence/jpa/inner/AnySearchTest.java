@@ -474,6 +474,44 @@ public class AnySearchTest extends AbstractTest {
         assertTrue(users.stream().anyMatch(any -> "c9b2dec2-00a7-4855-97c0-d854842b4b24".equals(any.getKey())));
     }
 
+    @Test
+    public void searchWithDetails() {
+        OrderByClause orderByClause = new OrderByClause();
+        orderByClause.setField("username");
+        orderByClause.setDirection(OrderByClause.Direction.DESC);
+
+        List<User> users = searchDAO.search(SyncopeConstants.FULL_ADMIN_REALMS,
+                userDAO.getAllMatchingCond(), 1, 10, List.of(orderByClause), AnyTypeKind.USER, true);
+        assertFalse(users.isEmpty());
+        for (int i = 1; i < users.size(); i++) {
+            assertTrue(users.get(i - 1).getUsername().compareTo(users.get(i).getUsername()) > 0);
+        }
+
+        assertEquals(
+                searchDAO.search(SyncopeConstants.FULL_ADMIN_REALMS,
+                        userDAO.getAllMatchingCond(), 1, 10, List.of(orderByClause), AnyTypeKind.USER).stream().
+                        map(User::getKey).collect(Collectors.toList()),
+                users.stream().map(User::getKey).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void searchAfter() {
+        List<String> expected = searchDAO.<User>search(userDAO.getAllMatchingCond(), AnyTypeKind.USER).stream().
+                map(User::getKey).sorted().collect(Collectors.toList());
+
+        List<String> actual = new ArrayList<>();
+        List<User> page;
+        String lastKey = null;
+        do {
+            page = searchDAO.searchAfter(SyncopeConstants.FULL_ADMIN_REALMS,
+                    userDAO.getAllMatchingCond(), lastKey, 2, AnyTypeKind.USER, false);
+            page.forEach(user -> actual.add(user.getKey()));
+            lastKey = page.isEmpty() ? null : page.get(page.size() - 1).getKey();
+        } while (page.size() == 2);
+
+        assertEquals(expected, actual);
+    }
+
     @Test
     public void userOrderBy() {
         AnyCond usernameLeafCond = new AnyCond(AnyCond.Type.EQ);
@@ -124,6 +124,27 @@ public class RealmTest extends AbstractTest {
         assertEquals("986d1236-3ac5-4a19-810c-5ab21d79cba1", actual.getPasswordPolicy().getKey());
     }
 
+    @Test
+    public void saveRenameAndMove() {
+        Realm even = realmDAO.findByFullPath("/even");
+        even.setName("evenNew");
+        realmDAO.save(even);
+
+        assertNull(realmDAO.findByFullPath("/even/two"));
+        Realm two = realmDAO.findByFullPath("/evenNew/two");
+        assertNotNull(two);
+        assertEquals("0679e069-7355-4b20-bd11-a5a0a5453c7c", two.getKey());
+
+        even = realmDAO.findByFullPath("/evenNew");
+        even.setParent(realmDAO.findByFullPath("/odd"));
+        realmDAO.save(even);
+
+        two = realmDAO.findByFullPath("/odd/evenNew/two");
+        assertNotNull(two);
+        assertEquals("0679e069-7355-4b20-bd11-a5a0a5453c7c", two.getKey());
+        assertEquals(3, realmDAO.findDescendants(realmDAO.findByFullPath("/odd")).size());
+    }
+
     @Test
     public void saveInvalidName() {
         Realm realm = entityFactory.newEntity(Realm.class);
@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -96,6 +97,20 @@ public class UserTest extends AbstractTest {
         assertEquals(users.size(), userKeys.size());
     }
 
+    @Test
+    public void findAllKeysAfter() {
+        List<String> all = userDAO.findAllKeys(1, 100);
+
+        List<String> keyset = new ArrayList<>();
+        List<String> page = userDAO.findAllKeys(null, 2);
+        while (!page.isEmpty()) {
+            keyset.addAll(page);
+            page = userDAO.findAllKeys(page.get(page.size() - 1), 2);
+        }
+
+        assertEquals(all, keyset);
+    }
+
     @Test
     public void count() {
         int count = userDAO.count();
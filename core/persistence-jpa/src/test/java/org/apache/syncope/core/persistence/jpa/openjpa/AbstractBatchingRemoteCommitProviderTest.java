@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.openjpa.event.RemoteCommitEvent;
+import org.apache.openjpa.util.StringId;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGroup;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AbstractBatchingRemoteCommitProviderTest {
+
+    /**
+     * Keeps sent batches and fired events, instead of actually sending and firing.
+     */
+    private static class TestProvider extends AbstractBatchingRemoteCommitProvider {
+
+        private final List<byte[]> batches = new ArrayList<>();
+
+        private final List<RemoteCommitEvent> fired = new ArrayList<>();
+
+        private int maxBatchBytes = Integer.MAX_VALUE;
+
+        @Override
+        protected void send(final byte[] batch) {
+            batches.add(batch);
+        }
+
+        @Override
+        protected void fireEvent(final RemoteCommitEvent event) {
+            fired.add(event);
+        }
+
+        @Override
+        protected int getMaxBatchBytes() {
+            return maxBatchBytes;
+        }
+    }
+
+    private static RemoteCommitEvent event(final String key) {
+        return new RemoteCommitEvent(
+                RemoteCommitEvent.PAYLOAD_OIDS_WITH_ADDS,
+                List.of(new StringId(JPAUser.class, key)),
+                null,
+                List.of(new StringId(JPAGroup.class, key)),
+                List.of());
+    }
+
+    private TestProvider sender;
+
+    private TestProvider receiver;
+
+    @BeforeEach
+    public void setUp() {
+        sender = new TestProvider();
+        sender.setFlushInterval(3_600_000L);
+        sender.endConfiguration();
+
+        receiver = new TestProvider();
+        receiver.setFlushInterval(3_600_000L);
+        receiver.endConfiguration();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        sender.close();
+        receiver.close();
+    }
+
+    @Test
+    public void roundTrip() {
+        sender.broadcast(event("key1"));
+        sender.broadcast(event("key2"));
+        sender.flush();
+
+        assertEquals(1, sender.batches.size());
+        assertEquals(2, sender.getSent());
+
+        receiver.receive(sender.batches.get(0));
+
+        assertEquals(2, receiver.getReceived());
+        assertEquals(2, receiver.fired.size());
+
+        RemoteCommitEvent event = receiver.fired.get(0);
+        assertEquals(List.of(new StringId(JPAUser.class, "key1")), List.copyOf(event.getPersistedObjectIds()));
+        assertEquals(List.of(new StringId(JPAGroup.class, "key1")), List.copyOf(event.getUpdatedObjectIds()));
+        assertTrue(event.getDeletedObjectIds().isEmpty());
+        assertEquals(JPAUser.class, ((StringId) event.getPersistedObjectIds().iterator().next()).getType());
+    }
+
+    @Test
+    public void ownBatchesIgnored() {
+        sender.broadcast(event("key1"));
+        sender.flush();
+
+        sender.receive(sender.batches.get(0));
+
+        assertTrue(sender.fired.isEmpty());
+        assertEquals(0, sender.getReceived());
+    }
+
+    @Test
+    public void unexpectedClassesRejected() {
+        sender.broadcast(new RemoteCommitEvent(
+                RemoteCommitEvent.PAYLOAD_OIDS, null, null, List.of(new File("key1")), List.of()));
+        sender.flush();
+
+        receiver.receive(sender.batches.get(0));
+
+        assertTrue(receiver.fired.isEmpty());
+        assertEquals(0, receiver.getReceived());
+    }
+
+    @Test
+    public void largeBatchesSplit() {
+        List<RemoteCommitEvent> events = IntStream.range(0, 4).
+                mapToObj(i -> event("key" + i)).collect(Collectors.toList());
+
+        sender.maxBatchBytes = 1;
+        events.forEach(sender::broadcast);
+        sender.flush();
+
+        assertEquals(4, sender.batches.size());
+        assertEquals(4, sender.getSent());
+
+        sender.batches.forEach(receiver::receive);
+        assertEquals(4, receiver.fired.size());
+    }
+}
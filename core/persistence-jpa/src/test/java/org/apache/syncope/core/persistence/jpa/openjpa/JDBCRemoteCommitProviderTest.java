@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.apache.openjpa.event.RemoteCommitEvent;
+import org.apache.openjpa.util.StringId;
+import org.apache.syncope.core.persistence.jpa.entity.JPARemoteCommit;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class JDBCRemoteCommitProviderTest {
+
+    /**
+     * Works on the given data source, and keeps fired events instead of actually firing.
+     */
+    private static class TestProvider extends JDBCRemoteCommitProvider {
+
+        private final DataSource dataSource;
+
+        private final List<RemoteCommitEvent> fired = new ArrayList<>();
+
+        TestProvider(final DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        protected DataSource dataSource() {
+            return dataSource;
+        }
+
+        @Override
+        protected void fireEvent(final RemoteCommitEvent event) {
+            fired.add(event);
+        }
+    }
+
+    private static RemoteCommitEvent event(final String key) {
+        return new RemoteCommitEvent(
+                RemoteCommitEvent.PAYLOAD_OIDS, null, null, List.of(new StringId(JPAUser.class, key)), List.of());
+    }
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TestProvider node1;
+
+    private TestProvider node2;
+
+    @BeforeEach
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:remoteCommit" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+
+        // as mapped by JPARemoteCommit
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE " + JPARemoteCommit.TABLE + " (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "node VARCHAR(36) NOT NULL, created BIGINT NOT NULL, payload BLOB)");
+
+        node1 = new TestProvider(dataSource);
+        node2 = new TestProvider(dataSource);
+    }
+
+    private void insert(final long id, final long created, final byte[] payload) {
+        jdbcTemplate.update("INSERT INTO " + JPARemoteCommit.TABLE + "(id, node, created, payload) VALUES (?, ?, ?, ?)",
+                id, node1.nodeId, created, payload);
+    }
+
+    @Test
+    public void poll() throws Exception {
+        node1.send(node1.serialize(List.of(event("before"))));
+
+        // first poll only finds where to start from
+        node1.poll();
+        node2.poll();
+        assertEquals(1, node2.lastId);
+        assertTrue(node2.fired.isEmpty());
+
+        node1.send(node1.serialize(List.of(event("key1"), event("key2"))));
+        node1.send(node1.serialize(List.of(event("key3"))));
+
+        node2.poll();
+        assertEquals(3, node2.fired.size());
+        assertEquals(3, node2.lastId);
+
+        // nothing new
+        node2.poll();
+        assertEquals(3, node2.fired.size());
+
+        // own batches are skipped, not waited for
+        node1.poll();
+        assertTrue(node1.fired.isEmpty());
+        assertEquals(3, node1.lastId);
+        assertTrue(node1.receivedIds.isEmpty());
+    }
+
+    @Test
+    public void pollOutOfOrder() throws Exception {
+        node2.setGapTimeout(3_600_000L);
+        node2.poll();
+        assertEquals(0, node2.lastId);
+
+        // row 2 becomes visible before row 1
+        insert(2, System.currentTimeMillis(), node1.serialize(List.of(event("key2"))));
+        node2.poll();
+        assertEquals(1, node2.fired.size());
+        assertEquals(0, node2.lastId);
+
+        insert(1, System.currentTimeMillis(), node1.serialize(List.of(event("key1"))));
+        node2.poll();
+        assertEquals(2, node2.fired.size());
+        assertEquals(2, node2.lastId);
+        assertTrue(node2.receivedIds.isEmpty());
+    }
+
+    @Test
+    public void skipGapAfterTimeout() throws Exception {
+        node2.setGapTimeout(0);
+        node2.poll();
+
+        // row 1 never becomes visible
+        insert(2, System.currentTimeMillis(), node1.serialize(List.of(event("key2"))));
+        node2.poll();
+        assertEquals(1, node2.fired.size());
+        assertEquals(0, node2.lastId);
+
+        node2.poll();
+        assertEquals(1, node2.fired.size());
+        assertEquals(2, node2.lastId);
+    }
+
+    @Test
+    public void purge() throws Exception {
+        node2.setRetention(60_000L);
+        insert(1, System.currentTimeMillis() - 120_000L, node1.serialize(List.of(event("key1"))));
+        insert(2, System.currentTimeMillis(), node1.serialize(List.of(event("key2"))));
+
+        node2.poll();
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + JPARemoteCommit.TABLE, Integer.class));
+    }
+}
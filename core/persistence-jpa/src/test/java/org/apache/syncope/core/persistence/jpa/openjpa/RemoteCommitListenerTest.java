@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.syncope.common.keymaster.client.api.ServiceOps;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+public class RemoteCommitListenerTest {
+
+    private static final String CHANNEL = "Master";
+
+    private static final SocketAddress FROM = new InetSocketAddress("127.0.0.1", 12345);
+
+    /**
+     * Keeps received batches instead of actually firing their events.
+     */
+    private static class TestProvider extends KeymasterRemoteCommitProvider {
+
+        private final List<byte[]> received = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        protected void receive(final byte[] batch) {
+            received.add(batch);
+        }
+    }
+
+    private static RemoteCommitListener listener(final String secret) {
+        RemoteCommitListener listener = new RemoteCommitListener();
+        listener.serviceOps = new DefaultListableBeanFactory().getBeanProvider(ServiceOps.class);
+        listener.setBindAddress("127.0.0.1");
+        listener.setSecret(secret);
+        listener.setMaxBatchBytes(1024);
+        listener.setMaxConnections(1);
+        listener.setReadTimeout(500);
+        listener.setReplayWindow(30000);
+        return listener;
+    }
+
+    private static byte[] frame(final RemoteCommitListener listener, final byte[] batch) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        listener.write(out, CHANNEL, batch);
+        return out.toByteArray();
+    }
+
+    private static DataInputStream in(final byte[]... frames) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] frame : frames) {
+            out.write(frame);
+        }
+        return new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    private RemoteCommitListener listener;
+
+    private TestProvider provider;
+
+    @BeforeEach
+    public void setUp() {
+        listener = listener("secret");
+        provider = new TestProvider();
+        listener.channels.put(CHANNEL, provider);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        listener.destroy();
+    }
+
+    @Test
+    public void roundTrip() throws IOException {
+        byte[] batch1 = "batch1".getBytes(StandardCharsets.UTF_8);
+        byte[] batch2 = "batch2".getBytes(StandardCharsets.UTF_8);
+
+        DataInputStream in = in(frame(listener, batch1), frame(listener, batch2));
+        assertTrue(listener.read(in, FROM));
+        assertTrue(listener.read(in, FROM));
+
+        assertEquals(2, provider.received.size());
+        assertArrayEquals(batch1, provider.received.get(0));
+        assertArrayEquals(batch2, provider.received.get(1));
+    }
+
+    @Test
+    public void wrongSecret() throws IOException {
+        assertFalse(listener.read(in(frame(listener("other"), new byte[] { 1 })), FROM));
+        assertTrue(provider.received.isEmpty());
+    }
+
+    @Test
+    public void tamperedHeader() throws IOException {
+        byte[] frame = frame(listener, new byte[] { 1 });
+        // claim the largest batch length: rejected before any allocation
+        int lengthOffset = Short.BYTES + CHANNEL.length() + Long.BYTES + Long.BYTES;
+        frame[lengthOffset] = 0x7f;
+
+        assertFalse(listener.read(in(frame), FROM));
+        assertTrue(provider.received.isEmpty());
+    }
+
+    @Test
+    public void tamperedBatch() throws IOException {
+        byte[] frame = frame(listener, new byte[] { 1, 2, 3 });
+        frame[frame.length - RemoteCommitListener.MAC_LENGTH - 1] ^= 1;
+
+        assertFalse(listener.read(in(frame), FROM));
+        assertTrue(provider.received.isEmpty());
+    }
+
+    @Test
+    public void replayed() throws IOException {
+        byte[] frame = frame(listener, new byte[] { 1 });
+
+        DataInputStream in = in(frame, frame);
+        assertTrue(listener.read(in, FROM));
+        assertFalse(listener.read(in, FROM));
+        assertEquals(1, provider.received.size());
+    }
+
+    @Test
+    public void stale() throws IOException {
+        byte[] batch = new byte[] { 1 };
+        byte[] header = RemoteCommitListener.header(
+                CHANNEL.getBytes(StandardCharsets.UTF_8), System.currentTimeMillis() - 60000, 1L, batch.length);
+        byte[] headerMac = listener.mac(header);
+
+        assertFalse(listener.read(in(header, headerMac, batch, listener.mac(headerMac, batch)), FROM));
+        assertTrue(provider.received.isEmpty());
+    }
+
+    @Test
+    public void boundedConnections() throws Exception {
+        listener.register("other", new TestProvider());
+        URI address = URI.create(listener.getAddress());
+
+        try (Socket first = new Socket(address.getHost(), address.getPort());
+                Socket second = new Socket(address.getHost(), address.getPort())) {
+
+            // second connection is closed, as the only receiver thread is serving the first
+            second.setSoTimeout(2000);
+            assertEquals(-1, second.getInputStream().read());
+
+            // first connection is closed once idle for longer than the read timeout
+            first.setSoTimeout(5000);
+            long start = System.currentTimeMillis();
+            assertEquals(-1, first.getInputStream().read());
+            assertTrue(System.currentTimeMillis() - start < 5000);
+        }
+    }
+
+    @Test
+    public void peerReconnectsWhenIdle() throws Exception {
+        listener.setMaxConnections(2);
+        TestProvider other = new TestProvider();
+        listener.register("other", other);
+        URI address = URI.create(listener.getAddress());
+
+        KeymasterRemoteCommitProvider.Peer peer = new KeymasterRemoteCommitProvider.Peer(
+                address.getHost(), address.getPort());
+        try {
+            peer.send(listener, "other", new byte[] { 1 }, 1000);
+            // longer than the read timeout: the listener closed the connection meanwhile
+            Thread.sleep(1000);
+            peer.send(listener, "other", new byte[] { 2 }, 1000);
+
+            long start = System.currentTimeMillis();
+            while (other.received.size() < 2 && System.currentTimeMillis() - start < 5000) {
+                Thread.sleep(50);
+            }
+            assertEquals(2, other.received.size());
+            assertTrue(provider.received.isEmpty());
+        } finally {
+            peer.close();
+        }
+    }
+}
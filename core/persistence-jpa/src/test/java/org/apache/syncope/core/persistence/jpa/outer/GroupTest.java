@@ -372,6 +372,100 @@ public class GroupTest extends AbstractTest {
         assertTrue(dynGroupMemberships.isEmpty());
     }
 
+    @Test
+    public void udynMembershipRefreshDelta() {
+        // 1. create group with dynamic membership matching bellini
+        Group group = entityFactory.newEntity(Group.class);
+        group.setRealm(realmDAO.getRoot());
+        group.setName("delta");
+
+        UDynGroupMembership dynMembership = entityFactory.newEntity(UDynGroupMembership.class);
+        dynMembership.setFIQLCond("cool==true");
+        dynMembership.setGroup(group);
+        group.setUDynMembership(dynMembership);
+
+        Group actual = groupDAO.saveAndRefreshDynMemberships(group);
+        entityManager().flush();
+
+        assertEquals(List.of("c9b2dec2-00a7-4855-97c0-d854842b4b24"), groupDAO.findUDynMembers(actual));
+
+        // 2. change condition so that bellini is kept and rossini is added
+        actual.getUDynMembership().setFIQLCond("cool==true,username==rossini");
+        actual = groupDAO.saveAndRefreshDynMemberships(actual);
+        entityManager().flush();
+
+        assertEquals(
+                Set.of("c9b2dec2-00a7-4855-97c0-d854842b4b24", "1417acbe-cbf6-4277-9372-e75e04f97000"),
+                new HashSet<>(groupDAO.findUDynMembers(actual)));
+
+        // 3. change condition so that bellini is removed
+        actual.getUDynMembership().setFIQLCond("username==rossini");
+        actual = groupDAO.saveAndRefreshDynMemberships(actual);
+        entityManager().flush();
+
+        assertEquals(List.of("1417acbe-cbf6-4277-9372-e75e04f97000"), groupDAO.findUDynMembers(actual));
+
+        // 4. remove dynamic membership altogether
+        actual.setUDynMembership(null);
+        actual = groupDAO.saveAndRefreshDynMemberships(actual);
+        entityManager().flush();
+
+        assertEquals(0, groupDAO.countUDynMembers(actual));
+        Query query = entityManager().createNativeQuery(
+                "SELECT COUNT(any_id) FROM " + JPAGroupDAO.UDYNMEMB_TABLE + " WHERE group_id=?");
+        query.setParameter(1, actual.getKey());
+        assertEquals(0, ((Number) query.getSingleResult()).intValue());
+    }
+
+    @Test
+    public void udynMembershipConditionalRefresh() {
+        // 0. create user not matching the condition below
+        User user = entityFactory.newEntity(User.class);
+        user.setUsername("conditional");
+        user.setRealm(realmDAO.findByFullPath("/even/two"));
+        user.add(anyTypeClassDAO.find("other"));
+        user = userDAO.save(user);
+
+        // 1. create group with dynamic membership
+        Group group = entityFactory.newEntity(Group.class);
+        group.setRealm(realmDAO.getRoot());
+        group.setName("conditional");
+
+        UDynGroupMembership dynMembership = entityFactory.newEntity(UDynGroupMembership.class);
+        dynMembership.setFIQLCond("cool==true");
+        dynMembership.setGroup(group);
+        group.setUDynMembership(dynMembership);
+
+        Group actual = groupDAO.saveAndRefreshDynMemberships(group);
+        entityManager().flush();
+        assertFalse(groupDAO.findUDynMembers(actual).contains(user.getKey()));
+
+        // 2. make user match the condition, but report an unrelated change: condition is not evaluated
+        UPlainAttr attr = entityFactory.newEntity(UPlainAttr.class);
+        attr.setOwner(user);
+        attr.setSchema(plainSchemaDAO.find("cool"));
+        attr.add("true", anyUtilsFactory.getInstance(AnyTypeKind.USER));
+        user.add(attr);
+
+        user = userDAO.save(user, Set.of("surname"));
+        entityManager().flush();
+        assertFalse(groupDAO.findUDynMembers(actual).contains(user.getKey()));
+
+        // 3. report the actual change: condition is evaluated
+        user = userDAO.save(user, Set.of("cool"));
+        entityManager().flush();
+        assertTrue(groupDAO.findUDynMembers(actual).contains(user.getKey()));
+
+        // 4. remove dynamic membership: condition is not evaluated any more
+        actual.setUDynMembership(null);
+        actual = groupDAO.saveAndRefreshDynMemberships(actual);
+        entityManager().flush();
+
+        userDAO.save(user, Set.of("cool"));
+        entityManager().flush();
+        assertTrue(findDynGroups(user).isEmpty());
+    }
+
     @Test
     public void issueSYNCOPE1512() {
         Group group = groupDAO.findByName("root");
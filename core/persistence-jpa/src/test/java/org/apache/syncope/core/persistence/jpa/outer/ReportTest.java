@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.jpa.outer;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -33,6 +34,7 @@ import org.apache.syncope.core.persistence.api.dao.ReportTemplateDAO;
 import org.apache.syncope.core.persistence.api.entity.Report;
 import org.apache.syncope.core.persistence.api.entity.ReportExec;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.entity.JPAReportExec;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
@@ -124,4 +126,40 @@ public class ReportTest extends AbstractTest {
         Report report = reportDAO.find("0062ea9c-924d-4ecf-9961-4492a8cc6d1b");
         assertEquals(report.getExecs().size(), executionNumber - 1);
     }
+
+    @Test
+    public void execResult() {
+        ReportExec execution = reportExecDAO.find("c13f39c5-0d35-4bff-ba79-3cd5de940369");
+        assertEquals(0, reportExecDAO.countExecResultChunks(execution.getKey()));
+
+        reportExecDAO.saveExecResultChunk(execution, 0, new byte[] { 1, 2 });
+        reportExecDAO.saveExecResultChunk(execution, 1, new byte[] { 3 });
+
+        assertEquals(2, reportExecDAO.countExecResultChunks(execution.getKey()));
+        assertArrayEquals(new byte[] { 3 }, reportExecDAO.findExecResultChunk(execution.getKey(), 1));
+        assertNull(reportExecDAO.findExecResultChunk(execution.getKey(), 2));
+
+        reportDAO.delete(execution.getReport());
+
+        entityManager().flush();
+
+        assertNull(reportExecDAO.find("c13f39c5-0d35-4bff-ba79-3cd5de940369"));
+        assertEquals(0, reportExecDAO.countExecResultChunks("c13f39c5-0d35-4bff-ba79-3cd5de940369"));
+    }
+
+    @Test
+    public void legacyExecResult() {
+        assertNull(reportExecDAO.findLegacyExecResult("c13f39c5-0d35-4bff-ba79-3cd5de940369"));
+
+        // as stored by releases not splitting results into blocks
+        entityManager().createNativeQuery("UPDATE " + JPAReportExec.TABLE + " SET execResult=?1 WHERE id=?2").
+                setParameter(1, new byte[] { 1, 2, 3 }).
+                setParameter(2, "c13f39c5-0d35-4bff-ba79-3cd5de940369").
+                executeUpdate();
+
+        assertArrayEquals(
+                new byte[] { 1, 2, 3 },
+                reportExecDAO.findLegacyExecResult("c13f39c5-0d35-4bff-ba79-3cd5de940369"));
+        assertEquals(0, reportExecDAO.countExecResultChunks("c13f39c5-0d35-4bff-ba79-3cd5de940369"));
+    }
 }
@@ -50,6 +50,7 @@ import org.apache.syncope.core.persistence.api.entity.user.UPlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.user.URelationship;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.dao.DerAttrIndex;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPALAPlainAttr;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPALAPlainAttrValue;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPALinkedAccount;
@@ -85,6 +86,9 @@ public class UserTest extends AbstractTest {
     @Autowired
     private ApplicationDAO applicationDAO;
 
+    @Autowired
+    private DerAttrIndex derAttrIndex;
+
     @Test
     public void delete() {
         List<UMembership> memberships = groupDAO.findUMemberships(groupDAO.findByName("managingDirector"));
@@ -354,4 +358,44 @@ public class UserTest extends AbstractTest {
         list = userDAO.findByDerAttrValue(derSchemaDAO.find("kprefix"), 'k' + firstname, false);
         assertEquals(1, list.size());
     }
+
+    @Test
+    public void findByDerAttrValueWithIndex() {
+        derAttrIndex.setEnabled(true);
+        try {
+            DerSchema cn = derSchemaDAO.find("cn");
+
+            // lookups are not served by the index until built
+            assertFalse(derAttrIndex.find(cn, "Vivaldi, Antonio", false).isPresent());
+
+            derAttrIndex.reindex(cn);
+            entityManager().flush();
+            assertEquals(1, derAttrIndex.find(cn, "Vivaldi, Antonio", false).get().size());
+
+            List<User> list = userDAO.findByDerAttrValue(cn, "Vivaldi, Antonio", false);
+            assertEquals(1, list.size());
+            assertEquals("vivaldi", list.get(0).getUsername());
+
+            assertTrue(userDAO.findByDerAttrValue(cn, "VIVALDI, ANTONIO", false).isEmpty());
+            assertEquals(1, userDAO.findByDerAttrValue(cn, "VIVALDI, ANTONIO", true).size());
+
+            // saving the user refreshes its indexed values
+            userDAO.save(list.get(0));
+            entityManager().flush();
+
+            assertEquals(1, userDAO.findByDerAttrValue(cn, "Vivaldi, Antonio", false).size());
+
+            // deleting the user removes its indexed values
+            userDAO.delete(list.get(0));
+            entityManager().flush();
+
+            assertTrue(userDAO.findByDerAttrValue(cn, "Vivaldi, Antonio", false).isEmpty());
+
+            // saving the derived schema stops serving lookups from the index, until rebuilt after commit
+            derSchemaDAO.save(cn);
+            assertFalse(derAttrIndex.find(cn, "Vivaldi, Antonio", false).isPresent());
+        } finally {
+            derAttrIndex.setEnabled(false);
+        }
+    }
 }
@@ -25,6 +25,7 @@ import java.io.ByteArrayOutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.core.persistence.api.content.ContentExporter;
@@ -32,6 +33,8 @@ import org.apache.syncope.core.persistence.jpa.AbstractTest;
 import org.apache.tika.io.IOUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional("Master")
@@ -40,6 +43,9 @@ public class XMLContentExporterTest extends AbstractTest {
     @Autowired
     private ContentExporter exporter;
 
+    @Autowired
+    private ConfigurableEnvironment env;
+
     /**
      * Also checks for SYNCOPE-1307.
      *
@@ -59,8 +65,25 @@ public class XMLContentExporterTest extends AbstractTest {
                 filter(row -> row.trim().startsWith("<Realm")).collect(Collectors.toList());
         assertEquals(4, realms.size());
         assertTrue(realms.get(0).contains("name=\"/\""));
-        assertTrue(realms.get(1).contains("name=\"odd\""));
-        assertTrue(realms.get(2).contains("name=\"even\""));
-        assertTrue(realms.get(3).contains("name=\"two\""));
+        assertTrue(realms.get(1).contains("name=\"even\""));
+        assertTrue(realms.get(2).contains("name=\"two\""));
+        assertTrue(realms.get(3).contains("name=\"odd\""));
+    }
+
+    @Test
+    public void exportConcurrently() throws Exception {
+        ByteArrayOutputStream sequential = new ByteArrayOutputStream();
+        exporter.export("Master", sequential, null, null, null);
+
+        env.getPropertySources().addFirst(
+                new MapPropertySource("exportConcurrently", Map.of("content.exportParallelism", "4")));
+        try {
+            ByteArrayOutputStream concurrent = new ByteArrayOutputStream();
+            exporter.export("Master", concurrent, null, null, null);
+
+            assertEquals(sequential.toString(StandardCharsets.UTF_8), concurrent.toString(StandardCharsets.UTF_8));
+        } finally {
+            env.getPropertySources().remove("exportConcurrently");
+        }
     }
 }
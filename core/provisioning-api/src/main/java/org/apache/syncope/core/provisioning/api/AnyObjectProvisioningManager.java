@@ -19,7 +19,9 @@
 package org.apache.syncope.core.provisioning.api;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.request.AnyObjectCR;
@@ -37,4 +39,28 @@ public interface AnyObjectProvisioningManager extends ProvisioningManager<AnyObj
 
     List<PropagationStatus> provision(
             String key, Collection<String> resources, boolean nullPriorityAsync, String updater, String context);
+
+    /**
+     * Provisions several any objects at once; implementations shall override this method to submit propagation tasks
+     * in batches, which by default invokes {@link #provision(String, Collection, boolean, String, String)} once per
+     * any object.
+     *
+     * @param keys any object keys
+     * @param resources resources to provision to
+     * @param nullPriorityAsync asynchronously executes tasks related to resources with no priority
+     * @param updater the updater
+     * @param context the context
+     * @return propagation statuses, by any object key
+     */
+    default Map<String, List<PropagationStatus>> provision(
+            Collection<String> keys,
+            Collection<String> resources,
+            boolean nullPriorityAsync,
+            String updater,
+            String context) {
+
+        Map<String, List<PropagationStatus>> statuses = new LinkedHashMap<>();
+        keys.forEach(key -> statuses.put(key, provision(key, resources, nullPriorityAsync, updater, context)));
+        return statuses;
+    }
 }
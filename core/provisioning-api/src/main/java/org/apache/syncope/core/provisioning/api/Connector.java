@@ -20,7 +20,9 @@ package org.apache.syncope.core.provisioning.api;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.ConnInstance;
@@ -71,6 +73,24 @@ public interface Connector {
             OperationOptions options,
             AtomicReference<Boolean> propagationAttempted);
 
+    /**
+     * Non-blocking variant of {@link #create}; by default, it invokes {@link #create} in the calling thread.
+     *
+     * @param objectClass ConnId's object class
+     * @param attrs attributes for creation
+     * @param options ConnId's OperationOptions
+     * @param propagationAttempted if creation is actually performed (based on connector instance's capabilities)
+     * @return future completed with Uid for created object
+     */
+    default CompletableFuture<Uid> createAsync(
+            ObjectClass objectClass,
+            Set<Attribute> attrs,
+            OperationOptions options,
+            AtomicReference<Boolean> propagationAttempted) {
+
+        return supply(() -> create(objectClass, attrs, options, propagationAttempted));
+    }
+
     /**
      * Update user / group on a connector instance.
      *
@@ -88,6 +108,26 @@ public interface Connector {
             OperationOptions options,
             AtomicReference<Boolean> propagationAttempted);
 
+    /**
+     * Non-blocking variant of {@link #update}; by default, it invokes {@link #update} in the calling thread.
+     *
+     * @param objectClass ConnId's object class
+     * @param uid user to be updated
+     * @param attrs attributes for update
+     * @param options ConnId's OperationOptions
+     * @param propagationAttempted if update is actually performed (based on connector instance's capabilities)
+     * @return future completed with Uid for updated object
+     */
+    default CompletableFuture<Uid> updateAsync(
+            ObjectClass objectClass,
+            Uid uid,
+            Set<Attribute> attrs,
+            OperationOptions options,
+            AtomicReference<Boolean> propagationAttempted) {
+
+        return supply(() -> update(objectClass, uid, attrs, options, propagationAttempted));
+    }
+
     /**
      * Delete user / group on a connector instance.
      *
@@ -102,6 +142,75 @@ public interface Connector {
             OperationOptions options,
             AtomicReference<Boolean> propagationAttempted);
 
+    /**
+     * Non-blocking variant of {@link #delete}; by default, it invokes {@link #delete} in the calling thread.
+     *
+     * @param objectClass ConnId's object class
+     * @param uid user to be deleted
+     * @param options ConnId's OperationOptions
+     * @param propagationAttempted if deletion is actually performed (based on connector instance's capabilities)
+     * @return future completed with Uid for deleted object
+     */
+    default CompletableFuture<Uid> deleteAsync(
+            ObjectClass objectClass,
+            Uid uid,
+            OperationOptions options,
+            AtomicReference<Boolean> propagationAttempted) {
+
+        return supply(() -> {
+            delete(objectClass, uid, options, propagationAttempted);
+            return uid;
+        });
+    }
+
+    /**
+     * Executes the given create / update / delete operations on a connector instance, reporting outcome in each of
+     * them; connectors able to process several objects with a single request shall override this method, which by
+     * default invokes {@link #create}, {@link #update} or {@link #delete} once per operation, in the given order.
+     * Implementations may execute operations concurrently, hence in any order, as long as operations on the same
+     * object are executed in the given order; the outcome of each operation is reported in the operation itself, so
+     * callers shall not rely on completion order.
+     *
+     * @param operations operations to execute
+     */
+    default void batch(List<ConnectorBatchOperation> operations) {
+        operations.forEach(operation -> {
+            try {
+                switch (operation.getOperation()) {
+                    case CREATE:
+                        operation.setResult(create(
+                                operation.getObjectClass(),
+                                operation.getAttrs(),
+                                operation.getOptions(),
+                                operation.getPropagationAttempted()));
+                        break;
+
+                    case UPDATE:
+                        operation.setResult(update(
+                                operation.getObjectClass(),
+                                operation.getUid(),
+                                operation.getAttrs(),
+                                operation.getOptions(),
+                                operation.getPropagationAttempted()));
+                        break;
+
+                    case DELETE:
+                        delete(
+                                operation.getObjectClass(),
+                                operation.getUid(),
+                                operation.getOptions(),
+                                operation.getPropagationAttempted());
+                        operation.setResult(operation.getUid());
+                        break;
+
+                    default:
+                }
+            } catch (RuntimeException e) {
+                operation.setFailure(e);
+            }
+        });
+    }
+
     /**
      * Fetches all remote objects (for use during full reconciliation).
      *
@@ -185,6 +294,24 @@ public interface Connector {
             boolean ignoreCaseMatch,
             OperationOptions options);
 
+    /**
+     * Non-blocking variant of {@link #getObject}; by default, it invokes {@link #getObject} in the calling thread.
+     *
+     * @param objectClass ConnId's object class
+     * @param connObjectKey ConnId's key attribute
+     * @param ignoreCaseMatch whether match should be performed regardless of the value case
+     * @param options ConnId's OperationOptions
+     * @return future completed with ConnId's connector object for given uid
+     */
+    default CompletableFuture<ConnectorObject> getObjectAsync(
+            ObjectClass objectClass,
+            Attribute connObjectKey,
+            boolean ignoreCaseMatch,
+            OperationOptions options) {
+
+        return supply(() -> getObject(objectClass, connObjectKey, ignoreCaseMatch, options));
+    }
+
     /**
      * Search for remote objects.
      *
@@ -264,4 +391,12 @@ public interface Connector {
      * @return active connector instance.
      */
     ConnInstance getConnInstance();
+
+    private static <T> CompletableFuture<T> supply(final Supplier<T> supplier) {
+        try {
+            return CompletableFuture.completedFuture(supplier.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
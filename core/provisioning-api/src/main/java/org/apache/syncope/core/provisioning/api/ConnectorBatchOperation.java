@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.OperationOptions;
+import org.identityconnectors.framework.common.objects.Uid;
+
+/**
+ * Create, update or delete operation submitted to a connector instance as part of a batch.
+ *
+ * @see Connector#batch(java.util.List)
+ */
+public class ConnectorBatchOperation {
+
+    public static ConnectorBatchOperation create(
+            final ObjectClass objectClass,
+            final Set<Attribute> attrs,
+            final OperationOptions options) {
+
+        return new ConnectorBatchOperation(ResourceOperation.CREATE, objectClass, null, attrs, options);
+    }
+
+    public static ConnectorBatchOperation update(
+            final ObjectClass objectClass,
+            final Uid uid,
+            final Set<Attribute> attrs,
+            final OperationOptions options) {
+
+        return new ConnectorBatchOperation(ResourceOperation.UPDATE, objectClass, uid, attrs, options);
+    }
+
+    public static ConnectorBatchOperation delete(
+            final ObjectClass objectClass,
+            final Uid uid,
+            final OperationOptions options) {
+
+        return new ConnectorBatchOperation(ResourceOperation.DELETE, objectClass, uid, Set.of(), options);
+    }
+
+    private final ResourceOperation operation;
+
+    private final ObjectClass objectClass;
+
+    private final Uid uid;
+
+    private final Set<Attribute> attrs;
+
+    private final OperationOptions options;
+
+    private final AtomicReference<Boolean> propagationAttempted = new AtomicReference<>(false);
+
+    private Uid result;
+
+    private RuntimeException failure;
+
+    protected ConnectorBatchOperation(
+            final ResourceOperation operation,
+            final ObjectClass objectClass,
+            final Uid uid,
+            final Set<Attribute> attrs,
+            final OperationOptions options) {
+
+        this.operation = operation;
+        this.objectClass = objectClass;
+        this.uid = uid;
+        this.attrs = attrs;
+        this.options = options;
+    }
+
+    public ResourceOperation getOperation() {
+        return operation;
+    }
+
+    public ObjectClass getObjectClass() {
+        return objectClass;
+    }
+
+    /**
+     * @return Uid of the object to update or delete, null for creation
+     */
+    public Uid getUid() {
+        return uid;
+    }
+
+    public Set<Attribute> getAttrs() {
+        return attrs;
+    }
+
+    public OperationOptions getOptions() {
+        return options;
+    }
+
+    public AtomicReference<Boolean> getPropagationAttempted() {
+        return propagationAttempted;
+    }
+
+    /**
+     * @return Uid of the created, updated or deleted object; null if not executed or failed
+     */
+    public Uid getResult() {
+        return result;
+    }
+
+    public void setResult(final Uid result) {
+        this.result = result;
+    }
+
+    /**
+     * @return exception raised while executing this operation, if any
+     */
+    public RuntimeException getFailure() {
+        return failure;
+    }
+
+    public void setFailure(final RuntimeException failure) {
+        this.failure = failure;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).
+                append(operation).
+                append(objectClass).
+                append(uid).
+                append(attrs).
+                build();
+    }
+}
@@ -19,7 +19,9 @@
 package org.apache.syncope.core.provisioning.api;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.request.AnyCR;
@@ -43,6 +45,31 @@ public interface ProvisioningManager<C extends AnyCR, U extends AnyUR> {
     List<PropagationStatus> deprovision(
             String anyKey, Collection<String> resources, boolean nullPriorityAsync, String updater, String context);
 
+    /**
+     * Deprovisions several entities at once; implementations shall override this method to submit propagation tasks
+     * in batches, which by default invokes {@link #deprovision(String, Collection, boolean, String, String)} once per
+     * entity.
+     *
+     * @param anyKeys entity keys
+     * @param resources resources to deprovision from
+     * @param nullPriorityAsync asynchronously executes tasks related to resources with no priority
+     * @param updater the updater
+     * @param context the context
+     * @return propagation statuses, by entity key
+     */
+    default Map<String, List<PropagationStatus>> deprovision(
+            Collection<String> anyKeys,
+            Collection<String> resources,
+            boolean nullPriorityAsync,
+            String updater,
+            String context) {
+
+        Map<String, List<PropagationStatus>> statuses = new LinkedHashMap<>();
+        anyKeys.forEach(anyKey -> statuses.put(
+                anyKey, deprovision(anyKey, resources, nullPriorityAsync, updater, context)));
+        return statuses;
+    }
+
     List<PropagationStatus> delete(String anyKey, boolean nullPriorityAsync, String eraser, String context);
 
     List<PropagationStatus> delete(
@@ -19,7 +19,9 @@
 package org.apache.syncope.core.provisioning.api;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.request.StatusR;
@@ -71,4 +73,33 @@ public interface UserProvisioningManager extends ProvisioningManager<UserCR, Use
             boolean nullPriorityAsync,
             String updater,
             String context);
+
+    /**
+     * Provisions several users at once; implementations shall override this method to submit propagation tasks
+     * in batches, which by default invokes
+     * {@link #provision(String, boolean, String, Collection, boolean, String, String)} once per user.
+     *
+     * @param keys user keys
+     * @param changePwd whether password shall be propagated
+     * @param password password to propagate, if any
+     * @param resources resources to provision to
+     * @param nullPriorityAsync asynchronously executes tasks related to resources with no priority
+     * @param updater the updater
+     * @param context the context
+     * @return propagation statuses, by user key
+     */
+    default Map<String, List<PropagationStatus>> provision(
+            Collection<String> keys,
+            boolean changePwd,
+            String password,
+            Collection<String> resources,
+            boolean nullPriorityAsync,
+            String updater,
+            String context) {
+
+        Map<String, List<PropagationStatus>> statuses = new LinkedHashMap<>();
+        keys.forEach(key -> statuses.put(
+                key, provision(key, changePwd, password, resources, nullPriorityAsync, updater, context)));
+        return statuses;
+    }
 }
@@ -63,6 +63,13 @@ public class VirAttrCacheValue {
         return new Date(creationDate.getTime());
     }
 
+    /**
+     * @return entry creation time, in milliseconds since epoch
+     */
+    public long getCreationTime() {
+        return creationDate.getTime();
+    }
+
     public void forceExpiring() {
         creationDate = new Date(0);
     }
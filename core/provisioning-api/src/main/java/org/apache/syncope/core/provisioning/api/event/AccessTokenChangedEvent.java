@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published when an access token is saved - as on creation or refresh - or deleted.
+ */
+public class AccessTokenChangedEvent extends ApplicationEvent {
+
+    private static final long serialVersionUID = -2478637158213491263L;
+
+    private final String accessTokenKey;
+
+    private final String domain;
+
+    public AccessTokenChangedEvent(final Object source, final String accessTokenKey, final String domain) {
+        super(source);
+        this.accessTokenKey = accessTokenKey;
+        this.domain = domain;
+    }
+
+    public String getAccessTokenKey() {
+        return accessTokenKey;
+    }
+
+    public String getDomain() {
+        return domain;
+    }
+}
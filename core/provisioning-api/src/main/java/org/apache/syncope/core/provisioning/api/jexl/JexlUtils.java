@@ -27,9 +27,12 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.commons.jexl3.JexlBuilder;
 import org.apache.commons.jexl3.JexlContext;
 import org.apache.commons.jexl3.JexlEngine;
@@ -67,33 +70,101 @@ public final class JexlUtils {
     private static final Map<Class<?>, Set<Pair<PropertyDescriptor, Field>>> FIELD_CACHE =
             Collections.synchronizedMap(new HashMap<Class<?>, Set<Pair<PropertyDescriptor, Field>>>());
 
-    private static JexlEngine JEXL_ENGINE;
+    private static final int MAX_COMPILED_EXPRESSIONS = 4096;
+
+    /**
+     * Compiled expressions, by expression text; compiled expressions are immutable and thread-safe, hence shared
+     * among all callers, which are expected to provide a fresh context for each evaluation.
+     */
+    private static final Map<String, JexlExpression> COMPILED_EXPRESSIONS = new ConcurrentHashMap<>();
+
+    private static final LongAdder COMPILATIONS = new LongAdder();
+
+    /**
+     * Lazily initialized upon first access, without any locking on further accesses.
+     */
+    private static final class EngineHolder {
+
+        private static final JexlEngine JEXL_ENGINE = new JexlBuilder().
+                uberspect(new SandboxUberspect()).
+                loader(new EmptyClassLoader()).
+                namespaces(Map.of("syncope", new SyncopeJexlFunctions())).
+                cache(512).
+                silent(false).
+                strict(false).
+                create();
+    }
 
     private static JexlEngine getEngine() {
-        synchronized (LOG) {
-            if (JEXL_ENGINE == null) {
-                JEXL_ENGINE = new JexlBuilder().
-                        uberspect(new SandboxUberspect()).
-                        loader(new EmptyClassLoader()).
-                        namespaces(Map.of("syncope", new SyncopeJexlFunctions())).
-                        cache(512).
-                        silent(false).
-                        strict(false).
-                        create();
+        return EngineHolder.JEXL_ENGINE;
+    }
+
+    public static JxltEngine newJxltEngine() {
+        return getEngine().createJxltEngine(false);
+    }
+
+    /**
+     * Returns the compiled form of the given expression, compiling and caching it if not already available; when
+     * the cache is full, an arbitrary entry is evicted to make room.
+     *
+     * @param expression JEXL expression
+     * @return compiled expression
+     * @throws JexlException if the given expression is not valid
+     */
+    public static JexlExpression compile(final String expression) {
+        if (expression == null) {
+            return getEngine().createExpression(expression);
+        }
+
+        JexlExpression compiled = COMPILED_EXPRESSIONS.get(expression);
+        if (compiled == null) {
+            compiled = getEngine().createExpression(expression);
+            COMPILATIONS.increment();
+
+            Iterator<String> cached = COMPILED_EXPRESSIONS.keySet().iterator();
+            while (COMPILED_EXPRESSIONS.size() >= MAX_COMPILED_EXPRESSIONS && cached.hasNext()) {
+                cached.next();
+                cached.remove();
             }
+            COMPILED_EXPRESSIONS.put(expression, compiled);
         }
+        return compiled;
+    }
 
-        return JEXL_ENGINE;
+    /**
+     * Compiles the given expression, if valid, so that it is readily available for further evaluations; to be
+     * invoked when the entity defining it is saved.
+     *
+     * @param expression JEXL expression
+     */
+    public static void precompile(final String expression) {
+        if (StringUtils.isNotBlank(expression)) {
+            isExpressionValid(expression);
+        }
     }
 
-    public static JxltEngine newJxltEngine() {
-        return getEngine().createJxltEngine(false);
+    /**
+     * Discards the compiled form of the given expression, if any; to be invoked when the entity defining it changes.
+     *
+     * @param expression JEXL expression
+     */
+    public static void invalidate(final String expression) {
+        if (expression != null) {
+            COMPILED_EXPRESSIONS.remove(expression);
+        }
+    }
+
+    /**
+     * @return number of expressions compiled since startup
+     */
+    public static long getCompilationCount() {
+        return COMPILATIONS.sum();
     }
 
     public static boolean isExpressionValid(final String expression) {
         boolean result;
         try {
-            getEngine().createExpression(expression);
+            compile(expression);
             result = true;
         } catch (JexlException e) {
             LOG.error("Invalid jexl expression: " + expression, e);
@@ -108,8 +179,7 @@ public final class JexlUtils {
 
         if (StringUtils.isNotBlank(expression) && jexlContext != null) {
             try {
-                JexlExpression jexlExpression = getEngine().createExpression(expression);
-                Object evaluated = jexlExpression.evaluate(jexlContext);
+                Object evaluated = compile(expression).evaluate(jexlContext);
                 if (evaluated != null) {
                     result = evaluated.toString();
                 }
@@ -19,6 +19,7 @@
 package org.apache.syncope.core.provisioning.api.propagation;
 
 import java.util.Collection;
+import java.util.Map;
 import org.apache.syncope.common.lib.to.PropagationTaskTO;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
 
@@ -42,6 +43,12 @@ public interface PropagationTaskExecutor {
      */
     String MANDATORY_NULL_OR_EMPTY_ATTR_NAME = "__MANDATORY_NULL_OR_EMPTY__";
 
+    /**
+     * Default number of tasks submitted at once to a connector instance by
+     * {@link #executeBatch(Collection, int, boolean, String)}.
+     */
+    int DEFAULT_BATCH_SIZE = 100;
+
     /**
      * Execute the given task and returns the generated {@link TaskExec}.
      *
@@ -64,4 +71,41 @@ public interface PropagationTaskExecutor {
      */
     PropagationReporter execute(
             Collection<PropagationTaskInfo> taskInfos, boolean nullPriorityAsync, String executor);
+
+    /**
+     * Execute the given collection of tasks, possibly related to several entities: tasks are grouped by resource and
+     * operation, then each group is submitted to the related connector instance in chunks.
+     * Resources are processed by priority; when the result of the communication with a resource with non-null priority
+     * is in error for an entity, its remaining tasks are not executed.
+     *
+     * @param taskInfos to be executed
+     * @param batchSize maximum number of tasks submitted at once to a connector instance
+     * @param nullPriorityAsync asynchronously executes tasks related to resources with no priority
+     * @param executor the executor of this task
+     * @return reporters to report propagation execution status, by entity key
+     */
+    Map<String, PropagationReporter> executeBatch(
+            Collection<PropagationTaskInfo> taskInfos, int batchSize, boolean nullPriorityAsync, String executor);
+
+    /**
+     * Execute the given tasks, submitting them at once to the related connector instances; resource priority is not
+     * considered. Used by {@link #executeBatch(Collection, int, boolean, String)} to process tasks related to
+     * resources with no priority.
+     *
+     * @param taskInfos to be executed
+     * @param reporters to report propagation execution status, by entity key
+     * @param executor the executor of this task
+     */
+    void executeChunk(
+            Collection<PropagationTaskInfo> taskInfos, Map<String, PropagationReporter> reporters, String executor);
+
+    /**
+     * Returns the state of circuit breakers guarding propagation towards external resources of the current domain, by
+     * resource key.
+     *
+     * @return circuit breaker states, by resource key
+     */
+    default Map<String, String> getCircuitBreakerStates() {
+        return Map.of();
+    }
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api.pushpull;
 
+import java.util.List;
 import org.identityconnectors.framework.common.objects.SyncDelta;
 import org.identityconnectors.framework.common.objects.SyncResultsHandler;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
@@ -26,6 +27,23 @@ public interface SyncopePullResultHandler extends SyncopeResultHandler<PullTask,
 
     void setPullExecutor(SyncopePullExecutor executor);
 
+    /**
+     * Gets the given changes ready to be handled, one by one, by matching them all at once; this is optional, as
+     * changes not prefetched are matched when handled.
+     *
+     * @param deltas changes about to be handled
+     */
+    default void prefetch(List<SyncDelta> deltas) {
+        // nothing to do by default
+    }
+
+    /**
+     * Discards what was prefetched and not yet handled, for example because pulling was interrupted.
+     */
+    default void discardPrefetched() {
+        // nothing to do by default
+    }
+
     @Override
     boolean handle(SyncDelta delta);
 }
@@ -21,6 +21,8 @@ package org.apache.syncope.core.provisioning.api.utils;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -34,6 +36,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.commons.jexl3.JexlContext;
+import org.apache.commons.jexl3.JexlExpression;
 import org.apache.commons.jexl3.JxltEngine;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.Attr;
@@ -71,6 +74,17 @@ public class JexlUtilsTest extends AbstractTest {
         assertFalse(JexlUtils.isExpressionValid(expression));
     }
 
+    @Test
+    public void compile() {
+        expression = "6 * 12 + 5 / 2.6";
+        JexlExpression compiled = JexlUtils.compile(expression);
+        assertSame(compiled, JexlUtils.compile(expression));
+
+        JexlUtils.invalidate(expression);
+        assertNotSame(compiled, JexlUtils.compile(expression));
+        assertEquals(compiled.getSourceText(), JexlUtils.compile(expression).getSourceText());
+    }
+
     @Test
     public void evaluate() {
         String result = StringUtils.EMPTY;
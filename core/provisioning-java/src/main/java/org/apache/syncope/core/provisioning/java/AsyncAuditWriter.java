@@ -0,0 +1,343 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.log.AuditEntry;
+import org.apache.syncope.common.lib.types.AuditLoggerName;
+import org.apache.syncope.common.lib.types.LoggerType;
+import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.persistence.api.dao.LoggerDAO;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.provisioning.api.utils.ExceptionUtils2;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Writes audit entries, either synchronously via the audit loggers of each domain or, when enabled, off the calling
+ * thread: entries are queued in a bounded buffer, then built, serialized and written by batches at the configured
+ * interval or as soon as a full batch is available.
+ * With the JDBC audit appender enabled, batches are inserted via JDBC into the audit table and each entry is also
+ * sent to the logger of its audit event, where custom audit appenders are attached; otherwise, entries are sent to
+ * the audit loggers as in the synchronous case.
+ * Events configured as durable are never queued. Entries which are dropped, as the buffer is full, or could not be
+ * written are counted and logged.
+ */
+public class AsyncAuditWriter implements DisposableBean {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(AsyncAuditWriter.class);
+
+    protected static final String INSERT = "INSERT INTO " + LoggerDAO.AUDIT_TABLE
+            + "(EVENT_DATE, LOGGER_LEVEL, LOGGER, " + LoggerDAO.AUDIT_MESSAGE_COLUMN + ", THROWABLE) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+    protected static class PendingEntry {
+
+        protected final String domain;
+
+        protected final String loggerName;
+
+        protected final Date date;
+
+        protected final Supplier<AuditEntry> auditEntry;
+
+        protected final Throwable throwable;
+
+        protected PendingEntry(
+                final String domain,
+                final String loggerName,
+                final Date date,
+                final Supplier<AuditEntry> auditEntry,
+                final Throwable throwable) {
+
+            this.domain = domain;
+            this.loggerName = loggerName;
+            this.date = date;
+            this.auditEntry = auditEntry;
+            this.throwable = throwable;
+        }
+    }
+
+    @Autowired
+    protected DomainHolder domainHolder;
+
+    protected final boolean enabled;
+
+    /**
+     * Whether queued entries are inserted via JDBC into the audit table, as done by the JDBC audit appender.
+     */
+    protected final boolean jdbc;
+
+    protected final int batchSize;
+
+    /**
+     * Flush interval in milliseconds.
+     */
+    protected final long flushInterval;
+
+    /**
+     * Prefixes of audit events - as [LOGIC]:[UserLogic] - to be written synchronously.
+     */
+    protected final Set<String> durableEvents;
+
+    protected final BlockingQueue<PendingEntry> buffer;
+
+    protected final LongAdder dropped = new LongAdder();
+
+    protected final LongAdder failed = new LongAdder();
+
+    protected final LongAdder written = new LongAdder();
+
+    protected final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    protected ScheduledExecutorService flusher;
+
+    public AsyncAuditWriter(
+            final boolean enabled,
+            final boolean jdbc,
+            final int bufferSize,
+            final int batchSize,
+            final long flushInterval,
+            final Set<String> durableEvents) {
+
+        this.enabled = enabled;
+        this.jdbc = jdbc;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushInterval = flushInterval;
+        this.durableEvents = durableEvents;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+    }
+
+    /**
+     * Returns whether the given audit event shall be queued rather than written synchronously.
+     *
+     * @param loggerName audit logger name
+     * @return whether the given audit event shall be queued
+     */
+    public boolean isAsync(final String loggerName) {
+        if (!enabled) {
+            return false;
+        }
+
+        String event = StringUtils.removeStart(loggerName, LoggerType.AUDIT.getPrefix() + '.');
+        return durableEvents.stream().noneMatch(event::startsWith);
+    }
+
+    protected synchronized ScheduledExecutorService flusher() {
+        if (flusher == null) {
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "AsyncAuditWriter");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        }
+        return flusher;
+    }
+
+    /**
+     * Writes the given serialized audit entry to the audit logger of the given domain and to the logger of the given
+     * audit event, where custom audit appenders are attached.
+     *
+     * @param domain domain
+     * @param loggerName audit logger name
+     * @param message serialized audit entry
+     * @param throwable throwable, if any
+     */
+    public void log(final String domain, final String loggerName, final String message, final Throwable throwable) {
+        Logger logger = LoggerFactory.getLogger(AuditLoggerName.getAuditLoggerName(domain));
+        Logger eventLogger = LoggerFactory.getLogger(AuditLoggerName.getAuditEventLoggerName(domain, loggerName));
+
+        if (throwable == null) {
+            logger.debug(message);
+            eventLogger.debug(message);
+        } else {
+            logger.debug(message, throwable);
+            eventLogger.debug(message, throwable);
+        }
+    }
+
+    /**
+     * Queues the given audit entry, without waiting; the entry is dropped if the buffer is full.
+     *
+     * @param domain domain
+     * @param loggerName audit logger name
+     * @param date event date
+     * @param auditEntry builds the audit entry, invoked off the calling thread
+     * @param throwable throwable, if any
+     * @return whether the given audit entry was queued
+     */
+    public boolean offer(
+            final String domain,
+            final String loggerName,
+            final Date date,
+            final Supplier<AuditEntry> auditEntry,
+            final Throwable throwable) {
+
+        ScheduledExecutorService executor = flusher();
+
+        if (!buffer.offer(new PendingEntry(domain, loggerName, date, auditEntry, throwable))) {
+            dropped.increment();
+            LOG.error("Audit buffer full, dropping {} for domain {} at {}", loggerName, domain, date);
+            return false;
+        }
+
+        if (buffer.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::flush);
+            } catch (Exception e) {
+                flushRequested.set(false);
+                LOG.debug("Could not request flush, will happen at next interval", e);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes all queued audit entries, by batches.
+     */
+    protected void flush() {
+        flushRequested.set(false);
+
+        List<PendingEntry> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    protected void write(final List<PendingEntry> batch) {
+        Map<String, List<Object[]>> rows = new HashMap<>();
+        for (PendingEntry entry : batch) {
+            try {
+                String message = POJOHelper.serialize(entry.auditEntry.get());
+
+                if (jdbc) {
+                    Logger eventLogger = LoggerFactory.getLogger(
+                            AuditLoggerName.getAuditEventLoggerName(entry.domain, entry.loggerName));
+                    if (entry.throwable == null) {
+                        eventLogger.debug(message);
+                    } else {
+                        eventLogger.debug(message, entry.throwable);
+                    }
+
+                    rows.computeIfAbsent(entry.domain, k -> new ArrayList<>()).add(new Object[] {
+                        new Timestamp(entry.date.getTime()),
+                        "DEBUG",
+                        AuditLoggerName.getAuditLoggerName(entry.domain),
+                        message,
+                        entry.throwable == null ? null : ExceptionUtils2.getFullStackTrace(entry.throwable) });
+                } else {
+                    log(entry.domain, entry.loggerName, message, entry.throwable);
+                    written.increment();
+                }
+            } catch (Exception e) {
+                failed.increment();
+                LOG.error("Could not write audit entry {} for domain {} at {}",
+                        entry.loggerName, entry.domain, entry.date, e);
+            }
+        }
+
+        rows.forEach(this::insert);
+    }
+
+    /**
+     * Inserts the given rows into the audit table of the given domain, via a single JDBC batch.
+     *
+     * @param domain domain
+     * @param rows audit table rows
+     */
+    protected void insert(final String domain, final List<Object[]> rows) {
+        try {
+            DataSource dataSource = domainHolder.getDomains().get(domain);
+            if (dataSource == null) {
+                throw new IllegalStateException("Could not find DataSource for domain " + domain);
+            }
+
+            new JdbcTemplate(dataSource).batchUpdate(INSERT, rows);
+            written.add(rows.size());
+        } catch (Exception e) {
+            failed.add(rows.size());
+            LOG.error("Could not write {} audit entries for domain {}", rows.size(), domain, e);
+            rows.forEach(row -> LOG.error("Audit entry not written for domain {}: {}", domain, row[3]));
+        }
+    }
+
+    /**
+     * @return number of audit entries queued and not yet written
+     */
+    public int getBacklog() {
+        return buffer.size();
+    }
+
+    /**
+     * @return number of audit entries dropped since startup, because the buffer was full
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return number of audit entries which could not be written since startup
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * @return number of audit entries written since startup
+     */
+    public long getWritten() {
+        return written.sum();
+    }
+
+    @Override
+    public void destroy() {
+        synchronized (this) {
+            if (flusher != null) {
+                flusher.shutdown();
+                try {
+                    flusher.awaitTermination(flushInterval, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        flush();
+    }
+}
@@ -19,7 +19,13 @@
 package org.apache.syncope.core.provisioning.java;
 
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.Resource;
 import org.identityconnectors.common.security.GuardedString;
 import org.identityconnectors.framework.api.ConnectorFacade;
 import org.identityconnectors.framework.common.objects.Attribute;
@@ -34,121 +40,154 @@ import org.identityconnectors.framework.common.objects.filter.FilterBuilder;
 import org.identityconnectors.framework.spi.SearchResultsHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.AsyncResult;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Component;
 
 /**
- * Intercept calls to ConnectorFacade's methods and check if the corresponding connector instance has been configured to
- * allow every single operation: if not, simply do nothing.
+ * Runs calls to ConnectorFacade's methods on the dedicated {@code asyncConnectorFacadeExecutor}, returning
+ * {@link CompletableFuture} instances which can be composed by callers; cancelling such futures, or having them
+ * completed by a timeout (as via {@link CompletableFuture#orTimeout}), interrupts the underlying connector call.
  */
 @Component
 public class AsyncConnectorFacade {
 
     private static final Logger LOG = LoggerFactory.getLogger(AsyncConnectorFacade.class);
 
-    @Async
-    public Future<Uid> authenticate(
+    @Resource(name = "asyncConnectorFacadeExecutor")
+    private AsyncTaskExecutor executor;
+
+    protected <T> CompletableFuture<T> submit(final Callable<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        Future<?> running;
+        try {
+            running = executor.submit(() -> {
+                try {
+                    result.complete(call.call());
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        result.whenComplete((value, error) -> {
+            if (error instanceof CancellationException || error instanceof TimeoutException) {
+                LOG.debug("Interrupting connector call", error);
+                running.cancel(true);
+            }
+        });
+
+        return result;
+    }
+
+    public CompletableFuture<Uid> authenticate(
             final ConnectorFacade connector,
             final String username,
             final GuardedString password,
             final OperationOptions options) {
 
-        return new AsyncResult<>(connector.authenticate(ObjectClass.ACCOUNT, username, password, options));
+        return submit(() -> connector.authenticate(ObjectClass.ACCOUNT, username, password, options));
     }
 
-    @Async
-    public Future<Uid> create(
+    public CompletableFuture<Uid> create(
             final ConnectorFacade connector,
             final ObjectClass objectClass,
             final Set<Attribute> attrs,
             final OperationOptions options) {
 
-        return new AsyncResult<>(connector.create(objectClass, attrs, options));
+        return submit(() -> connector.create(objectClass, attrs, options));
     }
 
-    @Async
-    public Future<Uid> update(
+    public CompletableFuture<Uid> update(
             final ConnectorFacade connector,
             final ObjectClass objectClass,
             final Uid uid,
             final Set<Attribute> attrs,
             final OperationOptions options) {
 
-        return new AsyncResult<>(connector.update(objectClass, uid, attrs, options));
+        return submit(() -> connector.update(objectClass, uid, attrs, options));
     }
 
-    @Async
-    public Future<Uid> delete(
+    public CompletableFuture<Uid> delete(
             final ConnectorFacade connector,
             final ObjectClass objectClass,
             final Uid uid,
             final OperationOptions options) {
 
-        connector.delete(objectClass, uid, options);
-        return new AsyncResult<>(uid);
+        return submit(() -> {
+            connector.delete(objectClass, uid, options);
+            return uid;
+        });
     }
 
-    @Async
-    public Future<SyncToken> getLatestSyncToken(
+    public CompletableFuture<SyncToken> getLatestSyncToken(
             final ConnectorFacade connector, final ObjectClass objectClass) {
 
-        return new AsyncResult<>(connector.getLatestSyncToken(objectClass));
+        return submit(() -> connector.getLatestSyncToken(objectClass));
     }
 
-    @Async
-    public Future<ConnectorObject> getObject(
+    public CompletableFuture<ConnectorObject> getObject(
             final ConnectorFacade connector,
             final ObjectClass objectClass,
             final Attribute connObjectKey,
             final boolean ignoreCaseMatch,
             final OperationOptions options) {
 
-        ConnectorObject[] objects = new ConnectorObject[1];
-        connector.search(
-                objectClass,
-                ignoreCaseMatch ? FilterBuilder.equalsIgnoreCase(connObjectKey) : FilterBuilder.equalTo(connObjectKey),
-                new SearchResultsHandler() {
-
-            @Override
-            public boolean handle(final ConnectorObject connectorObject) {
-                objects[0] = connectorObject;
-                return false;
-            }
-
-            @Override
-            public void handleResult(final SearchResult sr) {
-                // do nothing
-            }
-        },
-                options);
-
-        return new AsyncResult<>(objects[0]);
+        return submit(() -> {
+            ConnectorObject[] objects = new ConnectorObject[1];
+            connector.search(
+                    objectClass,
+                    ignoreCaseMatch
+                            ? FilterBuilder.equalsIgnoreCase(connObjectKey)
+                            : FilterBuilder.equalTo(connObjectKey),
+                    new SearchResultsHandler() {
+
+                @Override
+                public boolean handle(final ConnectorObject connectorObject) {
+                    objects[0] = connectorObject;
+                    return false;
+                }
+
+                @Override
+                public void handleResult(final SearchResult sr) {
+                    // do nothing
+                }
+            },
+                    options);
+
+            return objects[0];
+        });
     }
 
-    @Async
-    public Future<Set<ObjectClassInfo>> getObjectClassInfo(final ConnectorFacade connector) {
-        Set<ObjectClassInfo> result = Set.of();
+    public CompletableFuture<Set<ObjectClassInfo>> getObjectClassInfo(final ConnectorFacade connector) {
+        return submit(() -> {
+            Set<ObjectClassInfo> result = Set.of();
 
-        try {
-            result = connector.schema().getObjectClassInfo();
-        } catch (Exception e) {
-            // catch exception in order to manage unpredictable behaviors
-            LOG.debug("While reading schema on connector {}", connector, e);
-        }
+            try {
+                result = connector.schema().getObjectClassInfo();
+            } catch (Exception e) {
+                // catch exception in order to manage unpredictable behaviors
+                LOG.debug("While reading schema on connector {}", connector, e);
+            }
 
-        return new AsyncResult<>(result);
+            return result;
+        });
     }
 
-    @Async
-    public Future<String> validate(final ConnectorFacade connector) {
-        connector.validate();
-        return new AsyncResult<>("OK");
+    public CompletableFuture<String> validate(final ConnectorFacade connector) {
+        return submit(() -> {
+            connector.validate();
+            return "OK";
+        });
     }
 
-    @Async
-    public Future<String> test(final ConnectorFacade connector) {
-        connector.test();
-        return new AsyncResult<>("OK");
+    public CompletableFuture<String> test(final ConnectorFacade connector) {
+        return submit(() -> {
+            connector.test();
+            return "OK";
+        });
     }
 }
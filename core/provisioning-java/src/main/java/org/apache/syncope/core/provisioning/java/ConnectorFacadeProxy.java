@@ -20,9 +20,12 @@ package org.apache.syncope.core.provisioning.java;
 
 import java.io.File;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.syncope.common.lib.types.ConnectorCapability;
@@ -30,6 +33,7 @@ import org.apache.syncope.core.persistence.api.entity.ConnInstance;
 import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
 import org.apache.syncope.core.provisioning.api.utils.ConnPoolConfUtils;
 import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.ConnectorBatchOperation;
 import org.apache.syncope.core.provisioning.api.TimeoutException;
 import org.apache.syncope.core.provisioning.api.pushpull.ReconFilterBuilder;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
@@ -41,7 +45,9 @@ import org.identityconnectors.framework.api.ConnectorFacade;
 import org.identityconnectors.framework.api.ConnectorFacadeFactory;
 import org.identityconnectors.framework.api.ConnectorInfo;
 import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.AttributeUtil;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.Name;
 import org.identityconnectors.framework.common.objects.ObjectClass;
 import org.identityconnectors.framework.common.objects.ObjectClassInfo;
 import org.identityconnectors.framework.common.objects.OperationOptions;
@@ -65,6 +71,11 @@ public class ConnectorFacadeProxy implements Connector {
 
     private static final Integer DEFAULT_PAGE_SIZE = 100;
 
+    /**
+     * Default maximum number of operations submitted at once by {@link #batch(List)}.
+     */
+    public static final int DEFAULT_BATCH_PARALLELISM = 5;
+
     /**
      * Connector facade wrapped instance.
      */
@@ -78,6 +89,8 @@ public class ConnectorFacadeProxy implements Connector {
     @Autowired
     private AsyncConnectorFacade asyncFacade;
 
+    private int batchParallelism = DEFAULT_BATCH_PARALLELISM;
+
     /**
      * Use the passed connector instance to build a ConnectorFacade that will be used to make all wrapped calls.
      *
@@ -127,26 +140,71 @@ public class ConnectorFacadeProxy implements Connector {
         connector.validate();
     }
 
+    /**
+     * @param batchParallelism maximum number of operations submitted at once by {@link #batch(List)}; when not
+     * positive, operations are submitted one at a time
+     */
+    public void setBatchParallelism(final int batchParallelism) {
+        this.batchParallelism = Math.max(1, batchParallelism);
+    }
+
+    private static String target(final ConnectorBatchOperation operation) {
+        String id = null;
+        if (operation.getUid() != null) {
+            id = operation.getUid().getUidValue();
+        } else if (operation.getAttrs() != null) {
+            Name name = AttributeUtil.getNameFromAttributes(operation.getAttrs());
+            id = name == null ? null : name.getNameValue();
+        }
+        return id == null ? null : operation.getObjectClass().getObjectClassValue() + ':' + id;
+    }
+
+    /**
+     * Applies the configured request timeout to the given future; on completion, timeouts are reported as
+     * {@link TimeoutException} and connector failures as the original {@link RuntimeException}.
+     *
+     * @param <T> result type
+     * @param future future to apply timeout to
+     * @return future completed with the same result of the given future, or timed out
+     */
+    private <T> CompletableFuture<T> withTimeout(final CompletableFuture<T> future) {
+        return future.orTimeout(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS).
+                handle((result, error) -> {
+                    if (error == null) {
+                        return result;
+                    }
+
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error;
+                    if (cause instanceof java.util.concurrent.TimeoutException) {
+                        throw new TimeoutException("Request timeout");
+                    }
+
+                    LOG.error("Connector request execution failure", cause);
+                    throw cause instanceof RuntimeException
+                            ? (RuntimeException) cause
+                            : new RuntimeException(cause);
+                });
+    }
+
+    private static <T> T get(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException
+                    ? (RuntimeException) e.getCause()
+                    : new RuntimeException(e.getCause());
+        }
+    }
+
     @Override
     public Uid authenticate(final String username, final String password, final OperationOptions options) {
         Uid result = null;
 
         if (connInstance.getCapabilities().contains(ConnectorCapability.AUTHENTICATE)) {
-            Future<Uid> future = asyncFacade.authenticate(
-                    connector, username, new GuardedString(password.toCharArray()), options);
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException) {
-                    throw (RuntimeException) e.getCause();
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
+            result = get(withTimeout(asyncFacade.authenticate(
+                    connector, username, new GuardedString(password.toCharArray()), options)));
         } else {
             LOG.info("Authenticate was attempted, although the connector only has these capabilities: {}. No action.",
                     connInstance.getCapabilities());
@@ -155,6 +213,23 @@ public class ConnectorFacadeProxy implements Connector {
         return result;
     }
 
+    @Override
+    public CompletableFuture<Uid> createAsync(
+            final ObjectClass objectClass,
+            final Set<Attribute> attrs,
+            final OperationOptions options,
+            final AtomicReference<Boolean> propagationAttempted) {
+
+        if (!connInstance.getCapabilities().contains(ConnectorCapability.CREATE)) {
+            LOG.info("Create was attempted, although the connector only has these capabilities: {}. No action.",
+                    connInstance.getCapabilities());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        propagationAttempted.set(true);
+        return withTimeout(asyncFacade.create(connector, objectClass, attrs, options));
+    }
+
     @Override
     public Uid create(
             final ObjectClass objectClass,
@@ -162,31 +237,26 @@ public class ConnectorFacadeProxy implements Connector {
             final OperationOptions options,
             final AtomicReference<Boolean> propagationAttempted) {
 
-        Uid result = null;
+        return get(createAsync(objectClass, attrs, options, propagationAttempted));
+    }
 
-        if (connInstance.getCapabilities().contains(ConnectorCapability.CREATE)) {
-            propagationAttempted.set(true);
+    @Override
+    public CompletableFuture<Uid> updateAsync(
+            final ObjectClass objectClass,
+            final Uid uid,
+            final Set<Attribute> attrs,
+            final OperationOptions options,
+            final AtomicReference<Boolean> propagationAttempted) {
 
-            Future<Uid> future = asyncFacade.create(connector, objectClass, attrs, options);
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException) {
-                    throw (RuntimeException) e.getCause();
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
-        } else {
-            LOG.info("Create was attempted, although the connector only has these capabilities: {}. No action.",
-                    connInstance.getCapabilities());
+        if (!connInstance.getCapabilities().contains(ConnectorCapability.UPDATE)) {
+            LOG.info("Update for {} was attempted, although the "
+                    + "connector only has these capabilities: {}. No action.",
+                    uid.getUidValue(), connInstance.getCapabilities());
+            return CompletableFuture.completedFuture(null);
         }
 
-        return result;
+        propagationAttempted.set(true);
+        return withTimeout(asyncFacade.update(connector, objectClass, uid, attrs, options));
     }
 
     @Override
@@ -197,33 +267,24 @@ public class ConnectorFacadeProxy implements Connector {
             final OperationOptions options,
             final AtomicReference<Boolean> propagationAttempted) {
 
-        Uid result = null;
-
-        if (connInstance.getCapabilities().contains(ConnectorCapability.UPDATE)) {
-            propagationAttempted.set(true);
+        return get(updateAsync(objectClass, uid, attrs, options, propagationAttempted));
+    }
 
-            Future<Uid> future = asyncFacade.update(connector, objectClass, uid, attrs, options);
+    @Override
+    public CompletableFuture<Uid> deleteAsync(
+            final ObjectClass objectClass,
+            final Uid uid,
+            final OperationOptions options,
+            final AtomicReference<Boolean> propagationAttempted) {
 
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException) {
-                    throw (RuntimeException) e.getCause();
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
-        } else {
-            LOG.info("Update for {} was attempted, although the "
-                    + "connector only has these capabilities: {}. No action.",
+        if (!connInstance.getCapabilities().contains(ConnectorCapability.DELETE)) {
+            LOG.info("Delete for {} was attempted, although the connector only has these capabilities: {}. No action.",
                     uid.getUidValue(), connInstance.getCapabilities());
+            return CompletableFuture.completedFuture(null);
         }
 
-        return result;
+        propagationAttempted.set(true);
+        return withTimeout(asyncFacade.delete(connector, objectClass, uid, options));
     }
 
     @Override
@@ -233,27 +294,76 @@ public class ConnectorFacadeProxy implements Connector {
             final OperationOptions options,
             final AtomicReference<Boolean> propagationAttempted) {
 
-        if (connInstance.getCapabilities().contains(ConnectorCapability.DELETE)) {
-            propagationAttempted.set(true);
+        get(deleteAsync(objectClass, uid, options, propagationAttempted));
+    }
+
+    /**
+     * Overlaps remote calls, by submitting up to the configured batch parallelism operations at once; operations on
+     * the same object are never submitted together, hence they are executed in the given order.
+     *
+     * @param operations operations to execute
+     */
+    @Override
+    public void batch(final List<ConnectorBatchOperation> operations) {
+        List<ConnectorBatchOperation> window = new ArrayList<>(batchParallelism);
+        Set<String> targets = new HashSet<>();
+        for (ConnectorBatchOperation operation : operations) {
+            String target = target(operation);
+            if (window.size() >= batchParallelism || (target != null && targets.contains(target))) {
+                batchWindow(window);
+                window.clear();
+                targets.clear();
+            }
+
+            window.add(operation);
+            if (target != null) {
+                targets.add(target);
+            }
+        }
+        batchWindow(window);
+    }
 
-            Future<Uid> future = asyncFacade.delete(connector, objectClass, uid, options);
+    private void batchWindow(final List<ConnectorBatchOperation> window) {
+        List<CompletableFuture<Uid>> futures = new ArrayList<>(window.size());
+        window.forEach(operation -> {
+            switch (operation.getOperation()) {
+                case CREATE:
+                    futures.add(createAsync(
+                            operation.getObjectClass(),
+                            operation.getAttrs(),
+                            operation.getOptions(),
+                            operation.getPropagationAttempted()));
+                    break;
+
+                case UPDATE:
+                    futures.add(updateAsync(
+                            operation.getObjectClass(),
+                            operation.getUid(),
+                            operation.getAttrs(),
+                            operation.getOptions(),
+                            operation.getPropagationAttempted()));
+                    break;
+
+                case DELETE:
+                    futures.add(deleteAsync(
+                            operation.getObjectClass(),
+                            operation.getUid(),
+                            operation.getOptions(),
+                            operation.getPropagationAttempted()).
+                            thenApply(uid -> operation.getUid()));
+                    break;
+
+                default:
+                    futures.add(CompletableFuture.completedFuture(null));
+            }
+        });
 
+        for (int j = 0; j < window.size(); j++) {
             try {
-                future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException) {
-                    throw (RuntimeException) e.getCause();
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
+                window.get(j).setResult(get(futures.get(j)));
+            } catch (RuntimeException e) {
+                window.get(j).setFailure(e);
             }
-        } else {
-            LOG.info("Delete for {} was attempted, although the connector only has these capabilities: {}. No action.",
-                    uid.getUidValue(), connInstance.getCapabilities());
         }
     }
 
@@ -275,21 +385,7 @@ public class ConnectorFacadeProxy implements Connector {
         SyncToken result = null;
 
         if (connInstance.getCapabilities().contains(ConnectorCapability.SYNC)) {
-            Future<SyncToken> future = asyncFacade.getLatestSyncToken(connector, objectClass);
-
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException) {
-                    throw (RuntimeException) e.getCause();
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
+            result = get(withTimeout(asyncFacade.getLatestSyncToken(connector, objectClass)));
         } else {
             LOG.info("getLatestSyncToken was attempted, although the "
                     + "connector only has these capabilities: {}. No action.", connInstance.getCapabilities());
@@ -321,87 +417,43 @@ public class ConnectorFacadeProxy implements Connector {
 
     @Override
     public Set<ObjectClassInfo> getObjectClassInfo() {
-        Future<Set<ObjectClassInfo>> future = asyncFacade.getObjectClassInfo(connector);
-        try {
-            return future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException) {
-                throw (RuntimeException) e.getCause();
-            } else {
-                throw new RuntimeException(e.getCause());
-            }
-        }
+        return get(withTimeout(asyncFacade.getObjectClassInfo(connector)));
     }
 
     @Override
     public void validate() {
-        Future<String> future = asyncFacade.test(connector);
-        try {
-            future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException) {
-                throw (RuntimeException) e.getCause();
-            } else {
-                throw new RuntimeException(e.getCause());
-            }
-        }
+        get(withTimeout(asyncFacade.test(connector)));
     }
 
     @Override
     public void test() {
-        Future<String> future = asyncFacade.test(connector);
-        try {
-            future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException) {
-                throw (RuntimeException) e.getCause();
-            } else {
-                throw new RuntimeException(e.getCause());
-            }
-        }
+        get(withTimeout(asyncFacade.test(connector)));
     }
 
     @Override
-    public ConnectorObject getObject(
+    public CompletableFuture<ConnectorObject> getObjectAsync(
             final ObjectClass objectClass,
             final Attribute connObjectKey,
             final boolean ignoreCaseMatch,
             final OperationOptions options) {
 
-        Future<ConnectorObject> future = null;
-
-        if (connInstance.getCapabilities().contains(ConnectorCapability.SEARCH)) {
-            future = asyncFacade.getObject(connector, objectClass, connObjectKey, ignoreCaseMatch, options);
-        } else {
+        if (!connInstance.getCapabilities().contains(ConnectorCapability.SEARCH)) {
             LOG.info("Search was attempted, although the connector only has these capabilities: {}. No action.",
                     connInstance.getCapabilities());
+            return CompletableFuture.completedFuture(null);
         }
 
-        try {
-            return future == null ? null : future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException) {
-                throw (RuntimeException) e.getCause();
-            } else {
-                throw new RuntimeException(e.getCause());
-            }
-        }
+        return withTimeout(asyncFacade.getObject(connector, objectClass, connObjectKey, ignoreCaseMatch, options));
+    }
+
+    @Override
+    public ConnectorObject getObject(
+            final ObjectClass objectClass,
+            final Attribute connObjectKey,
+            final boolean ignoreCaseMatch,
+            final OperationOptions options) {
+
+        return get(getObjectAsync(objectClass, connObjectKey, ignoreCaseMatch, options));
     }
 
     @Override
@@ -45,6 +45,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -66,6 +67,9 @@ public class ConnectorManager implements ConnectorRegistry, ConnectorFactory {
     @Autowired
     private ConnInstanceDataBinder connInstanceDataBinder;
 
+    @Autowired
+    private Environment env;
+
     private EntityFactory entityFactory;
 
     private static String getBeanName(final ExternalResource resource) {
@@ -141,7 +145,11 @@ public class ConnectorManager implements ConnectorRegistry, ConnectorFactory {
 
     @Override
     public Connector createConnector(final ConnInstance connInstance) {
-        Connector connector = new ConnectorFacadeProxy(connInstance);
+        ConnectorFacadeProxy connector = new ConnectorFacadeProxy(connInstance);
+        connector.setBatchParallelism(env.getProperty(
+                "connectorFacadeProxy.batchParallelism",
+                Integer.class,
+                ConnectorFacadeProxy.DEFAULT_BATCH_PARALLELISM));
         ApplicationContextProvider.getBeanFactory().autowireBean(connector);
 
         return connector;
@@ -19,7 +19,10 @@
 package org.apache.syncope.core.provisioning.java;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
@@ -60,6 +63,15 @@ public class DefaultAnyObjectProvisioningManager implements AnyObjectProvisionin
     @Autowired
     protected AnyObjectDAO anyObjectDAO;
 
+    protected static Map<String, List<PropagationStatus>> statuses(
+            final Collection<String> keys, final Map<String, PropagationReporter> reporters) {
+
+        Map<String, List<PropagationStatus>> statuses = new LinkedHashMap<>();
+        keys.forEach(key -> statuses.put(key, Optional.ofNullable(reporters.get(key)).
+                map(PropagationReporter::getStatuses).orElse(List.of())));
+        return statuses;
+    }
+
     @Override
     public Pair<String, List<PropagationStatus>> create(
             final AnyObjectCR anyObjectCR,
@@ -179,18 +191,11 @@ public class DefaultAnyObjectProvisioningManager implements AnyObjectProvisionin
         return awfAdapter.update(anyObjectUR, updater, context).getResult().getKey();
     }
 
-    @Override
-    public List<PropagationStatus> provision(
-            final String key,
-            final Collection<String> resources,
-            final boolean nullPriorityAsync,
-            final String updater,
-            final String context) {
-
+    protected List<PropagationTaskInfo> getProvisionTasks(final String key, final Collection<String> resources) {
         PropagationByResource<String> propByRes = new PropagationByResource<>();
         propByRes.addAll(ResourceOperation.UPDATE, resources);
 
-        List<PropagationTaskInfo> taskInfos = propagationManager.getUpdateTasks(
+        return propagationManager.getUpdateTasks(
                 AnyTypeKind.ANY_OBJECT,
                 key,
                 false,
@@ -199,23 +204,42 @@ public class DefaultAnyObjectProvisioningManager implements AnyObjectProvisionin
                 null,
                 null,
                 null);
+    }
+
+    @Override
+    public List<PropagationStatus> provision(
+            final String key,
+            final Collection<String> resources,
+            final boolean nullPriorityAsync,
+            final String updater,
+            final String context) {
+
+        List<PropagationTaskInfo> taskInfos = getProvisionTasks(key, resources);
         PropagationReporter propagationReporter = taskExecutor.execute(taskInfos, nullPriorityAsync, updater);
 
         return propagationReporter.getStatuses();
     }
 
     @Override
-    public List<PropagationStatus> deprovision(
-            final String key,
+    public Map<String, List<PropagationStatus>> provision(
+            final Collection<String> keys,
             final Collection<String> resources,
             final boolean nullPriorityAsync,
             final String updater,
             final String context) {
 
+        List<PropagationTaskInfo> taskInfos = keys.stream().
+                flatMap(key -> getProvisionTasks(key, resources).stream()).
+                collect(Collectors.toList());
+        return statuses(keys, taskExecutor.executeBatch(
+                taskInfos, PropagationTaskExecutor.DEFAULT_BATCH_SIZE, nullPriorityAsync, updater));
+    }
+
+    protected List<PropagationTaskInfo> getDeprovisionTasks(final String key, final Collection<String> resources) {
         PropagationByResource<String> propByRes = new PropagationByResource<>();
         propByRes.addAll(ResourceOperation.DELETE, resources);
 
-        List<PropagationTaskInfo> taskInfos = propagationManager.getDeleteTasks(
+        return propagationManager.getDeleteTasks(
                 AnyTypeKind.ANY_OBJECT,
                 key,
                 propByRes,
@@ -223,8 +247,34 @@ public class DefaultAnyObjectProvisioningManager implements AnyObjectProvisionin
                 anyObjectDAO.findAllResourceKeys(key).stream().
                         filter(resource -> !resources.contains(resource)).
                         collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<PropagationStatus> deprovision(
+            final String key,
+            final Collection<String> resources,
+            final boolean nullPriorityAsync,
+            final String updater,
+            final String context) {
+
+        List<PropagationTaskInfo> taskInfos = getDeprovisionTasks(key, resources);
         PropagationReporter propagationReporter = taskExecutor.execute(taskInfos, nullPriorityAsync, updater);
 
         return propagationReporter.getStatuses();
     }
+
+    @Override
+    public Map<String, List<PropagationStatus>> deprovision(
+            final Collection<String> keys,
+            final Collection<String> resources,
+            final boolean nullPriorityAsync,
+            final String updater,
+            final String context) {
+
+        List<PropagationTaskInfo> taskInfos = keys.stream().
+                flatMap(key -> getDeprovisionTasks(key, resources).stream()).
+                collect(Collectors.toList());
+        return statuses(keys, taskExecutor.executeBatch(
+                taskInfos, PropagationTaskExecutor.DEFAULT_BATCH_SIZE, nullPriorityAsync, updater));
+    }
 }
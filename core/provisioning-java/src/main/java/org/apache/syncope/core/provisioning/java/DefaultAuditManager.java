@@ -30,14 +30,10 @@ import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.common.lib.types.AuditElements;
 import org.apache.syncope.common.lib.types.AuditElements.Result;
 import org.apache.syncope.common.lib.types.AuditLoggerName;
-import org.apache.syncope.common.lib.types.LoggerLevel;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
-import org.apache.syncope.core.persistence.api.dao.LoggerDAO;
 import org.apache.syncope.core.provisioning.api.event.AfterHandlingEvent;
 import org.apache.syncope.core.provisioning.api.utils.ExceptionUtils2;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -76,8 +72,38 @@ public class DefaultAuditManager implements AuditManager {
         return masked;
     }
 
+    private static AuditEntry buildAuditEntry(
+            final String who,
+            final AuditLoggerName auditLoggerName,
+            final Date date,
+            final Object before,
+            final Object output,
+            final Object... input) {
+
+        AuditEntry auditEntry = new AuditEntry();
+        auditEntry.setWho(who);
+        auditEntry.setLogger(auditLoggerName);
+        auditEntry.setDate(date);
+        auditEntry.setBefore(POJOHelper.serialize((maskSensitive(before))));
+        if (output instanceof Throwable) {
+            auditEntry.setOutput(((Throwable) output).getMessage());
+            auditEntry.setThrowable(ExceptionUtils2.getFullStackTrace((Throwable) output));
+        } else {
+            auditEntry.setOutput(POJOHelper.serialize((maskSensitive(output))));
+        }
+        if (input != null) {
+            auditEntry.getInputs().addAll(Arrays.stream(input).
+                    map(DefaultAuditManager::maskSensitive).map(POJOHelper::serialize).
+                    collect(Collectors.toList()));
+        }
+        return auditEntry;
+    }
+
     @Autowired
-    private LoggerDAO loggerDAO;
+    private EventRoutingTable eventRoutingTable;
+
+    @Autowired
+    private AsyncAuditWriter asyncAuditWriter;
 
     @Override
     public boolean auditRequested(
@@ -87,25 +113,10 @@ public class DefaultAuditManager implements AuditManager {
             final String subcategory,
             final String event) {
 
-        AuditEntry auditEntry = new AuditEntry();
-        auditEntry.setWho(who);
-        auditEntry.setLogger(new AuditLoggerName(type, category, subcategory, event, Result.SUCCESS));
-        auditEntry.setDate(new Date());
-
-        org.apache.syncope.core.persistence.api.entity.Logger syncopeLogger =
-                loggerDAO.find(auditEntry.getLogger().toLoggerName());
-        boolean auditRequested = syncopeLogger != null && syncopeLogger.getLevel() == LoggerLevel.DEBUG;
-
-        if (auditRequested) {
-            return true;
-        }
-
-        auditEntry.setLogger(new AuditLoggerName(type, category, subcategory, event, Result.FAILURE));
-
-        syncopeLogger = loggerDAO.find(auditEntry.getLogger().toLoggerName());
-        auditRequested = syncopeLogger != null && syncopeLogger.getLevel() == LoggerLevel.DEBUG;
-
-        return auditRequested;
+        return eventRoutingTable.isAudited(
+                new AuditLoggerName(type, category, subcategory, event, Result.SUCCESS).toLoggerName())
+                || eventRoutingTable.isAudited(
+                        new AuditLoggerName(type, category, subcategory, event, Result.FAILURE).toLoggerName());
     }
 
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
@@ -136,44 +147,24 @@ public class DefaultAuditManager implements AuditManager {
             final Object output,
             final Object... input) {
 
-        Throwable throwable = null;
-        if (output instanceof Throwable) {
-            throwable = (Throwable) output;
+        AuditLoggerName auditLoggerName = new AuditLoggerName(type, category, subcategory, event, condition);
+        String loggerName = auditLoggerName.toLoggerName();
+        if (!eventRoutingTable.isAudited(loggerName)) {
+            return;
         }
 
-        AuditEntry auditEntry = new AuditEntry();
-        auditEntry.setWho(who);
-        auditEntry.setLogger(new AuditLoggerName(type, category, subcategory, event, condition));
-        auditEntry.setDate(new Date());
-        auditEntry.setBefore(POJOHelper.serialize((maskSensitive(before))));
-        if (throwable == null) {
-            auditEntry.setOutput(POJOHelper.serialize((maskSensitive(output))));
-        } else {
-            auditEntry.setOutput(throwable.getMessage());
-            auditEntry.setThrowable(ExceptionUtils2.getFullStackTrace(throwable));
-        }
-        if (input != null) {
-            auditEntry.getInputs().addAll(Arrays.stream(input).
-                    map(DefaultAuditManager::maskSensitive).map(POJOHelper::serialize).
-                    collect(Collectors.toList()));
-        }
+        Throwable throwable = output instanceof Throwable ? (Throwable) output : null;
+        Date date = new Date();
+        String domain = AuthContextUtils.getDomain();
 
-        org.apache.syncope.core.persistence.api.entity.Logger syncopeLogger =
-                loggerDAO.find(auditEntry.getLogger().toLoggerName());
-        if (syncopeLogger != null && syncopeLogger.getLevel() == LoggerLevel.DEBUG) {
-            Logger logger = LoggerFactory.getLogger(
-                    AuditLoggerName.getAuditLoggerName(AuthContextUtils.getDomain()));
-            Logger eventLogger = LoggerFactory.getLogger(
-                    AuditLoggerName.getAuditEventLoggerName(AuthContextUtils.getDomain(), syncopeLogger.getKey()));
-            String serializedAuditEntry = POJOHelper.serialize(auditEntry);
-
-            if (throwable == null) {
-                logger.debug(serializedAuditEntry);
-                eventLogger.debug(serializedAuditEntry);
-            } else {
-                logger.debug(serializedAuditEntry, throwable);
-                eventLogger.debug(serializedAuditEntry, throwable);
-            }
+        if (asyncAuditWriter.isAsync(loggerName)) {
+            // masking and serialization happen off the calling thread
+            asyncAuditWriter.offer(domain, loggerName, date,
+                    () -> buildAuditEntry(who, auditLoggerName, date, before, output, input),
+                    throwable);
+        } else {
+            asyncAuditWriter.log(domain, loggerName, POJOHelper.serialize(
+                    buildAuditEntry(who, auditLoggerName, date, before, output, input)), throwable);
         }
     }
 }
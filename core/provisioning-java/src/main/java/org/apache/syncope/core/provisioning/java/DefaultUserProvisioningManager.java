@@ -20,7 +20,10 @@ package org.apache.syncope.core.provisioning.java;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
@@ -71,6 +74,15 @@ public class DefaultUserProvisioningManager implements UserProvisioningManager {
     @Autowired
     protected UserDAO userDAO;
 
+    protected static Map<String, List<PropagationStatus>> statuses(
+            final Collection<String> keys, final Map<String, PropagationReporter> reporters) {
+
+        Map<String, List<PropagationStatus>> statuses = new LinkedHashMap<>();
+        keys.forEach(key -> statuses.put(key, Optional.ofNullable(reporters.get(key)).
+                map(PropagationReporter::getStatuses).orElse(List.of())));
+        return statuses;
+    }
+
     @Override
     public Pair<String, List<PropagationStatus>> create(
             final UserCR userCR, final boolean nullPriorityAsync, final String creator, final String context) {
@@ -307,15 +319,11 @@ public class DefaultUserProvisioningManager implements UserProvisioningManager {
         }
     }
 
-    @Override
-    public List<PropagationStatus> provision(
+    protected List<PropagationTaskInfo> getProvisionTasks(
             final String key,
             final boolean changePwd,
             final String password,
-            final Collection<String> resources,
-            final boolean nullPriorityAsync,
-            final String updater,
-            final String context) {
+            final Collection<String> resources) {
 
         UserUR userUR = new UserUR();
         userUR.setKey(key);
@@ -337,20 +345,43 @@ public class DefaultUserProvisioningManager implements UserProvisioningManager {
         UserWorkflowResult<Pair<UserUR, Boolean>> wfResult = new UserWorkflowResult<>(
                 Pair.of(userUR, (Boolean) null), propByRes, null, "update");
 
-        List<PropagationTaskInfo> taskInfos = propagationManager.getUserUpdateTasks(wfResult, changePwd, null);
+        return propagationManager.getUserUpdateTasks(wfResult, changePwd, null);
+    }
+
+    @Override
+    public List<PropagationStatus> provision(
+            final String key,
+            final boolean changePwd,
+            final String password,
+            final Collection<String> resources,
+            final boolean nullPriorityAsync,
+            final String updater,
+            final String context) {
+
+        List<PropagationTaskInfo> taskInfos = getProvisionTasks(key, changePwd, password, resources);
         PropagationReporter propagationReporter = taskExecutor.execute(taskInfos, nullPriorityAsync, updater);
 
         return propagationReporter.getStatuses();
     }
 
     @Override
-    public List<PropagationStatus> deprovision(
-            final String key,
+    public Map<String, List<PropagationStatus>> provision(
+            final Collection<String> keys,
+            final boolean changePwd,
+            final String password,
             final Collection<String> resources,
             final boolean nullPriorityAsync,
             final String updater,
             final String context) {
 
+        List<PropagationTaskInfo> taskInfos = keys.stream().
+                flatMap(key -> getProvisionTasks(key, changePwd, password, resources).stream()).
+                collect(Collectors.toList());
+        return statuses(keys, taskExecutor.executeBatch(
+                taskInfos, PropagationTaskExecutor.DEFAULT_BATCH_SIZE, nullPriorityAsync, updater));
+    }
+
+    protected List<PropagationTaskInfo> getDeprovisionTasks(final String key, final Collection<String> resources) {
         PropagationByResource<String> propByRes = new PropagationByResource<>();
         propByRes.set(ResourceOperation.DELETE, resources);
 
@@ -361,7 +392,7 @@ public class DefaultUserProvisioningManager implements UserProvisioningManager {
                 ResourceOperation.DELETE,
                 Pair.of(account.getResource().getKey(), account.getConnObjectKeyValue())));
 
-        List<PropagationTaskInfo> taskInfos = propagationManager.getDeleteTasks(
+        return propagationManager.getDeleteTasks(
                 AnyTypeKind.USER,
                 key,
                 propByRes,
@@ -369,11 +400,37 @@ public class DefaultUserProvisioningManager implements UserProvisioningManager {
                 userDAO.findAllResourceKeys(key).stream().
                         filter(resource -> !resources.contains(resource)).
                         collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<PropagationStatus> deprovision(
+            final String key,
+            final Collection<String> resources,
+            final boolean nullPriorityAsync,
+            final String updater,
+            final String context) {
+
+        List<PropagationTaskInfo> taskInfos = getDeprovisionTasks(key, resources);
         PropagationReporter propagationReporter = taskExecutor.execute(taskInfos, nullPriorityAsync, updater);
 
         return propagationReporter.getStatuses();
     }
 
+    @Override
+    public Map<String, List<PropagationStatus>> deprovision(
+            final Collection<String> keys,
+            final Collection<String> resources,
+            final boolean nullPriorityAsync,
+            final String updater,
+            final String context) {
+
+        List<PropagationTaskInfo> taskInfos = keys.stream().
+                flatMap(key -> getDeprovisionTasks(key, resources).stream()).
+                collect(Collectors.toList());
+        return statuses(keys, taskExecutor.executeBatch(
+                taskInfos, PropagationTaskExecutor.DEFAULT_BATCH_SIZE, nullPriorityAsync, updater));
+    }
+
     @Override
     public void requestPasswordReset(final String key, final String updater, final String context) {
         uwfAdapter.requestPasswordReset(key, updater, context);
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.types.LoggerLevel;
+import org.apache.syncope.common.lib.types.LoggerType;
+import org.apache.syncope.core.persistence.api.dao.LoggerDAO;
+import org.apache.syncope.core.persistence.api.dao.NotificationDAO;
+import org.apache.syncope.core.persistence.api.entity.Notification;
+import org.apache.syncope.core.provisioning.api.event.EventRoutingChangedEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory routing of events to audit loggers and notifications, by domain: checking whether an event is audited or
+ * notified does not require any query.
+ * Routes are rebuilt upon the next lookup after any audit logger or notification is changed on this node - once the
+ * related transaction is either committed or rolled back - and anyway after the configured refresh interval, to catch
+ * up with changes made on other nodes: changes are not broadcast, so that each node might keep routing events as
+ * before a change made elsewhere for up to such interval.
+ * Only one thread at a time rebuilds the routes of a given domain: meanwhile, other threads keep using the expired
+ * routes, if available, or wait.
+ */
+public class EventRoutingTable {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(EventRoutingTable.class);
+
+    protected static class Routes {
+
+        /**
+         * Audit logger names, enabled.
+         */
+        protected final Set<String> audited;
+
+        /**
+         * Active notification keys, by event.
+         */
+        protected final Map<String, List<String>> notifications;
+
+        protected final long builtAt = System.currentTimeMillis();
+
+        protected Routes(final Set<String> audited, final Map<String, List<String>> notifications) {
+            this.audited = audited;
+            this.notifications = notifications;
+        }
+    }
+
+    @Autowired
+    protected LoggerDAO loggerDAO;
+
+    @Autowired
+    protected NotificationDAO notificationDAO;
+
+    /**
+     * Refresh interval in milliseconds.
+     */
+    protected final long refreshInterval;
+
+    protected final Map<String, Routes> routes = new ConcurrentHashMap<>();
+
+    protected final Map<String, Lock> buildLocks = new ConcurrentHashMap<>();
+
+    /**
+     * By domain, incremented on each invalidation.
+     */
+    protected final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public EventRoutingTable(final long refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    protected Routes build() {
+        Set<String> audited = loggerDAO.findAll(LoggerType.AUDIT).stream().
+                filter(logger -> logger.getLevel() == LoggerLevel.DEBUG).
+                map(org.apache.syncope.core.persistence.api.entity.Logger::getKey).
+                collect(Collectors.toSet());
+
+        Map<String, List<String>> notifications = new HashMap<>();
+        notificationDAO.findAll().stream().filter(Notification::isActive).
+                forEach(notification -> notification.getEvents().forEach(event -> notifications.
+                computeIfAbsent(event, k -> new ArrayList<>()).add(notification.getKey())));
+
+        LOG.debug("Built routes for domain {}: {} audited events, {} notified events",
+                AuthContextUtils.getDomain(), audited.size(), notifications.size());
+
+        return new Routes(Set.copyOf(audited), Map.copyOf(notifications));
+    }
+
+    protected boolean isExpired(final Routes current) {
+        return current == null || current.builtAt + refreshInterval < System.currentTimeMillis();
+    }
+
+    protected AtomicLong generation(final String domain) {
+        return generations.computeIfAbsent(domain, k -> new AtomicLong());
+    }
+
+    protected Routes routes() {
+        String domain = AuthContextUtils.getDomain();
+
+        Routes current = routes.get(domain);
+        if (!isExpired(current)) {
+            return current;
+        }
+
+        Lock lock = buildLocks.computeIfAbsent(domain, k -> new ReentrantLock());
+        if (current == null) {
+            lock.lock();
+        } else if (!lock.tryLock()) {
+            // being rebuilt by another thread
+            return current;
+        }
+        try {
+            // might have been rebuilt meanwhile
+            current = routes.get(domain);
+            if (isExpired(current)) {
+                AtomicLong generation = generation(domain);
+                long before = generation.get();
+                current = build();
+
+                routes.put(domain, current);
+                // routes built while any change in the same domain was being completed might be stale
+                if (before != generation.get()) {
+                    routes.remove(domain, current);
+                }
+            }
+            return current;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns whether the given audit logger is enabled.
+     *
+     * @param loggerName audit logger name
+     * @return whether the given audit logger is enabled
+     */
+    public boolean isAudited(final String loggerName) {
+        return routes().audited.contains(loggerName);
+    }
+
+    /**
+     * Returns the keys of active notifications about the given event.
+     *
+     * @param event event
+     * @return keys of active notifications about the given event
+     */
+    public List<String> getNotifications(final String event) {
+        return routes().notifications.getOrDefault(event, List.of());
+    }
+
+    public void invalidate(final String domain) {
+        generation(domain).incrementAndGet();
+        routes.remove(domain);
+    }
+
+    /**
+     * Invalidates routes after the transaction is completed, either way: routes built while the transaction was in
+     * progress might include changes which are then rolled back.
+     *
+     * @param event event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void after(final EventRoutingChangedEvent event) {
+        invalidate(event.getDomain());
+    }
+}
@@ -24,6 +24,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.nio.charset.StandardCharsets;
 import java.util.Enumeration;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 import javax.annotation.Resource;
@@ -51,7 +52,10 @@ import org.apache.syncope.core.provisioning.java.job.AutowiringSpringBeanJobFact
 import org.apache.syncope.core.provisioning.java.job.JobManagerImpl;
 import org.apache.syncope.core.provisioning.java.job.SchedulerDBInit;
 import org.apache.syncope.core.provisioning.java.job.SchedulerShutdown;
+import org.apache.syncope.core.provisioning.java.propagation.AbstractPropagationTaskExecutor;
 import org.apache.syncope.core.provisioning.java.propagation.PropagationManagerImpl;
+import org.apache.syncope.core.provisioning.java.propagation.PriorityPropagationTaskExecutor;
+import org.apache.syncope.core.provisioning.java.pushpull.PushRateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -107,7 +111,8 @@ public class ProvisioningContext implements EnvironmentAware, AsyncConfigurer {
     }
 
     /**
-     * Annotated as {@code @Primary} because it will be used by {@code @Async} in {@link AsyncConnectorFacade}.
+     * Annotated as {@code @Primary} because it will be used by {@code @Async}; also injected by name in
+     * {@link AsyncConnectorFacade}, to run connector requests.
      *
      * @return executor
      */
@@ -146,6 +151,25 @@ public class ProvisioningContext implements EnvironmentAware, AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * Shared by all report executions, to run reportlets and their pages concurrently; used by
+     * {@link org.apache.syncope.core.provisioning.java.job.report.DefaultReportJobDelegate} and
+     * {@link org.apache.syncope.core.provisioning.java.job.report.AbstractReportlet}.
+     *
+     * @return executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor reportExecutor() {
+        int parallelism = Math.max(1, env.getProperty("report.parallelism", Integer.class, 1));
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadNamePrefix("ReportExecutor-");
+        executor.initialize();
+        return executor;
+    }
+
     @Bean
     public SchedulerDBInit quartzDataSourceInit() {
         SchedulerDBInit init = new SchedulerDBInit();
@@ -277,6 +301,30 @@ public class ProvisioningContext implements EnvironmentAware, AsyncConfigurer {
         return mailSender;
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public EventRoutingTable eventRoutingTable() {
+        return new EventRoutingTable(env.getProperty("eventRoutingTable.refreshInterval", Long.class, 60L) * 1000L);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public AsyncAuditWriter asyncAuditWriter() {
+        return new AsyncAuditWriter(
+                env.getProperty("audit.async", Boolean.class, false),
+                env.getProperty("enable.jdbcAuditAppender", Boolean.class, true),
+                env.getProperty("audit.async.bufferSize", Integer.class, 10000),
+                env.getProperty("audit.async.batchSize", Integer.class, 100),
+                env.getProperty("audit.async.flushInterval", Long.class, 1000L),
+                Set.of(env.getProperty("audit.async.durableEvents", String[].class, new String[0])));
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public PushRateLimiter pushRateLimiter() {
+        return new PushRateLimiter();
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public PropagationManager propagationManager() {
@@ -301,8 +349,22 @@ public class ProvisioningContext implements EnvironmentAware, AsyncConfigurer {
             throws ClassNotFoundException, InstantiationException, IllegalAccessException, NoSuchMethodException,
             IllegalArgumentException, InvocationTargetException {
 
-        return (PropagationTaskExecutor) Class.forName(env.getProperty("propagationTaskExecutor")).
-                getConstructor().newInstance();
+        PropagationTaskExecutor propagationTaskExecutor = (PropagationTaskExecutor) Class.forName(
+                env.getProperty("propagationTaskExecutor")).getConstructor().newInstance();
+        if (propagationTaskExecutor instanceof AbstractPropagationTaskExecutor) {
+            AbstractPropagationTaskExecutor executor = (AbstractPropagationTaskExecutor) propagationTaskExecutor;
+            executor.setCircuitBreakerFailureThreshold(
+                    env.getProperty("propagationTaskExecutor.circuitBreaker.failureThreshold", Integer.class, 5));
+            executor.setCircuitBreakerOpenSeconds(
+                    env.getProperty("propagationTaskExecutor.circuitBreaker.openSeconds", Long.class, 60L));
+        }
+        if (propagationTaskExecutor instanceof PriorityPropagationTaskExecutor) {
+            ((PriorityPropagationTaskExecutor) propagationTaskExecutor).setMaxConcurrentPerResource(
+                    env.getProperty("propagationTaskExecutor.maxConcurrentPerResource", Integer.class, 0));
+            ((PriorityPropagationTaskExecutor) propagationTaskExecutor).setMaxPendingPerResource(
+                    env.getProperty("propagationTaskExecutor.maxPendingPerResource", Integer.class, 1000));
+        }
+        return propagationTaskExecutor;
     }
 
     @Bean
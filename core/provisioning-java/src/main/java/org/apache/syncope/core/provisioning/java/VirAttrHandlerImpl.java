@@ -24,6 +24,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.syncope.core.persistence.api.dao.AllowedSchemas;
 import org.apache.syncope.core.persistence.api.entity.Any;
@@ -36,6 +38,7 @@ import org.apache.syncope.core.persistence.api.entity.resource.Provision;
 import org.apache.syncope.core.provisioning.api.ConnectorFactory;
 import org.apache.syncope.core.provisioning.api.VirAttrHandler;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCache;
+import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheKey;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheValue;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
 import org.identityconnectors.framework.common.objects.Attribute;
@@ -98,9 +101,15 @@ public class VirAttrHandlerImpl implements VirAttrHandler {
 
         Map<Provision, Set<VirSchema>> toRead = new HashMap<>();
 
-        schemas.stream().filter(schema -> resources.contains(schema.getProvision().getResource())).forEach(schema -> {
-            VirAttrCacheValue virAttrCacheValue =
-                    virAttrCache.get(any.getType().getKey(), any.getKey(), schema.getKey());
+        Map<VirSchema, VirAttrCacheKey> keys = schemas.stream().
+                filter(schema -> resources.contains(schema.getProvision().getResource())).
+                collect(Collectors.toMap(
+                        Function.identity(),
+                        schema -> new VirAttrCacheKey(any.getType().getKey(), any.getKey(), schema.getKey())));
+        Map<VirAttrCacheKey, VirAttrCacheValue> cached = virAttrCache.getAll(keys.values());
+
+        keys.forEach((schema, key) -> {
+            VirAttrCacheValue virAttrCacheValue = cached.get(key);
 
             if (virAttrCache.isValidEntry(virAttrCacheValue)) {
                 LOG.debug("Values for {} found in cache: {}", schema, virAttrCacheValue);
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.syncope.core.provisioning.api.cache.VirAttrCache;
+import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheKey;
+import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheValue;
+
+/**
+ * In-memory virtual attribute value cache implementation, safe for concurrent access: entries are spread over
+ * independently locked segments, each evicting its least recently used entry in constant time when full.
+ */
+public class ConcurrentVirAttrCache implements VirAttrCache {
+
+    protected static final int SEGMENTS = 16;
+
+    /**
+     * Cache segment: access-ordered map, removing the least recently used entry when exceeding its share of max
+     * cache size.
+     */
+    protected class Segment extends LinkedHashMap<VirAttrCacheKey, VirAttrCacheValue> {
+
+        private static final long serialVersionUID = -7358637165537404373L;
+
+        Segment() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<VirAttrCacheKey, VirAttrCacheValue> eldest) {
+            boolean remove = size() > Math.max(1, maxCacheSize / SEGMENTS);
+            if (remove) {
+                evictions.increment();
+            }
+            return remove;
+        }
+    }
+
+    /**
+     * Elapsed time in seconds.
+     */
+    protected volatile int ttl = 60;
+
+    /**
+     * Max cache size.
+     */
+    protected volatile int maxCacheSize = 5000;
+
+    protected final Segment[] segments = new Segment[SEGMENTS];
+
+    protected final LongAdder hits = new LongAdder();
+
+    protected final LongAdder misses = new LongAdder();
+
+    protected final LongAdder evictions = new LongAdder();
+
+    public ConcurrentVirAttrCache() {
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    @Override
+    public void setTtl(final int ttl) {
+        this.ttl = ttl;
+    }
+
+    @Override
+    public void setMaxCacheSize(final int maxCacheSize) {
+        this.maxCacheSize = maxCacheSize;
+    }
+
+    protected Segment segment(final VirAttrCacheKey key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    protected VirAttrCacheValue get(final Segment segment, final VirAttrCacheKey key) {
+        VirAttrCacheValue value = segment.get(key);
+        if (value != null && !isValidEntry(value)) {
+            segment.remove(key);
+            value = null;
+        }
+
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public void put(
+            final String type,
+            final String key,
+            final String schemaKey,
+            final VirAttrCacheValue value) {
+
+        VirAttrCacheKey cacheKey = new VirAttrCacheKey(type, key, schemaKey);
+        Segment segment = segment(cacheKey);
+        synchronized (segment) {
+            segment.put(cacheKey, value);
+        }
+    }
+
+    @Override
+    public VirAttrCacheValue get(final String type, final String key, final String schemaKey) {
+        VirAttrCacheKey cacheKey = new VirAttrCacheKey(type, key, schemaKey);
+        Segment segment = segment(cacheKey);
+        synchronized (segment) {
+            return get(segment, cacheKey);
+        }
+    }
+
+    @Override
+    public Map<VirAttrCacheKey, VirAttrCacheValue> getAll(final Collection<VirAttrCacheKey> keys) {
+        // segments are maps themselves: group by identity rather than by content
+        Map<Segment, Collection<VirAttrCacheKey>> bySegment = new IdentityHashMap<>();
+        keys.forEach(key -> bySegment.computeIfAbsent(segment(key), s -> new ArrayList<>()).add(key));
+
+        Map<VirAttrCacheKey, VirAttrCacheValue> result = new HashMap<>();
+        bySegment.forEach((segment, segmentKeys) -> {
+            synchronized (segment) {
+                segmentKeys.forEach(key -> {
+                    VirAttrCacheValue value = get(segment, key);
+                    if (value != null) {
+                        result.put(key, value);
+                    }
+                });
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void expire(final String type, final String key, final String schemaKey) {
+        VirAttrCacheKey cacheKey = new VirAttrCacheKey(type, key, schemaKey);
+        Segment segment = segment(cacheKey);
+        synchronized (segment) {
+            segment.remove(cacheKey);
+        }
+    }
+
+    /**
+     * Cache entry is valid if and only if value exist and it is not expired.
+     *
+     * @param value cache entry value.
+     * @return TRUE if the value is valid; FALSE otherwise.
+     */
+    @Override
+    public boolean isValidEntry(final VirAttrCacheValue value) {
+        return value != null && value.getCreationTime() + ttl * 1000L > System.currentTimeMillis();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+}
@@ -86,8 +86,10 @@ import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -155,6 +157,64 @@ abstract class AbstractAnyDataBinder {
         }
     }
 
+    /**
+     * Collects the names of what the given update request is going to change, as hint for selective evaluation of
+     * dynamic group conditions; {@code null} means that every condition needs to be evaluated.
+     *
+     * @param anyUR update request
+     * @return names of the plain schemas (and of realm, if changed) affected by the given update request
+     */
+    protected static Set<String> changed(final AnyUR anyUR) {
+        if (!anyUR.getAuxClasses().isEmpty()) {
+            return null;
+        }
+
+        Set<String> changed = anyUR.getPlainAttrs().stream().
+                filter(patch -> patch.getAttr() != null).
+                map(patch -> patch.getAttr().getSchema()).
+                collect(Collectors.toCollection(HashSet::new));
+        if (anyUR.getRealm() != null) {
+            changed.add("realm");
+        }
+        return changed;
+    }
+
+    /**
+     * Takes a snapshot of the plain attribute values - including membership attributes - of the given any object.
+     *
+     * @param any any object
+     * @return plain attribute values, keyed by (membership key or {@code null}, plain schema key)
+     */
+    protected static Map<Pair<String, String>, List<String>> plainAttrValues(
+            final GroupableRelatable<?, ?, ?, ?, ?> any) {
+
+        Map<Pair<String, String>, List<String>> values = new HashMap<>();
+        any.getPlainAttrs().forEach(attr -> values.put(
+                Pair.of(null, attr.getSchema().getKey()), attr.getValuesAsStrings()));
+        any.getMemberships().forEach(memb -> any.getPlainAttrs(memb).forEach(attr -> values.put(
+                Pair.of(memb.getKey(), attr.getSchema().getKey()), attr.getValuesAsStrings())));
+        return values;
+    }
+
+    /**
+     * Compares two snapshots as taken by {@link #plainAttrValues(GroupableRelatable)}.
+     *
+     * @param before snapshot taken before changes
+     * @param after snapshot taken after changes
+     * @return names of the plain schemas whose values differ between the given snapshots
+     */
+    protected static Set<String> changedPlainSchemas(
+            final Map<Pair<String, String>, List<String>> before,
+            final Map<Pair<String, String>, List<String>> after) {
+
+        Set<Pair<String, String>> keys = new HashSet<>(before.keySet());
+        keys.addAll(after.keySet());
+        return keys.stream().
+                filter(key -> !Objects.equals(before.get(key), after.get(key))).
+                map(Pair::getRight).
+                collect(Collectors.toSet());
+    }
+
     protected Map<String, ConnObjectTO> onResources(
             final Any<?> any,
             final Collection<String> resources,
@@ -259,8 +259,10 @@ public class AnyObjectDataBinderImpl extends AbstractAnyDataBinder implements An
 
     @Override
     public PropagationByResource<String> update(final AnyObject toBeUpdated, final AnyObjectUR anyObjectUR) {
-        // Re-merge any pending change from workflow tasks
-        AnyObject anyObject = anyObjectDAO.save(toBeUpdated);
+        // Re-merge any pending change from workflow tasks: such tasks save plain attribute changes beforehand, and
+        // conditions on fields are evaluated on every save, so no further dynamic group condition is evaluated here
+        AnyObject anyObject = anyObjectDAO.save(toBeUpdated, Set.of());
+        Map<Pair<String, String>, List<String>> plainAttrsBefore = plainAttrValues(anyObject);
 
         PropagationByResource<String> propByRes = new PropagationByResource<>();
 
@@ -438,7 +440,16 @@ public class AnyObjectDataBinderImpl extends AbstractAnyDataBinder implements An
         }
 
         // Re-merge any pending change from above
-        AnyObject saved = anyObjectDAO.save(anyObject);
+        Set<String> changed = changed(anyObjectUR);
+        if (changed != null) {
+            if (!anyObjectUR.getRelationships().isEmpty()) {
+                changed.add("relationships");
+            }
+            anyObjectUR.getMemberships().forEach(patch -> patch.getPlainAttrs().
+                    forEach(attr -> changed.add(attr.getSchema())));
+            changed.addAll(changedPlainSchemas(plainAttrsBefore, plainAttrValues(anyObject)));
+        }
+        AnyObject saved = anyObjectDAO.save(anyObject, changed);
 
         // Build final information for next stage (propagation)
         propByRes.merge(propByRes(
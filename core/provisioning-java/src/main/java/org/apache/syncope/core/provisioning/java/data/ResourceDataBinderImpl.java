@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -107,6 +108,33 @@ public class ResourceDataBinderImpl implements ResourceDataBinder {
     @Autowired
     private IntAttrNameParser intAttrNameParser;
 
+    private static void invalidateExpressions(final List<? extends Item> items) {
+        items.forEach(item -> {
+            JexlUtils.invalidate(item.getMandatoryCondition());
+            JexlUtils.invalidate(item.getPropagationJEXLTransformer());
+            JexlUtils.invalidate(item.getPullJEXLTransformer());
+        });
+    }
+
+    private static String connObjectLink(final String current, final String connObjectLink) {
+        if (!Objects.equals(current, connObjectLink)) {
+            JexlUtils.invalidate(current);
+        }
+        JexlUtils.precompile(connObjectLink);
+        return connObjectLink;
+    }
+
+    private static void checkJEXLTransformers(final ItemTO itemTO, final SyncopeClientCompositeException scce) {
+        Stream.of(itemTO.getPropagationJEXLTransformer(), itemTO.getPullJEXLTransformer()).
+                filter(expression -> StringUtils.isNotBlank(expression) && !JexlUtils.isExpressionValid(expression)).
+                forEach(expression -> {
+                    SyncopeClientException invalidTransformer = SyncopeClientException.build(
+                            ClientExceptionType.InvalidValues);
+                    invalidTransformer.getElements().add(expression);
+                    scce.addException(invalidTransformer);
+                });
+    }
+
     @Override
     public ExternalResource create(final ResourceTO resourceTO) {
         return update(entityFactory.newEntity(ExternalResource.class), resourceTO);
@@ -128,6 +156,7 @@ public class ResourceDataBinderImpl implements ResourceDataBinder {
         resource.setEnforceMandatoryCondition(resourceTO.isEnforceMandatoryCondition());
 
         resource.setPropagationPriority(resourceTO.getPropagationPriority());
+        resource.setPushRateLimit(resourceTO.getPushRateLimit());
 
         resource.setRandomPwdIfNotProvided(resourceTO.isRandomPwdIfNotProvided());
 
@@ -189,6 +218,7 @@ public class ResourceDataBinderImpl implements ResourceDataBinder {
                         mapping.setProvision(provision);
                         provision.setMapping(mapping);
                     } else {
+                        invalidateExpressions(mapping.getItems());
                         mapping.getItems().clear();
                     }
 
@@ -267,7 +297,7 @@ public class ResourceDataBinderImpl implements ResourceDataBinder {
                 sce.getElements().add("Null connObjectLink");
                 throw sce;
             }
-            orgUnit.setConnObjectLink(orgUnitTO.getConnObjectLink());
+            orgUnit.setConnObjectLink(connObjectLink(orgUnit.getConnObjectLink(), orgUnitTO.getConnObjectLink()));
 
             SyncopeClientCompositeException scce = SyncopeClientException.buildComposite();
             SyncopeClientException invalidMapping = SyncopeClientException.build(
@@ -275,6 +305,7 @@ public class ResourceDataBinderImpl implements ResourceDataBinder {
             SyncopeClientException requiredValuesMissing = SyncopeClientException.build(
                     ClientExceptionType.RequiredValuesMissing);
 
+            invalidateExpressions(orgUnit.getItems());
             orgUnit.getItems().clear();
             for (ItemTO itemTO : orgUnitTO.getItems()) {
                 if (itemTO == null) {
@@ -297,6 +328,7 @@ public class ResourceDataBinderImpl implements ResourceDataBinder {
                             invalidMandatoryCondition.getElements().add(itemTO.getMandatoryCondition());
                             scce.addException(invalidMandatoryCondition);
                         }
+                        checkJEXLTransformers(itemTO, scce);
 
                         OrgUnitItem item = entityFactory.newEntity(OrgUnitItem.class);
                         item.setIntAttrName(itemTO.getIntAttrName());
@@ -392,7 +424,7 @@ public class ResourceDataBinderImpl implements ResourceDataBinder {
             final Mapping mapping,
             final AnyTypeClassTO allowedSchemas) {
 
-        mapping.setConnObjectLink(mappingTO.getConnObjectLink());
+        mapping.setConnObjectLink(connObjectLink(mapping.getConnObjectLink(), mappingTO.getConnObjectLink()));
 
         SyncopeClientCompositeException scce = SyncopeClientException.buildComposite();
         SyncopeClientException invalidMapping = SyncopeClientException.build(ClientExceptionType.InvalidMapping);
@@ -456,6 +488,7 @@ public class ResourceDataBinderImpl implements ResourceDataBinder {
                             invalidMandatoryCondition.getElements().add(itemTO.getMandatoryCondition());
                             scce.addException(invalidMandatoryCondition);
                         }
+                        checkJEXLTransformers(itemTO, scce);
 
                         MappingItem item = entityFactory.newEntity(MappingItem.class);
                         item.setIntAttrName(itemTO.getIntAttrName());
@@ -664,6 +697,7 @@ public class ResourceDataBinderImpl implements ResourceDataBinder {
         resourceTO.setEnforceMandatoryCondition(resource.isEnforceMandatoryCondition());
 
         resourceTO.setPropagationPriority(resource.getPropagationPriority());
+        resourceTO.setPushRateLimit(resource.getPushRateLimit());
 
         resourceTO.setRandomPwdIfNotProvided(resource.isRandomPwdIfNotProvided());
 
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.java.data;
 
+import java.util.Objects;
 import java.util.stream.Collectors;
 import org.apache.syncope.core.provisioning.api.data.SchemaDataBinder;
 import org.apache.commons.lang3.StringUtils;
@@ -122,6 +123,9 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
         schema.setConversionPattern(schemaTO.getConversionPattern());
         schema.setEnumerationKeys(schemaTO.getEnumerationKeys());
         schema.setEnumerationValues(schemaTO.getEnumerationValues());
+        if (!Objects.equals(schema.getMandatoryCondition(), schemaTO.getMandatoryCondition())) {
+            JexlUtils.invalidate(schema.getMandatoryCondition());
+        }
         schema.setMandatoryCondition(schemaTO.getMandatoryCondition());
         schema.setMimeType(schemaTO.getMimeType());
         schema.setMultivalue(schemaTO.isMultivalue());
@@ -255,6 +259,9 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
         }
 
         schema.setKey(schemaTO.getKey());
+        if (!Objects.equals(schema.getExpression(), schemaTO.getExpression())) {
+            JexlUtils.invalidate(schema.getExpression());
+        }
         schema.setExpression(schemaTO.getExpression());
 
         labels(schemaTO, schema);
@@ -152,6 +152,8 @@ public class TaskDataBinderImpl implements TaskDataBinder {
             // remove all filters not contained in the TO
             pushTask.getFilters().
                     removeIf(anyFilter -> !pushTaskTO.getFilters().containsKey(anyFilter.getAnyType().getKey()));
+
+            pushTask.setConcurrency(pushTaskTO.getConcurrency());
         } else if (provisioningTask instanceof PullTask && provisioningTaskTO instanceof PullTaskTO) {
             PullTask pullTask = (PullTask) provisioningTask;
             PullTaskTO pullTaskTO = (PullTaskTO) provisioningTaskTO;
@@ -215,6 +217,13 @@ public class TaskDataBinderImpl implements TaskDataBinder {
                     removeIf(anyTemplate -> !pullTaskTO.getTemplates().containsKey(anyTemplate.getAnyType().getKey()));
 
             pullTask.setRemediation(pullTaskTO.isRemediation());
+            if (pullTaskTO.getConcurrency() < 1 || pullTaskTO.getConcurrency() > PullTask.MAX_CONCURRENCY) {
+                SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidPullTask);
+                sce.getElements().add("concurrency must be between 1 and " + PullTask.MAX_CONCURRENCY);
+                throw sce;
+            }
+            pullTask.setConcurrency(pullTaskTO.getConcurrency());
+            pullTask.setBatchMatching(pullTaskTO.isBatchMatching());
         }
 
         // 3. fill the remaining fields
@@ -430,6 +439,8 @@ public class TaskDataBinderImpl implements TaskDataBinder {
                         put(template.getAnyType().getKey(), template.get()));
 
                 pullTaskTO.setRemediation(pullTask.isRemediation());
+                pullTaskTO.setConcurrency(pullTask.getConcurrency());
+                pullTaskTO.setBatchMatching(pullTask.isBatchMatching());
                 break;
 
             case PUSH:
@@ -447,6 +458,8 @@ public class TaskDataBinderImpl implements TaskDataBinder {
                 pushTask.getFilters().
                         forEach(filter -> pushTaskTO.getFilters().
                         put(filter.getAnyType().getKey(), filter.getFIQLCond()));
+
+                pushTaskTO.setConcurrency(pushTask.getConcurrency());
                 break;
 
             case NOTIFICATION:
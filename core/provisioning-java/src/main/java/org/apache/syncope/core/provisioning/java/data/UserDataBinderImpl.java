@@ -20,6 +20,7 @@ package org.apache.syncope.core.provisioning.java.data;
 
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -370,8 +371,10 @@ public class UserDataBinderImpl extends AbstractAnyDataBinder implements UserDat
     public Pair<PropagationByResource<String>, PropagationByResource<Pair<String, String>>> update(
             final User toBeUpdated, final UserUR userUR) {
 
-        // Re-merge any pending change from workflow tasks
-        User user = userDAO.save(toBeUpdated);
+        // Re-merge any pending change from workflow tasks: such tasks save plain attribute changes beforehand, and
+        // conditions on fields are evaluated on every save, so no further dynamic group condition is evaluated here
+        User user = userDAO.save(toBeUpdated, Set.of());
+        Map<Pair<String, String>, List<String>> plainAttrsBefore = plainAttrValues(user);
 
         PropagationByResource<String> propByRes = new PropagationByResource<>();
         PropagationByResource<Pair<String, String>> propByLinkedAccount = new PropagationByResource<>();
@@ -651,7 +654,16 @@ public class UserDataBinderImpl extends AbstractAnyDataBinder implements UserDat
         }
 
         // Re-merge any pending change from above
-        User saved = userDAO.save(user);
+        Set<String> changed = changed(userUR);
+        if (changed != null) {
+            if (!userUR.getRelationships().isEmpty()) {
+                changed.add("relationships");
+            }
+            userUR.getMemberships().forEach(patch -> patch.getPlainAttrs().
+                    forEach(attr -> changed.add(attr.getSchema())));
+            changed.addAll(changedPlainSchemas(plainAttrsBefore, plainAttrValues(user)));
+        }
+        User saved = userDAO.save(user, changed);
 
         // Build final information for next stage (propagation)
         Map<String, ConnObjectTO> afterOnResources =
@@ -19,7 +19,11 @@
 package org.apache.syncope.core.provisioning.java.job;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
@@ -34,6 +38,7 @@ import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.AnyObjectProvisioningManager;
 import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -92,22 +97,29 @@ public class GroupMemberProvisionTaskJobDelegate extends AbstractSchedTaskJobDel
                 + (action == ProvisionAction.DEPROVISION ? "de" : "") + "provision "
                 + users.size() + " users from " + gResources);
 
-        for (int i = 0; i < users.size() && !interrupt; i++) {
-            List<PropagationStatus> statuses = action == ProvisionAction.DEPROVISION
+        // members are propagated in batches, to reduce the number of requests sent to each resource
+        for (int i = 0; i < users.size() && !interrupt; i += PropagationTaskExecutor.DEFAULT_BATCH_SIZE) {
+            List<String> keys = users.
+                    subList(i, Math.min(i + PropagationTaskExecutor.DEFAULT_BATCH_SIZE, users.size())).stream().
+                    map(User::getKey).collect(Collectors.toList());
+
+            Map<String, List<PropagationStatus>> statuses = action == ProvisionAction.DEPROVISION
                     ? userProvisioningManager.deprovision(
-                            users.get(i).getKey(), gResources, false, executor, getClass().getSimpleName())
+                            keys, gResources, false, executor, getClass().getSimpleName())
                     : userProvisioningManager.provision(
-                            users.get(i).getKey(), true, null, gResources, false, executor, getClass().getSimpleName());
-            for (PropagationStatus propagationStatus : statuses) {
-                result.append("User ").append(users.get(i).getKey()).append('\t').
-                        append("Resource ").append(propagationStatus.getResource()).append('\t').
-                        append(propagationStatus.getStatus());
-                if (StringUtils.isNotBlank(propagationStatus.getFailureReason())) {
-                    result.append('\n').append(propagationStatus.getFailureReason()).append('\n');
+                            keys, true, null, gResources, false, executor, getClass().getSimpleName());
+            statuses.forEach((key, propagationStatuses) -> {
+                for (PropagationStatus propagationStatus : propagationStatuses) {
+                    result.append("User ").append(key).append('\t').
+                            append("Resource ").append(propagationStatus.getResource()).append('\t').
+                            append(propagationStatus.getStatus());
+                    if (StringUtils.isNotBlank(propagationStatus.getFailureReason())) {
+                        result.append('\n').append(propagationStatus.getFailureReason()).append('\n');
+                    }
+                    result.append('\n');
                 }
                 result.append('\n');
-            }
-            result.append('\n');
+            });
         }
         if (interrupt) {
             LOG.debug("Group assignment interrupted");
@@ -122,24 +134,29 @@ public class GroupMemberProvisionTaskJobDelegate extends AbstractSchedTaskJobDel
                 + (action == ProvisionAction.DEPROVISION ? "de" : "") + "provision "
                 + anyObjects.size() + " any objects from " + gResources);
 
-        for (int i = 0; i < anyObjects.size() && !interrupt; i++) {
-            List<PropagationStatus> statuses = action == ProvisionAction.DEPROVISION
+        for (int i = 0; i < anyObjects.size() && !interrupt; i += PropagationTaskExecutor.DEFAULT_BATCH_SIZE) {
+            Map<String, AnyObject> batch = anyObjects.
+                    subList(i, Math.min(i + PropagationTaskExecutor.DEFAULT_BATCH_SIZE, anyObjects.size())).stream().
+                    collect(Collectors.toMap(AnyObject::getKey, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+
+            Map<String, List<PropagationStatus>> statuses = action == ProvisionAction.DEPROVISION
                     ? anyObjectProvisioningManager.deprovision(
-                            anyObjects.get(i).getKey(), gResources, false, executor, getClass().getSimpleName())
+                            batch.keySet(), gResources, false, executor, getClass().getSimpleName())
                     : anyObjectProvisioningManager.provision(
-                            anyObjects.get(i).getKey(), gResources, false, executor, getClass().getSimpleName());
-
-            for (PropagationStatus propagationStatus : statuses) {
-                result.append(anyObjects.get(i).getType().getKey()).append(' ').
-                        append(anyObjects.get(i).getKey()).append('\t').
-                        append("Resource ").append(propagationStatus.getResource()).append('\t').
-                        append(propagationStatus.getStatus());
-                if (StringUtils.isNotBlank(propagationStatus.getFailureReason())) {
-                    result.append('\n').append(propagationStatus.getFailureReason()).append('\n');
+                            batch.keySet(), gResources, false, executor, getClass().getSimpleName());
+            statuses.forEach((key, propagationStatuses) -> {
+                for (PropagationStatus propagationStatus : propagationStatuses) {
+                    result.append(batch.get(key).getType().getKey()).append(' ').
+                            append(key).append('\t').
+                            append("Resource ").append(propagationStatus.getResource()).append('\t').
+                            append(propagationStatus.getStatus());
+                    if (StringUtils.isNotBlank(propagationStatus.getFailureReason())) {
+                        result.append('\n').append(propagationStatus.getFailureReason()).append('\n');
+                    }
+                    result.append('\n');
                 }
                 result.append('\n');
-            }
-            result.append('\n');
+            });
         }
         if (interrupt) {
             LOG.debug("Group assignment interrupted");
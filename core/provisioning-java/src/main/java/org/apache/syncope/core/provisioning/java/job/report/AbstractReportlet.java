@@ -18,12 +18,22 @@
  */
 package org.apache.syncope.core.provisioning.java.job.report;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Resource;
 import org.apache.syncope.core.persistence.api.dao.Reportlet;
 import org.apache.syncope.common.lib.report.ReportletConf;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.AttributesImpl;
@@ -32,6 +42,18 @@ public abstract class AbstractReportlet implements Reportlet {
 
     protected static final Logger LOG = LoggerFactory.getLogger(AbstractReportlet.class);
 
+    /**
+     * Extracts a single page of data.
+     */
+    @FunctionalInterface
+    protected interface PageExtractor {
+
+        void extract(ContentHandler handler, int page) throws SAXException;
+    }
+
+    @Resource(name = "reportExecutor")
+    protected ThreadPoolTaskExecutor reportExecutor;
+
     protected ReportletConf conf;
 
     @Override
@@ -39,6 +61,101 @@ public abstract class AbstractReportlet implements Reportlet {
         this.conf = conf;
     }
 
+    /**
+     * @return number of pages to be extracted concurrently, as configured via {@code report.parallelism}
+     */
+    protected int parallelism() {
+        return reportExecutor.getMaxPoolSize();
+    }
+
+    /**
+     * Extracts the given pages, from 1, into the given handler, in order; with parallelism greater than 1, pages are
+     * extracted concurrently by the shared {@code reportExecutor}, each in its own read-only transaction, and
+     * buffered until they can be sent in order.
+     * A page not yet picked up by any worker when needed is extracted by the caller, as workers are shared with
+     * other reportlets and reports.
+     *
+     * @param handler SAX content handler for streaming result
+     * @param pages number of pages
+     * @param extractor extracts a single page
+     * @param what description of the data being extracted, for status reporting
+     * @param status current report status
+     * @throws SAXException if there is any problem in SAX handling
+     */
+    protected void extractPages(
+            final ContentHandler handler,
+            final int pages,
+            final PageExtractor extractor,
+            final String what,
+            final AtomicReference<String> status)
+            throws SAXException {
+
+        long start = System.currentTimeMillis();
+        int parallelism = Math.min(parallelism(), pages);
+        if (parallelism <= 1) {
+            for (int page = 1; page <= pages; page++) {
+                extractor.extract(handler, page);
+                status.set(progress(what, page, pages, start));
+            }
+            return;
+        }
+
+        String domain = AuthContextUtils.getDomain();
+        TransactionTemplate txTemplate = new TransactionTemplate(ApplicationContextProvider.getBeanFactory().
+                getBean(domain + "TransactionManager", PlatformTransactionManager.class));
+        txTemplate.setReadOnly(true);
+
+        Deque<FutureTask<SAXBuffer>> pending = new ArrayDeque<>();
+        try {
+            int submitted = 0;
+            for (int page = 1; page <= pages; page++) {
+                // keep a bounded number of pages in memory
+                while (submitted < pages && pending.size() < parallelism * 2) {
+                    int next = ++submitted;
+                    FutureTask<SAXBuffer> task = new FutureTask<>(() -> AuthContextUtils.callAsAdmin(domain,
+                            () -> txTemplate.execute(txStatus -> {
+                                SAXBuffer buffer = new SAXBuffer();
+                                try {
+                                    extractor.extract(buffer, next);
+                                } catch (SAXException e) {
+                                    throw new ReportException(e);
+                                }
+                                return buffer;
+                            })));
+                    pending.add(task);
+                    reportExecutor.execute(task);
+                }
+
+                FutureTask<SAXBuffer> task = pending.remove();
+                // no-op if already started by a worker
+                task.run();
+                try {
+                    task.get().replay(handler);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ReportException(e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof ReportException && e.getCause().getCause() instanceof SAXException) {
+                        throw (SAXException) e.getCause().getCause();
+                    }
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new ReportException(e.getCause());
+                }
+                status.set(progress(what, page, pages, start));
+            }
+        } finally {
+            pending.forEach(task -> task.cancel(true));
+        }
+    }
+
+    private static String progress(final String what, final int page, final int pages, final long start) {
+        long elapsed = Math.max(1, System.currentTimeMillis() - start);
+        return "Processing " + what + ": page " + page + " of " + pages
+                + " (" + (page * 1000L * 60 / elapsed) + " pages per minute)";
+    }
+
     protected abstract void doExtract(ReportletConf conf, ContentHandler handler, AtomicReference<String> status)
             throws SAXException;
 
@@ -18,16 +18,31 @@
  */
 package org.apache.syncope.core.provisioning.java.job.report;
 
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
+import javax.annotation.Resource;
 import javax.xml.XMLConstants;
+import javax.xml.parsers.SAXParserFactory;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
@@ -36,23 +51,35 @@ import javax.xml.transform.sax.SAXTransformerFactory;
 import javax.xml.transform.sax.TransformerHandler;
 import javax.xml.transform.stream.StreamResult;
 
+import org.apache.syncope.common.lib.report.ReportletConf;
+import org.apache.syncope.common.lib.types.ImplementationEngine;
 import org.apache.syncope.common.lib.types.ReportExecStatus;
 import org.apache.syncope.core.provisioning.api.utils.ExceptionUtils2;
 import org.apache.syncope.core.persistence.api.dao.ReportDAO;
 import org.apache.syncope.core.persistence.api.dao.ReportExecDAO;
 import org.apache.syncope.core.persistence.api.dao.Reportlet;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.Report;
 import org.apache.syncope.core.persistence.api.entity.ReportExec;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.spring.ImplementationManager;
 import org.apache.syncope.core.provisioning.api.job.report.ReportJobDelegate;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.quartz.JobExecutionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.InputSource;
 import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.XMLFilterImpl;
 
 @Component
 public class DefaultReportJobDelegate implements ReportJobDelegate {
@@ -61,6 +88,8 @@ public class DefaultReportJobDelegate implements ReportJobDelegate {
 
     private static final SAXTransformerFactory TRANSFORMER_FACTORY;
 
+    private static final SAXParserFactory PARSER_FACTORY;
+
     static {
         TRANSFORMER_FACTORY = (SAXTransformerFactory) TransformerFactory.newInstance();
         TRANSFORMER_FACTORY.setURIResolver((href, base) -> null);
@@ -69,6 +98,14 @@ public class DefaultReportJobDelegate implements ReportJobDelegate {
         } catch (TransformerConfigurationException e) {
             LOG.error("Could not enable secure XML processing", e);
         }
+
+        PARSER_FACTORY = SAXParserFactory.newInstance();
+        try {
+            PARSER_FACTORY.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            PARSER_FACTORY.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        } catch (Exception e) {
+            LOG.error("Could not enable secure XML parsing", e);
+        }
     }
 
     /**
@@ -86,15 +123,26 @@ public class DefaultReportJobDelegate implements ReportJobDelegate {
     @Autowired
     private EntityFactory entityFactory;
 
+    @Resource(name = "reportExecutor")
+    private ThreadPoolTaskExecutor reportExecutor;
+
     private final AtomicReference<String> status = new AtomicReference<>();
 
+    /**
+     * Status of reportlets being executed concurrently.
+     */
+    private final List<AtomicReference<String>> reportletStatus = new CopyOnWriteArrayList<>();
+
     private boolean interrupt;
 
     private boolean interrupted;
 
     @Override
     public String currentStatus() {
-        return status.get();
+        return reportletStatus.isEmpty()
+                ? status.get()
+                : reportletStatus.stream().map(AtomicReference::get).filter(Objects::nonNull).
+                        collect(Collectors.joining("; "));
     }
 
     @Override
@@ -107,6 +155,181 @@ public class DefaultReportJobDelegate implements ReportJobDelegate {
         return interrupted;
     }
 
+    /**
+     * Executes the given reportlet; any failure is logged and returned, rather than thrown.
+     *
+     * @param reportKey report key
+     * @param impl reportlet implementation
+     * @param handler SAX content handler for streaming result
+     * @param status current reportlet status
+     * @return failure, if any
+     */
+    private static Optional<Throwable> extract(
+            final String reportKey,
+            final Implementation impl,
+            final ContentHandler handler,
+            final AtomicReference<String> status) {
+
+        try {
+            Optional<Reportlet> reportlet = ImplementationManager.buildReportlet(impl);
+            if (reportlet.isPresent()) {
+                status.set("Invoking reportlet " + impl.getKey());
+                reportlet.get().extract(handler, status);
+            }
+            return Optional.empty();
+        } catch (Throwable t) {
+            LOG.error("While executing reportlet {} for report {}", impl.getKey(), reportKey, t);
+
+            return Optional.of(t instanceof ReportException ? t.getCause() : t);
+        }
+    }
+
+    /**
+     * Sends the content of the given report fragment to the given handler, document start and end excluded.
+     *
+     * @param fragment report fragment
+     * @param handler SAX content handler for streaming result
+     * @throws Exception if there is any problem in reading or SAX handling
+     */
+    private static void replay(final Path fragment, final ContentHandler handler) throws Exception {
+        XMLFilterImpl filter = new XMLFilterImpl(PARSER_FACTORY.newSAXParser().getXMLReader()) {
+
+            @Override
+            public void startDocument() {
+                // fragment only
+            }
+
+            @Override
+            public void endDocument() {
+                // fragment only
+            }
+        };
+        filter.setContentHandler(handler);
+
+        try (InputStream in = Files.newInputStream(fragment)) {
+            filter.parse(new InputSource(in));
+        }
+    }
+
+    /**
+     * Executes the given reportlets in sequence, each into its own temporary file.
+     *
+     * @param reportKey report key
+     * @param reportlets reportlet implementations
+     * @param lane indexes of the reportlets to execute
+     * @param fragments temporary files, by reportlet
+     * @param failures failures, by reportlet
+     * @throws Exception if there is any problem in managing temporary files or SAX handling
+     */
+    private void extractLane(
+            final String reportKey,
+            final List<? extends Implementation> reportlets,
+            final List<Integer> lane,
+            final Path[] fragments,
+            final Throwable[] failures)
+            throws Exception {
+
+        AtomicReference<String> laneStatus = new AtomicReference<>();
+        reportletStatus.add(laneStatus);
+        try {
+            for (int i = 0; i < lane.size() && !interrupt; i++) {
+                int index = lane.get(i);
+                fragments[index] = Files.createTempFile("report", ".xml");
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(fragments[index]))) {
+                    TransformerHandler fragmentHandler = TRANSFORMER_FACTORY.newTransformerHandler();
+                    fragmentHandler.getTransformer().
+                            setOutputProperty(OutputKeys.ENCODING, StandardCharsets.UTF_8.name());
+                    fragmentHandler.setResult(new StreamResult(out));
+
+                    fragmentHandler.startDocument();
+                    failures[index] = extract(
+                            reportKey, reportlets.get(index), fragmentHandler, laneStatus).orElse(null);
+                    if (failures[index] == null) {
+                        fragmentHandler.endDocument();
+                    }
+                }
+            }
+        } finally {
+            reportletStatus.remove(laneStatus);
+        }
+    }
+
+    /**
+     * Executes the given reportlets concurrently on the shared {@code reportExecutor}, each into its own temporary
+     * file, then sends their results to the given handler in the configured order.
+     * Reportlets built from the same configuration class share the same instance, hence they are executed in sequence,
+     * within the same read-only transaction; a lane not yet picked up by any worker when needed is executed by the
+     * caller, as workers are shared with other reports.
+     *
+     * @param reportKey report key
+     * @param reportlets reportlet implementations
+     * @param handler SAX content handler for streaming result
+     * @return failures, by reportlet
+     * @throws Exception if there is any problem in managing temporary files or SAX handling
+     */
+    private List<Optional<Throwable>> extractConcurrently(
+            final String reportKey,
+            final List<? extends Implementation> reportlets,
+            final ContentHandler handler)
+            throws Exception {
+
+        Map<String, List<Integer>> lanes = new LinkedHashMap<>();
+        for (int i = 0; i < reportlets.size(); i++) {
+            Implementation impl = reportlets.get(i);
+            String lane = impl.getEngine() == ImplementationEngine.JAVA
+                    ? POJOHelper.deserialize(impl.getBody(), ReportletConf.class).getClass().getName()
+                    : impl.getKey();
+            lanes.computeIfAbsent(lane, k -> new ArrayList<>()).add(i);
+        }
+
+        Path[] fragments = new Path[reportlets.size()];
+        Throwable[] failures = new Throwable[reportlets.size()];
+
+        String domain = AuthContextUtils.getDomain();
+        TransactionTemplate txTemplate = new TransactionTemplate(ApplicationContextProvider.getBeanFactory().
+                getBean(domain + "TransactionManager", PlatformTransactionManager.class));
+        txTemplate.setReadOnly(true);
+
+        List<FutureTask<Void>> futures = new ArrayList<>();
+        try {
+            for (List<Integer> lane : lanes.values()) {
+                futures.add(new FutureTask<>(() -> AuthContextUtils.callAsAdmin(domain,
+                        () -> txTemplate.execute(txStatus -> {
+                            try {
+                                extractLane(reportKey, reportlets, lane, fragments, failures);
+                            } catch (Exception e) {
+                                throw new ReportException(e);
+                            }
+                            return null;
+                        }))));
+            }
+            futures.forEach(reportExecutor::execute);
+            for (FutureTask<Void> future : futures) {
+                // no-op if already started by a worker
+                future.run();
+                future.get();
+            }
+
+            status.set("Merging results of " + reportlets.size() + " reportlets");
+            for (int i = 0; i < reportlets.size(); i++) {
+                // skip what was not executed or did not complete
+                if (fragments[i] != null && failures[i] == null) {
+                    replay(fragments[i], handler);
+                }
+            }
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+
+            for (Path fragment : fragments) {
+                if (fragment != null) {
+                    Files.deleteIfExists(fragment);
+                }
+            }
+        }
+
+        return Arrays.stream(failures).map(Optional::ofNullable).collect(Collectors.toList());
+    }
+
     @Transactional
     @Override
     public void execute(final String reportKey, final String executor) throws JobExecutionException {
@@ -135,8 +358,7 @@ public class DefaultReportJobDelegate implements ReportJobDelegate {
         // 2. define a SAX handler for generating result as XML
         TransformerHandler handler;
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ZipOutputStream zos = new ZipOutputStream(baos);
+        ZipOutputStream zos = new ZipOutputStream(new ReportExecResultOutputStream(reportExecDAO, execution));
         zos.setLevel(Deflater.BEST_COMPRESSION);
         try {
             handler = TRANSFORMER_FACTORY.newTransformerHandler();
@@ -147,7 +369,7 @@ public class DefaultReportJobDelegate implements ReportJobDelegate {
             // a single ZipEntry in the ZipOutputStream
             zos.putNextEntry(new ZipEntry(report.getName()));
 
-            // streaming SAX handler in a compressed byte array stream
+            // streaming SAX handler in a compressed stream, stored by blocks
             handler.setResult(new StreamResult(zos));
         } catch (Exception e) {
             throw new JobExecutionException("While configuring for SAX generation", e, true);
@@ -170,24 +392,23 @@ public class DefaultReportJobDelegate implements ReportJobDelegate {
             status.set("Generating report header");
 
             // iterate over reportlet instances defined for this report
-            for (int i = 0; i < report.getReportlets().size() && !interrupt; i++) {
-                Optional<Reportlet> reportlet = ImplementationManager.buildReportlet(report.getReportlets().get(i));
-                if (reportlet.isPresent()) {
-                    try {
-                        status.set("Invoking reportlet " + report.getReportlets().get(i).getKey());
-                        reportlet.get().extract(handler, status);
-                    } catch (Throwable t) {
-                        LOG.error("While executing reportlet {} for report {}", reportlet, reportKey, t);
-
-                        execution.setStatus(ReportExecStatus.FAILURE);
-
-                        Throwable effective = t instanceof ReportException
-                                ? t.getCause()
-                                : t;
-                        reportExecutionMessage.
-                                append(ExceptionUtils2.getFullStackTrace(effective)).
-                                append("\n==================\n");
-                    }
+            List<? extends Implementation> reportlets = report.getReportlets();
+            List<Optional<Throwable>> failures;
+            if (reportExecutor.getMaxPoolSize() <= 1 || reportlets.size() <= 1) {
+                failures = new ArrayList<>();
+                for (int i = 0; i < reportlets.size() && !interrupt; i++) {
+                    failures.add(extract(reportKey, reportlets.get(i), handler, status));
+                }
+            } else {
+                status.set("Invoking " + reportlets.size() + " reportlets");
+                failures = extractConcurrently(reportKey, reportlets, handler);
+            }
+            for (Optional<Throwable> failure : failures) {
+                if (failure.isPresent()) {
+                    execution.setStatus(ReportExecStatus.FAILURE);
+                    reportExecutionMessage.
+                            append(ExceptionUtils2.getFullStackTrace(failure.get())).
+                            append("\n==================\n");
                 }
             }
             if (interrupt) {
@@ -215,12 +436,10 @@ public class DefaultReportJobDelegate implements ReportJobDelegate {
             try {
                 zos.closeEntry();
                 zos.close();
-                baos.close();
             } catch (IOException e) {
                 LOG.error("While closing StreamResult's backend", e);
             }
 
-            execution.setExecResult(baos.toByteArray());
             execution.setMessage(reportExecutionMessage.toString());
             execution.setEnd(new Date());
             reportExecDAO.save(execution);
@@ -311,9 +311,7 @@ public class GroupReportlet extends AbstractReportlet {
 
         status.set("Processing " + total + " groups in " + pages + " pages");
 
-        for (int page = 1; page <= pages; page++) {
-            status.set("Processing " + total + " groups: page " + page + " of " + pages);
-
+        extractPages(handler, pages, (pageHandler, page) -> {
             List<Group> groups;
             if (StringUtils.isBlank(this.conf.getMatchingCond())) {
                 groups = groupDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE);
@@ -324,12 +322,13 @@ public class GroupReportlet extends AbstractReportlet {
                         page,
                         AnyDAO.DEFAULT_PAGE_SIZE,
                         List.of(),
-                        AnyTypeKind.USER);
+                        AnyTypeKind.GROUP);
             }
 
-            doExtract(handler, groups);
+            doExtract(pageHandler, groups);
 
-            status.set("Processed " + total + " groups: page " + page + " of " + pages);
-        }
+            // keep memory footprint constant across pages
+            groups.forEach(groupDAO::detach);
+        }, total + " groups", status);
     }
 }
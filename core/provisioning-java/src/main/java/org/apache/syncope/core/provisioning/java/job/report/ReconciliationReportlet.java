@@ -380,33 +380,27 @@ public class ReconciliationReportlet extends AbstractReportlet {
             atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
             handler.startElement("", "", getAnyElementName(AnyTypeKind.USER) + 's', atts);
 
-            for (int page = 1; page <= pages; page++) {
-                status.set("Processing " + total + " users: page " + page + " of " + pages);
-
-                doExtract(handler, userDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE));
-            }
+            extractPages(handler, pages,
+                    (pageHandler, page) -> doExtract(pageHandler, userDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE)),
+                    total + " users", status);
         } else {
             SearchCond cond = SearchCondConverter.convert(searchCondVisitor, this.conf.getUserMatchingCond());
 
             int total = searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS, cond, AnyTypeKind.USER);
-            int pages = (total / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
+            int pages = (total / PAGE_SIZE) + 1;
 
             status.set("Processing " + total + " users in " + pages + " pages");
 
             atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
             handler.startElement("", "", getAnyElementName(AnyTypeKind.USER) + 's', atts);
 
-            for (int page = 1; page <= pages; page++) {
-                status.set("Processing " + total + " users: page " + page + " of " + pages);
-
-                doExtract(handler, searchDAO.search(
-                        SyncopeConstants.FULL_ADMIN_REALMS,
-                        cond,
-                        page,
-                        PAGE_SIZE,
-                        List.of(),
-                        AnyTypeKind.USER));
-            }
+            extractPages(handler, pages, (pageHandler, page) -> doExtract(pageHandler, searchDAO.search(
+                    SyncopeConstants.FULL_ADMIN_REALMS,
+                    cond,
+                    page,
+                    PAGE_SIZE,
+                    List.of(),
+                    AnyTypeKind.USER)), total + " users", status);
         }
         handler.endElement("", "", getAnyElementName(AnyTypeKind.USER) + 's');
 
@@ -420,33 +414,27 @@ public class ReconciliationReportlet extends AbstractReportlet {
             atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
             handler.startElement("", "", getAnyElementName(AnyTypeKind.GROUP) + 's', atts);
 
-            for (int page = 1; page <= pages; page++) {
-                status.set("Processing " + total + " groups: page " + page + " of " + pages);
-
-                doExtract(handler, groupDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE));
-            }
+            extractPages(handler, pages,
+                    (pageHandler, page) -> doExtract(pageHandler, groupDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE)),
+                    total + " groups", status);
         } else {
-            SearchCond cond = SearchCondConverter.convert(searchCondVisitor, this.conf.getUserMatchingCond());
+            SearchCond cond = SearchCondConverter.convert(searchCondVisitor, this.conf.getGroupMatchingCond());
 
             int total = searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS, cond, AnyTypeKind.GROUP);
-            int pages = (total / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
+            int pages = (total / PAGE_SIZE) + 1;
 
             status.set("Processing " + total + " groups in " + pages + " pages");
 
             atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
             handler.startElement("", "", getAnyElementName(AnyTypeKind.GROUP) + 's', atts);
 
-            for (int page = 1; page <= pages; page++) {
-                status.set("Processing " + total + " groups: page " + page + " of " + pages);
-
-                doExtract(handler, searchDAO.search(
-                        SyncopeConstants.FULL_ADMIN_REALMS,
-                        cond,
-                        page,
-                        PAGE_SIZE,
-                        List.of(),
-                        AnyTypeKind.GROUP));
-            }
+            extractPages(handler, pages, (pageHandler, page) -> doExtract(pageHandler, searchDAO.search(
+                    SyncopeConstants.FULL_ADMIN_REALMS,
+                    cond,
+                    page,
+                    PAGE_SIZE,
+                    List.of(),
+                    AnyTypeKind.GROUP)), total + " groups", status);
         }
         handler.endElement("", "", getAnyElementName(AnyTypeKind.GROUP) + 's');
 
@@ -461,7 +449,7 @@ public class ReconciliationReportlet extends AbstractReportlet {
                                 SearchCondConverter.convert(searchCondVisitor, this.conf.getAnyObjectMatchingCond()));
 
                 int total = searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS, cond, AnyTypeKind.ANY_OBJECT);
-                int pages = (total / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
+                int pages = (total / PAGE_SIZE) + 1;
 
                 status.set("Processing " + total + " any objects " + anyType.getKey() + " in " + pages + " pages");
 
@@ -470,18 +458,13 @@ public class ReconciliationReportlet extends AbstractReportlet {
                 atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
                 handler.startElement("", "", getAnyElementName(AnyTypeKind.ANY_OBJECT) + 's', atts);
 
-                for (int page = 1; page <= pages; page++) {
-                    status.set("Processing " + total + " any objects " + anyType.getKey()
-                            + ": page " + page + " of " + pages);
-
-                    doExtract(handler, searchDAO.search(
-                            SyncopeConstants.FULL_ADMIN_REALMS,
-                            cond,
-                            page,
-                            PAGE_SIZE,
-                            List.of(),
-                            AnyTypeKind.ANY_OBJECT));
-                }
+                extractPages(handler, pages, (pageHandler, page) -> doExtract(pageHandler, searchDAO.search(
+                        SyncopeConstants.FULL_ADMIN_REALMS,
+                        cond,
+                        page,
+                        PAGE_SIZE,
+                        List.of(),
+                        AnyTypeKind.ANY_OBJECT)), total + " any objects " + anyType.getKey(), status);
 
                 handler.endElement("", "", getAnyElementName(AnyTypeKind.ANY_OBJECT) + 's');
             }
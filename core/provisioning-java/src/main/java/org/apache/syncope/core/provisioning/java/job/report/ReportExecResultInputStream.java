@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import java.io.InputStream;
+import org.apache.syncope.core.persistence.api.dao.ReportExecDAO;
+
+/**
+ * Reads the given execution result one block at a time, as stored by {@link ReportExecResultOutputStream}.
+ */
+public class ReportExecResultInputStream extends InputStream {
+
+    private final ReportExecDAO reportExecDAO;
+
+    private final String executionKey;
+
+    private byte[] chunk = new byte[0];
+
+    private int pos;
+
+    private int index;
+
+    private boolean eof;
+
+    public ReportExecResultInputStream(final ReportExecDAO reportExecDAO, final String executionKey) {
+        this.reportExecDAO = reportExecDAO;
+        this.executionKey = executionKey;
+    }
+
+    private boolean ensureAvailable() {
+        while (!eof && pos == chunk.length) {
+            byte[] next = reportExecDAO.findExecResultChunk(executionKey, index++);
+            if (next == null) {
+                eof = true;
+            } else {
+                chunk = next;
+                pos = 0;
+            }
+        }
+        return !eof;
+    }
+
+    @Override
+    public int read() {
+        return ensureAvailable() ? chunk[pos++] & 0xff : -1;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureAvailable()) {
+            return -1;
+        }
+
+        int length = Math.min(len, chunk.length - pos);
+        System.arraycopy(chunk, pos, b, off, length);
+        pos += length;
+        return length;
+    }
+
+    @Override
+    public int available() {
+        return chunk.length - pos;
+    }
+}
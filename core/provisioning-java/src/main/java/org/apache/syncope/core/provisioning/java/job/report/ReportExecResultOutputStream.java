@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import org.apache.syncope.core.persistence.api.dao.ReportExecDAO;
+import org.apache.syncope.core.persistence.api.entity.ReportExec;
+
+/**
+ * Stores what is written as fixed-size blocks of the given execution result, so that only one block at a time is
+ * held in memory.
+ */
+public class ReportExecResultOutputStream extends OutputStream {
+
+    public static final int CHUNK_SIZE = 1024 * 1024;
+
+    private final ReportExecDAO reportExecDAO;
+
+    private final ReportExec execution;
+
+    private final byte[] buffer = new byte[CHUNK_SIZE];
+
+    private int count;
+
+    private int index;
+
+    private boolean closed;
+
+    public ReportExecResultOutputStream(final ReportExecDAO reportExecDAO, final ReportExec execution) {
+        this.reportExecDAO = reportExecDAO;
+        this.execution = execution;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private void saveChunk() {
+        reportExecDAO.saveExecResultChunk(execution, index++, Arrays.copyOf(buffer, count));
+        count = 0;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        ensureOpen();
+
+        if (count == CHUNK_SIZE) {
+            saveChunk();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        ensureOpen();
+
+        int written = 0;
+        while (written < len) {
+            if (count == CHUNK_SIZE) {
+                saveChunk();
+            }
+            int length = Math.min(len - written, CHUNK_SIZE - count);
+            System.arraycopy(b, off + written, buffer, count, length);
+            count += length;
+            written += length;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            if (count > 0) {
+                saveChunk();
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+/**
+ * Records SAX events - except for document start and end - so that they can be replayed later on another handler;
+ * used to collect report fragments generated concurrently.
+ */
+public class SAXBuffer implements ContentHandler {
+
+    @FunctionalInterface
+    protected interface SAXEvent {
+
+        void send(ContentHandler handler) throws SAXException;
+    }
+
+    protected final List<SAXEvent> events = new ArrayList<>();
+
+    /**
+     * Sends all recorded events to the given handler, in order.
+     *
+     * @param handler target handler
+     * @throws SAXException if target handler fails
+     */
+    public void replay(final ContentHandler handler) throws SAXException {
+        for (SAXEvent event : events) {
+            event.send(handler);
+        }
+    }
+
+    @Override
+    public void setDocumentLocator(final Locator locator) {
+        // nothing to record
+    }
+
+    @Override
+    public void startDocument() {
+        // fragment only
+    }
+
+    @Override
+    public void endDocument() {
+        // fragment only
+    }
+
+    @Override
+    public void startPrefixMapping(final String prefix, final String uri) {
+        events.add(handler -> handler.startPrefixMapping(prefix, uri));
+    }
+
+    @Override
+    public void endPrefixMapping(final String prefix) {
+        events.add(handler -> handler.endPrefixMapping(prefix));
+    }
+
+    @Override
+    public void startElement(final String uri, final String localName, final String qName, final Attributes atts) {
+        // attributes are usually reused by the caller
+        AttributesImpl copy = new AttributesImpl(atts);
+        events.add(handler -> handler.startElement(uri, localName, qName, copy));
+    }
+
+    @Override
+    public void endElement(final String uri, final String localName, final String qName) {
+        events.add(handler -> handler.endElement(uri, localName, qName));
+    }
+
+    @Override
+    public void characters(final char[] ch, final int start, final int length) {
+        char[] copy = new char[length];
+        System.arraycopy(ch, start, copy, 0, length);
+        events.add(handler -> handler.characters(copy, 0, copy.length));
+    }
+
+    @Override
+    public void ignorableWhitespace(final char[] ch, final int start, final int length) {
+        char[] copy = new char[length];
+        System.arraycopy(ch, start, copy, 0, length);
+        events.add(handler -> handler.ignorableWhitespace(copy, 0, copy.length));
+    }
+
+    @Override
+    public void processingInstruction(final String target, final String data) {
+        events.add(handler -> handler.processingInstruction(target, data));
+    }
+
+    @Override
+    public void skippedEntity(final String name) {
+        events.add(handler -> handler.skippedEntity(name));
+    }
+}
@@ -372,9 +372,7 @@ public class UserReportlet extends AbstractReportlet {
 
         status.set("Processing " + total + " users in " + pages + " pages");
 
-        for (int page = 1; page <= pages; page++) {
-            status.set("Processing " + total + " users: page " + page + " of " + pages);
-
+        extractPages(handler, pages, (pageHandler, page) -> {
             List<User> users;
             if (StringUtils.isBlank(this.conf.getMatchingCond())) {
                 users = userDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE);
@@ -388,7 +386,10 @@ public class UserReportlet extends AbstractReportlet {
                         AnyTypeKind.USER);
             }
 
-            doExtract(handler, users);
-        }
+            doExtract(pageHandler, users);
+
+            // keep memory footprint constant across pages
+            users.forEach(userDAO::detach);
+        }, total + " users", status);
     }
 }
@@ -25,8 +25,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.commons.jexl3.MapContext;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -75,6 +77,7 @@ import org.apache.syncope.core.provisioning.api.notification.NotificationManager
 import org.apache.syncope.core.provisioning.api.notification.RecipientsProvider;
 import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
 import org.apache.syncope.core.provisioning.api.jexl.JexlUtils;
+import org.apache.syncope.core.provisioning.java.EventRoutingTable;
 import org.apache.syncope.core.spring.ImplementationManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -98,6 +101,9 @@ public class DefaultNotificationManager implements NotificationManager {
     @Autowired
     private NotificationDAO notificationDAO;
 
+    @Autowired
+    private EventRoutingTable eventRoutingTable;
+
     /**
      * AnyObject DAO.
      */
@@ -261,12 +267,10 @@ public class DefaultNotificationManager implements NotificationManager {
             final String subcategory,
             final String event) {
 
-        final String successEvent = AuditLoggerName.buildEvent(type, category, subcategory, event, Result.SUCCESS);
-        final String failureEvent = AuditLoggerName.buildEvent(type, category, subcategory, event, Result.FAILURE);
-        return notificationDAO.findAll().stream().
-                anyMatch(notification -> notification.isActive()
-                && (notification.getEvents().contains(successEvent)
-                || notification.getEvents().contains(failureEvent)));
+        return !eventRoutingTable.getNotifications(
+                AuditLoggerName.buildEvent(type, category, subcategory, event, Result.SUCCESS)).isEmpty()
+                || !eventRoutingTable.getNotifications(
+                        AuditLoggerName.buildEvent(type, category, subcategory, event, Result.FAILURE)).isEmpty();
     }
 
     @Override
@@ -330,15 +334,17 @@ public class DefaultNotificationManager implements NotificationManager {
         AnyType anyType = Optional.ofNullable(any).map(Any::getType).orElse(null);
         LOG.debug("Search notification for [{}]{}", anyType, any);
 
+        String currentEvent = AuditLoggerName.buildEvent(type, category, subcategory, event, condition);
+
         List<NotificationTask> notifications = new ArrayList<>();
-        for (Notification notification : notificationDAO.findAll()) {
+        for (Notification notification : eventRoutingTable.getNotifications(currentEvent).stream().
+                map(notificationDAO::find).filter(Objects::nonNull).collect(Collectors.toList())) {
             if (LOG.isDebugEnabled()) {
                 notification.getAbouts().forEach(
                         about -> LOG.debug("Notification about {} defined: {}", about.getAnyType(), about.get()));
             }
 
             if (notification.isActive()) {
-                String currentEvent = AuditLoggerName.buildEvent(type, category, subcategory, event, condition);
                 if (!notification.getEvents().contains(currentEvent)) {
                     LOG.debug("No events found about {}", any);
                 } else if (anyType == null || any == null
@@ -20,16 +20,25 @@ package org.apache.syncope.core.provisioning.java.propagation;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.to.ExecTO;
 import org.apache.syncope.common.lib.types.AuditElements;
 import org.apache.syncope.common.lib.types.AuditElements.Result;
@@ -43,6 +52,7 @@ import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
 import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.ConnectorBatchOperation;
 import org.apache.syncope.core.provisioning.api.ConnectorFactory;
 import org.apache.syncope.core.provisioning.api.TimeoutException;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationActions;
@@ -69,6 +79,7 @@ import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.apache.syncope.core.spring.ImplementationManager;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.identityconnectors.framework.common.exceptions.ConnectorException;
+import org.identityconnectors.framework.common.exceptions.ConnectorIOException;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.AttributeBuilder;
 import org.identityconnectors.framework.common.objects.AttributeUtil;
@@ -156,6 +167,55 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
     @Autowired
     protected OutboundMatcher outboundMatcher;
 
+    /**
+     * Circuit breakers, by domain and resource key.
+     */
+    protected final Map<Pair<String, String>, ResourceCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    protected int circuitBreakerFailureThreshold = 5;
+
+    protected long circuitBreakerOpenSeconds = 60;
+
+    /**
+     * @param circuitBreakerFailureThreshold number of consecutive failures due to an external resource not being
+     * reachable, before further propagation tasks for such resource are not attempted
+     */
+    public void setCircuitBreakerFailureThreshold(final int circuitBreakerFailureThreshold) {
+        this.circuitBreakerFailureThreshold = circuitBreakerFailureThreshold;
+    }
+
+    /**
+     * @param circuitBreakerOpenSeconds how long propagation tasks are not attempted for an external resource, before
+     * attempting again
+     */
+    public void setCircuitBreakerOpenSeconds(final long circuitBreakerOpenSeconds) {
+        this.circuitBreakerOpenSeconds = circuitBreakerOpenSeconds;
+    }
+
+    protected ResourceCircuitBreaker getCircuitBreaker(final String resource) {
+        return circuitBreakers.computeIfAbsent(
+                Pair.of(AuthContextUtils.getDomain(), resource), k -> new ResourceCircuitBreaker(
+                circuitBreakerFailureThreshold, TimeUnit.SECONDS.toMillis(circuitBreakerOpenSeconds)));
+    }
+
+    @Override
+    public Map<String, String> getCircuitBreakerStates() {
+        String domain = AuthContextUtils.getDomain();
+        return circuitBreakers.entrySet().stream().
+                filter(entry -> domain.equals(entry.getKey().getLeft())).
+                collect(Collectors.toMap(
+                        entry -> entry.getKey().getRight(), entry -> entry.getValue().getState().name()));
+    }
+
+    protected static boolean isUnreachable(final Exception e) {
+        return ExceptionUtils.indexOfType(e, TimeoutException.class) != -1
+                || ExceptionUtils.indexOfType(e, ConnectorIOException.class) != -1;
+    }
+
+    protected static String circuitOpen(final String resource) {
+        return "Not attempted because " + resource + " was recently found unreachable";
+    }
+
     protected List<PropagationActions> getPropagationActions(final ExternalResource resource) {
         List<PropagationActions> result = new ArrayList<>();
 
@@ -170,12 +230,17 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
         return result;
     }
 
+    /**
+     * Builds the connector operation required to create or update the remote object for the given task.
+     *
+     * @param task propagation task
+     * @param beforeObj remote object before propagation, null if not existing
+     * @return connector operation, or empty if there is nothing to propagate
+     */
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    protected Uid createOrUpdate(
+    protected Optional<ConnectorBatchOperation> createOrUpdate(
             final PropagationTask task,
-            final ConnectorObject beforeObj,
-            final Connector connector,
-            final AtomicReference<Boolean> propagationAttempted) {
+            final ConnectorObject beforeObj) {
 
         // set of attributes to be propagated
         Set<Attribute> attributes = new HashSet<>(task.getAttributes());
@@ -201,83 +266,129 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
                     "Not attempted because there are mandatory attributes without value(s): " + mandatoryAttrNames);
         }
 
-        Uid result;
         if (beforeObj == null) {
             LOG.debug("Create {} on {}", attributes, task.getResource().getKey());
-            result = connector.create(
-                    new ObjectClass(task.getObjectClassName()), attributes, null, propagationAttempted);
+            return Optional.of(ConnectorBatchOperation.create(
+                    new ObjectClass(task.getObjectClassName()), attributes, null));
+        }
 
-            task.getResource().getProvision(task.getAnyType()).ifPresent(provision -> {
-                if (provision.getUidOnCreate() != null) {
-                    anyUtilsFactory.getInstance(task.getAnyTypeKind()).
-                            addAttr(task.getEntityKey(), provision.getUidOnCreate(), result.getUidValue());
-                }
-            });
-        } else {
-            // 1. check if rename is really required
-            Name newName = AttributeUtil.getNameFromAttributes(attributes);
+        // 1. check if rename is really required
+        Name newName = AttributeUtil.getNameFromAttributes(attributes);
 
-            LOG.debug("Rename required with value {}", newName);
+        LOG.debug("Rename required with value {}", newName);
 
-            if (newName != null && newName.equals(beforeObj.getName())
-                    && !newName.getNameValue().equals(beforeObj.getUid().getUidValue())) {
+        if (newName != null && newName.equals(beforeObj.getName())
+                && !newName.getNameValue().equals(beforeObj.getUid().getUidValue())) {
 
-                LOG.debug("Remote object name unchanged");
-                attributes.remove(newName);
-            }
+            LOG.debug("Remote object name unchanged");
+            attributes.remove(newName);
+        }
 
-            // 2. check whether anything is actually needing to be propagated, i.e. if there is attribute
-            // difference between beforeObj - just read above from the connector - and the values to be propagated
-            Map<String, Attribute> originalAttrMap = beforeObj.getAttributes().stream().
-                    collect(Collectors.toMap(attr -> attr.getName().toUpperCase(), Function.identity()));
-            Map<String, Attribute> updateAttrMap = attributes.stream().
-                    collect(Collectors.toMap(attr -> attr.getName().toUpperCase(), Function.identity()));
+        // 2. check whether anything is actually needing to be propagated, i.e. if there is attribute
+        // difference between beforeObj - just read above from the connector - and the values to be propagated
+        Map<String, Attribute> originalAttrMap = beforeObj.getAttributes().stream().
+                collect(Collectors.toMap(attr -> attr.getName().toUpperCase(), Function.identity()));
+        Map<String, Attribute> updateAttrMap = attributes.stream().
+                collect(Collectors.toMap(attr -> attr.getName().toUpperCase(), Function.identity()));
 
-            // Only compare attribute from beforeObj that are also being updated
-            Set<String> skipAttrNames = originalAttrMap.keySet();
-            skipAttrNames.removeAll(updateAttrMap.keySet());
+        // Only compare attribute from beforeObj that are also being updated
+        Set<String> skipAttrNames = originalAttrMap.keySet();
+        skipAttrNames.removeAll(updateAttrMap.keySet());
 
-            if (originalAttrMap.values().equals(attributes)) {
-                LOG.debug("Don't need to propagate anything: {} is equal to {}", originalAttrMap.values(), attributes);
-                result = AttributeUtil.getUidAttribute(attributes);
-            } else {
-                LOG.debug("Attributes that would be updated {}", attributes);
+        if (originalAttrMap.values().equals(attributes)) {
+            LOG.debug("Don't need to propagate anything: {} is equal to {}", originalAttrMap.values(), attributes);
+            return Optional.empty();
+        }
 
-                // 3. provision entry
-                LOG.debug("Update {} on {}", attributes, task.getResource().getKey());
+        LOG.debug("Attributes that would be updated {}", attributes);
 
-                result = connector.update(
-                        beforeObj.getObjectClass(),
-                        new Uid(beforeObj.getUid().getUidValue()),
-                        attributes,
-                        null,
-                        propagationAttempted);
-            }
+        // 3. provision entry
+        LOG.debug("Update {} on {}", attributes, task.getResource().getKey());
+
+        return Optional.of(ConnectorBatchOperation.update(
+                beforeObj.getObjectClass(), new Uid(beforeObj.getUid().getUidValue()), attributes, null));
+    }
+
+    /**
+     * Builds the connector operation required to delete the remote object for the given task.
+     *
+     * @param task propagation task
+     * @param beforeObj remote object before propagation, null if not existing
+     * @return connector operation, or empty if there is nothing to delete
+     */
+    protected Optional<ConnectorBatchOperation> delete(
+            final PropagationTask task,
+            final ConnectorObject beforeObj) {
+
+        if (beforeObj == null) {
+            LOG.debug("{} not found on {}: ignoring delete", task.getConnObjectKey(), task.getResource().getKey());
+            return Optional.empty();
         }
 
-        return result;
+        LOG.debug("Delete {} on {}", beforeObj.getUid(), task.getResource().getKey());
+        return Optional.of(ConnectorBatchOperation.delete(beforeObj.getObjectClass(), beforeObj.getUid(), null));
     }
 
-    protected Uid delete(
+    protected void created(final PropagationTask task, final Uid uid) {
+        task.getResource().getProvision(task.getAnyType()).ifPresent(provision -> {
+            if (provision.getUidOnCreate() != null) {
+                anyUtilsFactory.getInstance(task.getAnyTypeKind()).
+                        addAttr(task.getEntityKey(), provision.getUidOnCreate(), uid.getUidValue());
+            }
+        });
+    }
+
+    protected Uid createOrUpdate(
             final PropagationTask task,
             final ConnectorObject beforeObj,
             final Connector connector,
             final AtomicReference<Boolean> propagationAttempted) {
 
+        Optional<ConnectorBatchOperation> operation = createOrUpdate(task, beforeObj);
+        if (operation.isEmpty()) {
+            return AttributeUtil.getUidAttribute(task.getAttributes());
+        }
+
         Uid result;
-        if (beforeObj == null) {
-            LOG.debug("{} not found on {}: ignoring delete", task.getConnObjectKey(), task.getResource().getKey());
-            result = null;
-        } else {
-            LOG.debug("Delete {} on {}", beforeObj.getUid(), task.getResource().getKey());
+        if (operation.get().getOperation() == ResourceOperation.CREATE) {
+            result = connector.create(
+                    operation.get().getObjectClass(),
+                    operation.get().getAttrs(),
+                    operation.get().getOptions(),
+                    propagationAttempted);
 
-            connector.delete(beforeObj.getObjectClass(), beforeObj.getUid(), null, propagationAttempted);
-            result = beforeObj.getUid();
+            created(task, result);
+        } else {
+            result = connector.update(
+                    operation.get().getObjectClass(),
+                    operation.get().getUid(),
+                    operation.get().getAttrs(),
+                    operation.get().getOptions(),
+                    propagationAttempted);
         }
 
         return result;
     }
 
+    protected Uid delete(
+            final PropagationTask task,
+            final ConnectorObject beforeObj,
+            final Connector connector,
+            final AtomicReference<Boolean> propagationAttempted) {
+
+        Optional<ConnectorBatchOperation> operation = delete(task, beforeObj);
+        if (operation.isEmpty()) {
+            return null;
+        }
+
+        connector.delete(
+                operation.get().getObjectClass(),
+                operation.get().getUid(),
+                operation.get().getOptions(),
+                propagationAttempted);
+        return operation.get().getUid();
+    }
+
     protected PropagationTask buildTask(final PropagationTaskInfo taskInfo) {
         PropagationTask task;
         if (taskInfo.getKey() == null) {
@@ -308,201 +419,509 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
         return task;
     }
 
-    @Override
-    public TaskExec execute(
-            final PropagationTaskInfo taskInfo,
-            final PropagationReporter reporter,
-            final String executor) {
+    /**
+     * State of a propagation task while being executed.
+     */
+    protected static class PropagationContext {
+
+        protected final PropagationTaskInfo taskInfo;
+
+        protected final PropagationTask task;
+
+        protected final Connector connector;
+
+        protected final List<PropagationActions> actions;
+
+        protected final Date start = new Date();
+
+        protected final TaskExec execution;
+
+        // Flag to state whether any propagation has been attempted
+        protected final AtomicReference<Boolean> propagationAttempted = new AtomicReference<>(false);
+
+        protected String taskExecutionMessage;
+
+        protected String failureReason;
+
+        protected ConnectorObject beforeObj;
+
+        protected ConnectorObject afterObj;
+
+        protected Provision provision;
 
+        protected OrgUnit orgUnit;
+
+        protected Uid uid;
+
+        protected Result result;
+
+        protected PropagationContext(
+                final PropagationTaskInfo taskInfo,
+                final PropagationTask task,
+                final Connector connector,
+                final List<PropagationActions> actions,
+                final TaskExec execution) {
+
+            this.taskInfo = taskInfo;
+            this.task = task;
+            this.connector = connector;
+            this.actions = actions;
+            this.execution = execution;
+        }
+    }
+
+    protected PropagationContext newContext(final PropagationTaskInfo taskInfo, final String executor) {
         PropagationTask task = buildTask(taskInfo);
 
         Connector connector = taskInfo.getConnector() == null
                 ? connFactory.getConnector(task.getResource())
                 : taskInfo.getConnector();
 
-        List<PropagationActions> actions = getPropagationActions(task.getResource());
-
-        Date start = new Date();
-
         TaskExec execution = entityFactory.newEntity(TaskExec.class);
         execution.setStatus(ExecStatus.CREATED.name());
         execution.setExecutor(executor);
 
-        String taskExecutionMessage = null;
-        String failureReason = null;
+        return new PropagationContext(taskInfo, task, connector, getPropagationActions(task.getResource()), execution);
+    }
 
-        // Flag to state whether any propagation has been attempted
-        AtomicReference<Boolean> propagationAttempted = new AtomicReference<>(false);
+    protected void before(final PropagationContext ctx) {
+        ctx.provision = ctx.task.getResource().
+                getProvision(new ObjectClass(ctx.task.getObjectClassName())).orElse(null);
+        ctx.orgUnit = ctx.task.getResource().getOrgUnit();
+
+        if (ctx.taskInfo.getBeforeObj() == null || !ctx.taskInfo.getBeforeObj().isPresent()) {
+            // Try to read remote object BEFORE any actual operation
+            ctx.beforeObj = ctx.provision == null && ctx.orgUnit == null
+                    ? null
+                    : ctx.orgUnit == null
+                            ? getRemoteObject(ctx.task, ctx.connector, ctx.provision, ctx.actions, false)
+                            : getRemoteObject(ctx.task, ctx.connector, ctx.orgUnit, ctx.actions, false);
+        } else if (ctx.taskInfo.getBeforeObj().isPresent()) {
+            ctx.beforeObj = ctx.taskInfo.getBeforeObj().get();
+        }
 
-        ConnectorObject beforeObj = null;
-        ConnectorObject afterObj = null;
+        for (PropagationActions action : ctx.actions) {
+            action.before(ctx.task, ctx.beforeObj);
+        }
+    }
 
-        Provision provision = null;
-        OrgUnit orgUnit = null;
-        Uid uid = null;
-        Result result;
-        try {
-            provision = task.getResource().getProvision(new ObjectClass(task.getObjectClassName())).orElse(null);
-            orgUnit = task.getResource().getOrgUnit();
+    protected void succeeded(final PropagationContext ctx) {
+        ctx.execution.setStatus(ctx.propagationAttempted.get()
+                ? ExecStatus.SUCCESS.name()
+                : ExecStatus.NOT_ATTEMPTED.name());
 
-            if (taskInfo.getBeforeObj() == null || !taskInfo.getBeforeObj().isPresent()) {
-                // Try to read remote object BEFORE any actual operation
-                beforeObj = provision == null && orgUnit == null
-                        ? null
-                        : orgUnit == null
-                                ? getRemoteObject(task, connector, provision, actions, false)
-                                : getRemoteObject(task, connector, orgUnit, actions, false);
-            } else if (taskInfo.getBeforeObj().isPresent()) {
-                beforeObj = taskInfo.getBeforeObj().get();
-            }
+        LOG.debug("Successfully propagated to {}", ctx.task.getResource());
+        ctx.result = Result.SUCCESS;
 
-            for (PropagationActions action : actions) {
-                action.before(task, beforeObj);
-            }
+        getCircuitBreaker(ctx.task.getResource().getKey()).onSuccess();
+    }
 
-            switch (task.getOperation()) {
-                case CREATE:
-                case UPDATE:
-                    uid = createOrUpdate(task, beforeObj, connector, propagationAttempted);
-                    break;
+    protected void failed(final PropagationContext ctx, final Exception e) {
+        ctx.result = Result.FAILURE;
+        LOG.error("Exception during provision on resource " + ctx.task.getResource().getKey(), e);
 
-                case DELETE:
-                    uid = delete(task, beforeObj, connector, propagationAttempted);
-                    break;
+        ResourceCircuitBreaker circuitBreaker = getCircuitBreaker(ctx.task.getResource().getKey());
+        if (isUnreachable(e)) {
+            circuitBreaker.onFailure();
+        } else if (e instanceof ConnectorException) {
+            // the resource was reached, even though the operation failed
+            circuitBreaker.onSuccess();
+        } else {
+            circuitBreaker.onIgnore();
+        }
 
-                default:
+        if (e instanceof ConnectorException && e.getCause() != null) {
+            ctx.taskExecutionMessage = e.getCause().getMessage();
+            if (e.getCause().getMessage() == null) {
+                ctx.failureReason = e.getMessage();
+            } else {
+                ctx.failureReason = e.getMessage() + "\n\n Cause: " + e.getCause().getMessage().split("\n")[0];
             }
-
-            execution.setStatus(propagationAttempted.get()
-                    ? ExecStatus.SUCCESS.name()
-                    : ExecStatus.NOT_ATTEMPTED.name());
-
-            LOG.debug("Successfully propagated to {}", task.getResource());
-            result = Result.SUCCESS;
-        } catch (Exception e) {
-            result = Result.FAILURE;
-            LOG.error("Exception during provision on resource " + task.getResource().getKey(), e);
-
-            if (e instanceof ConnectorException && e.getCause() != null) {
-                taskExecutionMessage = e.getCause().getMessage();
-                if (e.getCause().getMessage() == null) {
-                    failureReason = e.getMessage();
-                } else {
-                    failureReason = e.getMessage() + "\n\n Cause: " + e.getCause().getMessage().split("\n")[0];
-                }
+        } else {
+            ctx.taskExecutionMessage = ExceptionUtils2.getFullStackTrace(e);
+            if (e.getCause() == null) {
+                ctx.failureReason = e.getMessage();
             } else {
-                taskExecutionMessage = ExceptionUtils2.getFullStackTrace(e);
-                if (e.getCause() == null) {
-                    failureReason = e.getMessage();
-                } else {
-                    failureReason = e.getMessage() + "\n\n Cause: " + e.getCause().getMessage().split("\n")[0];
-                }
+                ctx.failureReason = e.getMessage() + "\n\n Cause: " + e.getCause().getMessage().split("\n")[0];
             }
+        }
 
-            try {
-                execution.setStatus(ExecStatus.FAILURE.name());
-            } catch (Exception wft) {
-                LOG.error("While executing KO action on {}", execution, wft);
-            }
+        try {
+            ctx.execution.setStatus(ExecStatus.FAILURE.name());
+        } catch (Exception wft) {
+            LOG.error("While executing KO action on {}", ctx.execution, wft);
+        }
 
-            propagationAttempted.set(true);
+        ctx.propagationAttempted.set(true);
 
-            actions.forEach(action -> action.onError(task, execution, e));
-        } finally {
-            // Try to read remote object AFTER any actual operation
-            if (connector != null) {
-                if (uid != null) {
-                    task.setConnObjectKey(uid.getUidValue());
-                }
-                try {
-                    afterObj = provision == null && orgUnit == null
-                            ? null
-                            : orgUnit == null
-                                    ? getRemoteObject(task, connector, provision, actions, true)
-                                    : getRemoteObject(task, connector, orgUnit, actions, true);
-                } catch (Exception ignore) {
-                    // ignore exception
-                    LOG.error("Error retrieving after object", ignore);
-                }
-            }
+        ctx.actions.forEach(action -> action.onError(ctx.task, ctx.execution, e));
+    }
 
-            if (task.getOperation() != ResourceOperation.DELETE && afterObj == null && uid != null) {
-                afterObj = new ConnectorObjectBuilder().
-                        setObjectClass(new ObjectClass(task.getObjectClassName())).
-                        setUid(uid).
-                        setName(AttributeUtil.getNameFromAttributes(task.getAttributes())).
-                        build();
+    protected void complete(final PropagationContext ctx, final PropagationReporter reporter) {
+        // Try to read remote object AFTER any actual operation
+        if (ctx.connector != null) {
+            if (ctx.uid != null) {
+                ctx.task.setConnObjectKey(ctx.uid.getUidValue());
+            }
+            try {
+                ctx.afterObj = ctx.provision == null && ctx.orgUnit == null
+                        ? null
+                        : ctx.orgUnit == null
+                                ? getRemoteObject(ctx.task, ctx.connector, ctx.provision, ctx.actions, true)
+                                : getRemoteObject(ctx.task, ctx.connector, ctx.orgUnit, ctx.actions, true);
+            } catch (Exception ignore) {
+                // ignore exception
+                LOG.error("Error retrieving after object", ignore);
             }
+        }
 
-            execution.setStart(start);
-            execution.setMessage(taskExecutionMessage);
-            execution.setEnd(new Date());
+        if (ctx.task.getOperation() != ResourceOperation.DELETE && ctx.afterObj == null && ctx.uid != null) {
+            ctx.afterObj = new ConnectorObjectBuilder().
+                    setObjectClass(new ObjectClass(ctx.task.getObjectClassName())).
+                    setUid(ctx.uid).
+                    setName(AttributeUtil.getNameFromAttributes(ctx.task.getAttributes())).
+                    build();
+        }
 
-            LOG.debug("Execution finished: {}", execution);
+        ctx.execution.setStart(ctx.start);
+        ctx.execution.setMessage(ctx.taskExecutionMessage);
+        ctx.execution.setEnd(new Date());
 
-            if (hasToBeregistered(task, execution)) {
-                LOG.debug("Execution to be stored: {}", execution);
+        LOG.debug("Execution finished: {}", ctx.execution);
 
-                execution.setTask(task);
-                task.add(execution);
+        if (hasToBeregistered(ctx.task, ctx.execution)) {
+            LOG.debug("Execution to be stored: {}", ctx.execution);
 
-                taskDAO.save(task);
-            }
+            ctx.execution.setTask(ctx.task);
+            ctx.task.add(ctx.execution);
 
-            reporter.onSuccessOrNonPriorityResourceFailures(taskInfo,
-                    ExecStatus.valueOf(execution.getStatus()),
-                    failureReason,
-                    beforeObj,
-                    afterObj);
+            taskDAO.save(ctx.task);
         }
 
-        for (PropagationActions action : actions) {
-            action.after(task, execution, afterObj);
+        reporter.onSuccessOrNonPriorityResourceFailures(ctx.taskInfo,
+                ExecStatus.valueOf(ctx.execution.getStatus()),
+                ctx.failureReason,
+                ctx.beforeObj,
+                ctx.afterObj);
+    }
+
+    protected TaskExec after(final PropagationContext ctx) {
+        for (PropagationActions action : ctx.actions) {
+            action.after(ctx.task, ctx.execution, ctx.afterObj);
         }
         // SYNCOPE-1136
-        String anyTypeKind = task.getAnyTypeKind() == null ? "realm" : task.getAnyTypeKind().name().toLowerCase();
-        String operation = task.getOperation().name().toLowerCase();
+        String anyTypeKind = ctx.task.getAnyTypeKind() == null
+                ? "realm"
+                : ctx.task.getAnyTypeKind().name().toLowerCase();
+        String operation = ctx.task.getOperation().name().toLowerCase();
         boolean notificationsAvailable = notificationManager.notificationsAvailable(
-                AuditElements.EventCategoryType.PROPAGATION, anyTypeKind, task.getResource().getKey(), operation);
+                AuditElements.EventCategoryType.PROPAGATION, anyTypeKind, ctx.task.getResource().getKey(), operation);
         boolean auditRequested = auditManager.auditRequested(
                 AuthContextUtils.getUsername(),
                 AuditElements.EventCategoryType.PROPAGATION,
                 anyTypeKind,
-                task.getResource().getKey(),
+                ctx.task.getResource().getKey(),
                 operation);
 
         if (notificationsAvailable || auditRequested) {
-            ExecTO execTO = taskDataBinder.getExecTO(execution);
+            ExecTO execTO = taskDataBinder.getExecTO(ctx.execution);
             notificationManager.createTasks(
                     AuthContextUtils.getUsername(),
                     AuditElements.EventCategoryType.PROPAGATION,
                     anyTypeKind,
-                    task.getResource().getKey(),
+                    ctx.task.getResource().getKey(),
                     operation,
-                    result,
-                    beforeObj,
-                    new Object[] { execTO, afterObj },
-                    taskInfo);
+                    ctx.result,
+                    ctx.beforeObj,
+                    new Object[] { execTO, ctx.afterObj },
+                    ctx.taskInfo);
 
             auditManager.audit(
                     AuthContextUtils.getUsername(),
                     AuditElements.EventCategoryType.PROPAGATION,
                     anyTypeKind,
-                    task.getResource().getKey(),
+                    ctx.task.getResource().getKey(),
                     operation,
-                    result,
-                    beforeObj,
-                    new Object[] { execTO, afterObj },
-                    taskInfo);
+                    ctx.result,
+                    ctx.beforeObj,
+                    new Object[] { execTO, ctx.afterObj },
+                    ctx.taskInfo);
         }
 
-        return execution;
+        return ctx.execution;
+    }
+
+    @Override
+    public TaskExec execute(
+            final PropagationTaskInfo taskInfo,
+            final PropagationReporter reporter,
+            final String executor) {
+
+        if (!getCircuitBreaker(taskInfo.getResource()).allow()) {
+            LOG.debug("Circuit breaker open for {}, not attempting {}", taskInfo.getResource(), taskInfo);
+            return rejected(taskInfo, circuitOpen(taskInfo.getResource()), reporter, executor);
+        }
+
+        PropagationContext ctx = newContext(taskInfo, executor);
+        try {
+            before(ctx);
+
+            switch (ctx.task.getOperation()) {
+                case CREATE:
+                case UPDATE:
+                    ctx.uid = createOrUpdate(ctx.task, ctx.beforeObj, ctx.connector, ctx.propagationAttempted);
+                    break;
+
+                case DELETE:
+                    ctx.uid = delete(ctx.task, ctx.beforeObj, ctx.connector, ctx.propagationAttempted);
+                    break;
+
+                default:
+            }
+
+            succeeded(ctx);
+        } catch (Exception e) {
+            failed(ctx, e);
+        } finally {
+            complete(ctx, reporter);
+        }
+
+        return after(ctx);
+    }
+
+    @Override
+    public Map<String, PropagationReporter> executeBatch(
+            final Collection<PropagationTaskInfo> taskInfos,
+            final int batchSize,
+            final boolean nullPriorityAsync,
+            final String executor) {
+
+        Map<String, PropagationReporter> reporters = new LinkedHashMap<>();
+        taskInfos.forEach(taskInfo -> reporters.computeIfAbsent(
+                taskInfo.getEntityKey(), k -> new DefaultPropagationReporter()));
+
+        // group by resource and operation, priority resources first
+        Map<Pair<String, ResourceOperation>, List<PropagationTaskInfo>> groups = taskInfos.stream().
+                sorted(Comparator.comparing(
+                        (PropagationTaskInfo taskInfo) -> taskInfo.getExternalResource().getPropagationPriority(),
+                        Comparator.nullsLast(Comparator.naturalOrder()))).
+                collect(Collectors.groupingBy(
+                        taskInfo -> Pair.of(taskInfo.getResource(), taskInfo.getOperation()),
+                        LinkedHashMap::new,
+                        Collectors.toList()));
+
+        Set<String> failedOnPriority = new HashSet<>();
+        List<Future<?>> futures = new ArrayList<>();
+        groups.forEach((group, infos) -> {
+            LOG.debug("Executing {} tasks for {} on {}", infos.size(), group.getRight(), group.getLeft());
+
+            boolean priority = infos.get(0).getExternalResource().getPropagationPriority() != null;
+            for (int i = 0; i < infos.size(); i += batchSize) {
+                List<PropagationTaskInfo> chunk = infos.subList(i, Math.min(i + batchSize, infos.size())).stream().
+                        filter(taskInfo -> !failedOnPriority.contains(taskInfo.getEntityKey())).
+                        collect(Collectors.toList());
+                if (chunk.isEmpty()) {
+                    continue;
+                }
+
+                if (priority) {
+                    // priority resources are processed sequentially, on the calling thread
+                    executeAndReport(chunk, reporters, executor).stream().
+                            filter(execution -> ExecStatus.valueOf(execution.getRight().getStatus())
+                            != ExecStatus.SUCCESS).
+                            forEach(execution -> {
+                                LOG.debug("Priority resource {} failed for {}: skipping further propagation",
+                                        group.getLeft(), execution.getLeft().getEntityKey());
+                                failedOnPriority.add(execution.getLeft().getEntityKey());
+                            });
+                } else {
+                    // non-priority resources are processed concurrently, as for single entities
+                    try {
+                        futures.add(submitChunk(chunk, reporters, executor));
+
+                        if (nullPriorityAsync) {
+                            chunk.forEach(taskInfo -> reporters.get(taskInfo.getEntityKey()).
+                                    onSuccessOrNonPriorityResourceFailures(
+                                            taskInfo, ExecStatus.CREATED, null, null, null));
+                        }
+                    } catch (Exception e) {
+                        LOG.error("While submitting tasks for async execution on {}", group.getLeft(), e);
+                        chunk.forEach(taskInfo -> rejected(
+                                taskInfo, e.getMessage(), reporters.get(taskInfo.getEntityKey()), executor));
+                    }
+                }
+            }
+        });
+
+        // wait for all chunks to complete, if async processing was not required
+        if (!nullPriorityAsync) {
+            futures.forEach(future -> {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    LOG.error("Unexpected exception", e);
+                }
+            });
+        }
+
+        return reporters;
+    }
+
+    @Override
+    public void executeChunk(
+            final Collection<PropagationTaskInfo> taskInfos,
+            final Map<String, PropagationReporter> reporters,
+            final String executor) {
+
+        executeAndReport(taskInfos, reporters, executor);
+    }
+
+    /**
+     * Submits the given tasks, related to a resource with no priority, for execution via
+     * {@link #executeChunk(Collection, Map, String)}; unless overridden, tasks are executed on the calling thread.
+     *
+     * @param taskInfos to be executed
+     * @param reporters to report propagation execution status, by entity key
+     * @param executor the executor of this task
+     * @return future completing when the given tasks were executed
+     */
+    protected Future<?> submitChunk(
+            final List<PropagationTaskInfo> taskInfos,
+            final Map<String, PropagationReporter> reporters,
+            final String executor) {
+
+        executeChunk(taskInfos, reporters, executor);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Executes the given tasks as a single chunk, after checking the circuit breakers of the related resources, then
+     * reports their outcome.
+     *
+     * @param taskInfos to be executed
+     * @param reporters to report propagation execution status, by entity key
+     * @param executor the executor of this task
+     * @return executions for the given tasks
+     */
+    protected List<Pair<PropagationTaskInfo, TaskExec>> executeAndReport(
+            final Collection<PropagationTaskInfo> taskInfos,
+            final Map<String, PropagationReporter> reporters,
+            final String executor) {
+
+        List<Pair<PropagationTaskInfo, TaskExec>> executions = new ArrayList<>(taskInfos.size());
+
+        List<PropagationTaskInfo> chunk = new ArrayList<>();
+        taskInfos.forEach(taskInfo -> {
+            if (getCircuitBreaker(taskInfo.getResource()).allow()) {
+                chunk.add(taskInfo);
+            } else {
+                executions.add(Pair.of(taskInfo, rejected(
+                        taskInfo,
+                        circuitOpen(taskInfo.getResource()),
+                        reporters.get(taskInfo.getEntityKey()),
+                        executor)));
+            }
+        });
+
+        executeChunk(chunk, executor).forEach(ctx -> {
+            complete(ctx, reporters.get(ctx.taskInfo.getEntityKey()));
+            executions.add(Pair.of(ctx.taskInfo, after(ctx)));
+        });
+
+        return executions;
+    }
+
+    /**
+     * Reads remote objects and builds the required connector operations for the given tasks, then submits such
+     * operations to the related connector instances, once per connector instance.
+     *
+     * @param taskInfos to be executed
+     * @param executor the executor of this task
+     * @return the execution state for each of the given tasks
+     */
+    protected List<PropagationContext> executeChunk(
+            final List<PropagationTaskInfo> taskInfos,
+            final String executor) {
+
+        List<PropagationContext> contexts = new ArrayList<>(taskInfos.size());
+        Map<Connector, List<Pair<PropagationContext, ConnectorBatchOperation>>> operations = new IdentityHashMap<>();
+
+        taskInfos.forEach(taskInfo -> {
+            PropagationContext ctx = newContext(taskInfo, executor);
+            contexts.add(ctx);
+            try {
+                before(ctx);
+
+                Optional<ConnectorBatchOperation> operation = Optional.empty();
+                switch (ctx.task.getOperation()) {
+                    case CREATE:
+                    case UPDATE:
+                        operation = createOrUpdate(ctx.task, ctx.beforeObj);
+                        if (operation.isEmpty()) {
+                            ctx.uid = AttributeUtil.getUidAttribute(ctx.task.getAttributes());
+                        }
+                        break;
+
+                    case DELETE:
+                        operation = delete(ctx.task, ctx.beforeObj);
+                        break;
+
+                    default:
+                }
+
+                if (operation.isPresent()) {
+                    operations.computeIfAbsent(ctx.connector, k -> new ArrayList<>()).
+                            add(Pair.of(ctx, operation.get()));
+                } else {
+                    succeeded(ctx);
+                }
+            } catch (Exception e) {
+                failed(ctx, e);
+            }
+        });
+
+        operations.forEach((connector, ops) -> {
+            LOG.debug("Submitting {} operations to {}", ops.size(), connector);
+
+            connector.batch(ops.stream().map(Pair::getRight).collect(Collectors.toList()));
+
+            ops.forEach(op -> {
+                PropagationContext ctx = op.getLeft();
+                try {
+                    if (op.getRight().getFailure() != null) {
+                        throw op.getRight().getFailure();
+                    }
+
+                    ctx.propagationAttempted.set(op.getRight().getPropagationAttempted().get());
+                    ctx.uid = op.getRight().getResult();
+                    if (op.getRight().getOperation() == ResourceOperation.CREATE) {
+                        created(ctx.task, ctx.uid);
+                    }
+
+                    succeeded(ctx);
+                } catch (Exception e) {
+                    failed(ctx, e);
+                }
+            });
+        });
+
+        return contexts;
     }
 
     protected abstract void doExecute(
             Collection<PropagationTaskInfo> taskInfos, PropagationReporter reporter, boolean nullPriorityAsync,
             String executor);
 
+    /**
+     * Reports the given task as not attempted; the related execution is always stored, regardless of the trace level
+     * configured for the resource, so that the task can be executed again later.
+     *
+     * @param taskInfo task not attempted
+     * @param rejectReason reason why the task was not attempted
+     * @param reporter to report propagation execution status
+     * @param executor the executor of this task
+     * @return the generated TaskExec
+     */
     protected TaskExec rejected(
             final PropagationTaskInfo taskInfo,
             final String rejectReason,
@@ -518,14 +937,12 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
         execution.setMessage(rejectReason);
         execution.setEnd(execution.getStart());
 
-        if (hasToBeregistered(task, execution)) {
-            LOG.debug("Execution to be stored: {}", execution);
+        LOG.debug("Execution to be stored: {}", execution);
 
-            execution.setTask(task);
-            task.add(execution);
+        execution.setTask(task);
+        task.add(execution);
 
-            taskDAO.save(task);
-        }
+        taskDAO.save(task);
 
         reporter.onSuccessOrNonPriorityResourceFailures(
                 taskInfo,
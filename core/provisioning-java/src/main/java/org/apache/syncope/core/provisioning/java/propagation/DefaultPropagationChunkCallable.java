@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationReporter;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Executes a chunk of propagation tasks via {@link PropagationTaskExecutor#executeChunk(Collection, Map, String)},
+ * with the domain and authorities of the thread which created this instance.
+ */
+public class DefaultPropagationChunkCallable implements Callable<Void> {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(DefaultPropagationChunkCallable.class);
+
+    @Autowired
+    protected PropagationTaskExecutor taskExecutor;
+
+    protected final String domain;
+
+    protected final Collection<String> authorities;
+
+    protected Collection<PropagationTaskInfo> taskInfos;
+
+    protected Map<String, PropagationReporter> reporters;
+
+    protected String executor;
+
+    public DefaultPropagationChunkCallable() {
+        SecurityContext ctx = SecurityContextHolder.getContext();
+        domain = AuthContextUtils.getDomain();
+        authorities = ctx.getAuthentication().getAuthorities().stream().
+                map(GrantedAuthority::getAuthority).collect(Collectors.toSet());
+    }
+
+    public void setTaskInfos(final Collection<PropagationTaskInfo> taskInfos) {
+        this.taskInfos = taskInfos;
+    }
+
+    public void setReporters(final Map<String, PropagationReporter> reporters) {
+        this.reporters = reporters;
+    }
+
+    public void setExecutor(final String executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public Void call() throws Exception {
+        return AuthContextUtils.callAs(domain, executor, authorities, () -> {
+            LOG.debug("Execution started for {} tasks", taskInfos.size());
+
+            taskExecutor.executeChunk(taskInfos, reporters, executor);
+
+            LOG.debug("Execution completed for {} tasks", taskInfos.size());
+
+            return null;
+        });
+    }
+}
@@ -22,12 +22,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CompletionService;
-import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import javax.annotation.Resource;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.ExecStatus;
 import org.apache.syncope.core.persistence.api.entity.Exec;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
@@ -36,13 +38,16 @@ import org.apache.syncope.core.provisioning.api.propagation.PropagationException
 import org.apache.syncope.core.provisioning.api.propagation.PropagationReporter;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskCallable;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * Sorts the tasks to be executed according to related
  * {@link org.apache.syncope.core.persistence.api.entity.resource.ExternalResource}'s priority, then execute.
- * Tasks related to resources with NULL priority are executed after other tasks, concurrently.
+ * Tasks related to resources with NULL priority are executed after other tasks, concurrently; the number of such tasks
+ * running at the same time for each domain and resource is bounded, so that a slow resource cannot exhaust the shared
+ * executor, as is the number of such tasks queued meanwhile: further tasks are not attempted.
  * Failure during execution of a task related to resource with non-NULL priority are treated as fatal and will interrupt
  * the whole process, resulting in a global failure.
  */
@@ -51,6 +56,40 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
     @Resource(name = "propagationTaskExecutorAsyncExecutor")
     protected ThreadPoolTaskExecutor taskExecutor;
 
+    /**
+     * Bulkheads, by domain and resource key.
+     */
+    protected final Map<Pair<String, String>, ResourceBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    protected int maxConcurrentPerResource;
+
+    protected int maxPendingPerResource = 1000;
+
+    /**
+     * @param maxConcurrentPerResource maximum number of tasks concurrently executed for the same resource; when not
+     * positive, half of the core pool size of the underlying executor is used
+     */
+    public void setMaxConcurrentPerResource(final int maxConcurrentPerResource) {
+        this.maxConcurrentPerResource = maxConcurrentPerResource;
+    }
+
+    /**
+     * @param maxPendingPerResource maximum number of tasks queued for the same resource, waiting for running ones to
+     * complete: further tasks are not attempted
+     */
+    public void setMaxPendingPerResource(final int maxPendingPerResource) {
+        this.maxPendingPerResource = maxPendingPerResource;
+    }
+
+    protected ResourceBulkhead getBulkhead(final String resource) {
+        return bulkheads.computeIfAbsent(Pair.of(AuthContextUtils.getDomain(), resource), k -> new ResourceBulkhead(
+                taskExecutor,
+                maxConcurrentPerResource > 0
+                ? maxConcurrentPerResource
+                : Math.max(1, taskExecutor.getCorePoolSize() / 2),
+                maxPendingPerResource));
+    }
+
     /**
      * Creates new instances of {@link PropagationTaskCallable} for usage with
      * {@link java.util.concurrent.CompletionService}.
@@ -73,6 +112,30 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
         return callable;
     }
 
+    @Override
+    protected Future<?> submitChunk(
+            final List<PropagationTaskInfo> taskInfos,
+            final Map<String, PropagationReporter> reporters,
+            final String executor) {
+
+        DefaultPropagationChunkCallable callable = (DefaultPropagationChunkCallable) ApplicationContextProvider.
+                getBeanFactory().createBean(
+                        DefaultPropagationChunkCallable.class, AbstractBeanDefinition.AUTOWIRE_BY_TYPE, false);
+        callable.setTaskInfos(taskInfos);
+        callable.setReporters(reporters);
+        callable.setExecutor(executor);
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        getBulkhead(taskInfos.get(0).getResource()).execute(() -> {
+            try {
+                future.complete(callable.call());
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
     @Override
     protected void doExecute(
             final Collection<PropagationTaskInfo> taskInfos,
@@ -111,14 +174,22 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
             }
         });
 
-        // then process non-priority resources concurrently...
+        // then process non-priority resources concurrently, bounding the number of tasks running for each resource...
         if (!concurrentTasks.isEmpty()) {
-            CompletionService<TaskExec> completionService = new ExecutorCompletionService<>(taskExecutor);
             List<Future<TaskExec>> futures = new ArrayList<>();
 
             concurrentTasks.forEach(taskInfo -> {
                 try {
-                    futures.add(completionService.submit(newPropagationTaskCallable(taskInfo, reporter, executor)));
+                    PropagationTaskCallable callable = newPropagationTaskCallable(taskInfo, reporter, executor);
+                    CompletableFuture<TaskExec> future = new CompletableFuture<>();
+                    getBulkhead(taskInfo.getResource()).execute(() -> {
+                        try {
+                            future.complete(callable.call());
+                        } catch (Exception e) {
+                            future.completeExceptionally(e);
+                        }
+                    });
+                    futures.add(future);
 
                     if (nullPriorityAsync) {
                         reporter.onSuccessOrNonPriorityResourceFailures(
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounds the number of propagation tasks concurrently executed for an external resource on the shared executor:
+ * exceeding tasks are queued, without holding any executor thread, and submitted as soon as running tasks complete;
+ * tasks exceeding the queue capacity as well are rejected.
+ */
+public class ResourceBulkhead {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ResourceBulkhead.class);
+
+    private final Executor executor;
+
+    private final int maxConcurrent;
+
+    private final int maxPending;
+
+    private final Deque<Runnable> pending = new ArrayDeque<>();
+
+    private int running;
+
+    public ResourceBulkhead(final Executor executor, final int maxConcurrent, final int maxPending) {
+        this.executor = executor;
+        this.maxConcurrent = maxConcurrent;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * Executes the given task as soon as the concurrency limit allows.
+     *
+     * @param task task to execute
+     * @throws RejectedExecutionException if too many tasks are already queued, or if the task could not be submitted
+     * to the underlying executor
+     */
+    public void execute(final Runnable task) {
+        synchronized (this) {
+            if (running >= maxConcurrent) {
+                if (pending.size() >= maxPending) {
+                    throw new RejectedExecutionException(
+                            "Too many tasks pending: " + pending.size() + " queued, " + running + " running");
+                }
+                pending.add(task);
+                return;
+            }
+            running++;
+        }
+
+        try {
+            submit(task);
+        } catch (RejectedExecutionException e) {
+            next();
+            throw e;
+        }
+    }
+
+    private void submit(final Runnable task) {
+        executor.execute(() -> {
+            try {
+                task.run();
+            } finally {
+                next();
+            }
+        });
+    }
+
+    private void next() {
+        while (true) {
+            Runnable next;
+            synchronized (this) {
+                next = pending.poll();
+                if (next == null) {
+                    running--;
+                    return;
+                }
+            }
+
+            try {
+                submit(next);
+                return;
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Executor saturated, running queued task on the current thread");
+                try {
+                    next.run();
+                } catch (RuntimeException re) {
+                    LOG.error("While running queued task", re);
+                }
+            }
+        }
+    }
+
+    public synchronized int getRunning() {
+        return running;
+    }
+
+    public synchronized int getPending() {
+        return pending.size();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+/**
+ * Circuit breaker for propagation towards an external resource: after a given number of consecutive failures due to
+ * the resource not being reachable, the circuit opens and further propagation tasks are not attempted; once the
+ * configured interval has elapsed, a single trial task is allowed, whose outcome closes or opens again the circuit.
+ */
+public class ResourceCircuitBreaker {
+
+    public enum State {
+
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+
+    }
+
+    private final int failureThreshold;
+
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+
+    private int failures;
+
+    private long openedAt;
+
+    private boolean trialInFlight;
+
+    public ResourceCircuitBreaker(final int failureThreshold, final long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * Checks whether a propagation task can be attempted.
+     *
+     * @return whether a propagation task can be attempted
+     */
+    public synchronized boolean allow() {
+        switch (state) {
+            case OPEN:
+                if (System.currentTimeMillis() - openedAt < openMillis) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+
+            case HALF_OPEN:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+
+            case CLOSED:
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Reports that the resource was successfully reached.
+     */
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        failures = 0;
+        trialInFlight = false;
+    }
+
+    /**
+     * Reports that the resource could not be reached.
+     */
+    public synchronized void onFailure() {
+        trialInFlight = false;
+        failures++;
+        if (state == State.HALF_OPEN || failures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Reports that the outcome of the propagation task does not tell anything about the resource reachability.
+     */
+    public synchronized void onIgnore() {
+        trialInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis
+                ? State.HALF_OPEN
+                : state;
+    }
+}
@@ -20,10 +20,15 @@ package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.AnyOperations;
 import org.apache.syncope.common.lib.request.AnyCR;
 import org.apache.syncope.common.lib.request.AnyUR;
@@ -40,6 +45,7 @@ import org.apache.syncope.common.lib.types.PullMode;
 import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.common.lib.types.UnmatchingRule;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
+import org.apache.syncope.core.persistence.api.dao.PullCorrelationRule;
 import org.apache.syncope.core.persistence.api.dao.RemediationDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationException;
@@ -49,6 +55,7 @@ import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.Remediation;
 import org.apache.syncope.core.persistence.api.entity.resource.Provision;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
+import org.apache.syncope.core.persistence.api.entity.user.LinkedAccount;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.ProvisioningManager;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCache;
@@ -104,6 +111,22 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
 
     protected Result latestResult;
 
+    /**
+     * Changes preprocessed by {@link #prefetch(List)}, not yet handled, with their matches - if found.
+     */
+    protected final Map<SyncDelta, Pair<SyncDelta, List<PullMatch>>> prefetched = new IdentityHashMap<>();
+
+    /**
+     * Changes which failed preprocessing during {@link #prefetch(List)}, not yet handled.
+     */
+    protected final Map<SyncDelta, RuntimeException> prefetchFailures = new IdentityHashMap<>();
+
+    /**
+     * Whether anything was created since latest {@link #prefetch(List)}: if so, changes which did not match by then
+     * are matched again when handled.
+     */
+    protected boolean createdSincePrefetch;
+
     protected abstract String getName(AnyTO anyTO);
 
     protected abstract String getName(AnyCR anyCR);
@@ -119,6 +142,42 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
         this.executor = executor;
     }
 
+    @Override
+    public void prefetch(final List<SyncDelta> deltas) {
+        createdSincePrefetch = false;
+
+        Map<Provision, List<SyncDelta>> byProvision = new LinkedHashMap<>();
+        deltas.forEach(delta -> profile.getTask().getResource().getProvision(delta.getObject().getObjectClass()).
+                ifPresent(provision -> {
+                    try {
+                        prefetched.put(delta, Pair.of(preprocess(delta), null));
+                        byProvision.computeIfAbsent(provision, k -> new ArrayList<>()).add(delta);
+                    } catch (RuntimeException e) {
+                        // rethrown when handling, as actions are not meant to preprocess the same change twice
+                        prefetchFailures.put(delta, e);
+                    }
+                }));
+
+        byProvision.forEach((provision, pulled) -> {
+            List<SyncDelta> finalDeltas = pulled.stream().
+                    map(delta -> prefetched.get(delta).getLeft()).collect(Collectors.toList());
+            try {
+                List<List<PullMatch>> matches = inboundMatcher.match(finalDeltas, provision);
+                for (int i = 0; i < pulled.size(); i++) {
+                    prefetched.put(pulled.get(i), Pair.of(finalDeltas.get(i), matches.get(i)));
+                }
+            } catch (RuntimeException e) {
+                LOG.warn("While matching {} changes, will match when handling", pulled.size(), e);
+            }
+        });
+    }
+
+    @Override
+    public void discardPrefetched() {
+        prefetched.clear();
+        prefetchFailures.clear();
+    }
+
     @Override
     public boolean handle(final SyncDelta delta) {
         Provision provision = null;
@@ -222,6 +281,7 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
 
             try {
                 AnyTO created = doCreate(anyCR, delta);
+                createdSincePrefetch = true;
                 output = created;
                 result.setKey(created.getKey());
                 result.setName(getName(created));
@@ -846,6 +906,45 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
         LOG.warn("Unexpected linked accounts found for {}: {}", provision.getAnyType().getKind(), matches);
     }
 
+    /**
+     * Lets the configured actions preprocess the given change.
+     *
+     * @param delta returned by the underlying profile.getConnector()
+     * @return preprocessed change
+     */
+    protected SyncDelta preprocess(final SyncDelta delta) {
+        SyncDelta finalDelta = delta;
+        for (PullActions action : profile.getActions()) {
+            finalDelta = action.preprocess(profile, finalDelta);
+        }
+        return finalDelta;
+    }
+
+    /**
+     * Reloads prefetched matches, as these might have been found within a different transaction.
+     *
+     * @param matches prefetched matches
+     * @return reloaded matches
+     */
+    protected List<PullMatch> reload(final List<PullMatch> matches) {
+        List<PullMatch> reloaded = new ArrayList<>(matches.size());
+        matches.forEach(match -> {
+            if (match.getMatchTarget() == MatchType.LINKED_ACCOUNT) {
+                LinkedAccount account = match.getLinkedAccount();
+                Optional.ofNullable(userDAO.find(account.getOwner().getKey())).
+                        flatMap(owner -> owner.getLinkedAccount(
+                        account.getResource().getKey(), account.getConnObjectKeyValue())).
+                        ifPresent(found -> reloaded.add(new PullMatch(MatchType.LINKED_ACCOUNT, found)));
+            } else if (match.getAny() == null) {
+                reloaded.add(match);
+            } else {
+                Optional.ofNullable(getAnyUtils().dao().find(match.getAny().getKey())).
+                        ifPresent(found -> reloaded.add(new PullMatch(MatchType.ANY, found)));
+            }
+        });
+        return reloaded.isEmpty() ? List.of(PullCorrelationRule.NO_MATCH) : reloaded;
+    }
+
     /**
      * Look into SyncDelta and take necessary profile.getActions() (create / update / delete) on any object(s).
      *
@@ -857,16 +956,30 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
         LOG.debug("Process {} for {} as {}",
                 delta.getDeltaType(), delta.getUid().getUidValue(), delta.getObject().getObjectClass());
 
-        SyncDelta finalDelta = delta;
-        for (PullActions action : profile.getActions()) {
-            finalDelta = action.preprocess(profile, finalDelta);
+        RuntimeException prefetchFailure = prefetchFailures.remove(delta);
+        if (prefetchFailure != null) {
+            throw prefetchFailure;
         }
+        Pair<SyncDelta, List<PullMatch>> prefetch = prefetched.remove(delta);
+
+        SyncDelta finalDelta = prefetch == null ? preprocess(delta) : prefetch.getLeft();
 
         LOG.debug("Transformed {} for {} as {}",
                 finalDelta.getDeltaType(), finalDelta.getUid().getUidValue(), finalDelta.getObject().getObjectClass());
 
         try {
-            List<PullMatch> matches = inboundMatcher.match(finalDelta, provision);
+            List<PullMatch> matches;
+            if (prefetch == null || prefetch.getRight() == null) {
+                matches = inboundMatcher.match(finalDelta, provision);
+            } else {
+                matches = reload(prefetch.getRight());
+                if (createdSincePrefetch && matches.stream().allMatch(
+                        match -> match.getMatchTarget() == MatchType.ANY && match.getAny() == null)) {
+
+                    // what was created by earlier changes in the same window might match now
+                    matches = inboundMatcher.match(finalDelta, provision);
+                }
+            }
             LOG.debug("Match(es) found for {} as {}: {}",
                     finalDelta.getUid().getUidValue(), finalDelta.getObject().getObjectClass(), matches);
 
@@ -221,16 +221,21 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
             doHandle(any, provision);
             return true;
         } catch (IgnoreProvisionException e) {
-            ProvisioningReport ignoreResult = profile.getResults().stream().
-                    filter(report -> anyKey.equalsIgnoreCase(report.getKey())).
-                    findFirst().
-                    orElse(null);
-            if (ignoreResult == null) {
-                ignoreResult = new ProvisioningReport();
-                ignoreResult.setKey(anyKey);
-                ignoreResult.setAnyType(Optional.ofNullable(any).map(any1 -> any1.getType().getKey()).orElse(null));
-
-                profile.getResults().add(ignoreResult);
+            ProvisioningReport ignoreResult;
+            // results might be concurrently updated by other push workers
+            synchronized (profile.getResults()) {
+                ignoreResult = profile.getResults().stream().
+                        filter(report -> anyKey.equalsIgnoreCase(report.getKey())).
+                        findFirst().
+                        orElse(null);
+                if (ignoreResult == null) {
+                    ignoreResult = new ProvisioningReport();
+                    ignoreResult.setKey(anyKey);
+                    ignoreResult.setAnyType(
+                            Optional.ofNullable(any).map(any1 -> any1.getType().getKey()).orElse(null));
+
+                    profile.getResults().add(ignoreResult);
+                }
             }
 
             ignoreResult.setOperation(ResourceOperation.NONE);
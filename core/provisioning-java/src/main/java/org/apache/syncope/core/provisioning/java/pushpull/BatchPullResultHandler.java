@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncResultsHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffers pulled objects into windows, which are prefetched at once by the given pull result handler, before being
+ * handled one by one, in the same order as received.
+ */
+public class BatchPullResultHandler implements SyncResultsHandler, AutoCloseable {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(BatchPullResultHandler.class);
+
+    public static final int WINDOW_SIZE = 100;
+
+    protected final SyncopePullResultHandler handler;
+
+    protected final List<SyncDelta> window = new ArrayList<>(WINDOW_SIZE);
+
+    protected boolean stop = false;
+
+    public BatchPullResultHandler(final SyncopePullResultHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public boolean handle(final SyncDelta delta) {
+        if (stop) {
+            return false;
+        }
+
+        window.add(delta);
+        if (window.size() >= WINDOW_SIZE) {
+            flush();
+        }
+        return !stop;
+    }
+
+    protected void flush() {
+        List<SyncDelta> deltas = new ArrayList<>(window);
+        window.clear();
+
+        try {
+            handler.prefetch(deltas);
+        } catch (RuntimeException e) {
+            LOG.warn("While prefetching {} changes, will match when handling", deltas.size(), e);
+        }
+
+        try {
+            for (SyncDelta delta : deltas) {
+                if (!handler.handle(delta)) {
+                    stop = true;
+                    return;
+                }
+            }
+        } finally {
+            // nothing left to handle when done, unless interrupted or failing meanwhile
+            handler.discardPrefetched();
+        }
+    }
+
+    /**
+     * Discards what was buffered and not yet handled.
+     */
+    public void stop() {
+        stop = true;
+        window.clear();
+        handler.discardPrefetched();
+    }
+
+    /**
+     * Handles what was buffered so far.
+     */
+    @Override
+    public void close() {
+        if (!stop && !window.isEmpty()) {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncResultsHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dispatches pulled objects to a fixed number of workers, each owning its own pull result handler, thus running its
+ * own transactions. Objects are partitioned by {@link org.identityconnectors.framework.common.objects.Uid} so that
+ * changes about the same object are processed in order; the connector is held when the worker queue is full.
+ * Each worker takes from its queue up to {@link BatchPullResultHandler#WINDOW_SIZE} objects at once, so that they can
+ * be matched altogether, if so requested.
+ */
+public class ConcurrentPullResultHandler implements SyncResultsHandler, AutoCloseable {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ConcurrentPullResultHandler.class);
+
+    protected static final int QUEUE_CAPACITY = 100;
+
+    /**
+     * Marks the end of dispatched objects, as null cannot be put in a {@link BlockingQueue}.
+     */
+    protected static final Optional<SyncDelta> END = Optional.empty();
+
+    protected final List<BlockingQueue<Optional<SyncDelta>>> queues = new ArrayList<>();
+
+    protected final ExecutorService workers;
+
+    protected final AtomicBoolean stop = new AtomicBoolean(false);
+
+    protected final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    protected final boolean batchMatching;
+
+    public ConcurrentPullResultHandler(
+            final String domain,
+            final List<SyncopePullResultHandler> handlers,
+            final boolean batchMatching) {
+
+        this.batchMatching = batchMatching;
+        workers = Executors.newFixedThreadPool(handlers.size());
+
+        handlers.forEach(handler -> {
+            BlockingQueue<Optional<SyncDelta>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+            queues.add(queue);
+
+            workers.execute(() -> {
+                try {
+                    AuthContextUtils.callAsAdmin(domain, () -> {
+                        work(handler, queue);
+                        return null;
+                    });
+                } catch (Throwable t) {
+                    // the worker is gone: make sure the connector thread does not wait for it
+                    fail(t);
+                    queue.clear();
+                }
+            });
+        });
+    }
+
+    protected void work(final SyncopePullResultHandler handler, final BlockingQueue<Optional<SyncDelta>> queue) {
+        boolean end = false;
+        while (!end) {
+            List<Optional<SyncDelta>> window = new ArrayList<>();
+            window.add(take(queue));
+            queue.drainTo(window, BatchPullResultHandler.WINDOW_SIZE - 1);
+
+            int endIndex = window.indexOf(END);
+            if (endIndex != -1) {
+                end = true;
+                window = window.subList(0, endIndex);
+            }
+            if (stop.get() || window.isEmpty()) {
+                continue;
+            }
+
+            handle(handler, window.stream().map(Optional::get).collect(Collectors.toList()));
+        }
+    }
+
+    protected void fail(final Throwable t) {
+        LOG.error("Pull worker failure", t);
+        failure.compareAndSet(null, t);
+        stop.set(true);
+    }
+
+    protected void handle(final SyncopePullResultHandler handler, final List<SyncDelta> deltas) {
+        if (batchMatching) {
+            try {
+                handler.prefetch(deltas);
+            } catch (RuntimeException e) {
+                LOG.warn("While prefetching {} changes, will match when handling", deltas.size(), e);
+            }
+        }
+
+        try {
+            for (SyncDelta delta : deltas) {
+                if (stop.get()) {
+                    return;
+                }
+
+                try {
+                    if (!handler.handle(delta)) {
+                        stop.set(true);
+                    }
+                } catch (Throwable t) {
+                    LOG.error("While handling {}", delta, t);
+                    fail(t);
+                }
+            }
+        } finally {
+            handler.discardPrefetched();
+        }
+    }
+
+    protected static Optional<SyncDelta> take(final BlockingQueue<Optional<SyncDelta>> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return END;
+        }
+    }
+
+    @Override
+    public boolean handle(final SyncDelta delta) {
+        if (stop.get()) {
+            return false;
+        }
+
+        BlockingQueue<Optional<SyncDelta>> queue = queues.get(
+                Math.floorMod(delta.getUid().getUidValue().hashCode(), queues.size()));
+        try {
+            // don't wait forever for a worker which might be gone meanwhile
+            while (!queue.offer(Optional.of(delta), 1, TimeUnit.SECONDS)) {
+                if (stop.get()) {
+                    return false;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stop.set(true);
+        }
+        return !stop.get();
+    }
+
+    /**
+     * Makes workers discard what was dispatched to them and not yet processed, then waits for them to complete.
+     */
+    public void stop() {
+        stop.set(true);
+        try {
+            close();
+        } catch (RuntimeException e) {
+            LOG.debug("While stopping", e);
+        }
+    }
+
+    /**
+     * Waits for all workers to process what was dispatched to them, then rethrows the first failure, if any.
+     */
+    @Override
+    public void close() {
+        queues.forEach(queue -> {
+            if (stop.get()) {
+                // nothing more to process: also makes room for END in queues of workers which are gone
+                queue.clear();
+            }
+            try {
+                queue.put(END);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        workers.shutdown();
+        try {
+            while (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+                LOG.debug("Waiting for pull workers to complete");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+
+        Throwable t = failure.get();
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        if (t != null) {
+            throw new IllegalStateException("While pulling", t);
+        }
+    }
+}
@@ -379,6 +379,7 @@ public class DefaultUserPullResultHandler extends AbstractPullResultHandler impl
                         true,
                         profile.getExecutor(),
                         getContext());
+                createdSincePrefetch = true;
 
                 LinkedAccountTO created = userDAO.find(req.getKey()).
                         getLinkedAccount(accountTO.getResource(), accountTO.getConnObjectKeyValue()).
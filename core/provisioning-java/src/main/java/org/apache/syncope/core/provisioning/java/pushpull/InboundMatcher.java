@@ -20,13 +20,22 @@ package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.common.lib.types.MatchType;
+import org.apache.syncope.common.lib.types.SchemaType;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.ParsingValidationException;
+import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
@@ -56,6 +65,7 @@ import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.VirSchema;
 import org.apache.syncope.core.persistence.api.entity.resource.Item;
+import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.VirAttrHandler;
 import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
@@ -85,6 +95,11 @@ public class InboundMatcher {
 
     private static final Logger LOG = LoggerFactory.getLogger(InboundMatcher.class);
 
+    /**
+     * Max number of values, or of conditions, for each query issued when matching several changes at once.
+     */
+    public static final int MAX_BATCH_QUERY_VALUES = 100;
+
     @Autowired
     private UserDAO userDAO;
 
@@ -97,6 +112,9 @@ public class InboundMatcher {
     @Autowired
     private AnySearchDAO searchDAO;
 
+    @Autowired
+    private AnyMatchDAO anyMatchDAO;
+
     @Autowired
     private RealmDAO realmDAO;
 
@@ -186,6 +204,20 @@ public class InboundMatcher {
         return result;
     }
 
+    protected static String transform(final Item connObjectKeyItem, final String connObjectKeyValue) {
+        String finalConnObjectKeyValue = connObjectKeyValue;
+        for (ItemTransformer transformer : MappingUtils.getItemTransformers(connObjectKeyItem)) {
+            List<Object> output = transformer.beforePull(
+                    connObjectKeyItem,
+                    null,
+                    List.of(finalConnObjectKeyValue));
+            if (!CollectionUtils.isEmpty(output)) {
+                finalConnObjectKeyValue = output.get(0).toString();
+            }
+        }
+        return finalConnObjectKeyValue;
+    }
+
     public List<PullMatch> matchByConnObjectKeyValue(
             final Item connObjectKeyItem,
             final String connObjectKeyValue,
@@ -206,16 +238,7 @@ public class InboundMatcher {
             final boolean ignoreCaseMatch,
             final ExternalResource resource) {
 
-        String finalConnObjectKeyValue = connObjectKeyValue;
-        for (ItemTransformer transformer : MappingUtils.getItemTransformers(connObjectKeyItem)) {
-            List<Object> output = transformer.beforePull(
-                    connObjectKeyItem,
-                    null,
-                    List.of(finalConnObjectKeyValue));
-            if (!CollectionUtils.isEmpty(output)) {
-                finalConnObjectKeyValue = output.get(0).toString();
-            }
-        }
+        String finalConnObjectKeyValue = transform(connObjectKeyItem, connObjectKeyValue);
 
         List<PullMatch> noMatchResult = List.of(PullCorrelationRule.NO_MATCH);
 
@@ -334,14 +357,7 @@ public class InboundMatcher {
         return result;
     }
 
-    /**
-     * Finds internal entities based on external attributes and mapping.
-     *
-     * @param syncDelta change operation, including external attributes
-     * @param provision mapping
-     * @return list of matching users' / groups' / any objects' keys
-     */
-    public List<PullMatch> match(final SyncDelta syncDelta, final Provision provision) {
+    protected Optional<PullCorrelationRule> getCorrelationRule(final Provision provision) {
         Optional<? extends PullCorrelationRuleEntity> correlationRule = provision.getResource().getPullPolicy() == null
                 ? Optional.empty()
                 : provision.getResource().getPullPolicy().getCorrelationRule(provision.getAnyType());
@@ -354,26 +370,47 @@ public class InboundMatcher {
                 LOG.error("While building {}", correlationRule.get().getImplementation(), e);
             }
         }
+        return rule;
+    }
+
+    protected static String getConnObjectKeyValue(
+            final SyncDelta syncDelta,
+            final Optional<? extends Item> connObjectKeyItem) {
+
+        String connObjectKeyValue = null;
+
+        if (connObjectKeyItem.isPresent()) {
+            Attribute connObjectKeyAttr = syncDelta.getObject().
+                    getAttributeByName(connObjectKeyItem.get().getExtAttrName());
+            if (connObjectKeyAttr != null) {
+                connObjectKeyValue = AttributeUtil.getStringValue(connObjectKeyAttr);
+            }
+            // fallback to __UID__
+            if (connObjectKeyValue == null) {
+                connObjectKeyValue = syncDelta.getUid().getUidValue();
+            }
+        }
+
+        return connObjectKeyValue;
+    }
+
+    /**
+     * Finds internal entities based on external attributes and mapping.
+     *
+     * @param syncDelta change operation, including external attributes
+     * @param provision mapping
+     * @return list of matching users' / groups' / any objects' keys
+     */
+    public List<PullMatch> match(final SyncDelta syncDelta, final Provision provision) {
+        Optional<PullCorrelationRule> rule = getCorrelationRule(provision);
 
         List<PullMatch> result = List.of();
         try {
             if (rule.isPresent()) {
                 result = matchByCorrelationRule(syncDelta, provision, rule.get(), provision.getAnyType().getKind());
             } else {
-                String connObjectKeyValue = null;
-
                 Optional<? extends Item> connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
-                if (connObjectKeyItem.isPresent()) {
-                    Attribute connObjectKeyAttr = syncDelta.getObject().
-                            getAttributeByName(connObjectKeyItem.get().getExtAttrName());
-                    if (connObjectKeyAttr != null) {
-                        connObjectKeyValue = AttributeUtil.getStringValue(connObjectKeyAttr);
-                    }
-                    // fallback to __UID__
-                    if (connObjectKeyValue == null) {
-                        connObjectKeyValue = syncDelta.getUid().getUidValue();
-                    }
-                }
+                String connObjectKeyValue = getConnObjectKeyValue(syncDelta, connObjectKeyItem);
                 if (connObjectKeyValue == null) {
                     result = List.of(PullCorrelationRule.NO_MATCH);
                 } else {
@@ -391,6 +428,198 @@ public class InboundMatcher {
         return result;
     }
 
+    private List<List<PullMatch>> matchByCorrelationRule(
+            final List<SyncDelta> syncDeltas,
+            final Provision provision,
+            final PullCorrelationRule rule,
+            final AnyTypeKind type) {
+
+        List<SearchCond> conds = syncDeltas.stream().
+                map(syncDelta -> rule.getSearchCond(syncDelta, provision)).
+                collect(Collectors.toList());
+
+        // a single search for all changes, then assign each candidate to the changes it actually matches
+        List<Any<?>> candidates = searchDAO.search(SearchCond.getOr(conds), type);
+
+        List<List<PullMatch>> result = new ArrayList<>(syncDeltas.size());
+        for (int i = 0; i < syncDeltas.size(); i++) {
+            SyncDelta syncDelta = syncDeltas.get(i);
+            SearchCond cond = conds.get(i);
+
+            List<PullMatch> matches = candidates.stream().
+                    filter(any -> anyMatchDAO.matches(any, cond)).
+                    map(any -> rule.matching(any, syncDelta, provision)).
+                    collect(Collectors.toList());
+            if (matches.isEmpty()) {
+                rule.unmatching(syncDelta, provision).ifPresent(matches::add);
+            }
+
+            result.add(matches);
+        }
+
+        return result;
+    }
+
+    private static String matchKey(final String value, final boolean ignoreCaseMatch) {
+        return ignoreCaseMatch ? value.toLowerCase() : value;
+    }
+
+    /**
+     * Finds internal entities matching the given connObjectKey values, by issuing a single query for all of them
+     * whenever the connObjectKey item maps to key, username or a string plain schema; otherwise, values are matched
+     * one by one.
+     *
+     * @param connObjectKeyItem connObjectKey item
+     * @param connObjectKeyValues connObjectKey values
+     * @param provision mapping
+     * @return matches, by connObjectKey value
+     */
+    public Map<String, List<PullMatch>> matchByConnObjectKeyValues(
+            final Item connObjectKeyItem,
+            final Collection<String> connObjectKeyValues,
+            final Provision provision) {
+
+        AnyTypeKind anyTypeKind = provision.getAnyType().getKind();
+        boolean ignoreCaseMatch = provision.isIgnoreCaseMatch();
+
+        Map<String, String> finalConnObjectKeyValues = new LinkedHashMap<>();
+        connObjectKeyValues.forEach(value -> finalConnObjectKeyValues.put(value, transform(connObjectKeyItem, value)));
+
+        IntAttrName intAttrName;
+        try {
+            intAttrName = intAttrNameParser.parse(connObjectKeyItem.getIntAttrName(), anyTypeKind);
+        } catch (ParseException e) {
+            LOG.error("Invalid intAttrName '{}' specified, ignoring", connObjectKeyItem.getIntAttrName(), e);
+            return connObjectKeyValues.stream().distinct().collect(Collectors.toMap(
+                    Function.identity(), value -> List.of(PullCorrelationRule.NO_MATCH)));
+        }
+
+        Function<Any<?>, Stream<String>> matchValues = null;
+        Function<String, SearchCond> matchCond = null;
+        if ("key".equals(intAttrName.getField())) {
+            matchValues = any -> Stream.of(any.getKey());
+        } else if ("username".equals(intAttrName.getField()) && anyTypeKind == AnyTypeKind.USER) {
+            matchValues = any -> Stream.of(((User) any).getUsername());
+            matchCond = value -> {
+                AnyCond cond = new AnyCond(ignoreCaseMatch ? AttrCond.Type.IEQ : AttrCond.Type.EQ);
+                cond.setSchema("username");
+                cond.setExpression(value);
+                return SearchCond.getLeaf(cond);
+            };
+        } else if (intAttrName.getField() == null && intAttrName.getSchemaType() == SchemaType.PLAIN
+                && ((PlainSchema) intAttrName.getSchema()).getType() == AttrSchemaType.String) {
+
+            String schema = intAttrName.getSchema().getKey();
+            matchValues = any -> any.getPlainAttr(schema).
+                    map(attr -> attr.getValuesAsStrings().stream()).orElseGet(Stream::empty);
+            matchCond = value -> {
+                AttrCond cond = new AttrCond(ignoreCaseMatch ? AttrCond.Type.IEQ : AttrCond.Type.EQ);
+                cond.setSchema(schema);
+                cond.setExpression(value);
+                return SearchCond.getLeaf(cond);
+            };
+        }
+
+        Map<String, List<PullMatch>> result = new HashMap<>();
+
+        if (matchValues == null) {
+            finalConnObjectKeyValues.keySet().forEach(value -> result.put(
+                    value, matchByConnObjectKeyValue(connObjectKeyItem, value, provision)));
+            return result;
+        }
+
+        List<String> values = finalConnObjectKeyValues.values().stream().distinct().collect(Collectors.toList());
+
+        Map<String, List<PullMatch>> matches = new HashMap<>();
+        Map<String, PullMatch> accounts = new HashMap<>();
+        for (int i = 0; i < values.size(); i += MAX_BATCH_QUERY_VALUES) {
+            List<String> chunk = values.subList(i, Math.min(i + MAX_BATCH_QUERY_VALUES, values.size()));
+
+            List<Any<?>> anys;
+            if (matchCond == null) {
+                anys = new ArrayList<>(anyUtilsFactory.getInstance(anyTypeKind).dao().findByKeys(chunk));
+            } else {
+                anys = searchDAO.search(
+                        SearchCond.getOr(chunk.stream().map(matchCond).collect(Collectors.toList())), anyTypeKind);
+            }
+
+            Function<Any<?>, Stream<String>> finalMatchValues = matchValues;
+            anys.forEach(any -> finalMatchValues.apply(any).distinct().forEach(value -> matches.
+                    computeIfAbsent(matchKey(value, ignoreCaseMatch), k -> new ArrayList<>()).
+                    add(new PullMatch(MatchType.ANY, any))));
+
+            userDAO.findLinkedAccounts(provision.getResource(), chunk).forEach(account -> accounts.put(
+                    account.getConnObjectKeyValue(), new PullMatch(MatchType.LINKED_ACCOUNT, account)));
+        }
+
+        finalConnObjectKeyValues.forEach((value, finalValue) -> {
+            List<PullMatch> valueMatches = new ArrayList<>(
+                    matches.getOrDefault(matchKey(finalValue, ignoreCaseMatch), List.of()));
+            Optional.ofNullable(accounts.get(finalValue)).ifPresent(valueMatches::add);
+
+            result.put(value, valueMatches.isEmpty() ? List.of(PullCorrelationRule.NO_MATCH) : valueMatches);
+        });
+
+        return result;
+    }
+
+    /**
+     * Finds internal entities based on external attributes and mapping, for several changes at once: whenever
+     * possible, queries are issued once for all the given changes, rather than once per change.
+     *
+     * @param syncDeltas change operations, including external attributes
+     * @param provision mapping
+     * @return list of matching users' / groups' / any objects' keys, for each of the given changes, in order
+     */
+    public List<List<PullMatch>> match(final List<SyncDelta> syncDeltas, final Provision provision) {
+        if (syncDeltas.size() <= 1) {
+            return syncDeltas.stream().map(syncDelta -> match(syncDelta, provision)).collect(Collectors.toList());
+        }
+
+        Optional<PullCorrelationRule> rule = getCorrelationRule(provision);
+
+        List<List<PullMatch>> result = new ArrayList<>(syncDeltas.size());
+        try {
+            if (rule.isPresent()) {
+                for (int i = 0; i < syncDeltas.size(); i += MAX_BATCH_QUERY_VALUES) {
+                    result.addAll(matchByCorrelationRule(
+                            syncDeltas.subList(i, Math.min(i + MAX_BATCH_QUERY_VALUES, syncDeltas.size())),
+                            provision,
+                            rule.get(),
+                            provision.getAnyType().getKind()));
+                }
+            } else {
+                Optional<? extends Item> connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
+                List<String> connObjectKeyValues = syncDeltas.stream().
+                        map(syncDelta -> getConnObjectKeyValue(syncDelta, connObjectKeyItem)).
+                        collect(Collectors.toList());
+
+                Map<String, List<PullMatch>> matches = connObjectKeyItem.isPresent()
+                        ? matchByConnObjectKeyValues(
+                                connObjectKeyItem.get(),
+                                connObjectKeyValues.stream().filter(Objects::nonNull).collect(Collectors.toSet()),
+                                provision)
+                        : Map.of();
+
+                connObjectKeyValues.forEach(value -> result.add(value == null
+                        ? List.of(PullCorrelationRule.NO_MATCH)
+                        : matches.get(value)));
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Could not match {} changes at once, matching one by one", syncDeltas.size(), e);
+            return syncDeltas.stream().map(syncDelta -> match(syncDelta, provision)).collect(Collectors.toList());
+        }
+
+        for (int i = 0; i < syncDeltas.size(); i++) {
+            List<PullMatch> matches = result.get(i);
+            if (matches.size() == 1 && matches.get(0).getMatchTarget() == MatchType.ANY) {
+                virAttrHandler.setValues(matches.get(0).getAny(), syncDeltas.get(i).getObject());
+            }
+        }
+
+        return result;
+    }
+
     /**
      * Finds internal realms based on external attributes and mapping.
      *
@@ -28,8 +28,10 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ConflictResolutionAction;
 import org.apache.commons.lang3.tuple.MutablePair;
+import org.apache.syncope.common.lib.types.PullMode;
 import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
@@ -62,10 +64,12 @@ import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.identityconnectors.framework.common.objects.Name;
 import org.identityconnectors.framework.common.objects.ObjectClass;
 import org.identityconnectors.framework.common.objects.OperationOptions;
+import org.identityconnectors.framework.common.objects.SyncResultsHandler;
 import org.identityconnectors.framework.common.objects.SyncToken;
 import org.apache.syncope.core.provisioning.api.pushpull.ReconFilterBuilder;
 import org.apache.syncope.core.provisioning.java.DefaultProvisionSorter;
 import org.apache.syncope.core.spring.ImplementationManager;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 
 public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> implements SyncopePullExecutor {
 
@@ -94,13 +98,16 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
 
     @Override
     public void reportHandled(final ObjectClass objectClass, final Name name) {
-        MutablePair<Integer, String> pair = handled.get(objectClass);
-        if (pair == null) {
-            pair = MutablePair.of(0, null);
-            handled.put(objectClass, pair);
+        // might be invoked concurrently, see buildHandler
+        synchronized (status) {
+            MutablePair<Integer, String> pair = handled.get(objectClass);
+            if (pair == null) {
+                pair = MutablePair.of(0, null);
+                handled.put(objectClass, pair);
+            }
+            pair.setLeft(pair.getLeft() + 1);
+            pair.setRight(name.getNameValue());
         }
-        pair.setLeft(pair.getLeft() + 1);
-        pair.setRight(name.getNameValue());
     }
 
     @Override
@@ -183,6 +190,68 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
         return handler;
     }
 
+    protected SyncopePullResultHandler buildHandler(
+            final Provision provision, final List<GroupPullResultHandler> ghandlers) {
+
+        SyncopePullResultHandler handler;
+        switch (provision.getAnyType().getKind()) {
+            case USER:
+                handler = buildUserHandler();
+                break;
+
+            case GROUP:
+                GroupPullResultHandler ghandler = buildGroupHandler();
+                ghandlers.add(ghandler);
+                handler = ghandler;
+                break;
+
+            case ANY_OBJECT:
+            default:
+                handler = buildAnyObjectHandler();
+        }
+        handler.setProfile(profile);
+        handler.setPullExecutor(this);
+
+        return handler;
+    }
+
+    /**
+     * Builds the handler for the given provision: when reconciling with batch matching enabled, pulled objects are
+     * matched by windows; with concurrency greater than 1, they are also processed by as many workers, each with own
+     * handler.
+     *
+     * @param pullTask pull task
+     * @param provision provision
+     * @param ghandler shared group handler, used for serial processing
+     * @param ghandlers group handlers built for concurrent processing, to set group owners at the end
+     * @return handler for the given provision
+     */
+    protected SyncResultsHandler buildHandler(
+            final PullTask pullTask,
+            final Provision provision,
+            final GroupPullResultHandler ghandler,
+            final List<GroupPullResultHandler> ghandlers) {
+
+        if (pullTask.getPullMode() == PullMode.INCREMENTAL) {
+            return provision.getAnyType().getKind() == AnyTypeKind.GROUP
+                    ? ghandler
+                    : buildHandler(provision, new ArrayList<>());
+        }
+
+        if (pullTask.getConcurrency() <= 1) {
+            SyncopePullResultHandler handler = provision.getAnyType().getKind() == AnyTypeKind.GROUP
+                    ? ghandler
+                    : buildHandler(provision, new ArrayList<>());
+            return pullTask.isBatchMatching() ? new BatchPullResultHandler(handler) : handler;
+        }
+
+        List<SyncopePullResultHandler> handlers = new ArrayList<>();
+        for (int i = 0; i < pullTask.getConcurrency(); i++) {
+            handlers.add(buildHandler(provision, ghandlers));
+        }
+        return new ConcurrentPullResultHandler(AuthContextUtils.getDomain(), handlers, pullTask.isBatchMatching());
+    }
+
     @Override
     protected String doExecuteProvisioning(
             final PullTask pullTask,
@@ -285,28 +354,15 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
         }
 
         GroupPullResultHandler ghandler = buildGroupHandler();
+        List<GroupPullResultHandler> ghandlers = new ArrayList<>();
+        ghandlers.add(ghandler);
         for (Provision provision : pullTask.getResource().getProvisions().stream().
                 filter(provision -> provision.getMapping() != null).sorted(provisionSorter).
                 collect(Collectors.toList())) {
 
             status.set("Pulling " + provision.getObjectClass().getObjectClassValue());
 
-            SyncopePullResultHandler handler;
-            switch (provision.getAnyType().getKind()) {
-                case USER:
-                    handler = buildUserHandler();
-                    break;
-
-                case GROUP:
-                    handler = ghandler;
-                    break;
-
-                case ANY_OBJECT:
-                default:
-                    handler = buildAnyObjectHandler();
-            }
-            handler.setProfile(profile);
-            handler.setPullExecutor(this);
+            SyncResultsHandler handler = buildHandler(pullTask, provision, ghandler, ghandlers);
 
             try {
                 Set<String> moreAttrsToGet = new HashSet<>();
@@ -352,6 +408,12 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                         break;
                 }
 
+                if (handler instanceof ConcurrentPullResultHandler) {
+                    ((ConcurrentPullResultHandler) handler).close();
+                } else if (handler instanceof BatchPullResultHandler) {
+                    ((BatchPullResultHandler) handler).close();
+                }
+
                 if (provision.getUidOnCreate() != null) {
                     AnyUtils anyUtils = anyUtilsFactory.getInstance(provision.getAnyType().getKind());
                     profile.getResults().stream().
@@ -363,12 +425,19 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                             });
                 }
             } catch (Throwable t) {
+                if (handler instanceof ConcurrentPullResultHandler) {
+                    ((ConcurrentPullResultHandler) handler).stop();
+                } else if (handler instanceof BatchPullResultHandler) {
+                    ((BatchPullResultHandler) handler).stop();
+                }
                 throw new JobExecutionException("While pulling from connector", t);
             }
 
         }
         try {
-            setGroupOwners(ghandler);
+            for (GroupPullResultHandler handler : ghandlers) {
+                setGroupOwners(handler);
+            }
         } catch (Exception e) {
             LOG.error("While setting group owners", e);
         }
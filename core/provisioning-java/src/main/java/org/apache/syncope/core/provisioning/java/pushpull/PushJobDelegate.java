@@ -24,9 +24,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.MutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.ConflictResolutionAction;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
@@ -57,6 +62,7 @@ import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandle
 import org.apache.syncope.core.provisioning.api.pushpull.UserPushResultHandler;
 import org.apache.syncope.core.provisioning.java.DefaultProvisionSorter;
 import org.apache.syncope.core.spring.ImplementationManager;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
@@ -69,6 +75,9 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
     @Autowired
     protected AnySearchDAO searchDAO;
 
+    @Autowired
+    protected PushRateLimiter pushRateLimiter;
+
     @Autowired
     protected RealmDAO realmDAO;
 
@@ -83,13 +92,16 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
     protected final Map<String, MutablePair<Integer, String>> handled = new HashMap<>();
 
     protected void reportHandled(final String anyType, final String key) {
-        MutablePair<Integer, String> pair = handled.get(anyType);
-        if (pair == null) {
-            pair = MutablePair.of(0, null);
-            handled.put(anyType, pair);
+        // might be invoked concurrently, see doHandle
+        synchronized (status) {
+            MutablePair<Integer, String> pair = handled.get(anyType);
+            if (pair == null) {
+                pair = MutablePair.of(0, null);
+                handled.put(anyType, pair);
+            }
+            pair.setLeft(pair.getLeft() + 1);
+            pair.setRight(key);
         }
-        pair.setLeft(pair.getLeft() + 1);
-        pair.setRight(key);
     }
 
     @Override
@@ -107,22 +119,28 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
         return status.get();
     }
 
+    protected static String getName(final Any<?> any) {
+        return any instanceof User
+                ? ((User) any).getUsername()
+                : any instanceof Group
+                        ? ((Group) any).getName()
+                        : ((AnyObject) any).getName();
+    }
+
     protected void doHandle(
             final List<? extends Any<?>> anys,
             final SyncopePushResultHandler handler,
             final ExternalResource resource)
             throws JobExecutionException {
 
+        String domain = AuthContextUtils.getDomain();
+
         for (int i = 0; i < anys.size() && !interrupt; i++) {
             try {
+                pushRateLimiter.acquire(domain, resource);
+
                 handler.handle(anys.get(i).getKey());
-                reportHandled(
-                        anys.get(i).getType().getKey(),
-                        (anys.get(i) instanceof User
-                        ? ((User) anys.get(i)).getUsername()
-                        : anys.get(i) instanceof Group
-                        ? ((Group) anys.get(i)).getName()
-                        : ((AnyObject) anys.get(i)).getName()));
+                reportHandled(anys.get(i).getType().getKey(), getName(anys.get(i)));
             } catch (Exception e) {
                 LOG.warn("Failure pushing '{}' on '{}'", anys.get(i), resource, e);
                 throw new JobExecutionException("While pushing " + anys.get(i) + " on " + resource, e);
@@ -130,6 +148,65 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
         }
     }
 
+    /**
+     * Pushes the given anys concurrently, waiting for all of them to be processed.
+     *
+     * @param anys anys to push
+     * @param handler push result handler, running each push in its own transaction
+     * @param resource external resource
+     * @param workers executor service to push with
+     * @throws JobExecutionException if any push fails
+     */
+    protected void doHandle(
+            final List<? extends Any<?>> anys,
+            final SyncopePushResultHandler handler,
+            final ExternalResource resource,
+            final ExecutorService workers)
+            throws JobExecutionException {
+
+        String domain = AuthContextUtils.getDomain();
+
+        List<Pair<Any<?>, Future<?>>> pushes = new ArrayList<>();
+        for (int i = 0; i < anys.size() && !interrupt; i++) {
+            Any<?> any = anys.get(i);
+            String anyType = any.getType().getKey();
+            String key = any.getKey();
+            String name = getName(any);
+
+            try {
+                pushRateLimiter.acquire(domain, resource);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JobExecutionException("While pushing " + any + " on " + resource, e);
+            }
+
+            pushes.add(Pair.of(any, workers.submit(() -> AuthContextUtils.callAsAdmin(domain, () -> {
+                handler.handle(key);
+                reportHandled(anyType, name);
+                return null;
+            }))));
+        }
+
+        JobExecutionException failure = null;
+        for (Pair<Any<?>, Future<?>> push : pushes) {
+            try {
+                push.getRight().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JobExecutionException("While pushing " + push.getLeft() + " on " + resource, e);
+            } catch (ExecutionException e) {
+                LOG.warn("Failure pushing '{}' on '{}'", push.getLeft(), resource, e.getCause());
+                if (failure == null) {
+                    failure = new JobExecutionException(
+                            "While pushing " + push.getLeft() + " on " + resource, e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
     protected RealmPushResultHandler buildRealmHandler() {
         return (RealmPushResultHandler) ApplicationContextProvider.getBeanFactory().
                 createBean(DefaultRealmPushResultHandler.class, AbstractBeanDefinition.AUTOWIRE_BY_NAME, false);
@@ -244,19 +321,31 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
             SearchCond cond = StringUtils.isBlank(filter)
                     ? anyDAO.getAllMatchingCond()
                     : SearchCondConverter.convert(searchCondVisitor, filter);
-            int count = searchDAO.count(
-                    Set.of(profile.getTask().getSourceRealm().getFullPath()),
-                    cond,
-                    provision.getAnyType().getKind());
-            for (int page = 1; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE) + 1 && !interrupt; page++) {
-                List<? extends Any<?>> anys = searchDAO.search(
-                        Set.of(profile.getTask().getSourceRealm().getFullPath()),
-                        cond,
-                        page,
-                        AnyDAO.DEFAULT_PAGE_SIZE,
-                        List.of(),
-                        provision.getAnyType().getKind());
-                doHandle(anys, handler, pushTask.getResource());
+            ExecutorService workers = pushTask.getConcurrency() > 1
+                    ? Executors.newFixedThreadPool(pushTask.getConcurrency())
+                    : null;
+            try {
+                List<? extends Any<?>> anys;
+                String lastKey = null;
+                do {
+                    anys = searchDAO.searchAfter(
+                            Set.of(profile.getTask().getSourceRealm().getFullPath()),
+                            cond,
+                            lastKey,
+                            AnyDAO.DEFAULT_PAGE_SIZE,
+                            provision.getAnyType().getKind(),
+                            false);
+                    if (workers == null) {
+                        doHandle(anys, handler, pushTask.getResource());
+                    } else {
+                        doHandle(anys, handler, pushTask.getResource(), workers);
+                    }
+                    lastKey = anys.isEmpty() ? null : anys.get(anys.size() - 1).getKey();
+                } while (anys.size() == AnyDAO.DEFAULT_PAGE_SIZE && !interrupt);
+            } finally {
+                if (workers != null) {
+                    workers.shutdownNow();
+                }
             }
         }
 
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+
+/**
+ * Limits the number of objects per second pushed to each external resource, by means of a token bucket per domain
+ * and resource, shared by all push tasks running on this node; bursts up to one second worth of objects are allowed.
+ */
+public class PushRateLimiter {
+
+    protected static final class Bucket {
+
+        private double permitsPerNanos;
+
+        private double maxPermits;
+
+        private double permits;
+
+        private long lastRefill = System.nanoTime();
+
+        Bucket(final int rate) {
+            setRate(rate);
+            this.permits = maxPermits;
+        }
+
+        private synchronized void setRate(final int rate) {
+            this.permitsPerNanos = rate / (double) TimeUnit.SECONDS.toNanos(1);
+            this.maxPermits = rate;
+        }
+
+        /**
+         * Takes one permit, possibly in advance: in such case, returns how long the caller shall wait for.
+         *
+         * @return nanoseconds to wait before proceeding
+         */
+        private synchronized long reserve() {
+            long now = System.nanoTime();
+            permits = Math.min(maxPermits, permits + (now - lastRefill) * permitsPerNanos);
+            lastRefill = now;
+
+            permits -= 1;
+            return permits >= 0 ? 0 : (long) (-permits / permitsPerNanos);
+        }
+
+        void acquire() throws InterruptedException {
+            long wait = reserve();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+        }
+    }
+
+    protected final Map<Pair<String, String>, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the token bucket for the given domain and resource, if a push rate limit is configured.
+     *
+     * @param domain domain
+     * @param resource external resource
+     * @return token bucket for the given domain and resource, or {@code null} if no push rate limit is configured
+     */
+    protected Bucket bucket(final String domain, final ExternalResource resource) {
+        Pair<String, String> key = Pair.of(domain, resource.getKey());
+        if (resource.getPushRateLimit() == null || resource.getPushRateLimit() <= 0) {
+            buckets.remove(key);
+            return null;
+        }
+
+        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(resource.getPushRateLimit()));
+        bucket.setRate(resource.getPushRateLimit());
+        return bucket;
+    }
+
+    /**
+     * Waits until an object can be pushed to the given resource; returns immediately if no push rate limit is
+     * configured.
+     *
+     * @param domain domain
+     * @param resource external resource
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire(final String domain, final ExternalResource resource) throws InterruptedException {
+        Bucket bucket = bucket(domain, resource);
+        if (bucket != null) {
+            bucket.acquire();
+        }
+    }
+}
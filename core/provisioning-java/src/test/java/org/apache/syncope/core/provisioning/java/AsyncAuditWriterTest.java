@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.log.AuditEntry;
+import org.apache.syncope.common.lib.types.AuditElements;
+import org.apache.syncope.common.lib.types.AuditLoggerName;
+import org.junit.jupiter.api.Test;
+
+public class AsyncAuditWriterTest {
+
+    private static String loggerName(final String category, final String event) {
+        return new AuditLoggerName(
+                AuditElements.EventCategoryType.LOGIC, category, null, event, AuditElements.Result.SUCCESS).
+                toLoggerName();
+    }
+
+    private static Supplier<AuditEntry> auditEntry(final String who, final List<String> threads) {
+        return () -> {
+            threads.add(Thread.currentThread().getName());
+
+            AuditEntry auditEntry = new AuditEntry();
+            auditEntry.setWho(who);
+            return auditEntry;
+        };
+    }
+
+    @Test
+    public void durableEvents() {
+        AsyncAuditWriter writer = new AsyncAuditWriter(true, true, 10, 10, 1000, Set.of("[LOGIC]:[UserLogic]"));
+        assertFalse(writer.isAsync(loggerName("UserLogic", "create")));
+        assertTrue(writer.isAsync(loggerName("GroupLogic", "create")));
+
+        writer = new AsyncAuditWriter(false, true, 10, 10, 1000, Set.of());
+        assertFalse(writer.isAsync(loggerName("GroupLogic", "create")));
+    }
+
+    @Test
+    public void jdbcBatches() {
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        List<List<Object[]>> inserted = Collections.synchronizedList(new ArrayList<>());
+        AsyncAuditWriter writer = new AsyncAuditWriter(true, true, 10, 3, 60000, Set.of()) {
+
+            @Override
+            protected void insert(final String domain, final List<Object[]> rows) {
+                inserted.add(List.copyOf(rows));
+                written.add(rows.size());
+            }
+        };
+
+        String loggerName = loggerName("GroupLogic", "create");
+        for (int i = 0; i < 5; i++) {
+            writer.offer(SyncopeConstants.MASTER_DOMAIN, loggerName, new Date(),
+                    auditEntry("admin" + i, threads), null);
+        }
+        writer.destroy();
+
+        assertEquals(0, writer.getBacklog());
+        assertEquals(5, writer.getWritten());
+        assertEquals(0, writer.getDropped());
+        assertTrue(inserted.stream().allMatch(rows -> rows.size() <= 3));
+        assertEquals(5, inserted.stream().mapToInt(List::size).sum());
+        assertEquals(AuditLoggerName.getAuditLoggerName(SyncopeConstants.MASTER_DOMAIN), inserted.get(0).get(0)[2]);
+        assertTrue(inserted.get(0).get(0)[3].toString().contains("admin0"));
+
+        // built and serialized off the calling thread, unless flushed on shutdown
+        assertFalse(threads.isEmpty());
+        assertTrue(threads.stream().allMatch(thread -> "AsyncAuditWriter".equals(thread)
+                || Thread.currentThread().getName().equals(thread)));
+    }
+
+    @Test
+    public void overflow() {
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        List<String> logged = Collections.synchronizedList(new ArrayList<>());
+        AsyncAuditWriter writer = new AsyncAuditWriter(true, false, 2, 10, 60000, Set.of()) {
+
+            @Override
+            public void log(
+                    final String domain, final String loggerName, final String message, final Throwable throwable) {
+
+                logged.add(message);
+            }
+        };
+
+        String loggerName = loggerName("GroupLogic", "create");
+        for (int i = 0; i < 5; i++) {
+            writer.offer(SyncopeConstants.MASTER_DOMAIN, loggerName, new Date(),
+                    auditEntry("admin" + i, threads), null);
+        }
+        writer.destroy();
+
+        assertEquals(3, writer.getDropped());
+        assertEquals(2, writer.getWritten());
+        assertEquals(2, logged.size());
+        // dropped entries are never built
+        assertEquals(2, threads.size());
+    }
+
+    @Test
+    public void failures() {
+        AsyncAuditWriter writer = new AsyncAuditWriter(true, true, 5, 2, 60000, Set.of());
+        // no DataSource available for the domain
+        writer.domainHolder = Map::of;
+
+        String loggerName = loggerName("GroupLogic", "create");
+        for (int i = 0; i < 3; i++) {
+            writer.offer(SyncopeConstants.MASTER_DOMAIN, loggerName, new Date(),
+                    auditEntry("admin" + i, new ArrayList<>()), null);
+        }
+        writer.offer(SyncopeConstants.MASTER_DOMAIN, loggerName, new Date(), () -> {
+            throw new IllegalStateException("not serializable");
+        }, null);
+        writer.destroy();
+
+        assertEquals(0, writer.getWritten());
+        assertEquals(4, writer.getFailed());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.identityconnectors.framework.api.ConnectorFacade;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class AsyncConnectorFacadeTest extends AbstractTest {
+
+    @Autowired
+    private AsyncConnectorFacade asyncFacade;
+
+    @Test
+    public void complete() throws Exception {
+        ConnectorFacade connector = mock(ConnectorFacade.class);
+        when(connector.create(eq(ObjectClass.ACCOUNT), any(), isNull())).thenReturn(new Uid("created"));
+
+        assertEquals(
+                new Uid("created"),
+                asyncFacade.create(connector, ObjectClass.ACCOUNT, Set.of(), null).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void interruptOnTimeout() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        ConnectorFacade connector = mock(ConnectorFacade.class);
+        when(connector.create(eq(ObjectClass.ACCOUNT), any(), isNull())).thenAnswer(ic -> {
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return new Uid("late");
+        });
+
+        CompletableFuture<Uid> future = asyncFacade.create(connector, ObjectClass.ACCOUNT, Set.of(), null).
+                orTimeout(100, TimeUnit.MILLISECONDS);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get());
+        assertTrue(e.getCause() instanceof TimeoutException);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.ConnectorBatchOperation;
+import org.identityconnectors.framework.common.exceptions.ConnectorException;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.jupiter.api.Test;
+
+public class ConnectorBatchTest extends AbstractTest {
+
+    @Test
+    public void fallbackToSingleOperations() {
+        Connector connector = mock(Connector.class);
+        doCallRealMethod().when(connector).batch(anyList());
+
+        when(connector.create(eq(ObjectClass.ACCOUNT), any(), isNull(), any())).thenReturn(new Uid("created"));
+        doThrow(new ConnectorException("update failed")).
+                when(connector).update(eq(ObjectClass.ACCOUNT), eq(new Uid("toUpdate")), any(), isNull(), any());
+
+        ConnectorBatchOperation create = ConnectorBatchOperation.create(
+                ObjectClass.ACCOUNT, Set.of(AttributeBuilder.build("surname", "Doe")), null);
+        ConnectorBatchOperation update = ConnectorBatchOperation.update(
+                ObjectClass.ACCOUNT, new Uid("toUpdate"), Set.of(AttributeBuilder.build("surname", "Roe")), null);
+        ConnectorBatchOperation delete = ConnectorBatchOperation.delete(
+                ObjectClass.ACCOUNT, new Uid("toDelete"), null);
+
+        connector.batch(List.of(create, update, delete));
+
+        assertEquals(new Uid("created"), create.getResult());
+        assertNull(create.getFailure());
+
+        assertNull(update.getResult());
+        assertEquals("update failed", update.getFailure().getMessage());
+
+        verify(connector).delete(eq(ObjectClass.ACCOUNT), eq(new Uid("toDelete")), isNull(), any());
+        assertEquals(new Uid("toDelete"), delete.getResult());
+        assertNull(delete.getFailure());
+        assertSame(delete.getUid(), delete.getResult());
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AuditElements;
+import org.apache.syncope.common.lib.types.AuditLoggerName;
+import org.apache.syncope.common.lib.types.LoggerLevel;
+import org.apache.syncope.common.lib.types.LoggerType;
+import org.apache.syncope.core.persistence.api.dao.LoggerDAO;
+import org.apache.syncope.core.persistence.api.dao.NotificationDAO;
+import org.apache.syncope.core.persistence.api.entity.Logger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional("Master")
+public class EventRoutingTableTest extends AbstractTest {
+
+    private static final String AUDITED =
+            "syncope.audit.[LOGIC]:[SyncopeLogic]:[]:[isSelfRegAllowed]:[SUCCESS]";
+
+    @Autowired
+    private EventRoutingTable eventRoutingTable;
+
+    @Autowired
+    private LoggerDAO loggerDAO;
+
+    @Test
+    public void routes() {
+        eventRoutingTable.invalidate(SyncopeConstants.MASTER_DOMAIN);
+
+        assertTrue(eventRoutingTable.isAudited(AUDITED));
+        assertFalse(eventRoutingTable.isAudited(
+                "syncope.audit.[LOGIC]:[SyncopeLogic]:[]:[isSelfRegAllowed]:[FAILURE]"));
+
+        assertEquals(
+                List.of("9e2b911c-25de-4c77-bcea-b86ed9451050"),
+                eventRoutingTable.getNotifications(AuditLoggerName.buildEvent(
+                        AuditElements.EventCategoryType.CUSTOM, null, null, "unexisting2",
+                        AuditElements.Result.SUCCESS)));
+        assertTrue(eventRoutingTable.getNotifications(AuditLoggerName.buildEvent(
+                AuditElements.EventCategoryType.CUSTOM, null, null, "unexisting2",
+                AuditElements.Result.FAILURE)).isEmpty());
+    }
+
+    @Test
+    public void invalidate() {
+        eventRoutingTable.invalidate(SyncopeConstants.MASTER_DOMAIN);
+        assertTrue(eventRoutingTable.isAudited(AUDITED));
+
+        Logger logger = loggerDAO.find(AUDITED);
+        logger.setLevel(LoggerLevel.OFF);
+        loggerDAO.save(logger);
+
+        // still cached
+        assertTrue(eventRoutingTable.isAudited(AUDITED));
+
+        eventRoutingTable.invalidate(SyncopeConstants.MASTER_DOMAIN);
+        assertFalse(eventRoutingTable.isAudited(AUDITED));
+
+        // routes are invalidated again once this transaction is rolled back
+    }
+
+    @Test
+    public void singleFlight() throws Exception {
+        AtomicInteger builds = new AtomicInteger();
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        LoggerDAO slowLoggerDAO = mock(LoggerDAO.class);
+        when(slowLoggerDAO.findAll(LoggerType.AUDIT)).thenAnswer(ic -> {
+            builds.incrementAndGet();
+            building.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return List.of();
+        });
+        NotificationDAO notificationDAO = mock(NotificationDAO.class);
+        when(notificationDAO.findAll()).thenReturn(List.of());
+
+        EventRoutingTable table = new EventRoutingTable(60000L);
+        table.loggerDAO = slowLoggerDAO;
+        table.notificationDAO = notificationDAO;
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> lookups = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                lookups.add(executor.submit(() -> table.isAudited(AUDITED)));
+            }
+            assertTrue(building.await(10, TimeUnit.SECONDS));
+            release.countDown();
+
+            for (Future<Boolean> lookup : lookups) {
+                assertFalse(lookup.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    public void invalidationsArePerDomain() throws Exception {
+        AtomicInteger builds = new AtomicInteger();
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        LoggerDAO slowLoggerDAO = mock(LoggerDAO.class);
+        when(slowLoggerDAO.findAll(LoggerType.AUDIT)).thenAnswer(ic -> {
+            if (builds.incrementAndGet() == 1) {
+                building.countDown();
+                release.await(10, TimeUnit.SECONDS);
+            }
+            return List.of();
+        });
+        NotificationDAO notificationDAO = mock(NotificationDAO.class);
+        when(notificationDAO.findAll()).thenReturn(List.of());
+
+        EventRoutingTable table = new EventRoutingTable(60000L);
+        table.loggerDAO = slowLoggerDAO;
+        table.notificationDAO = notificationDAO;
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> lookup = executor.submit(() -> table.isAudited(AUDITED));
+            assertTrue(building.await(10, TimeUnit.SECONDS));
+            // a change in another domain while building does not discard the routes being built
+            table.invalidate("Two");
+            release.countDown();
+            assertFalse(lookup.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertFalse(table.isAudited(AUDITED));
+        assertEquals(1, builds.get());
+
+        table.invalidate(SyncopeConstants.MASTER_DOMAIN);
+        assertFalse(table.isAudited(AUDITED));
+        assertEquals(2, builds.get());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheKey;
+import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheValue;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentVirAttrCacheTest {
+
+    @Test
+    public void putGetExpire() {
+        ConcurrentVirAttrCache cache = new ConcurrentVirAttrCache();
+
+        assertNull(cache.get("USER", "key", "virtualdata"));
+        assertEquals(1, cache.getMissCount());
+
+        cache.put("USER", "key", "virtualdata", new VirAttrCacheValue(List.of("value")));
+        VirAttrCacheValue value = cache.get("USER", "key", "virtualdata");
+        assertNotNull(value);
+        assertTrue(cache.isValidEntry(value));
+        assertEquals(List.of("value"), value.getValues());
+        assertEquals(1, cache.getHitCount());
+
+        cache.expire("USER", "key", "virtualdata");
+        assertNull(cache.get("USER", "key", "virtualdata"));
+
+        cache.setTtl(0);
+        cache.put("USER", "key", "virtualdata", new VirAttrCacheValue(List.of("value")));
+        assertNull(cache.get("USER", "key", "virtualdata"));
+        assertFalse(cache.isValidEntry(null));
+    }
+
+    @Test
+    public void evict() {
+        ConcurrentVirAttrCache cache = new ConcurrentVirAttrCache();
+        cache.setMaxCacheSize(ConcurrentVirAttrCache.SEGMENTS * 10);
+
+        IntStream.range(0, ConcurrentVirAttrCache.SEGMENTS * 100).forEach(i -> cache.put(
+                "USER", "key" + i, "virtualdata", new VirAttrCacheValue(List.of("value" + i))));
+
+        assertTrue(cache.size() <= ConcurrentVirAttrCache.SEGMENTS * 10);
+        assertEquals(ConcurrentVirAttrCache.SEGMENTS * 100 - cache.size(), cache.getEvictionCount());
+
+        // most recently added entry is still there
+        assertNotNull(cache.get("USER", "key" + (ConcurrentVirAttrCache.SEGMENTS * 100 - 1), "virtualdata"));
+    }
+
+    @Test
+    public void getAll() {
+        ConcurrentVirAttrCache cache = new ConcurrentVirAttrCache();
+        IntStream.range(0, 10).forEach(i -> cache.put(
+                "USER", "key", "schema" + i, new VirAttrCacheValue(List.of("value" + i))));
+
+        List<VirAttrCacheKey> keys = IntStream.range(0, 20).
+                mapToObj(i -> new VirAttrCacheKey("USER", "key", "schema" + i)).collect(Collectors.toList());
+        Map<VirAttrCacheKey, VirAttrCacheValue> values = cache.getAll(keys);
+        assertEquals(10, values.size());
+        assertEquals(List.of("value3"), values.get(new VirAttrCacheKey("USER", "key", "schema3")).getValues());
+        assertEquals(10, cache.getHitCount());
+        assertEquals(10, cache.getMissCount());
+    }
+}
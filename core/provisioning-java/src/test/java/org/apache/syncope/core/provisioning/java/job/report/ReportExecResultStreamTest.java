@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.apache.syncope.core.persistence.api.dao.ReportExecDAO;
+import org.apache.syncope.core.persistence.api.entity.ReportExec;
+import org.junit.jupiter.api.Test;
+
+public class ReportExecResultStreamTest {
+
+    @Test
+    public void roundTrip() throws IOException {
+        Map<Integer, byte[]> chunks = new HashMap<>();
+
+        ReportExecDAO reportExecDAO = mock(ReportExecDAO.class);
+        doAnswer(ic -> chunks.put(ic.getArgument(1), ic.getArgument(2))).
+                when(reportExecDAO).saveExecResultChunk(any(ReportExec.class), anyInt(), any(byte[].class));
+        when(reportExecDAO.findExecResultChunk(anyString(), anyInt())).
+                thenAnswer(ic -> chunks.get(ic.<Integer>getArgument(1)));
+
+        ReportExec execution = mock(ReportExec.class);
+        when(execution.getKey()).thenReturn("key");
+
+        byte[] content = new byte[ReportExecResultOutputStream.CHUNK_SIZE * 5 / 2];
+        new Random().nextBytes(content);
+
+        try (OutputStream os = new ReportExecResultOutputStream(reportExecDAO, execution)) {
+            os.write(content[0]);
+            os.write(content, 1, content.length - 1);
+        }
+        assertEquals(3, chunks.size());
+        assertEquals(ReportExecResultOutputStream.CHUNK_SIZE, chunks.get(0).length);
+
+        try (InputStream is = new ReportExecResultInputStream(reportExecDAO, "key")) {
+            assertArrayEquals(content, is.readAllBytes());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringWriter;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXTransformerFactory;
+import javax.xml.transform.sax.TransformerHandler;
+import javax.xml.transform.stream.StreamResult;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.helpers.AttributesImpl;
+
+public class SAXBufferTest {
+
+    @Test
+    public void replay() throws Exception {
+        SAXBuffer buffer = new SAXBuffer();
+
+        AttributesImpl atts = new AttributesImpl();
+        atts.addAttribute("", "", "key", ReportXMLConst.XSD_STRING, "1");
+        buffer.startElement("", "", "user", atts);
+        char[] chars = "rossini".toCharArray();
+        buffer.characters(chars, 0, chars.length);
+        buffer.endElement("", "", "user");
+
+        // recorded events must not be affected by later changes to what was passed
+        atts.clear();
+        chars[0] = 'R';
+
+        StringWriter writer = new StringWriter();
+        TransformerHandler handler = ((SAXTransformerFactory) TransformerFactory.newInstance()).newTransformerHandler();
+        handler.getTransformer().setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+        handler.setResult(new StreamResult(writer));
+
+        handler.startDocument();
+        handler.startElement("", "", "users", new AttributesImpl());
+        buffer.replay(handler);
+        buffer.replay(handler);
+        handler.endElement("", "", "users");
+        handler.endDocument();
+
+        assertEquals("<users><user key=\"1\">rossini</user><user key=\"1\">rossini</user></users>", writer.toString());
+    }
+}
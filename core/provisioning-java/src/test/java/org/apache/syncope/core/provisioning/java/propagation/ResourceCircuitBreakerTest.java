@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.junit.jupiter.api.Test;
+
+public class ResourceCircuitBreakerTest extends AbstractTest {
+
+    @Test
+    public void openAfterFailures() {
+        ResourceCircuitBreaker breaker = new ResourceCircuitBreaker(3, 60000);
+
+        for (int i = 0; i < 2; i++) {
+            assertTrue(breaker.allow());
+            breaker.onFailure();
+        }
+        assertEquals(ResourceCircuitBreaker.State.CLOSED, breaker.getState());
+
+        // success resets failure count
+        breaker.onSuccess();
+        for (int i = 0; i < 2; i++) {
+            breaker.onFailure();
+        }
+        assertEquals(ResourceCircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.onFailure();
+        assertEquals(ResourceCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.allow());
+    }
+
+    @Test
+    public void halfOpen() throws InterruptedException {
+        ResourceCircuitBreaker breaker = new ResourceCircuitBreaker(1, 50);
+
+        breaker.onFailure();
+        assertFalse(breaker.allow());
+
+        Thread.sleep(100);
+        assertEquals(ResourceCircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        // only one trial allowed
+        assertTrue(breaker.allow());
+        assertFalse(breaker.allow());
+
+        // failed trial opens again
+        breaker.onFailure();
+        assertEquals(ResourceCircuitBreaker.State.OPEN, breaker.getState());
+
+        Thread.sleep(100);
+        assertTrue(breaker.allow());
+        breaker.onSuccess();
+        assertEquals(ResourceCircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.allow());
+        assertTrue(breaker.allow());
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.syncope.common.lib.request.AnyCR;
+import org.apache.syncope.common.lib.request.AnyUR;
+import org.apache.syncope.common.lib.to.AnyTO;
+import org.apache.syncope.common.lib.to.ProvisioningReport;
+import org.apache.syncope.common.lib.types.MatchType;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.PullCorrelationRule;
+import org.apache.syncope.core.persistence.api.dao.PullMatch;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.resource.Provision;
+import org.apache.syncope.core.persistence.api.entity.task.PullTask;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.ProvisioningManager;
+import org.apache.syncope.core.provisioning.api.WorkflowResult;
+import org.apache.syncope.core.provisioning.api.pushpull.IgnoreProvisionException;
+import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
+import org.apache.syncope.core.provisioning.api.pushpull.PullActions;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncDeltaBuilder;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.identityconnectors.framework.common.objects.SyncToken;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AbstractPullResultHandlerTest {
+
+    /**
+     * Records matches found for each change, and creates users for changes which did not match anything.
+     */
+    private static class TestPullResultHandler extends AbstractPullResultHandler {
+
+        private final Map<String, User> users;
+
+        private final Map<String, List<PullMatch>> handled = new HashMap<>();
+
+        TestPullResultHandler(final Map<String, User> users) {
+            this.users = users;
+        }
+
+        @Override
+        protected void handleAnys(final SyncDelta delta, final List<PullMatch> matches, final Provision provision) {
+            handled.put(delta.getUid().getUidValue(), matches);
+
+            if (matches.size() == 1 && matches.get(0).getAny() == null) {
+                User user = mock(User.class);
+                when(user.getKey()).thenReturn(delta.getUid().getUidValue());
+                users.put(user.getKey(), user);
+                createdSincePrefetch = true;
+            }
+        }
+
+        @Override
+        protected void handleLinkedAccounts(
+                final SyncDelta delta, final List<PullMatch> matches, final Provision provision) {
+
+            // nothing to do
+        }
+
+        @Override
+        protected AnyUtils getAnyUtils() {
+            @SuppressWarnings("unchecked")
+            AnyDAO<Any<?>> dao = mock(AnyDAO.class);
+            when(dao.find(any())).thenAnswer(ic -> users.get(ic.<String>getArgument(0)));
+
+            AnyUtils anyUtils = mock(AnyUtils.class);
+            when(anyUtils.dao()).thenAnswer(ic -> dao);
+            return anyUtils;
+        }
+
+        @Override
+        protected AnyTO getAnyTO(final Any<?> any) {
+            return null;
+        }
+
+        @Override
+        protected WorkflowResult<? extends AnyUR> update(final AnyUR req) {
+            return null;
+        }
+
+        @Override
+        protected String getName(final AnyTO anyTO) {
+            return null;
+        }
+
+        @Override
+        protected String getName(final AnyCR anyCR) {
+            return null;
+        }
+
+        @Override
+        protected ProvisioningManager<?, ?> getProvisioningManager() {
+            return null;
+        }
+
+        @Override
+        protected AnyTO doCreate(final AnyCR anyCR, final SyncDelta delta) {
+            return null;
+        }
+
+        @Override
+        protected AnyUR doUpdate(
+                final AnyTO before, final AnyUR anyUR, final SyncDelta delta, final ProvisioningReport result) {
+
+            return null;
+        }
+    }
+
+    private static SyncDelta delta(final String uid) {
+        return new SyncDeltaBuilder().
+                setDeltaType(SyncDeltaType.CREATE_OR_UPDATE).
+                setToken(new SyncToken(uid)).
+                setUid(new Uid(uid)).
+                setObject(new ConnectorObjectBuilder().setUid(uid).setName(uid).build()).
+                build();
+    }
+
+    private final Map<String, User> users = new HashMap<>();
+
+    private Provision provision;
+
+    private PullActions action;
+
+    private InboundMatcher inboundMatcher;
+
+    private TestPullResultHandler handler;
+
+    @BeforeEach
+    public void setUp() {
+        provision = mock(Provision.class);
+
+        ExternalResource resource = mock(ExternalResource.class);
+        when(resource.getProvision(any(ObjectClass.class))).thenAnswer(ic -> Optional.of(provision));
+
+        PullTask task = mock(PullTask.class);
+        when(task.getResource()).thenReturn(resource);
+
+        action = mock(PullActions.class);
+        when(action.preprocess(any(), any(SyncDelta.class))).thenAnswer(ic -> ic.getArgument(1));
+
+        ProvisioningProfile<PullTask, PullActions> profile = new ProvisioningProfile<>(mock(Connector.class), task);
+        profile.getActions().add(action);
+
+        inboundMatcher = mock(InboundMatcher.class);
+
+        handler = new TestPullResultHandler(users);
+        handler.setProfile(profile);
+        handler.inboundMatcher = inboundMatcher;
+    }
+
+    private PullMatch match(final String uid) {
+        User user = users.computeIfAbsent(uid, k -> {
+            User created = mock(User.class);
+            when(created.getKey()).thenReturn(k);
+            return created;
+        });
+        return new PullMatch(MatchType.ANY, user);
+    }
+
+    @Test
+    public void prefetchedMatches() throws Exception {
+        SyncDelta existing = delta("existing");
+        SyncDelta missing = delta("missing");
+        List<SyncDelta> window = List.of(existing, missing);
+
+        PullMatch match = match("existing");
+        when(inboundMatcher.match(anyList(), eq(provision))).
+                thenReturn(List.of(List.of(match), List.of(PullCorrelationRule.NO_MATCH)));
+
+        handler.prefetch(window);
+        for (SyncDelta delta : window) {
+            handler.doHandle(delta, provision);
+        }
+
+        assertSame(users.get("existing"), handler.handled.get("existing").get(0).getAny());
+        assertEquals(List.of(PullCorrelationRule.NO_MATCH), handler.handled.get("missing"));
+        verify(inboundMatcher, never()).match(any(SyncDelta.class), any(Provision.class));
+        verify(action, times(2)).preprocess(any(), any(SyncDelta.class));
+        assertTrue(handler.prefetched.isEmpty());
+    }
+
+    @Test
+    public void matchAgainWhenCreatedInSameWindow() throws Exception {
+        // both changes are about the same user: the first creates it, the second shall then find it
+        SyncDelta first = delta("user1");
+        SyncDelta second = delta("user1-alias");
+        List<SyncDelta> window = List.of(first, second);
+
+        when(inboundMatcher.match(anyList(), eq(provision))).
+                thenReturn(List.of(List.of(PullCorrelationRule.NO_MATCH), List.of(PullCorrelationRule.NO_MATCH)));
+        when(inboundMatcher.match(any(SyncDelta.class), eq(provision))).
+                thenAnswer(ic -> List.of(new PullMatch(MatchType.ANY, users.get("user1"))));
+
+        handler.prefetch(window);
+        for (SyncDelta delta : window) {
+            handler.doHandle(delta, provision);
+        }
+
+        assertEquals(List.of(PullCorrelationRule.NO_MATCH), handler.handled.get("user1"));
+        assertSame(users.get("user1"), handler.handled.get("user1-alias").get(0).getAny());
+        verify(inboundMatcher).match(second, provision);
+        verify(inboundMatcher, never()).match(first, provision);
+    }
+
+    @Test
+    public void noMatchAgainWithoutCreate() throws Exception {
+        SyncDelta existing = delta("existing");
+        SyncDelta missing = delta("missing");
+        List<SyncDelta> window = List.of(existing, missing);
+
+        List<List<PullMatch>> matches = List.of(List.of(match("existing")), List.of(match("missing")));
+        when(inboundMatcher.match(anyList(), eq(provision))).thenReturn(matches);
+
+        handler.prefetch(window);
+        users.remove("missing");
+        for (SyncDelta delta : window) {
+            handler.doHandle(delta, provision);
+        }
+
+        // reloaded as no more found, then created
+        assertEquals(List.of(PullCorrelationRule.NO_MATCH), handler.handled.get("missing"));
+        verify(inboundMatcher, never()).match(any(SyncDelta.class), any(Provision.class));
+    }
+
+    @Test
+    public void preprocessOnceWhenMatchingFails() throws Exception {
+        SyncDelta delta = delta("user1");
+
+        when(inboundMatcher.match(anyList(), eq(provision))).thenThrow(new IllegalStateException("unavailable"));
+        when(inboundMatcher.match(any(SyncDelta.class), eq(provision))).
+                thenReturn(List.of(PullCorrelationRule.NO_MATCH));
+
+        handler.prefetch(List.of(delta));
+        handler.doHandle(delta, provision);
+
+        verify(action).preprocess(any(), eq(delta));
+        verify(inboundMatcher).match(delta, provision);
+        assertEquals(List.of(PullCorrelationRule.NO_MATCH), handler.handled.get("user1"));
+    }
+
+    @Test
+    public void preprocessOnceWhenPreprocessFails() {
+        SyncDelta delta = delta("user1");
+
+        IgnoreProvisionException failure = new IgnoreProvisionException("skip");
+        when(action.preprocess(any(), eq(delta))).thenThrow(failure);
+
+        handler.prefetch(List.of(delta));
+        assertSame(failure, assertThrows(IgnoreProvisionException.class, () -> handler.doHandle(delta, provision)));
+
+        verify(action).preprocess(any(), eq(delta));
+        verify(inboundMatcher, never()).match(anyList(), any(Provision.class));
+        assertTrue(handler.prefetchFailures.isEmpty());
+    }
+
+    @Test
+    public void discardPrefetched() {
+        List<SyncDelta> window = new ArrayList<>();
+        window.add(delta("user1"));
+        window.add(delta("user2"));
+
+        when(inboundMatcher.match(anyList(), eq(provision))).
+                thenReturn(List.of(List.of(PullCorrelationRule.NO_MATCH), List.of(PullCorrelationRule.NO_MATCH)));
+
+        handler.prefetch(window);
+        assertEquals(2, handler.prefetched.size());
+
+        handler.discardPrefetched();
+        assertTrue(handler.prefetched.isEmpty());
+    }
+}
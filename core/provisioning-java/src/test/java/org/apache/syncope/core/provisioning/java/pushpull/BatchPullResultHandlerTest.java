@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncDeltaBuilder;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.identityconnectors.framework.common.objects.SyncToken;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.jupiter.api.Test;
+
+public class BatchPullResultHandlerTest {
+
+    private static SyncDelta delta(final String uid) {
+        return new SyncDeltaBuilder().
+                setDeltaType(SyncDeltaType.CREATE_OR_UPDATE).
+                setToken(new SyncToken(uid)).
+                setUid(new Uid(uid)).
+                setObject(new ConnectorObjectBuilder().setUid(uid).setName(uid).build()).
+                build();
+    }
+
+    @Test
+    public void windows() {
+        List<Integer> prefetched = new ArrayList<>();
+        List<String> handled = new ArrayList<>();
+
+        SyncopePullResultHandler delegate = mock(SyncopePullResultHandler.class);
+        doAnswer(ic -> prefetched.add(ic.<List<SyncDelta>>getArgument(0).size())).
+                when(delegate).prefetch(anyList());
+        when(delegate.handle(any(SyncDelta.class))).thenAnswer(ic -> {
+            handled.add(ic.<SyncDelta>getArgument(0).getUid().getUidValue());
+            return true;
+        });
+
+        List<String> uids = IntStream.range(0, 250).mapToObj(i -> "uid" + i).collect(Collectors.toList());
+
+        BatchPullResultHandler handler = new BatchPullResultHandler(delegate);
+        uids.forEach(uid -> handler.handle(delta(uid)));
+        handler.close();
+
+        assertEquals(List.of(BatchPullResultHandler.WINDOW_SIZE, BatchPullResultHandler.WINDOW_SIZE, 50), prefetched);
+        assertEquals(uids, handled);
+    }
+
+    @Test
+    public void stopWhenHandlerDoes() {
+        SyncopePullResultHandler delegate = mock(SyncopePullResultHandler.class);
+        when(delegate.handle(any(SyncDelta.class))).thenReturn(false);
+
+        BatchPullResultHandler handler = new BatchPullResultHandler(delegate);
+        boolean proceed = true;
+        for (int i = 0; i < 1000 && proceed; i++) {
+            proceed = handler.handle(delta("uid" + i));
+        }
+        assertFalse(proceed);
+
+        // what was prefetched and not handled is not kept around
+        verify(delegate).discardPrefetched();
+    }
+}
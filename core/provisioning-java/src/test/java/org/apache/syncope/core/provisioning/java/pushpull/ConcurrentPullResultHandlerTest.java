@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncDeltaBuilder;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.identityconnectors.framework.common.objects.SyncToken;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentPullResultHandlerTest extends AbstractTest {
+
+    private static SyncDelta delta(final String uid, final int seq) {
+        return new SyncDeltaBuilder().
+                setDeltaType(SyncDeltaType.CREATE_OR_UPDATE).
+                setToken(new SyncToken(seq)).
+                setUid(new Uid(uid)).
+                setObject(new ConnectorObjectBuilder().setUid(uid).setName(uid).build()).
+                build();
+    }
+
+    @Test
+    public void partitionedByUid() {
+        Map<String, List<Integer>> handled = new ConcurrentHashMap<>();
+
+        List<SyncopePullResultHandler> handlers = IntStream.range(0, 4).mapToObj(i -> {
+            SyncopePullResultHandler handler = mock(SyncopePullResultHandler.class);
+            when(handler.handle(any(SyncDelta.class))).thenAnswer(ic -> {
+                SyncDelta delta = ic.getArgument(0);
+                handled.computeIfAbsent(delta.getUid().getUidValue(),
+                        k -> Collections.synchronizedList(new ArrayList<>())).
+                        add((Integer) delta.getToken().getValue());
+                return true;
+            });
+            return handler;
+        }).collect(Collectors.toList());
+
+        ConcurrentPullResultHandler handler =
+                new ConcurrentPullResultHandler(SyncopeConstants.MASTER_DOMAIN, handlers, true);
+        for (int seq = 0; seq < 1000; seq++) {
+            assertTrue(handler.handle(delta("uid" + (seq % 10), seq)));
+        }
+        handler.close();
+
+        assertEquals(10, handled.size());
+        handled.forEach((uid, seqs) -> {
+            assertEquals(100, seqs.size());
+            assertEquals(seqs.stream().sorted().collect(Collectors.toList()), seqs);
+        });
+    }
+
+    @Test
+    public void failure() {
+        SyncopePullResultHandler failing = mock(SyncopePullResultHandler.class);
+        when(failing.handle(any(SyncDelta.class))).thenThrow(new IllegalStateException());
+
+        ConcurrentPullResultHandler handler =
+                new ConcurrentPullResultHandler(SyncopeConstants.MASTER_DOMAIN, List.of(failing), true);
+        boolean proceed = true;
+        for (int seq = 0; seq < 1000 && proceed; seq++) {
+            proceed = handler.handle(delta("uid" + seq, seq));
+        }
+        assertFalse(proceed);
+        assertThrows(IllegalStateException.class, handler::close);
+    }
+
+    @Test
+    public void workerGone() {
+        SyncopePullResultHandler failing = mock(SyncopePullResultHandler.class);
+        doThrow(new OutOfMemoryError()).when(failing).prefetch(anyList());
+
+        ConcurrentPullResultHandler handler =
+                new ConcurrentPullResultHandler(SyncopeConstants.MASTER_DOMAIN, List.of(failing), true);
+        assertTimeoutPreemptively(Duration.ofMinutes(1), () -> {
+            boolean proceed = true;
+            for (int seq = 0; seq < 1000 && proceed; seq++) {
+                proceed = handler.handle(delta("uid" + seq, seq));
+            }
+            assertFalse(proceed);
+            assertThrows(OutOfMemoryError.class, handler::close);
+        });
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.junit.jupiter.api.Test;
+
+public class PushRateLimiterTest extends AbstractTest {
+
+    @Test
+    public void limit() throws InterruptedException {
+        PushRateLimiter.Bucket bucket = new PushRateLimiter.Bucket(10);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 15; i++) {
+            bucket.acquire();
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // first 10 permits are immediately available, the remaining 5 take 100 ms each
+        assertTrue(elapsed >= 400, "elapsed: " + elapsed);
+    }
+
+    @Test
+    public void perDomainAndResource() {
+        PushRateLimiter limiter = new PushRateLimiter();
+
+        ExternalResource resource = mock(ExternalResource.class);
+        when(resource.getKey()).thenReturn("resource-rate-limit");
+
+        when(resource.getPushRateLimit()).thenReturn(null);
+        assertNull(limiter.bucket(SyncopeConstants.MASTER_DOMAIN, resource));
+
+        when(resource.getPushRateLimit()).thenReturn(5);
+        PushRateLimiter.Bucket bucket = limiter.bucket(SyncopeConstants.MASTER_DOMAIN, resource);
+        assertNotNull(bucket);
+        assertSame(bucket, limiter.bucket(SyncopeConstants.MASTER_DOMAIN, resource));
+
+        // same resource key on another domain is a different resource
+        assertNotSame(bucket, limiter.bucket("Two", resource));
+
+        when(resource.getPushRateLimit()).thenReturn(0);
+        assertNull(limiter.bucket(SyncopeConstants.MASTER_DOMAIN, resource));
+        assertFalse(limiter.buckets.containsKey(Pair.of(SyncopeConstants.MASTER_DOMAIN, "resource-rate-limit")));
+    }
+}
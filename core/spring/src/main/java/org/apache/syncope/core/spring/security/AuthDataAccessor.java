@@ -117,6 +117,9 @@ public class AuthDataAccessor {
     @Autowired
     private ConfParamOps confParamOps;
 
+    @Autowired
+    protected JWTAuthenticationCache jwtAuthenticationCache;
+
     @Autowired
     protected ConnectorFactory connFactory;
 
@@ -364,7 +367,10 @@ public class AuthDataAccessor {
 
     @Transactional
     public Pair<String, Set<SyncopeGrantedAuthority>> authenticate(final JWTAuthentication authentication) {
+        long generation = jwtAuthenticationCache.generation();
+
         String username;
+        String ownerKey = null;
         Set<SyncopeGrantedAuthority> authorities;
 
         if (adminUser.equals(authentication.getClaims().getSubject())) {
@@ -387,6 +393,7 @@ public class AuthDataAccessor {
 
             User user = resolved.getLeft();
             username = user.getUsername();
+            ownerKey = user.getKey();
             authorities = resolved.getRight() == null ? Set.of() : resolved.getRight();
             LOG.debug("JWT {} issued by {} resolved to User {} with authorities {}",
                     authentication.getClaims().getJWTID(),
@@ -409,6 +416,14 @@ public class AuthDataAccessor {
             }
         }
 
+        jwtAuthenticationCache.put(
+                authentication.getDetails().getDomain(),
+                authentication.getClaims(),
+                username,
+                ownerKey,
+                authorities,
+                generation);
+
         return Pair.of(username, authorities);
     }
 
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.provisioning.api.event.AccessTokenChangedEvent;
+import org.apache.syncope.core.provisioning.api.event.AnyCreatedUpdatedEvent;
+import org.apache.syncope.core.provisioning.api.event.AnyDeletedEvent;
+import org.apache.syncope.core.provisioning.api.event.AuthorizationChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Bounded, TTL-based cache of JWT authentication outcomes - username and authorities - by domain and JWT ID.
+ * Entries are expired once the related access token is saved or deleted, or its owner is updated or deleted; all
+ * entries for a domain are expired once any role or realm is saved or deleted there. Outcomes computed while any
+ * such change was being committed are not cached.
+ * Expiration is local: with more than one Core instance, changes made via other instances are only seen once the
+ * TTL elapses, hence caching is disabled by default.
+ */
+public class JWTAuthenticationCache {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(JWTAuthenticationCache.class);
+
+    protected static class Entry {
+
+        protected final String issuer;
+
+        protected final String username;
+
+        protected final String ownerKey;
+
+        protected final Set<SyncopeGrantedAuthority> authorities;
+
+        protected final long expiresAt;
+
+        protected Entry(
+                final String issuer,
+                final String username,
+                final String ownerKey,
+                final Set<SyncopeGrantedAuthority> authorities,
+                final long expiresAt) {
+
+            this.issuer = issuer;
+            this.username = username;
+            this.ownerKey = ownerKey;
+            this.authorities = authorities;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Elapsed time in seconds; 0 disables caching.
+     */
+    protected final int ttl;
+
+    /**
+     * Max cache size.
+     */
+    protected final int maxCacheSize;
+
+    protected final Map<Pair<String, String>, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Cached JWT IDs, by domain and owner key.
+     */
+    protected final Map<Pair<String, String>, Set<String>> byOwner = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented on each expiration, to discard outcomes computed meanwhile.
+     */
+    protected final AtomicLong generation = new AtomicLong();
+
+    public JWTAuthenticationCache(final int ttl, final int maxCacheSize) {
+        this.ttl = ttl;
+        this.maxCacheSize = maxCacheSize;
+    }
+
+    public boolean isEnabled() {
+        return ttl > 0 && maxCacheSize > 0;
+    }
+
+    /**
+     * To be read before computing any outcome to cache.
+     *
+     * @return current generation
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public Optional<Pair<String, Set<SyncopeGrantedAuthority>>> get(final String domain, final JWTClaimsSet claims) {
+        if (!isEnabled() || claims.getJWTID() == null) {
+            return Optional.empty();
+        }
+
+        Pair<String, String> key = Pair.of(domain, claims.getJWTID());
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        if (!Objects.equals(entry.issuer, claims.getIssuer())) {
+            return Optional.empty();
+        }
+
+        return Optional.of(Pair.of(entry.username, entry.authorities));
+    }
+
+    /**
+     * Caches the given outcome, unless any expiration happened since the given generation was read.
+     *
+     * @param domain domain
+     * @param claims JWT claims
+     * @param username authenticated username
+     * @param ownerKey authenticated user key, null for admin
+     * @param authorities granted authorities
+     * @param generation generation read before computing the given outcome
+     */
+    public void put(
+            final String domain,
+            final JWTClaimsSet claims,
+            final String username,
+            final String ownerKey,
+            final Set<SyncopeGrantedAuthority> authorities,
+            final long generation) {
+
+        if (!isEnabled() || claims.getJWTID() == null || generation != this.generation.get()) {
+            return;
+        }
+
+        long expiresAt = System.currentTimeMillis() + ttl * 1000L;
+        Date expirationTime = claims.getExpirationTime();
+        if (expirationTime != null) {
+            expiresAt = Math.min(expiresAt, expirationTime.getTime());
+        }
+
+        if (entries.size() >= maxCacheSize) {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(entry -> entry.expiresAt < now);
+        }
+        if (entries.size() >= maxCacheSize || byOwner.size() >= maxCacheSize) {
+            LOG.debug("Max cache size {} reached, clearing", maxCacheSize);
+            // no need to increment generation, as no outcome is being made stale here
+            entries.clear();
+            byOwner.clear();
+        }
+
+        Pair<String, String> key = Pair.of(domain, claims.getJWTID());
+        entries.put(key, new Entry(claims.getIssuer(), username, ownerKey, Set.copyOf(authorities), expiresAt));
+        if (ownerKey != null) {
+            byOwner.computeIfAbsent(Pair.of(domain, ownerKey), k -> ConcurrentHashMap.newKeySet()).
+                    add(claims.getJWTID());
+        }
+
+        // an expiration might have happened meanwhile
+        if (generation != this.generation.get()) {
+            entries.remove(key);
+        }
+    }
+
+    public void expire(final String domain, final String jwtId) {
+        generation.incrementAndGet();
+
+        Entry entry = entries.remove(Pair.of(domain, jwtId));
+        if (entry != null && entry.ownerKey != null) {
+            Optional.ofNullable(byOwner.get(Pair.of(domain, entry.ownerKey))).ifPresent(ids -> ids.remove(jwtId));
+        }
+    }
+
+    public void expireOwner(final String domain, final String ownerKey) {
+        generation.incrementAndGet();
+
+        Optional.ofNullable(byOwner.remove(Pair.of(domain, ownerKey))).
+                ifPresent(ids -> ids.forEach(jwtId -> entries.remove(Pair.of(domain, jwtId))));
+    }
+
+    public void expireDomain(final String domain) {
+        generation.incrementAndGet();
+
+        entries.keySet().removeIf(key -> domain.equals(key.getLeft()));
+        byOwner.keySet().removeIf(key -> domain.equals(key.getLeft()));
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+
+        entries.clear();
+        byOwner.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void after(final AccessTokenChangedEvent event) {
+        expire(event.getDomain(), event.getAccessTokenKey());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void after(final AnyCreatedUpdatedEvent<Any<?>> event) {
+        if (event.getAny().getType() != null && event.getAny().getType().getKind() == AnyTypeKind.USER) {
+            expireOwner(event.getDomain(), event.getAny().getKey());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void after(final AnyDeletedEvent event) {
+        if (event.getAnyTypeKind() == AnyTypeKind.USER) {
+            expireOwner(event.getDomain(), event.getAnyKey());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void after(final AuthorizationChangedEvent event) {
+        expireDomain(event.getDomain());
+    }
+}
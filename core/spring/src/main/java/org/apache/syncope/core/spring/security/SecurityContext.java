@@ -107,6 +107,14 @@ public class SecurityContext implements EnvironmentAware {
                 jwsKey());
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public JWTAuthenticationCache jwtAuthenticationCache() {
+        return new JWTAuthenticationCache(
+                env.getProperty("jwtAuthenticationCache.ttl", Integer.class, 0),
+                env.getProperty("jwtAuthenticationCache.maxCacheSize", Integer.class, 10000));
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public PasswordGenerator passwordGenerator() {
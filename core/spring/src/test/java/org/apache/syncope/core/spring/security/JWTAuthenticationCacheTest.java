@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.provisioning.api.event.AuthorizationChangedEvent;
+import org.junit.jupiter.api.Test;
+
+public class JWTAuthenticationCacheTest {
+
+    private static final Set<SyncopeGrantedAuthority> AUTHORITIES = Set.of(new SyncopeGrantedAuthority("USER_READ"));
+
+    private static JWTClaimsSet claims(final String subject) {
+        return new JWTClaimsSet.Builder().
+                jwtID(UUID.randomUUID().toString()).
+                subject(subject).
+                issuer("ApacheSyncope").
+                expirationTime(new Date(System.currentTimeMillis() + 60000)).
+                build();
+    }
+
+    @Test
+    public void putAndExpire() {
+        JWTAuthenticationCache cache = new JWTAuthenticationCache(60, 100);
+
+        JWTClaimsSet claims = claims("rossini");
+        cache.put(SyncopeConstants.MASTER_DOMAIN, claims, "rossini", "userKey", AUTHORITIES, cache.generation());
+        assertEquals("rossini", cache.get(SyncopeConstants.MASTER_DOMAIN, claims).get().getLeft());
+        assertEquals(AUTHORITIES, cache.get(SyncopeConstants.MASTER_DOMAIN, claims).get().getRight());
+        assertFalse(cache.get("Two", claims).isPresent());
+
+        cache.expire(SyncopeConstants.MASTER_DOMAIN, claims.getJWTID());
+        assertFalse(cache.get(SyncopeConstants.MASTER_DOMAIN, claims).isPresent());
+
+        cache.put(SyncopeConstants.MASTER_DOMAIN, claims, "rossini", "userKey", AUTHORITIES, cache.generation());
+        assertTrue(cache.get(SyncopeConstants.MASTER_DOMAIN, claims).isPresent());
+
+        cache.expireOwner(SyncopeConstants.MASTER_DOMAIN, "userKey");
+        assertFalse(cache.get(SyncopeConstants.MASTER_DOMAIN, claims).isPresent());
+    }
+
+    @Test
+    public void expireDomain() {
+        JWTAuthenticationCache cache = new JWTAuthenticationCache(60, 100);
+
+        JWTClaimsSet master = claims("rossini");
+        cache.put(SyncopeConstants.MASTER_DOMAIN, master, "rossini", "userKey", AUTHORITIES, cache.generation());
+        JWTClaimsSet two = claims("bellini");
+        cache.put("Two", two, "bellini", "userKey", AUTHORITIES, cache.generation());
+
+        cache.after(new AuthorizationChangedEvent(this, SyncopeConstants.MASTER_DOMAIN));
+        assertFalse(cache.get(SyncopeConstants.MASTER_DOMAIN, master).isPresent());
+        assertTrue(cache.get("Two", two).isPresent());
+    }
+
+    @Test
+    public void discardStale() {
+        JWTAuthenticationCache cache = new JWTAuthenticationCache(60, 100);
+
+        JWTClaimsSet claims = claims("rossini");
+        long generation = cache.generation();
+        cache.expireOwner(SyncopeConstants.MASTER_DOMAIN, "anotherKey");
+        cache.put(SyncopeConstants.MASTER_DOMAIN, claims, "rossini", "userKey", AUTHORITIES, generation);
+        assertFalse(cache.get(SyncopeConstants.MASTER_DOMAIN, claims).isPresent());
+    }
+
+    @Test
+    public void bounded() {
+        JWTAuthenticationCache cache = new JWTAuthenticationCache(60, 10);
+
+        for (int i = 0; i < 25; i++) {
+            cache.put(SyncopeConstants.MASTER_DOMAIN, claims("user" + i), "user" + i, "key" + i, AUTHORITIES,
+                    cache.generation());
+            assertTrue(cache.size() <= 10);
+        }
+    }
+
+    @Test
+    public void disabled() {
+        JWTAuthenticationCache cache = new JWTAuthenticationCache(0, 100);
+
+        JWTClaimsSet claims = claims("rossini");
+        cache.put(SyncopeConstants.MASTER_DOMAIN, claims, "rossini", "userKey", AUTHORITIES, cache.generation());
+        assertFalse(cache.get(SyncopeConstants.MASTER_DOMAIN, claims).isPresent());
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.workflow.java;
 
+import java.util.Set;
 import org.apache.syncope.common.lib.request.AnyObjectCR;
 import org.apache.syncope.common.lib.request.AnyObjectUR;
 import org.apache.syncope.core.provisioning.api.PropagationByResource;
@@ -51,7 +52,8 @@ public class DefaultAnyObjectWorkflowAdapter extends AbstractAnyObjectWorkflowAd
 
         PropagationByResource<String> propByRes = dataBinder.update(anyObject, anyObjectUR);
         metadata(anyObject, updater, context);
-        anyObjectDAO.save(anyObject);
+        // only metadata were changed since last save
+        anyObjectDAO.save(anyObject, Set.of());
 
         return new WorkflowResult<>(anyObjectUR, propByRes, "update");
     }
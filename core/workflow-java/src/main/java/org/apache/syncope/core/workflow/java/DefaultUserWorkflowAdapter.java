@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.workflow.java;
 
+import java.util.Set;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.lib.request.PasswordPatch;
@@ -111,7 +112,8 @@ public class DefaultUserWorkflowAdapter extends AbstractUserWorkflowAdapter {
                 dataBinder.update(user, userUR);
 
         metadata(user, updater, context);
-        userDAO.save(user);
+        // only metadata were changed since last save
+        userDAO.save(user, Set.of());
 
         return new UserWorkflowResult<>(
                 Pair.of(userUR, !user.isSuspended()),
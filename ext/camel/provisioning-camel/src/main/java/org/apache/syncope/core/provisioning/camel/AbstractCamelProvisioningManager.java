@@ -18,28 +18,45 @@
  */
 package org.apache.syncope.core.provisioning.camel;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import org.apache.camel.Endpoint;
+import org.apache.camel.Consumer;
 import org.apache.camel.Exchange;
-import org.apache.camel.PollingConsumer;
+import org.apache.camel.ExchangePattern;
 import org.apache.camel.ProducerTemplate;
 import org.apache.camel.model.RoutesDefinition;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.DefaultMessage;
 import org.apache.syncope.core.persistence.api.dao.CamelRouteDAO;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 
-abstract class AbstractCamelProvisioningManager {
+/**
+ * Sends request/reply exchanges to the provisioning routes via a single, thread-safe {@link ProducerTemplate}.
+ * As {@code direct:} routes are processed synchronously by the calling thread, the outcome of each call is read from
+ * its own exchange once sent; {@code direct:*Port} endpoints, which routes send their results to, are only consumed
+ * to let such routes complete.
+ * Each exchange carries the domain of the caller as {@link #DOMAIN} property.
+ */
+abstract class AbstractCamelProvisioningManager implements DisposableBean {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractCamelProvisioningManager.class);
 
+    /**
+     * Exchange property holding the domain of the caller.
+     */
+    public static final String DOMAIN = "domain";
+
     @Autowired
     protected CamelRouteDAO routeDAO;
 
@@ -48,51 +65,159 @@ abstract class AbstractCamelProvisioningManager {
 
     protected RoutesDefinition routes;
 
-    protected final Map<String, PollingConsumer> consumerMap = new HashMap<>();
+    protected final Map<String, Consumer> portConsumers = new ConcurrentHashMap<>();
 
-    protected final List<String> knownURIs = new ArrayList<>();
+    protected ProducerTemplate template;
 
-    protected void sendMessage(final String uri, final Object obj) {
-        Exchange exchange = new DefaultExchange(contextFactory.getCamelContext());
+    protected ExecutorService asyncExecutor;
 
-        DefaultMessage message = new DefaultMessage(contextFactory.getCamelContext());
-        message.setBody(obj);
-        exchange.setIn(message);
+    protected synchronized ProducerTemplate getTemplate() {
+        if (template == null) {
+            template = contextFactory.getCamelContext().createProducerTemplate();
+        }
+        return template;
+    }
 
-        ProducerTemplate template = contextFactory.getCamelContext().createProducerTemplate();
-        template.send(uri, exchange);
+    /**
+     * @return bounded thread pool, as configured by the default thread pool profile of the Camel context, running the
+     * routes invoked via {@link #sendMessageAsync(String, String, Object, Map, Class)}
+     */
+    protected synchronized ExecutorService getAsyncExecutor() {
+        if (asyncExecutor == null) {
+            asyncExecutor = contextFactory.getCamelContext().getExecutorServiceManager().
+                    newDefaultThreadPool(this, getClass().getSimpleName());
+        }
+        return asyncExecutor;
     }
 
-    protected void sendMessage(final String uri, final Object body, final Map<String, Object> properties) {
-        DefaultExchange exchange = new DefaultExchange(contextFactory.getCamelContext());
+    /**
+     * Makes sure that the given port endpoint, where routes send their results to, is consumed.
+     *
+     * @param port port endpoint URI
+     */
+    protected void consume(final String port) {
+        portConsumers.computeIfAbsent(port, k -> {
+            try {
+                Consumer consumer = contextFactory.getCamelContext().getEndpoint(port).createConsumer(exchange -> {
+                    // result is read from the exchange returned to the caller
+                });
+                consumer.start();
+                return consumer;
+            } catch (Exception e) {
+                LOG.error("Unexpected error in Consumer creation for {}", port, e);
+                throw new CamelException(e);
+            }
+        });
+    }
+
+    protected Exchange buildExchange(final Object body, final Map<String, Object> properties) {
+        DefaultExchange exchange = new DefaultExchange(contextFactory.getCamelContext(), ExchangePattern.InOut);
         // exclude properties with null value, otherwise DefaultExchange#properties, being a ConcurrentHashMap,
         // will raise NPE; no problems for later usage, as Map#get will return null for missing keys anyway
         exchange.setProperties(properties.keySet().stream().
                 filter(key -> properties.get(key) != null).
                 collect(Collectors.toMap(Function.identity(), properties::get)));
+        exchange.setProperty(DOMAIN, AuthContextUtils.getDomain());
 
         DefaultMessage message = new DefaultMessage(contextFactory.getCamelContext());
         message.setBody(body);
         exchange.setIn(message);
-        ProducerTemplate template = contextFactory.getCamelContext().createProducerTemplate();
-        template.send(uri, exchange);
+        return exchange;
+    }
+
+    /**
+     * Sends the given body and properties to the given route, and waits for its completion.
+     *
+     * @param uri route endpoint URI
+     * @param port port endpoint URI, where the route sends its result to
+     * @param body message body
+     * @param properties exchange properties
+     * @return completed exchange
+     */
+    protected Exchange sendMessage(
+            final String uri, final String port, final Object body, final Map<String, Object> properties) {
+
+        consume(port);
+        return getTemplate().send(uri, buildExchange(body, properties));
+    }
+
+    /**
+     * Sends the given body and properties to the given route, without waiting for its completion: the route is run
+     * by a thread from a bounded pool, with the domain and security context of the caller, each call with its own
+     * exchange and security context.
+     *
+     * @param <T> result type
+     * @param uri route endpoint URI
+     * @param port port endpoint URI, where the route sends its result to
+     * @param body message body
+     * @param properties exchange properties
+     * @param resultType result type
+     * @return future result, completed exceptionally if the route failed
+     */
+    protected <T> CompletableFuture<T> sendMessageAsync(
+            final String uri,
+            final String port,
+            final Object body,
+            final Map<String, Object> properties,
+            final Class<T> resultType) {
+
+        consume(port);
+        Exchange exchange = buildExchange(body, properties);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        return CompletableFuture.supplyAsync(() -> {
+            SecurityContext original = SecurityContextHolder.getContext();
+
+            SecurityContext callerContext = SecurityContextHolder.createEmptyContext();
+            callerContext.setAuthentication(authentication);
+            SecurityContextHolder.setContext(callerContext);
+            try {
+                return getBody(getTemplate().send(uri, exchange), resultType);
+            } finally {
+                SecurityContextHolder.setContext(original);
+            }
+        }, getAsyncExecutor());
     }
 
-    protected PollingConsumer getConsumer(final String uri) {
-        if (!knownURIs.contains(uri)) {
-            knownURIs.add(uri);
-            Endpoint endpoint = contextFactory.getCamelContext().getEndpoint(uri);
-            PollingConsumer pollingConsumer = null;
+    protected static void checkException(final Exchange exchange) {
+        Exception ex = exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
+        if (ex == null) {
+            ex = exchange.getException();
+        }
+        if (ex != null) {
+            throw ex instanceof RuntimeException ? (RuntimeException) ex : new CamelException(ex);
+        }
+    }
+
+    protected static <T> T getBody(final Exchange exchange, final Class<T> resultType) {
+        checkException(exchange);
+        return exchange.getMessage().getBody(resultType);
+    }
+
+    @Override
+    public void destroy() {
+        portConsumers.values().forEach(consumer -> {
             try {
-                pollingConsumer = endpoint.createPollingConsumer();
-                consumerMap.put(uri, pollingConsumer);
-                pollingConsumer.start();
-            } catch (Exception ex) {
-                LOG.error("Unexpected error in Consumer creation ", ex);
+                consumer.stop();
+            } catch (Exception e) {
+                LOG.debug("While stopping {}", consumer, e);
+            }
+        });
+        portConsumers.clear();
+
+        synchronized (this) {
+            if (asyncExecutor != null) {
+                asyncExecutor.shutdown();
+                asyncExecutor = null;
+            }
+            if (template != null) {
+                try {
+                    template.stop();
+                } catch (Exception e) {
+                    LOG.debug("While stopping {}", template, e);
+                }
+                template = null;
             }
-            return pollingConsumer;
-        } else {
-            return consumerMap.get(uri);
         }
     }
 }
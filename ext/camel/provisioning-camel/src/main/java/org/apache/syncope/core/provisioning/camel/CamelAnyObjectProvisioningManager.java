@@ -23,8 +23,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import org.apache.camel.Exchange;
-import org.apache.camel.PollingConsumer;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.request.AnyObjectCR;
 import org.apache.syncope.common.lib.request.AnyObjectUR;
@@ -53,23 +53,15 @@ public class CamelAnyObjectProvisioningManager
             final String creator,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:createAnyObjectPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("excludedResources", excludedResources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("creator", creator);
         props.put("context", context);
 
-        sendMessage("direct:createAnyObject", req, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:createAnyObject", "direct:createAnyObjectPort", req, props);
 
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
-
-        return exchange.getIn().getBody(Pair.class);
+        return getBody(exchange, Pair.class);
     }
 
     @Override
@@ -89,23 +81,43 @@ public class CamelAnyObjectProvisioningManager
             final String updater,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:updateAnyObjectPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("excludedResources", excludedResources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:updateAnyObject", anyUR, props);
+        Exchange exchange = sendMessage("direct:updateAnyObject", "direct:updateAnyObjectPort", anyUR, props);
 
-        Exchange exchange = pollingConsumer.receive();
+        return getBody(exchange, Pair.class);
+    }
+
+    /**
+     * Same as {@link #update(AnyObjectUR, Set, boolean, String, String)}, but without waiting for completion.
+     *
+     * @param anyUR update request
+     * @param excludedResources external resources to exclude from propagation
+     * @param nullPriorityAsync asynchronous propagation for resources with null priority
+     * @param updater updater
+     * @param context context
+     * @return future update result
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Pair<AnyObjectUR, List<PropagationStatus>>> updateAsync(
+            final AnyObjectUR anyUR,
+            final Set<String> excludedResources,
+            final boolean nullPriorityAsync,
+            final String updater,
+            final String context) {
 
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
+        Map<String, Object> props = new HashMap<>();
+        props.put("excludedResources", excludedResources);
+        props.put("nullPriorityAsync", nullPriorityAsync);
+        props.put("updater", updater);
+        props.put("context", context);
 
-        return exchange.getIn().getBody(Pair.class);
+        return sendMessageAsync("direct:updateAnyObject", "direct:updateAnyObjectPort", anyUR, props, Pair.class).
+                thenApply(result -> (Pair<AnyObjectUR, List<PropagationStatus>>) result);
     }
 
     @Override
@@ -128,61 +140,37 @@ public class CamelAnyObjectProvisioningManager
             final String eraser,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:deleteAnyObjectPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("excludedResources", excludedResources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("eraser", eraser);
         props.put("context", context);
 
-        sendMessage("direct:deleteAnyObject", key, props);
-
-        Exchange exchange = pollingConsumer.receive();
-
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
+        Exchange exchange = sendMessage("direct:deleteAnyObject", "direct:deleteAnyObjectPort", key, props);
 
-        return exchange.getIn().getBody(List.class);
+        return getBody(exchange, List.class);
     }
 
     @Override
     public String unlink(final AnyObjectUR anyObjectUR, final String updater, final String context) {
-        PollingConsumer pollingConsumer = getConsumer("direct:unlinkAnyObjectPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:unlinkAnyObject", anyObjectUR, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:unlinkAnyObject", "direct:unlinkAnyObjectPort", anyObjectUR, props);
 
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
-
-        return exchange.getIn().getBody(AnyObjectUR.class).getKey();
+        return getBody(exchange, AnyObjectUR.class).getKey();
     }
 
     @Override
     public String link(final AnyObjectUR anyObjectUR, final String updater, final String context) {
-        PollingConsumer pollingConsumer = getConsumer("direct:linkAnyObjectPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:linkAnyObject", anyObjectUR, props);
+        Exchange exchange = sendMessage("direct:linkAnyObject", "direct:linkAnyObjectPort", anyObjectUR, props);
 
-        Exchange exchange = pollingConsumer.receive();
-
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
-
-        return exchange.getIn().getBody(AnyObjectUR.class).getKey();
+        return getBody(exchange, AnyObjectUR.class).getKey();
     }
 
     @Override
@@ -194,23 +182,15 @@ public class CamelAnyObjectProvisioningManager
             final String updater,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:provisionAnyObjectPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("resources", resources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:provisionAnyObject", key, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:provisionAnyObject", "direct:provisionAnyObjectPort", key, props);
 
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
-
-        return exchange.getIn().getBody(List.class);
+        return getBody(exchange, List.class);
     }
 
     @Override
@@ -222,22 +202,14 @@ public class CamelAnyObjectProvisioningManager
             final String updater,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:deprovisionAnyObjectPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("resources", resources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:deprovisionAnyObject", key, props);
-
-        Exchange exchange = pollingConsumer.receive();
-
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
+        Exchange exchange = sendMessage("direct:deprovisionAnyObject", "direct:deprovisionAnyObjectPort", key, props);
 
-        return exchange.getIn().getBody(List.class);
+        return getBody(exchange, List.class);
     }
 }
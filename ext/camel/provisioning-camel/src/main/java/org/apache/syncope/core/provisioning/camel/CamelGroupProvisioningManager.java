@@ -23,8 +23,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import org.apache.camel.Exchange;
-import org.apache.camel.PollingConsumer;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.request.GroupCR;
 import org.apache.syncope.common.lib.request.GroupUR;
@@ -41,23 +41,15 @@ public class CamelGroupProvisioningManager
     public Pair<String, List<PropagationStatus>> create(
             final GroupCR req, final boolean nullPriorityAsync, final String creator, final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:createGroupPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("excludedResources", Set.of());
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("creator", creator);
         props.put("context", context);
 
-        sendMessage("direct:createGroup", req, props);
-
-        Exchange exchange = pollingConsumer.receive();
-
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
+        Exchange exchange = sendMessage("direct:createGroup", "direct:createGroupPort", req, props);
 
-        return exchange.getIn().getBody(Pair.class);
+        return getBody(exchange, Pair.class);
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -71,8 +63,6 @@ public class CamelGroupProvisioningManager
             final String creator,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:createGroupInPullPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("groupOwnerMap", groupOwnerMap);
         props.put("excludedResources", excludedResources);
@@ -80,15 +70,9 @@ public class CamelGroupProvisioningManager
         props.put("creator", creator);
         props.put("context", context);
 
-        sendMessage("direct:createGroupInPull", req, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:createGroupInPull", "direct:createGroupInPullPort", req, props);
 
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
-
-        return exchange.getIn().getBody(Pair.class);
+        return getBody(exchange, Pair.class);
     }
 
     @Override
@@ -108,23 +92,43 @@ public class CamelGroupProvisioningManager
             final String updater,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:updateGroupPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("excludedResources", excludedResources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:updateGroup", groupUR, props);
+        Exchange exchange = sendMessage("direct:updateGroup", "direct:updateGroupPort", groupUR, props);
 
-        Exchange exchange = pollingConsumer.receive();
+        return getBody(exchange, Pair.class);
+    }
 
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
+    /**
+     * Same as {@link #update(GroupUR, Set, boolean, String, String)}, but without waiting for completion.
+     *
+     * @param groupUR update request
+     * @param excludedResources external resources to exclude from propagation
+     * @param nullPriorityAsync asynchronous propagation for resources with null priority
+     * @param updater updater
+     * @param context context
+     * @return future update result
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Pair<GroupUR, List<PropagationStatus>>> updateAsync(
+            final GroupUR groupUR,
+            final Set<String> excludedResources,
+            final boolean nullPriorityAsync,
+            final String updater,
+            final String context) {
 
-        return exchange.getIn().getBody(Pair.class);
+        Map<String, Object> props = new HashMap<>();
+        props.put("excludedResources", excludedResources);
+        props.put("nullPriorityAsync", nullPriorityAsync);
+        props.put("updater", updater);
+        props.put("context", context);
+
+        return sendMessageAsync("direct:updateGroup", "direct:updateGroupPort", groupUR, props, Pair.class).
+                thenApply(result -> (Pair<GroupUR, List<PropagationStatus>>) result);
     }
 
     @Override
@@ -144,61 +148,37 @@ public class CamelGroupProvisioningManager
             final String eraser,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:deleteGroupPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("excludedResources", excludedResources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("eraser", eraser);
         props.put("context", context);
 
-        sendMessage("direct:deleteGroup", key, props);
-
-        Exchange exchange = pollingConsumer.receive();
-
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
+        Exchange exchange = sendMessage("direct:deleteGroup", "direct:deleteGroupPort", key, props);
 
-        return exchange.getIn().getBody(List.class);
+        return getBody(exchange, List.class);
     }
 
     @Override
     public String unlink(final GroupUR groupUR, final String updater, final String context) {
-        PollingConsumer pollingConsumer = getConsumer("direct:unlinkGroupPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:unlinkGroup", groupUR, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:unlinkGroup", "direct:unlinkGroupPort", groupUR, props);
 
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
-
-        return exchange.getIn().getBody(GroupUR.class).getKey();
+        return getBody(exchange, GroupUR.class).getKey();
     }
 
     @Override
     public String link(final GroupUR groupUR, final String updater, final String context) {
-        PollingConsumer pollingConsumer = getConsumer("direct:linkGroupPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:linkGroup", groupUR, props);
+        Exchange exchange = sendMessage("direct:linkGroup", "direct:linkGroupPort", groupUR, props);
 
-        Exchange exchange = pollingConsumer.receive();
-
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
-
-        return exchange.getIn().getBody(GroupUR.class).getKey();
+        return getBody(exchange, GroupUR.class).getKey();
     }
 
     @Override
@@ -210,23 +190,15 @@ public class CamelGroupProvisioningManager
             final String updater,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:provisionGroupPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("resources", resources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:provisionGroup", key, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:provisionGroup", "direct:provisionGroupPort", key, props);
 
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
-
-        return exchange.getIn().getBody(List.class);
+        return getBody(exchange, List.class);
     }
 
     @Override
@@ -238,22 +210,14 @@ public class CamelGroupProvisioningManager
             final String updater,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:deprovisionGroupPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("resources", resources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:deprovisionGroup", key, props);
-
-        Exchange exchange = pollingConsumer.receive();
-
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
+        Exchange exchange = sendMessage("direct:deprovisionGroup", "direct:deprovisionGroupPort", key, props);
 
-        return exchange.getIn().getBody(List.class);
+        return getBody(exchange, List.class);
     }
 }
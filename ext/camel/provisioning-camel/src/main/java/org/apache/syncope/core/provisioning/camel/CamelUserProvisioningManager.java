@@ -24,8 +24,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import org.apache.camel.Exchange;
-import org.apache.camel.PollingConsumer;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.request.StatusR;
 import org.apache.syncope.common.lib.request.UserCR;
@@ -63,8 +63,6 @@ public class CamelUserProvisioningManager extends AbstractCamelProvisioningManag
             final String creator,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:createPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("disablePwdPolicyCheck", disablePwdPolicyCheck);
         props.put("enabled", enabled);
@@ -73,15 +71,9 @@ public class CamelUserProvisioningManager extends AbstractCamelProvisioningManag
         props.put("creator", creator);
         props.put("context", context);
 
-        sendMessage("direct:createUser", req, props);
-
-        Exchange exchange = pollingConsumer.receive();
-
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
+        Exchange exchange = sendMessage("direct:createUser", "direct:createPort", req, props);
 
-        return exchange.getIn().getBody(Pair.class);
+        return getBody(exchange, Pair.class);
     }
 
     @Override
@@ -89,22 +81,39 @@ public class CamelUserProvisioningManager extends AbstractCamelProvisioningManag
     public Pair<UserUR, List<PropagationStatus>> update(
             final UserUR userUR, final boolean nullPriorityAsync, final String updater, final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:updatePort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:updateUser", userUR, props);
+        Exchange exchange = sendMessage("direct:updateUser", "direct:updatePort", userUR, props);
 
-        Exchange exchange = pollingConsumer.receive();
+        return getBody(exchange, Pair.class);
+    }
 
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
+    /**
+     * Same as {@link #update(UserUR, boolean, String, String)}, but without waiting for completion.
+     *
+     * @param userUR update request
+     * @param nullPriorityAsync asynchronous propagation for resources with null priority
+     * @param updater updater
+     * @param context context
+     * @return future update result
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Pair<UserUR, List<PropagationStatus>>> updateAsync(
+            final UserUR userUR,
+            final boolean nullPriorityAsync,
+            final String updater,
+            final String context) {
+
+        Map<String, Object> props = new HashMap<>();
+        props.put("nullPriorityAsync", nullPriorityAsync);
+        props.put("updater", updater);
+        props.put("context", context);
 
-        return exchange.getIn().getBody(Pair.class);
+        return sendMessageAsync("direct:updateUser", "direct:updatePort", userUR, props, Pair.class).
+                thenApply(result -> (Pair<UserUR, List<PropagationStatus>>) result);
     }
 
     @Override
@@ -135,42 +144,26 @@ public class CamelUserProvisioningManager extends AbstractCamelProvisioningManag
             final String eraser,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:deletePort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("excludedResources", excludedResources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("eraser", eraser);
         props.put("context", context);
 
-        sendMessage("direct:deleteUser", key, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:deleteUser", "direct:deletePort", key, props);
 
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
-
-        return exchange.getIn().getBody(List.class);
+        return getBody(exchange, List.class);
     }
 
     @Override
     public String unlink(final UserUR userUR, final String updater, final String context) {
-        PollingConsumer pollingConsumer = getConsumer("direct:unlinkPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:unlinkUser", userUR, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:unlinkUser", "direct:unlinkPort", userUR, props);
 
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
-
-        return exchange.getIn().getBody(UserUR.class).getKey();
+        return getBody(exchange, UserUR.class).getKey();
     }
 
     @Override
@@ -178,8 +171,6 @@ public class CamelUserProvisioningManager extends AbstractCamelProvisioningManag
     public Pair<String, List<PropagationStatus>> activate(
             final StatusR statusR, final boolean nullPriorityAsync, final String updater, final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:statusPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("token", statusR.getToken());
         props.put("key", statusR.getKey());
@@ -188,21 +179,16 @@ public class CamelUserProvisioningManager extends AbstractCamelProvisioningManag
         props.put("updater", updater);
         props.put("context", context);
 
+        Exchange exchange;
         if (statusR.isOnSyncope()) {
-            sendMessage("direct:activateUser", statusR.getKey(), props);
+            exchange = sendMessage("direct:activateUser", "direct:statusPort", statusR.getKey(), props);
         } else {
             UserWorkflowResult<String> updated =
                     new UserWorkflowResult<>(statusR.getKey(), null, null, statusR.getType().name().toLowerCase());
-            sendMessage("direct:userStatusPropagation", updated, props);
+            exchange = sendMessage("direct:userStatusPropagation", "direct:statusPort", updated, props);
         }
 
-        Exchange exchange = pollingConsumer.receive();
-
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
-
-        return exchange.getIn().getBody(Pair.class);
+        return getBody(exchange, Pair.class);
     }
 
     @Override
@@ -210,8 +196,6 @@ public class CamelUserProvisioningManager extends AbstractCamelProvisioningManag
     public Pair<String, List<PropagationStatus>> reactivate(
             final StatusR statusR, final boolean nullPriorityAsync, final String updater, final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:statusPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("key", statusR.getKey());
         props.put("statusR", statusR);
@@ -219,21 +203,16 @@ public class CamelUserProvisioningManager extends AbstractCamelProvisioningManag
         props.put("updater", updater);
         props.put("context", context);
 
+        Exchange exchange;
         if (statusR.isOnSyncope()) {
-            sendMessage("direct:reactivateUser", statusR.getKey(), props);
+            exchange = sendMessage("direct:reactivateUser", "direct:statusPort", statusR.getKey(), props);
         } else {
             UserWorkflowResult<String> updated =
                     new UserWorkflowResult<>(statusR.getKey(), null, null, statusR.getType().name().toLowerCase());
-            sendMessage("direct:userStatusPropagation", updated, props);
+            exchange = sendMessage("direct:userStatusPropagation", "direct:statusPort", updated, props);
         }
 
-        Exchange exchange = pollingConsumer.receive();
-
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
-
-        return exchange.getIn().getBody(Pair.class);
+        return getBody(exchange, Pair.class);
     }
 
     @Override
@@ -241,8 +220,6 @@ public class CamelUserProvisioningManager extends AbstractCamelProvisioningManag
     public Pair<String, List<PropagationStatus>> suspend(
             final StatusR statusR, final boolean nullPriorityAsync, final String updater, final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:statusPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("key", statusR.getKey());
         props.put("statusR", statusR);
@@ -250,40 +227,27 @@ public class CamelUserProvisioningManager extends AbstractCamelProvisioningManag
         props.put("updater", updater);
         props.put("context", context);
 
+        Exchange exchange;
         if (statusR.isOnSyncope()) {
-            sendMessage("direct:suspendUser", statusR.getKey(), props);
+            exchange = sendMessage("direct:suspendUser", "direct:statusPort", statusR.getKey(), props);
         } else {
             UserWorkflowResult<String> updated =
                     new UserWorkflowResult<>(statusR.getKey(), null, null, statusR.getType().name().toLowerCase());
-            sendMessage("direct:userStatusPropagation", updated, props);
+            exchange = sendMessage("direct:userStatusPropagation", "direct:statusPort", updated, props);
         }
 
-        Exchange exchange = pollingConsumer.receive();
-
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
-
-        return exchange.getIn().getBody(Pair.class);
+        return getBody(exchange, Pair.class);
     }
 
     @Override
     public String link(final UserUR userUR, final String updater, final String context) {
-        PollingConsumer pollingConsumer = getConsumer("direct:linkPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:linkUser", userUR, props);
+        Exchange exchange = sendMessage("direct:linkUser", "direct:linkPort", userUR, props);
 
-        Exchange exchange = pollingConsumer.receive();
-
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
-
-        return exchange.getIn().getBody(UserUR.class).getKey();
+        return getBody(exchange, UserUR.class).getKey();
     }
 
     @Override
@@ -297,8 +261,6 @@ public class CamelUserProvisioningManager extends AbstractCamelProvisioningManag
             final String updater,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:provisionPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("key", key);
         props.put("changePwd", changePwd);
@@ -308,15 +270,9 @@ public class CamelUserProvisioningManager extends AbstractCamelProvisioningManag
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:provisionUser", key, props);
-
-        Exchange exchange = pollingConsumer.receive();
-
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
+        Exchange exchange = sendMessage("direct:provisionUser", "direct:provisionPort", key, props);
 
-        return exchange.getIn().getBody(List.class);
+        return getBody(exchange, List.class);
     }
 
     @Override
@@ -328,23 +284,15 @@ public class CamelUserProvisioningManager extends AbstractCamelProvisioningManag
             final String updater,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:deprovisionPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("resources", resources);
         props.put("nullPriorityAsync", nullPriorityAsync);
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:deprovisionUser", user, props);
-
-        Exchange exchange = pollingConsumer.receive();
-
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
+        Exchange exchange = sendMessage("direct:deprovisionUser", "direct:deprovisionPort", user, props);
 
-        return exchange.getIn().getBody(List.class);
+        return getBody(exchange, List.class);
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -359,8 +307,6 @@ public class CamelUserProvisioningManager extends AbstractCamelProvisioningManag
             final String updater,
             final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:updateInPullPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("key", userUR.getKey());
         props.put("result", result);
@@ -370,9 +316,7 @@ public class CamelUserProvisioningManager extends AbstractCamelProvisioningManag
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:updateUserInPull", userUR, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:updateUserInPull", "direct:updateInPullPort", userUR, props);
 
         Exception ex = (Exception) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
         if (ex != null) {
@@ -387,53 +331,38 @@ public class CamelUserProvisioningManager extends AbstractCamelProvisioningManag
                     new PropagationByResource<>(),
                     new PropagationByResource<>(),
                     new HashSet<>());
-            sendMessage("direct:userInPull", updated, props);
-            exchange = pollingConsumer.receive();
+            exchange = sendMessage("direct:userInPull", "direct:updateInPullPort", updated, props);
         }
 
-        return exchange.getIn().getBody(Pair.class);
+        return getBody(exchange, Pair.class);
     }
 
     @Override
     public void internalSuspend(final String key, final String updater, final String context) {
-        PollingConsumer pollingConsumer = getConsumer("direct:internalSuspendUserPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:internalSuspendUser", key, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:internalSuspendUser", "direct:internalSuspendUserPort", key, props);
 
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
+        checkException(exchange);
     }
 
     @Override
     public void requestPasswordReset(final String key, final String updater, final String context) {
-        PollingConsumer pollingConsumer = getConsumer("direct:requestPwdResetPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:requestPwdReset", key, props);
+        Exchange exchange = sendMessage("direct:requestPwdReset", "direct:requestPwdResetPort", key, props);
 
-        Exchange exchange = pollingConsumer.receive();
-
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
+        checkException(exchange);
     }
 
     @Override
     public void confirmPasswordReset(
             final String key, final String token, final String password, final String updater, final String context) {
 
-        PollingConsumer pollingConsumer = getConsumer("direct:confirmPwdResetPort");
-
         Map<String, Object> props = new HashMap<>();
         props.put("key", key);
         props.put("token", token);
@@ -441,12 +370,8 @@ public class CamelUserProvisioningManager extends AbstractCamelProvisioningManag
         props.put("updater", updater);
         props.put("context", context);
 
-        sendMessage("direct:confirmPwdReset", key, props);
-
-        Exchange exchange = pollingConsumer.receive();
+        Exchange exchange = sendMessage("direct:confirmPwdReset", "direct:confirmPwdResetPort", key, props);
 
-        if (exchange.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
-            throw (RuntimeException) exchange.getProperty(Exchange.EXCEPTION_CAUGHT);
-        }
+        checkException(exchange);
     }
 }
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.camel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.SpringCamelContext;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.request.UserUR;
+import org.apache.syncope.common.lib.to.PropagationStatus;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public class AsyncCamelProvisioningManagerTest {
+
+    private static final int CALLERS = 8;
+
+    /**
+     * What the route saw for each request key: exchange property, domain and username from the security context.
+     */
+    private final Map<String, List<String>> seen = new ConcurrentHashMap<>();
+
+    private final CountDownLatch running = new CountDownLatch(CALLERS);
+
+    private StaticApplicationContext applicationContext;
+
+    private SpringCamelContext camelContext;
+
+    private CamelUserProvisioningManager manager;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        applicationContext = new StaticApplicationContext();
+        applicationContext.refresh();
+
+        camelContext = new SpringCamelContext(applicationContext);
+        camelContext.addRoutes(new RouteBuilder() {
+
+            @Override
+            public void configure() {
+                from("direct:updateUser").process(exchange -> {
+                    UserUR userUR = exchange.getIn().getBody(UserUR.class);
+                    seen.put(userUR.getKey(), List.of(
+                            exchange.getProperty(AbstractCamelProvisioningManager.DOMAIN, String.class),
+                            AuthContextUtils.getDomain(),
+                            AuthContextUtils.getUsername()));
+
+                    // wait for the other callers, to make sure that routes are actually running concurrently
+                    running.countDown();
+                    running.await(5, TimeUnit.SECONDS);
+
+                    exchange.getMessage().setBody(Pair.of(userUR, List.of()));
+                }).to("direct:updatePort");
+            }
+        });
+        camelContext.start();
+
+        manager = new CamelUserProvisioningManager();
+        manager.contextFactory = new SyncopeCamelContext() {
+
+            @Override
+            public SpringCamelContext getCamelContext() {
+                return camelContext;
+            }
+        };
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        manager.destroy();
+        camelContext.stop();
+        applicationContext.close();
+    }
+
+    @Test
+    public void concurrentCallsAreIsolated() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<Pair<UserUR, List<PropagationStatus>>>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                String domain = "domain" + i;
+                String username = "user" + i;
+                String key = "key" + i;
+
+                results.add(callers.submit(() -> AuthContextUtils.callAs(domain, username, Set.of(), () -> {
+                    CompletableFuture<Pair<UserUR, List<PropagationStatus>>> result =
+                            manager.updateAsync(new UserUR.Builder(key).build(), false, username, "test");
+                    // the caller's own security context is untouched
+                    assertEquals(username, AuthContextUtils.getUsername());
+                    return result.get(10, TimeUnit.SECONDS);
+                })));
+            }
+
+            for (int i = 0; i < CALLERS; i++) {
+                assertEquals("key" + i, results.get(i).get(10, TimeUnit.SECONDS).getLeft().getKey());
+                assertEquals(List.of("domain" + i, "domain" + i, "user" + i), seen.get("key" + i));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        // pooled threads do not keep any security context from previous calls
+        SecurityContextHolder.clearContext();
+        for (int i = 0; i < CALLERS; i++) {
+            String key = "anonymous" + i;
+            manager.updateAsync(new UserUR.Builder(key).build(), false, null, "test").get(10, TimeUnit.SECONDS);
+            assertEquals(
+                    List.of(SyncopeConstants.MASTER_DOMAIN, SyncopeConstants.MASTER_DOMAIN,
+                            SyncopeConstants.UNAUTHENTICATED),
+                    seen.get(key));
+        }
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+}
@@ -22,11 +22,20 @@ import java.util.List;
 
 import org.apache.http.HttpHost;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.EnvironmentAware;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 @Configuration
-public class ElasticsearchClientContext {
+public class ElasticsearchClientContext implements EnvironmentAware {
+
+    private Environment env;
+
+    @Override
+    public void setEnvironment(final Environment env) {
+        this.env = env;
+    }
 
     @ConditionalOnMissingBean
     @Bean
@@ -38,7 +47,13 @@ public class ElasticsearchClientContext {
     @ConditionalOnMissingBean
     @Bean
     public ElasticsearchIndexManager elasticsearchIndexManager() {
-        return new ElasticsearchIndexManager();
+        ElasticsearchIndexManager indexManager = new ElasticsearchIndexManager();
+        indexManager.setAsync(env.getProperty("elasticsearch.async", Boolean.class, false));
+        indexManager.setAsyncFlushInterval(env.getProperty("elasticsearch.asyncFlushInterval", Long.class, 1000L));
+        indexManager.setAsyncQueueCapacity(env.getProperty("elasticsearch.asyncQueueCapacity", Integer.class, 10000));
+        indexManager.setAsyncEnqueueTimeout(env.getProperty("elasticsearch.asyncEnqueueTimeout", Long.class, 5000L));
+        indexManager.setAsyncMaxRetries(env.getProperty("elasticsearch.asyncMaxRetries", Integer.class, 10));
+        return indexManager;
     }
 
     @ConditionalOnMissingBean
@@ -49,6 +64,9 @@ public class ElasticsearchClientContext {
         utils.setRetryOnConflict(5);
         utils.setNumberOfShards(1);
         utils.setNumberOfReplicas(1);
+        utils.setBulkActions(1000);
+        utils.setBulkSizeMB(5);
+        utils.setBulkConcurrentRequests(2);
         return utils;
     }
 }
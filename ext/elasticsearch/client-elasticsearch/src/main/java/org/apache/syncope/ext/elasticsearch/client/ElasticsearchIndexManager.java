@@ -19,13 +19,34 @@
 package org.apache.syncope.ext.elasticsearch.client;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.provisioning.api.event.AnyCreatedUpdatedEvent;
 import org.apache.syncope.core.provisioning.api.event.AnyDeletedEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.elasticsearch.action.admin.indices.alias.get.GetAliasesRequest;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.elasticsearch.action.bulk.BackoffPolicy;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.delete.DeleteResponse;
 import org.elasticsearch.action.get.GetRequest;
@@ -35,22 +56,27 @@ import org.elasticsearch.action.index.IndexResponse;
 import org.elasticsearch.action.support.master.AcknowledgedResponse;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.action.update.UpdateResponse;
+import org.elasticsearch.client.GetAliasesResponse;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.client.indices.CreateIndexRequest;
 import org.elasticsearch.client.indices.CreateIndexResponse;
 import org.elasticsearch.client.indices.GetIndexRequest;
+import org.elasticsearch.common.unit.ByteSizeUnit;
+import org.elasticsearch.common.unit.ByteSizeValue;
 import org.elasticsearch.common.xcontent.XContentBuilder;
 import org.elasticsearch.common.xcontent.XContentFactory;
+import org.elasticsearch.rest.RestStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Listen to any create / update and delete in order to keep the Elasticsearch indexes consistent.
  */
-public class ElasticsearchIndexManager {
+public class ElasticsearchIndexManager implements DisposableBean {
 
     private static final Logger LOG = LoggerFactory.getLogger(ElasticsearchIndexManager.class);
 
@@ -60,6 +86,129 @@ public class ElasticsearchIndexManager {
     @Autowired
     private ElasticsearchUtils elasticsearchUtils;
 
+    /**
+     * When true, index changes are queued and sent in bulk by a background thread, rather than synchronously on the
+     * committing thread.
+     */
+    private boolean async = false;
+
+    private long asyncFlushInterval = 1000L;
+
+    private int asyncQueueCapacity = 10000;
+
+    /**
+     * Maximum time, in milliseconds, for the committing thread to wait for room when the queue is full.
+     */
+    private long asyncEnqueueTimeout = 5000L;
+
+    /**
+     * Maximum number of times an index change failing for transient reasons is sent again.
+     */
+    private int asyncMaxRetries = 10;
+
+    private static final class Queued {
+
+        private final DocWriteRequest<?> request;
+
+        private final int attempts;
+
+        Queued(final DocWriteRequest<?> request, final int attempts) {
+            this.request = request;
+            this.attempts = attempts;
+        }
+    }
+
+    /**
+     * Pending index changes in async mode, by index and key: only the latest change for each key is kept.
+     */
+    private final Map<Pair<String, String>, Queued> pending = new LinkedHashMap<>();
+
+    private long oldestPending;
+
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Indexes which missed some change, as dropped in async mode, and need to be rebuilt.
+     */
+    private final Set<String> reindexRequired = ConcurrentHashMap.newKeySet();
+
+    private ScheduledExecutorService flusher;
+
+    /**
+     * Indexes being rebuilt, by alias: while there, index changes are applied to both the current and the rebuilt
+     * index, and the keys of changed entities are tracked, to be replayed before the swap.
+     */
+    private final Map<String, Rebuild> rebuilds = new ConcurrentHashMap<>();
+
+    private static final class Rebuild {
+
+        private final String index;
+
+        private final Set<String> changed = ConcurrentHashMap.newKeySet();
+
+        Rebuild(final String index) {
+            this.index = index;
+        }
+    }
+
+    public void setAsync(final boolean async) {
+        this.async = async;
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public void setAsyncFlushInterval(final long asyncFlushInterval) {
+        this.asyncFlushInterval = asyncFlushInterval;
+    }
+
+    public void setAsyncQueueCapacity(final int asyncQueueCapacity) {
+        this.asyncQueueCapacity = asyncQueueCapacity;
+    }
+
+    public void setAsyncEnqueueTimeout(final long asyncEnqueueTimeout) {
+        this.asyncEnqueueTimeout = asyncEnqueueTimeout;
+    }
+
+    public void setAsyncMaxRetries(final int asyncMaxRetries) {
+        this.asyncMaxRetries = asyncMaxRetries;
+    }
+
+    /**
+     * @return number of index changes queued and not yet sent, in async mode
+     */
+    public int getPendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * @return milliseconds since the oldest index change not yet sent was queued, in async mode
+     */
+    public long getIndexingLag() {
+        synchronized (pending) {
+            return pending.isEmpty() ? 0 : System.currentTimeMillis() - oldestPending;
+        }
+    }
+
+    /**
+     * @return number of index changes dropped since startup, in async mode, as rejected by Elasticsearch for
+     * non-transient reasons, still failing after the configured number of retries or not queued in time
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return indexes which missed some change since startup or since last rebuilt, in async mode, and need to be
+     * rebuilt
+     */
+    public Set<String> getReindexRequired() {
+        return Set.copyOf(reindexRequired);
+    }
+
     public boolean existsIndex(final String domain, final AnyTypeKind kind) throws IOException {
         return client.indices().exists(
                 new GetIndexRequest(ElasticsearchUtils.getContextDomainName(domain, kind)), RequestOptions.DEFAULT);
@@ -68,6 +217,21 @@ public class ElasticsearchIndexManager {
     public void createIndex(final String domain, final AnyTypeKind kind)
             throws InterruptedException, ExecutionException, IOException {
 
+        createIndex(ElasticsearchUtils.getContextDomainName(domain, kind));
+    }
+
+    /**
+     * Creates an index with the given name, with the same settings and mapping used for the index of any domain and
+     * kind.
+     *
+     * @param index index name
+     * @throws InterruptedException in case of errors
+     * @throws ExecutionException in case of errors
+     * @throws IOException in case of errors
+     */
+    public void createIndex(final String index)
+            throws InterruptedException, ExecutionException, IOException {
+
         XContentBuilder settings = XContentFactory.jsonBuilder().
                 startObject().
                 startObject("analysis").
@@ -104,22 +268,393 @@ public class ElasticsearchIndexManager {
                 endObject();
 
         CreateIndexResponse response = client.indices().create(
-                new CreateIndexRequest(ElasticsearchUtils.getContextDomainName(domain, kind)).
+                new CreateIndexRequest(index).
                         settings(settings).
                         mapping(mapping), RequestOptions.DEFAULT);
-        LOG.debug("Successfully created {} for {}: {}",
-                ElasticsearchUtils.getContextDomainName(domain, kind), kind.name(), response);
+        LOG.debug("Successfully created {}: {}", index, response);
+    }
+
+    /**
+     * Returns the concrete indexes currently behind the alias for the given domain and kind, if any.
+     *
+     * @param domain domain
+     * @param kind any type kind
+     * @return concrete indexes behind alias, empty if no such alias exists
+     * @throws IOException in case of errors
+     */
+    protected Set<String> aliasedIndexes(final String domain, final AnyTypeKind kind) throws IOException {
+        GetAliasesResponse response = client.indices().getAlias(
+                new GetAliasesRequest(ElasticsearchUtils.getContextDomainName(domain, kind)), RequestOptions.DEFAULT);
+        return response.status() == RestStatus.OK ? response.getAliases().keySet() : Set.of();
     }
 
     public void removeIndex(final String domain, final AnyTypeKind kind) throws IOException {
+        Set<String> aliased = aliasedIndexes(domain, kind);
         AcknowledgedResponse acknowledgedResponse = client.indices().delete(
-                new DeleteIndexRequest(ElasticsearchUtils.getContextDomainName(domain, kind)), RequestOptions.DEFAULT);
+                new DeleteIndexRequest(aliased.isEmpty()
+                        ? new String[] { ElasticsearchUtils.getContextDomainName(domain, kind) }
+                        : aliased.toArray(new String[0])),
+                RequestOptions.DEFAULT);
         LOG.debug("Successfully removed {}: {}",
                 ElasticsearchUtils.getContextDomainName(domain, kind), acknowledgedResponse);
     }
 
+    public void removeIndex(final String index) throws IOException {
+        AcknowledgedResponse acknowledgedResponse = client.indices().delete(
+                new DeleteIndexRequest(index), RequestOptions.DEFAULT);
+        LOG.debug("Successfully removed {}: {}", index, acknowledgedResponse);
+    }
+
+    /**
+     * Atomically makes the given index available as the index for the given domain and kind, by pointing to it an
+     * alias with the same name as returned by {@link ElasticsearchUtils#getContextDomainName(String, AnyTypeKind)};
+     * any index previously serving such name is removed.
+     *
+     * @param domain domain
+     * @param kind any type kind
+     * @param index index to make available, typically fully built by a reindex
+     * @throws IOException in case of errors
+     */
+    public void swapIndex(final String domain, final AnyTypeKind kind, final String index) throws IOException {
+        String alias = ElasticsearchUtils.getContextDomainName(domain, kind);
+
+        Set<String> aliased = aliasedIndexes(domain, kind);
+
+        IndicesAliasesRequest request = new IndicesAliasesRequest();
+        if (aliased.isEmpty()) {
+            if (client.indices().exists(new GetIndexRequest(alias), RequestOptions.DEFAULT)) {
+                // concrete index named as the alias, from before alias usage: remove as part of the same action
+                request.addAliasAction(IndicesAliasesRequest.AliasActions.removeIndex().index(alias));
+            }
+        } else {
+            request.addAliasAction(IndicesAliasesRequest.AliasActions.remove().
+                    indices(aliased.toArray(new String[0])).alias(alias));
+        }
+        request.addAliasAction(IndicesAliasesRequest.AliasActions.add().index(index).alias(alias));
+
+        AcknowledgedResponse response = client.indices().updateAliases(request, RequestOptions.DEFAULT);
+        LOG.debug("Successfully pointed {} to {}: {}", alias, index, response);
+
+        // changes dropped meanwhile were either read by the rebuild or replayed on the new index
+        reindexRequired.remove(alias);
+        reindexRequired.remove(index);
+
+        aliased.stream().filter(previous -> !previous.equals(index)).forEach(previous -> {
+            try {
+                client.indices().delete(new DeleteIndexRequest(previous), RequestOptions.DEFAULT);
+                LOG.debug("Successfully removed {}", previous);
+            } catch (IOException e) {
+                LOG.error("While removing {}", previous, e);
+            }
+        });
+    }
+
+    /**
+     * Starts tracking the index changes for the given domain and kind, which will be applied to the given index as
+     * well, until {@link #endRebuild(String, AnyTypeKind)} is invoked.
+     *
+     * @param domain domain
+     * @param kind any type kind
+     * @param index index being rebuilt
+     */
+    public void startRebuild(final String domain, final AnyTypeKind kind, final String index) {
+        rebuilds.put(ElasticsearchUtils.getContextDomainName(domain, kind), new Rebuild(index));
+    }
+
+    /**
+     * Returns and forgets the keys of entities changed since rebuild was started or since last invocation.
+     *
+     * @param domain domain
+     * @param kind any type kind
+     * @return keys of entities changed while rebuilding
+     */
+    public Set<String> drainRebuildChanges(final String domain, final AnyTypeKind kind) {
+        return Optional.ofNullable(rebuilds.get(ElasticsearchUtils.getContextDomainName(domain, kind))).
+                map(rebuild -> {
+                    Set<String> changed = Set.copyOf(rebuild.changed);
+                    rebuild.changed.removeAll(changed);
+                    return changed;
+                }).orElse(Set.of());
+    }
+
+    public void endRebuild(final String domain, final AnyTypeKind kind) {
+        rebuilds.remove(ElasticsearchUtils.getContextDomainName(domain, kind));
+    }
+
+    /**
+     * Sends the given index changes via bulk requests, split according to the configured number of actions and size.
+     *
+     * @param requests index changes
+     * @return number of index changes which could not be applied
+     * @throws IOException in case of errors
+     */
+    public long bulk(final List<DocWriteRequest<?>> requests) throws IOException {
+        long failed = 0;
+        for (BulkRequest bulkRequest : bulkRequests(requests)) {
+            BulkResponse response = client.bulk(bulkRequest, RequestOptions.DEFAULT);
+            if (response.hasFailures()) {
+                for (BulkItemResponse item : response.getItems()) {
+                    // deleting what was never indexed is not a failure
+                    if (item.isFailed() && item.getFailure().getStatus() != RestStatus.NOT_FOUND) {
+                        LOG.error("While applying {} on {}[{}]: {}",
+                                item.getOpType(), item.getIndex(), item.getId(), item.getFailureMessage());
+                        failed++;
+                    }
+                }
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Tracks the change of the given entity, if an index is being rebuilt for the given alias.
+     *
+     * @param alias alias
+     * @param key entity key
+     * @return index being rebuilt for the given alias, if any
+     */
+    protected Optional<String> rebuilding(final String alias, final String key) {
+        return Optional.ofNullable(rebuilds.get(alias)).map(rebuild -> {
+            rebuild.changed.add(key);
+            return rebuild.index;
+        });
+    }
+
+    /**
+     * Applies the given index change to the index being rebuilt; failures are only logged, as the change is going to
+     * be replayed anyway.
+     *
+     * @param request index change
+     */
+    protected void applyOnRebuild(final DocWriteRequest<?> request) {
+        if (async) {
+            enqueue(request);
+        } else {
+            try {
+                bulk(List.of(request));
+            } catch (IOException e) {
+                LOG.error("While applying {} on {}[{}], will be replayed",
+                        request.opType(), request.index(), request.id(), e);
+            }
+        }
+    }
+
+    /**
+     * Builds a bulk processor, flushing according to the configured number of actions and size, and with the
+     * configured number of concurrent bulk requests.
+     *
+     * @param listener bulk listener
+     * @return bulk processor
+     */
+    public BulkProcessor bulkProcessor(final BulkProcessor.Listener listener) {
+        return BulkProcessor.builder(
+                (request, bulkListener) -> client.bulkAsync(request, RequestOptions.DEFAULT, bulkListener),
+                listener).
+                setBulkActions(elasticsearchUtils.getBulkActions()).
+                setBulkSize(new ByteSizeValue(elasticsearchUtils.getBulkSizeMB(), ByteSizeUnit.MB)).
+                setConcurrentRequests(elasticsearchUtils.getBulkConcurrentRequests()).
+                setBackoffPolicy(BackoffPolicy.exponentialBackoff()).
+                build();
+    }
+
+    /**
+     * Drops the given index change, flagging its index as to be rebuilt.
+     *
+     * @param request index change
+     * @param reason why the index change is dropped
+     */
+    protected void drop(final DocWriteRequest<?> request, final String reason) {
+        dropped.increment();
+        if (reindexRequired.add(request.index())) {
+            LOG.error("{} missed some change, a reindex is required", request.index());
+        }
+        LOG.error("Dropping {} on {}[{}]: {}", request.opType(), request.index(), request.id(), reason);
+    }
+
+    /**
+     * Queues the given index change, replacing any pending change for the same index and key; if capacity is
+     * reached, waits for room up to the configured timeout, then drops the change.
+     *
+     * @param request index change
+     */
+    protected void enqueue(final DocWriteRequest<?> request) {
+        Pair<String, String> key = Pair.of(request.index(), request.id());
+        synchronized (pending) {
+            if (flusher == null) {
+                flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "ElasticsearchIndexManager");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                flusher.scheduleWithFixedDelay(
+                        this::flush, asyncFlushInterval, asyncFlushInterval, TimeUnit.MILLISECONDS);
+            }
+
+            long deadline = System.currentTimeMillis() + asyncEnqueueTimeout;
+            while (pending.size() >= asyncQueueCapacity && !pending.containsKey(key)) {
+                long timeout = deadline - System.currentTimeMillis();
+                if (timeout <= 0) {
+                    drop(request, "queue still full after " + asyncEnqueueTimeout + " ms");
+                    return;
+                }
+                try {
+                    pending.wait(timeout);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    drop(request, "interrupted while waiting for room in queue");
+                    return;
+                }
+            }
+
+            if (pending.isEmpty()) {
+                oldestPending = System.currentTimeMillis();
+            }
+            pending.remove(key);
+            pending.put(key, new Queued(request, 0));
+        }
+    }
+
+    /**
+     * Splits the given index changes into bulk requests, according to the configured number of actions and size.
+     *
+     * @param requests index changes
+     * @return bulk requests
+     */
+    protected List<BulkRequest> bulkRequests(final List<DocWriteRequest<?>> requests) {
+        long bulkSize = new ByteSizeValue(elasticsearchUtils.getBulkSizeMB(), ByteSizeUnit.MB).getBytes();
+
+        List<BulkRequest> bulkRequests = new ArrayList<>();
+        BulkRequest bulkRequest = new BulkRequest();
+        for (DocWriteRequest<?> request : requests) {
+            if (bulkRequest.numberOfActions() > 0
+                    && (bulkRequest.numberOfActions() >= elasticsearchUtils.getBulkActions()
+                    || bulkRequest.estimatedSizeInBytes() >= bulkSize)) {
+
+                bulkRequests.add(bulkRequest);
+                bulkRequest = new BulkRequest();
+            }
+            bulkRequest.add(request);
+        }
+        if (bulkRequest.numberOfActions() > 0) {
+            bulkRequests.add(bulkRequest);
+        }
+        return bulkRequests;
+    }
+
+    /**
+     * Index changes failing with such status are not going to succeed if sent again.
+     *
+     * @param status failure status
+     * @return whether the failed index change is worth sending again
+     */
+    protected static boolean isRetryable(final RestStatus status) {
+        return status == RestStatus.TOO_MANY_REQUESTS || status.getStatus() >= 500;
+    }
+
+    /**
+     * Sends all pending index changes via bulk requests; changes which could not be applied for transient reasons
+     * are queued again, unless a newer change for the same key was meanwhile queued, up to the configured number of
+     * retries and as long as there is room; other failed changes are dropped and counted.
+     */
+    protected void flush() {
+        Map<DocWriteRequest<?>, Integer> attempts = new IdentityHashMap<>();
+        List<DocWriteRequest<?>> requests;
+        long lag;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            requests = new ArrayList<>(pending.size());
+            pending.values().forEach(queued -> {
+                requests.add(queued.request);
+                attempts.put(queued.request, queued.attempts);
+            });
+            lag = System.currentTimeMillis() - oldestPending;
+            pending.clear();
+            pending.notifyAll();
+        }
+        LOG.debug("About to send {} index changes, oldest queued {} ms ago", requests.size(), lag);
+
+        List<DocWriteRequest<?>> failed = new ArrayList<>();
+        for (BulkRequest bulkRequest : bulkRequests(requests)) {
+            try {
+                BulkResponse response = client.bulk(bulkRequest, RequestOptions.DEFAULT);
+                if (response.hasFailures()) {
+                    for (BulkItemResponse item : response.getItems()) {
+                        // deleting what was never indexed is not a failure
+                        if (item.isFailed() && item.getFailure().getStatus() != RestStatus.NOT_FOUND) {
+                            if (isRetryable(item.getFailure().getStatus())) {
+                                LOG.error("While applying {} on {}[{}], will retry: {}",
+                                        item.getOpType(), item.getIndex(), item.getId(), item.getFailureMessage());
+                                failed.add(bulkRequest.requests().get(item.getItemId()));
+                            } else {
+                                drop(bulkRequest.requests().get(item.getItemId()), item.getFailureMessage());
+                            }
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                LOG.error("While sending {} index changes, will retry", bulkRequest.numberOfActions(), e);
+                failed.addAll(bulkRequest.requests());
+            }
+        }
+
+        if (!failed.isEmpty()) {
+            synchronized (pending) {
+                if (pending.isEmpty()) {
+                    oldestPending = System.currentTimeMillis() - lag;
+                }
+                failed.forEach(request -> {
+                    Pair<String, String> key = Pair.of(request.index(), request.id());
+                    int attempt = attempts.get(request) + 1;
+                    if (pending.containsKey(key)) {
+                        LOG.debug("Newer change queued for {}[{}], not retrying", request.index(), request.id());
+                    } else if (attempt > asyncMaxRetries) {
+                        drop(request, "still failing after " + asyncMaxRetries + " retries");
+                    } else if (pending.size() >= asyncQueueCapacity) {
+                        drop(request, "no room in queue to retry");
+                    } else {
+                        pending.put(key, new Queued(request, attempt));
+                    }
+                });
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(asyncFlushInterval, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flush();
+        }
+    }
+
     @TransactionalEventListener
     public void after(final AnyCreatedUpdatedEvent<Any<?>> event) throws IOException {
+        String alias = ElasticsearchUtils.getContextDomainName(
+                AuthContextUtils.getDomain(), event.getAny().getType().getKind());
+        Optional<String> rebuilt = rebuilding(alias, event.getAny().getKey());
+        if (rebuilt.isPresent()) {
+            applyOnRebuild(new IndexRequest(rebuilt.get()).
+                    id(event.getAny().getKey()).
+                    source(elasticsearchUtils.builder(event.getAny())));
+        }
+
+        if (async) {
+            enqueue(new IndexRequest(
+                    ElasticsearchUtils.getContextDomainName(
+                            AuthContextUtils.getDomain(), event.getAny().getType().getKind())).
+                    id(event.getAny().getKey()).
+                    source(elasticsearchUtils.builder(event.getAny())));
+            return;
+        }
+
         GetRequest getRequest = new GetRequest(
                 ElasticsearchUtils.getContextDomainName(
                         AuthContextUtils.getDomain(), event.getAny().getType().getKind()),
@@ -153,9 +688,16 @@ public class ElasticsearchIndexManager {
     public void after(final AnyDeletedEvent event) throws IOException {
         LOG.debug("About to delete index for {}[{}]", event.getAnyTypeKind(), event.getAnyKey());
 
-        DeleteRequest request = new DeleteRequest(
-                ElasticsearchUtils.getContextDomainName(AuthContextUtils.getDomain(), event.getAnyTypeKind()),
-                event.getAnyKey());
+        String alias = ElasticsearchUtils.getContextDomainName(AuthContextUtils.getDomain(), event.getAnyTypeKind());
+        rebuilding(alias, event.getAnyKey()).
+                ifPresent(rebuilt -> applyOnRebuild(new DeleteRequest(rebuilt, event.getAnyKey())));
+
+        DeleteRequest request = new DeleteRequest(alias, event.getAnyKey());
+        if (async) {
+            enqueue(request);
+            return;
+        }
+
         DeleteResponse response = client.delete(request, RequestOptions.DEFAULT);
         LOG.debug("Index successfully deleted for {}[{}]: {}",
                 event.getAnyTypeKind(), event.getAnyKey(), response);
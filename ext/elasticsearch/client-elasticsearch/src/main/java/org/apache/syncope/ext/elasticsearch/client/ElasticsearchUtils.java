@@ -62,6 +62,12 @@ public class ElasticsearchUtils {
 
     private int numberOfReplicas = 1;
 
+    private int bulkActions = 1000;
+
+    private int bulkSizeMB = 5;
+
+    private int bulkConcurrentRequests = 2;
+
     public void setIndexMaxResultWindow(final int indexMaxResultWindow) {
         this.indexMaxResultWindow = indexMaxResultWindow;
     }
@@ -94,6 +100,30 @@ public class ElasticsearchUtils {
         this.numberOfReplicas = numberOfReplicas;
     }
 
+    public int getBulkActions() {
+        return bulkActions;
+    }
+
+    public void setBulkActions(final int bulkActions) {
+        this.bulkActions = bulkActions;
+    }
+
+    public int getBulkSizeMB() {
+        return bulkSizeMB;
+    }
+
+    public void setBulkSizeMB(final int bulkSizeMB) {
+        this.bulkSizeMB = bulkSizeMB;
+    }
+
+    public int getBulkConcurrentRequests() {
+        return bulkConcurrentRequests;
+    }
+
+    public void setBulkConcurrentRequests(final int bulkConcurrentRequests) {
+        this.bulkConcurrentRequests = bulkConcurrentRequests;
+    }
+
     /**
      * Returns the builder specialized with content from the provided any.
      *
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.ext.elasticsearch.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.delete.DeleteResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.index.shard.ShardId;
+import org.elasticsearch.rest.RestStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.WARN)
+public class ElasticsearchIndexManagerTest {
+
+    private static final String INDEX = "master_user";
+
+    @Mock
+    private RestHighLevelClient client;
+
+    @Mock
+    private ElasticsearchUtils elasticsearchUtils;
+
+    @InjectMocks
+    private ElasticsearchIndexManager indexManager;
+
+    private static BulkResponse response(final BulkRequest request, final Map<String, RestStatus> failures) {
+        BulkItemResponse[] items = IntStream.range(0, request.numberOfActions()).mapToObj(i -> {
+            DocWriteRequest<?> item = request.requests().get(i);
+            RestStatus status = failures.get(item.id());
+            return status == null
+                    ? new BulkItemResponse(i, item.opType(),
+                            new DeleteResponse(new ShardId(INDEX, "_na_", 0), "_doc", item.id(), 1, 1, 1, true))
+                    : new BulkItemResponse(i, item.opType(), new BulkItemResponse.Failure(
+                            INDEX, "_doc", item.id(), new IllegalStateException(status.name()), status));
+        }).toArray(BulkItemResponse[]::new);
+        return new BulkResponse(items, 1);
+    }
+
+    private static List<DocWriteRequest<?>> deletes(final int count) {
+        return IntStream.range(0, count).
+                mapToObj(i -> new DeleteRequest(INDEX, "key" + i)).
+                collect(Collectors.toList());
+    }
+
+    @BeforeEach
+    public void setUp() {
+        when(elasticsearchUtils.getBulkActions()).thenReturn(2);
+        when(elasticsearchUtils.getBulkSizeMB()).thenReturn(5);
+
+        indexManager.setAsync(true);
+        // flush is explicitly triggered by tests
+        indexManager.setAsyncFlushInterval(3_600_000L);
+    }
+
+    @Test
+    public void flushSplitsByBulkActions() throws IOException {
+        when(client.bulk(any(BulkRequest.class), any(RequestOptions.class))).
+                thenAnswer(ic -> response(ic.getArgument(0), Map.of()));
+
+        deletes(5).forEach(indexManager::enqueue);
+        assertEquals(5, indexManager.getPendingCount());
+
+        indexManager.flush();
+
+        ArgumentCaptor<BulkRequest> sent = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(3)).bulk(sent.capture(), any(RequestOptions.class));
+        assertEquals(List.of(2, 2, 1),
+                sent.getAllValues().stream().map(BulkRequest::numberOfActions).collect(Collectors.toList()));
+        assertEquals(0, indexManager.getPendingCount());
+        assertEquals(0, indexManager.getDroppedCount());
+    }
+
+    @Test
+    public void flushRetriesTransientFailuresAndDropsRejected() throws IOException {
+        when(elasticsearchUtils.getBulkActions()).thenReturn(1000);
+        when(client.bulk(any(BulkRequest.class), any(RequestOptions.class))).thenAnswer(ic -> response(
+                ic.getArgument(0),
+                Map.of("key0", RestStatus.BAD_REQUEST,
+                        "key1", RestStatus.SERVICE_UNAVAILABLE,
+                        "key2", RestStatus.TOO_MANY_REQUESTS,
+                        "key3", RestStatus.NOT_FOUND)));
+
+        deletes(5).forEach(indexManager::enqueue);
+
+        indexManager.flush();
+
+        assertEquals(2, indexManager.getPendingCount());
+        assertEquals(1, indexManager.getDroppedCount());
+    }
+
+    @Test
+    public void flushRetriesWhenUnreachable() throws IOException {
+        when(client.bulk(any(BulkRequest.class), any(RequestOptions.class))).
+                thenThrow(new IOException("Connection refused"));
+
+        deletes(3).forEach(indexManager::enqueue);
+
+        indexManager.flush();
+
+        assertEquals(3, indexManager.getPendingCount());
+        assertEquals(0, indexManager.getDroppedCount());
+    }
+
+    @Test
+    public void flushDropsAfterMaxRetries() throws IOException {
+        when(client.bulk(any(BulkRequest.class), any(RequestOptions.class))).
+                thenThrow(new IOException("Connection refused"));
+        indexManager.setAsyncMaxRetries(2);
+
+        deletes(3).forEach(indexManager::enqueue);
+
+        indexManager.flush();
+        indexManager.flush();
+        assertEquals(3, indexManager.getPendingCount());
+        assertTrue(indexManager.getReindexRequired().isEmpty());
+
+        indexManager.flush();
+        assertEquals(0, indexManager.getPendingCount());
+        assertEquals(3, indexManager.getDroppedCount());
+        assertEquals(Set.of(INDEX), indexManager.getReindexRequired());
+    }
+
+    @Test
+    public void enqueueDropsWhenStillFull() throws IOException {
+        indexManager.setAsyncQueueCapacity(2);
+        indexManager.setAsyncEnqueueTimeout(100L);
+
+        List<DocWriteRequest<?>> deletes = deletes(3);
+        deletes.forEach(indexManager::enqueue);
+        // a newer change for a queued key always finds room
+        indexManager.enqueue(deletes.get(0));
+
+        assertEquals(2, indexManager.getPendingCount());
+        assertEquals(1, indexManager.getDroppedCount());
+        assertEquals(Set.of(INDEX), indexManager.getReindexRequired());
+    }
+
+    @Test
+    public void bulkCountsFailures() throws IOException {
+        when(client.bulk(any(BulkRequest.class), any(RequestOptions.class))).thenAnswer(ic -> response(
+                ic.getArgument(0),
+                Map.of("key0", RestStatus.BAD_REQUEST, "key2", RestStatus.NOT_FOUND, "key3", RestStatus.CONFLICT)));
+
+        assertEquals(2, indexManager.bulk(deletes(5)));
+        verify(client, times(3)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+    }
+}
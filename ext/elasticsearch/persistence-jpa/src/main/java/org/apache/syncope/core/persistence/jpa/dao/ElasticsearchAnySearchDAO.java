@@ -194,7 +194,8 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
             final int page,
             final int itemsPerPage,
             final List<OrderByClause> orderBy,
-            final AnyTypeKind kind) {
+            final AnyTypeKind kind,
+            final boolean details) {
 
         SearchRequest request = searchRequest(
                 adminRealms,
@@ -214,7 +215,26 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
         return ArrayUtils.isEmpty(esResult)
                 ? List.of()
                 : buildResult(Stream.of(Objects.requireNonNull(esResult))
-                        .map(SearchHit::getId).collect(Collectors.toList()), kind);
+                        .map(SearchHit::getId).collect(Collectors.toList()), kind, details);
+    }
+
+    /**
+     * Elasticsearch queries cannot be embedded into native SQL statements.
+     *
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param cond the search condition
+     * @param kind any object
+     * @param parameters positional parameter values
+     * @return always empty
+     */
+    @Override
+    protected Optional<String> doKeysQuery(
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final AnyTypeKind kind,
+            final List<Object> parameters) {
+
+        return Optional.empty();
     }
 
     private QueryBuilder getQueryBuilder(final SearchCond cond, final AnyTypeKind kind) {
@@ -18,29 +18,41 @@
  */
 package org.apache.syncope.core.provisioning.java.job;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.ext.elasticsearch.client.ElasticsearchIndexManager;
 import org.apache.syncope.ext.elasticsearch.client.ElasticsearchUtils;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.index.IndexRequest;
-import org.elasticsearch.action.index.IndexResponse;
-import org.elasticsearch.client.RequestOptions;
-import org.elasticsearch.client.RestHighLevelClient;
 import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
 
 /**
- * Remove and rebuild all Elasticsearch indexes with information from existing users, groups and any objects.
+ * Rebuild all Elasticsearch indexes with information from existing users, groups and any objects.
+ * Each index is built from scratch via bulk requests into a fresh index, which atomically replaces the current one
+ * only when completed successfully; changes made meanwhile are applied to both indexes and replayed before replacing.
  */
 public class ElasticsearchReindex extends AbstractSchedTaskJobDelegate {
 
-    @Autowired
-    private RestHighLevelClient client;
+    private static final int MAX_REPLAY_ROUNDS = 10;
 
     @Autowired
     private ElasticsearchIndexManager indexManager;
@@ -57,67 +69,166 @@ public class ElasticsearchReindex extends AbstractSchedTaskJobDelegate {
     @Autowired
     private AnyObjectDAO anyObjectDAO;
 
-    @Override
-    protected String doExecute(final boolean dryRun, final String executor) throws JobExecutionException {
-        if (!dryRun) {
-            LOG.debug("Start rebuilding indexes");
+    private AnyDAO<?> dao(final AnyTypeKind kind) {
+        switch (kind) {
+            case USER:
+                return userDAO;
 
-            try {
-                if (indexManager.existsIndex(AuthContextUtils.getDomain(), AnyTypeKind.USER)) {
-                    indexManager.removeIndex(AuthContextUtils.getDomain(), AnyTypeKind.USER);
-                }
-                indexManager.createIndex(AuthContextUtils.getDomain(), AnyTypeKind.USER);
+            case GROUP:
+                return groupDAO;
 
-                if (indexManager.existsIndex(AuthContextUtils.getDomain(), AnyTypeKind.GROUP)) {
-                    indexManager.removeIndex(AuthContextUtils.getDomain(), AnyTypeKind.GROUP);
-                }
-                indexManager.createIndex(AuthContextUtils.getDomain(), AnyTypeKind.GROUP);
+            case ANY_OBJECT:
+            default:
+                return anyObjectDAO;
+        }
+    }
+
+    private void reindex(final AnyTypeKind kind) throws Exception {
+        String index = ElasticsearchUtils.getContextDomainName(AuthContextUtils.getDomain(), kind)
+                + '_' + System.currentTimeMillis();
+        AnyDAO<?> dao = dao(kind);
+        int total = dao.count();
+
+        indexManager.createIndex(index);
+        AtomicLong indexed = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
 
-                if (indexManager.existsIndex(AuthContextUtils.getDomain(), AnyTypeKind.ANY_OBJECT)) {
-                    indexManager.removeIndex(AuthContextUtils.getDomain(), AnyTypeKind.ANY_OBJECT);
+        BulkProcessor bulkProcessor = indexManager.bulkProcessor(new BulkProcessor.Listener() {
+
+            @Override
+            public void beforeBulk(final long executionId, final BulkRequest request) {
+                LOG.debug("About to send bulk #{} with {} requests to {}",
+                        executionId, request.numberOfActions(), index);
+            }
+
+            @Override
+            public void afterBulk(final long executionId, final BulkRequest request, final BulkResponse response) {
+                if (response.hasFailures()) {
+                    failed.addAndGet(Arrays.stream(response.getItems()).filter(BulkItemResponse::isFailed).count());
+                    LOG.error("Bulk #{} on {} completed with failures: {}",
+                            executionId, index, response.buildFailureMessage());
                 }
-                indexManager.createIndex(AuthContextUtils.getDomain(), AnyTypeKind.ANY_OBJECT);
-
-                LOG.debug("Indexing users...");
-                for (int page = 1; page <= (userDAO.count() / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                    for (String user : userDAO.findAllKeys(page, AnyDAO.DEFAULT_PAGE_SIZE)) {
-                        IndexRequest request = new IndexRequest(
-                                ElasticsearchUtils.getContextDomainName(
-                                        AuthContextUtils.getDomain(), AnyTypeKind.USER)).
-                                id(user).
-                                source(elasticsearchUtils.builder(userDAO.find(user)));
-                        IndexResponse response = client.index(request, RequestOptions.DEFAULT);
-                        LOG.debug("Index successfully created for {}: {}", user, response);
+                indexed.addAndGet(request.numberOfActions());
+                status.set("Indexing " + kind + ": " + indexed.get() + " / " + total);
+            }
+
+            @Override
+            public void afterBulk(final long executionId, final BulkRequest request, final Throwable failure) {
+                failed.addAndGet(request.numberOfActions());
+                LOG.error("Bulk #{} on {} failed", executionId, index, failure);
+            }
+        });
+
+        LOG.debug("Indexing {} {} into {}...", total, kind, index);
+        indexManager.startRebuild(AuthContextUtils.getDomain(), kind, index);
+        boolean swapped = false;
+        try {
+            try {
+                String lastKey = null;
+                List<String> keys = dao.findAllKeys(lastKey, AnyDAO.DEFAULT_PAGE_SIZE);
+                while (!keys.isEmpty() && !interrupt) {
+                    for (Any<?> any : dao.findByKeys(keys)) {
+                        // blocks when the configured number of concurrent bulk requests is reached
+                        bulkProcessor.add(new IndexRequest(index).
+                                id(any.getKey()).
+                                source(elasticsearchUtils.builder(any)));
                     }
+                    // nothing to write here: avoid piling up all entities in the persistence context
+                    dao.clear();
+
+                    lastKey = keys.get(keys.size() - 1);
+                    keys = dao.findAllKeys(lastKey, AnyDAO.DEFAULT_PAGE_SIZE);
                 }
+            } finally {
+                bulkProcessor.awaitClose(1, TimeUnit.HOURS);
+            }
 
-                LOG.debug("Indexing groups...");
-                for (int page = 1; page <= (groupDAO.count() / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                    for (String group : groupDAO.findAllKeys(page, AnyDAO.DEFAULT_PAGE_SIZE)) {
-                        IndexRequest request = new IndexRequest(
-                                ElasticsearchUtils.getContextDomainName(
-                                        AuthContextUtils.getDomain(), AnyTypeKind.GROUP)).
-                                id(group).
-                                source(elasticsearchUtils.builder(groupDAO.find(group)));
-                        IndexResponse response = client.index(request, RequestOptions.DEFAULT);
-                        LOG.debug("Index successfully created for {}: {}", group, response);
-                    }
+            if (!interrupt && failed.get() == 0) {
+                replay(kind, index);
+            }
+
+            if (interrupt) {
+                interrupted = true;
+                throw new JobExecutionException("Reindex of " + kind + " interrupted, current index kept");
+            }
+            if (failed.get() > 0) {
+                throw new JobExecutionException(
+                        "Could not index " + failed.get() + " out of " + total + ' ' + kind + ", current index kept");
+            }
+
+            indexManager.swapIndex(AuthContextUtils.getDomain(), kind, index);
+            swapped = true;
+        } finally {
+            indexManager.endRebuild(AuthContextUtils.getDomain(), kind);
+
+            // whatever went wrong, do not leave the new index behind
+            if (!swapped) {
+                try {
+                    indexManager.removeIndex(index);
+                } catch (Exception e) {
+                    LOG.error("While removing {}", index, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Entities changed while rebuilding were written to the new index as well, but might have been overwritten
+     * there by older data read by the rebuild: re-read and write them again, until no more changes are reported.
+     *
+     * @param kind any type kind
+     * @param index index being rebuilt
+     * @throws Exception in case of errors
+     */
+    private void replay(final AnyTypeKind kind, final String index) throws Exception {
+        AnyDAO<?> dao = dao(kind);
+
+        Set<String> changed = indexManager.drainRebuildChanges(AuthContextUtils.getDomain(), kind);
+        for (int round = 0; !changed.isEmpty() && !interrupt; round++) {
+            if (round == MAX_REPLAY_ROUNDS) {
+                LOG.warn("{} {} still changing after {} replays, swapping anyway", changed.size(), kind, round);
+                break;
+            }
+            status.set("Replaying " + changed.size() + ' ' + kind + " changed while indexing");
+
+            List<String> keys = new ArrayList<>(changed);
+            for (int i = 0; i < keys.size(); i += AnyDAO.DEFAULT_PAGE_SIZE) {
+                List<String> page = keys.subList(i, Math.min(i + AnyDAO.DEFAULT_PAGE_SIZE, keys.size()));
+
+                // read fresh data, not what is in the persistence context
+                dao.clear();
+                Set<String> deleted = new HashSet<>(page);
+                List<DocWriteRequest<?>> requests = new ArrayList<>();
+                for (Any<?> any : dao.findByKeys(page)) {
+                    deleted.remove(any.getKey());
+                    requests.add(new IndexRequest(index).id(any.getKey()).source(elasticsearchUtils.builder(any)));
                 }
+                deleted.forEach(key -> requests.add(new DeleteRequest(index, key)));
 
-                LOG.debug("Indexing any objects...");
-                for (int page = 1; page <= (anyObjectDAO.count() / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                    for (String anyObject : anyObjectDAO.findAllKeys(page, AnyDAO.DEFAULT_PAGE_SIZE)) {
-                        IndexRequest request = new IndexRequest(
-                                ElasticsearchUtils.getContextDomainName(
-                                        AuthContextUtils.getDomain(), AnyTypeKind.ANY_OBJECT)).
-                                id(anyObject).
-                                source(elasticsearchUtils.builder(anyObjectDAO.find(anyObject)));
-                        IndexResponse response = client.index(request, RequestOptions.DEFAULT);
-                        LOG.debug("Index successfully created for {}: {}", anyObject, response);
-                    }
+                long failed = indexManager.bulk(requests);
+                if (failed > 0) {
+                    throw new JobExecutionException("Could not replay " + failed + ' ' + kind + " changed while "
+                            + "indexing, current index kept");
                 }
+            }
+
+            changed = indexManager.drainRebuildChanges(AuthContextUtils.getDomain(), kind);
+        }
+    }
+
+    @Override
+    protected String doExecute(final boolean dryRun, final String executor) throws JobExecutionException {
+        if (!dryRun) {
+            LOG.debug("Start rebuilding indexes");
+
+            try {
+                reindex(AnyTypeKind.USER);
+                reindex(AnyTypeKind.GROUP);
+                reindex(AnyTypeKind.ANY_OBJECT);
 
                 LOG.debug("Rebuild indexes for domain {} successfully completed", AuthContextUtils.getDomain());
+            } catch (JobExecutionException e) {
+                throw e;
             } catch (Exception e) {
                 throw new JobExecutionException("While rebuilding index for domain " + AuthContextUtils.getDomain(), e);
             }